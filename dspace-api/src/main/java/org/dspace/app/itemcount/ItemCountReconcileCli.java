@@ -0,0 +1,68 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.itemcount;
+
+import org.apache.commons.cli.ParseException;
+import org.apache.logging.log4j.Logger;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.core.Context;
+import org.dspace.scripts.DSpaceRunnable;
+import org.dspace.utils.DSpace;
+
+/**
+ * {@link DSpaceRunnable} implementation counting the archived items of every community and collection and
+ * correcting the counts maintained by the ArchivedItemCountConsumer, e.g. after items have been made discoverable
+ * or not, or when the counts have never been stored.
+ */
+public class ItemCountReconcileCli extends DSpaceRunnable<ItemCountReconcileCliScriptConfiguration> {
+    /* Log4j logger */
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(ItemCountReconcileCli.class);
+
+    private ArchivedItemCountService archivedItemCountService;
+
+    @Override
+    public ItemCountReconcileCliScriptConfiguration getScriptConfiguration() {
+        return new DSpace().getServiceManager()
+                .getServiceByName("item-count-reconcile", ItemCountReconcileCliScriptConfiguration.class);
+    }
+
+    public static void runScheduled() throws Exception {
+        ItemCountReconcileCli script = new ItemCountReconcileCli();
+        script.setup();
+        script.internalRun();
+    }
+
+    @Override
+    public void setup() throws ParseException {
+        archivedItemCountService = new DSpace().getSingletonService(ArchivedItemCountService.class);
+    }
+
+    @Override
+    public void internalRun() throws Exception {
+        logInfoAndOut("Starting reconciliation of the archived item counts...");
+
+        Context context = new Context();
+        try {
+            context.turnOffAuthorisationSystem();
+            int corrected = archivedItemCountService.reconcile(context);
+            logInfoAndOut(corrected + " archived item counts corrected");
+        } finally {
+            context.restoreAuthSystemState();
+            context.complete();
+        }
+    }
+
+    private void logInfoAndOut(String message) {
+        log.info(message);
+        if (handler != null) {
+            handler.logInfo(message);
+        } else {
+            System.out.println(message);
+        }
+    }
+}
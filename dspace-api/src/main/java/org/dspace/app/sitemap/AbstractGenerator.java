@@ -12,9 +12,20 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import java.util.zip.GZIPOutputStream;
 
+import org.apache.commons.io.FileUtils;
+
 /**
  * Base class for creating sitemaps of various kinds. A sitemap consists of one
  * or more files which list significant URLs on a site for search engines to
@@ -33,6 +44,15 @@ import java.util.zip.GZIPOutputStream;
  *   }
  *   g.finish();
  * </pre>
+ * <P>
+ * The files are written next to the previous ones, which are only replaced if
+ * their content changed: the unchanged files are left as they were, with their
+ * date of modification. The URLs of a section started with
+ * {@link #startGroupedSection(long)} are grouped in the files by their
+ * identifiers, and the files of a group are named after the group (e.g.
+ * {@code sitemap3f-0.xml}), so that a change of a URL only changes the files of
+ * its group. Only a change of the number of digits of the groups, when the size
+ * of the section crosses a threshold, renames all of them.
  *
  * @author Robert Tansley
  */
@@ -42,6 +62,11 @@ public abstract class AbstractGenerator {
      */
     protected int fileCount;
 
+    /**
+     * Names of the files written so far, as given to {@link #getFilename(String)}
+     */
+    protected List<String> fileNames = new ArrayList<>();
+
     /**
      * Number of bytes written to current file
      */
@@ -62,11 +87,42 @@ public abstract class AbstractGenerator {
      */
     protected PrintStream currentOutput;
 
+    /**
+     * Number of files left unchanged so far
+     */
+    protected int unchangedCount;
+
     /**
      * Size in bytes of trailing boilerplate
      */
     private int trailingByteCount;
 
+    /**
+     * Number of leading hexadecimal digits of the identifiers grouping the
+     * URLs of the current section, 0 if they are not grouped
+     */
+    private int groupDigits;
+
+    /**
+     * Group of the URLs of the current file
+     */
+    private String currentGroup;
+
+    /**
+     * Number of files written so far outside of the groups
+     */
+    private int ungroupedFileCount;
+
+    /**
+     * Number of files of the current group written so far
+     */
+    private int groupFileCount;
+
+    /**
+     * Name of the current file
+     */
+    private String currentName;
+
     /**
      * Initialize this generator to write to the given directory. This must be
      * called by any subclass constructor.
@@ -89,8 +145,12 @@ public abstract class AbstractGenerator {
     protected void startNewFile() throws IOException {
         String lbp = getLeadingBoilerPlate();
 
-        OutputStream fo = new FileOutputStream(new File(outputDir,
-                                                        getFilename(fileCount)));
+        if (groupDigits > 0 && null != currentGroup) {
+            currentName = currentGroup + "-" + groupFileCount++;
+        } else {
+            currentName = String.valueOf(ungroupedFileCount++);
+        }
+        OutputStream fo = new FileOutputStream(getNewFile(getFilename(currentName)));
 
         if (useCompression()) {
             fo = new GZIPOutputStream(fo);
@@ -129,6 +189,55 @@ public abstract class AbstractGenerator {
         urlsWritten++;
     }
 
+    /**
+     * Start a section of URLs grouped by the leading hexadecimal digits of
+     * their identifiers, added in the order of their identifiers with
+     * {@link AbstractGenerator#addURL(String, Instant, UUID)}. A file never
+     * holds the URLs of two groups, and the number of digits is chosen for a
+     * group to fill at least half a file. Small sections are not grouped.
+     *
+     * @param expectedURLs number of URLs of the section
+     * @throws IOException if IO error
+     *                     if an error occurs writing
+     */
+    public void startGroupedSection(long expectedURLs) throws IOException {
+        groupDigits = 0;
+        long groupSize = expectedURLs;
+        while (groupDigits < 8 && groupSize / 16 >= getMaxURLs() / 2) {
+            groupSize /= 16;
+            groupDigits++;
+        }
+        currentGroup = null;
+
+        // the URLs added before are kept apart from the groups
+        if (groupDigits > 0 && null != currentOutput) {
+            closeCurrentFile();
+        }
+    }
+
+    /**
+     * Add the given URL to the grouped section of the sitemap.
+     *
+     * @param url     Full URL to add
+     * @param lastMod Date URL was last modified, or {@code null}
+     * @param id      Identifier of the object of the URL
+     * @throws IOException if IO error
+     *                     if an error occurs writing
+     */
+    public void addURL(String url, Instant lastMod, UUID id) throws IOException {
+        if (groupDigits > 0) {
+            String group = id.toString().substring(0, groupDigits);
+            if (!group.equals(currentGroup)) {
+                if (null != currentOutput) {
+                    closeCurrentFile();
+                }
+                groupFileCount = 0;
+            }
+            currentGroup = group;
+        }
+        addURL(url, lastMod);
+    }
+
     /**
      * Finish with the current sitemap file.
      *
@@ -138,13 +247,52 @@ public abstract class AbstractGenerator {
     protected void closeCurrentFile() throws IOException {
         currentOutput.print(getTrailingBoilerPlate());
         currentOutput.close();
+        currentOutput = null;
+        if (!replaceFile(getFilename(currentName))) {
+            unchangedCount++;
+        }
+        fileNames.add(currentName);
         fileCount++;
     }
 
+    /**
+     * Get the file a new version of a sitemap file is written to, before
+     * replacing it.
+     *
+     * @param filename the name of the sitemap file
+     * @return the file to write
+     */
+    protected File getNewFile(String filename) {
+        return new File(outputDir, filename + ".new");
+    }
+
+    /**
+     * Replace a sitemap file by its new version, unless their contents are the
+     * same.
+     *
+     * @param filename the name of the sitemap file
+     * @return {@code true} if the file was replaced, {@code false} if it was
+     * left unchanged
+     * @throws IOException if IO error
+     *                     if an error occurs replacing the file
+     */
+    protected boolean replaceFile(String filename) throws IOException {
+        File file = new File(outputDir, filename);
+        File newFile = getNewFile(filename);
+        if (file.exists() && FileUtils.contentEquals(file, newFile)) {
+            Files.delete(newFile.toPath());
+            return false;
+        }
+        Files.move(newFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
     /**
      * Complete writing sitemap files and write the index files. This is invoked
      * when all calls to {@link AbstractGenerator#addURL(String, Instant)} have
-     * been completed, and invalidates the generator.
+     * been completed, and invalidates the generator. The files left from a
+     * previous sitemap which were not written again are deleted.
      *
      * @return number of sitemap files written.
      * @throws IOException if IO error
@@ -155,20 +303,59 @@ public abstract class AbstractGenerator {
             closeCurrentFile();
         }
 
-        OutputStream fo = new FileOutputStream(new File(outputDir,
-                                                        getIndexFilename()));
+        deleteOldFiles();
+
+        OutputStream fo = new FileOutputStream(getNewFile(getIndexFilename()));
 
         if (useCompression()) {
             fo = new GZIPOutputStream(fo);
         }
 
         PrintStream out = new PrintStream(fo);
-        writeIndex(out, fileCount);
+        writeIndex(out, fileNames);
         out.close();
+        replaceFile(getIndexFilename());
 
         return fileCount;
     }
 
+    /**
+     * Delete the sitemap files of this generator which were not written this
+     * time, i.e. the files whose names match {@link #getFilename(String)} of
+     * any name, other than the index.
+     *
+     * @throws IOException if IO error
+     *                     if an error occurs deleting a file
+     */
+    protected void deleteOldFiles() throws IOException {
+        Set<String> written = new HashSet<>();
+        for (String name : fileNames) {
+            written.add(getFilename(name));
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + getFilename("*"));
+        File[] files = outputDir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String filename = file.getName();
+            if (file.isFile() && matcher.matches(file.toPath().getFileName()) && !written.contains(filename)
+                && !filename.equals(getIndexFilename())) {
+                Files.delete(file.toPath());
+            }
+        }
+    }
+
+    /**
+     * Return the number of sitemap files left unchanged, their content being
+     * the same as in the previous sitemap.
+     *
+     * @return number of unchanged files
+     */
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
     /**
      * Return marked-up text to be included in a sitemap about a given URL.
      *
@@ -224,7 +411,19 @@ public abstract class AbstractGenerator {
      * @param number index of the sitemap file (zero is first).
      * @return the filename to write the sitemap to.
      */
-    public abstract String getFilename(int number);
+    public String getFilename(int number) {
+        return getFilename(String.valueOf(number));
+    }
+
+    /**
+     * Return the filename a sitemap of the given name should be stored at. The
+     * names are the numbers of the files outside of the groups, and the group
+     * followed by the number of the file in the group (e.g. {@code 3f-0}).
+     *
+     * @param name name of the sitemap file
+     * @return the filename to write the sitemap to.
+     */
+    public abstract String getFilename(String name);
 
     /**
      * Get the filename the index should be written to.
@@ -237,10 +436,11 @@ public abstract class AbstractGenerator {
      * Write the index file.
      *
      * @param output       stream to write the index to
-     * @param sitemapCount number of sitemaps that were generated
+     * @param sitemapNames names of the sitemaps that were generated, as given
+     *                     to {@link #getFilename(String)}
      * @throws IOException if IO error
      *                     if an IO error occurs
      */
-    public abstract void writeIndex(PrintStream output, int sitemapCount)
+    public abstract void writeIndex(PrintStream output, List<String> sitemapNames)
         throws IOException;
 }
@@ -12,7 +12,10 @@ import static org.dspace.discovery.SearchUtils.RESOURCE_TYPE_FIELD;
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
+import java.util.UUID;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -32,7 +35,6 @@ import org.dspace.core.Context;
 import org.dspace.core.LogHelper;
 import org.dspace.discovery.DiscoverQuery;
 import org.dspace.discovery.DiscoverResult;
-import org.dspace.discovery.IndexableObject;
 import org.dspace.discovery.SearchService;
 import org.dspace.discovery.SearchServiceException;
 import org.dspace.discovery.SearchUtils;
@@ -58,7 +60,7 @@ public class GenerateSitemaps {
     private static final ConfigurationService configurationService =
         DSpaceServicesFactory.getInstance().getConfigurationService();
     private static final SearchService searchService = SearchUtils.getSearchService();
-    private static final int PAGE_SIZE = 100;
+    private static final int PAGE_SIZE = 1000;
 
     /**
      * Default constructor
@@ -193,100 +195,55 @@ public class GenerateSitemaps {
         }
 
         Context c = new Context(Context.Mode.READ_ONLY);
-        int offset = 0;
         long commsCount = 0;
         long collsCount = 0;
         long itemsCount = 0;
 
         try {
-            DiscoverQuery discoveryQuery = new DiscoverQuery();
-            discoveryQuery.setMaxResults(PAGE_SIZE);
-            discoveryQuery.setQuery("*:*");
-            discoveryQuery.addFilterQueries(RESOURCE_TYPE_FIELD + ":Community");
-            do {
-                discoveryQuery.setStart(offset);
-                DiscoverResult discoverResult = searchService.search(c, discoveryQuery);
-                List<IndexableObject> docs = discoverResult.getIndexableObjects();
-                commsCount = discoverResult.getTotalSearchResults();
-
-                for (IndexableObject doc : docs) {
-                    String url = uiURLStem + "communities/" + doc.getID();
-                    c.uncacheEntity(doc.getIndexedObject());
-
-                    if (makeHTMLMap) {
-                        html.addURL(url, null);
-                    }
-                    if (makeSitemapOrg) {
-                        sitemapsOrg.addURL(url, null);
-                    }
-                }
-                offset += PAGE_SIZE;
-            } while (offset < commsCount);
-
-            offset = 0;
-            discoveryQuery = new DiscoverQuery();
-            discoveryQuery.setMaxResults(PAGE_SIZE);
-            discoveryQuery.setQuery("*:*");
-            discoveryQuery.addFilterQueries(RESOURCE_TYPE_FIELD + ":Collection");
-            do {
-                discoveryQuery.setStart(offset);
-                DiscoverResult discoverResult = searchService.search(c, discoveryQuery);
-                List<IndexableObject> docs = discoverResult.getIndexableObjects();
-                collsCount = discoverResult.getTotalSearchResults();
-
-                for (IndexableObject doc : docs) {
-                    String url = uiURLStem + "collections/" + doc.getID();
-                    c.uncacheEntity(doc.getIndexedObject());
-
-                    if (makeHTMLMap) {
-                        html.addURL(url, null);
-                    }
-                    if (makeSitemapOrg) {
-                        sitemapsOrg.addURL(url, null);
-                    }
-                }
-                offset += PAGE_SIZE;
-            } while (offset < collsCount);
-
-            offset = 0;
-            discoveryQuery = new DiscoverQuery();
-            discoveryQuery.setMaxResults(PAGE_SIZE);
-            discoveryQuery.setQuery("*:*");
-            discoveryQuery.addFilterQueries(RESOURCE_TYPE_FIELD + ":Item");
-            discoveryQuery.addSearchField("search.entitytype");
-            do {
-
-                discoveryQuery.setStart(offset);
-                DiscoverResult discoverResult = searchService.search(c, discoveryQuery);
-                List<IndexableObject> docs = discoverResult.getIndexableObjects();
-                itemsCount = discoverResult.getTotalSearchResults();
-
-                for (IndexableObject doc : docs) {
-                    String url;
-                    List<String> entityTypeFieldValues = discoverResult.getSearchDocument(doc).get(0)
-                                            .getSearchFieldValues("search.entitytype");
-                    if (CollectionUtils.isNotEmpty(entityTypeFieldValues)) {
-                        url = uiURLStem + "entities/" + StringUtils.lowerCase(entityTypeFieldValues.get(0)) + "/"
-                                + doc.getID();
-                    } else {
-                        url = uiURLStem + "items/" + doc.getID();
-                    }
-                    c.uncacheEntity(doc.getIndexedObject());
-
-                    if (makeHTMLMap) {
-                        html.addURL(url, null);
-                    }
-                    if (makeSitemapOrg) {
-                        sitemapsOrg.addURL(url, null);
-                    }
+            Iterator<DiscoverResult.SearchDocument> communities = searchDocuments(c, "Community");
+            while (communities.hasNext()) {
+                commsCount++;
+                addURL(html, sitemapsOrg, uiURLStem + "communities/" + getID(communities.next()), null, null);
+            }
+
+            Iterator<DiscoverResult.SearchDocument> collections = searchDocuments(c, "Collection");
+            while (collections.hasNext()) {
+                collsCount++;
+                addURL(html, sitemapsOrg, uiURLStem + "collections/" + getID(collections.next()), null, null);
+            }
+
+            // the items are grouped by their ids, for their changes to only change the files of their groups
+            Iterator<DiscoverResult.SearchDocument> items = searchDocuments(c, "Item", "search.entitytype",
+                                                                            "lastModified");
+            long expectedItems = countItems(c);
+            if (makeHTMLMap) {
+                html.startGroupedSection(expectedItems);
+            }
+            if (makeSitemapOrg) {
+                sitemapsOrg.startGroupedSection(expectedItems);
+            }
+            while (items.hasNext()) {
+                DiscoverResult.SearchDocument doc = items.next();
+                itemsCount++;
+                UUID id = getID(doc);
+                String url;
+                List<String> entityTypeFieldValues = doc.getSearchFieldValues("search.entitytype");
+                if (CollectionUtils.isNotEmpty(entityTypeFieldValues)) {
+                    url = uiURLStem + "entities/" + StringUtils.lowerCase(entityTypeFieldValues.get(0)) + "/" + id;
+                } else {
+                    url = uiURLStem + "items/" + id;
                 }
-                offset += PAGE_SIZE;
-            } while (offset < itemsCount);
+                List<String> lastModifiedValues = doc.getSearchFieldValues("lastModified");
+                Instant lastModified = lastModifiedValues.isEmpty() ? null : Instant.parse(lastModifiedValues.get(0));
+
+                addURL(html, sitemapsOrg, url, lastModified, id);
+            }
 
             if (makeHTMLMap) {
                 int files = html.finish();
                 log.info(LogHelper.getHeader(c, "write_sitemap",
-                                              "type=html,num_files=" + files + ",communities="
+                                              "type=html,num_files=" + files + ",unchanged_files="
+                                                  + html.getUnchangedCount() + ",communities="
                                                   + commsCount + ",collections=" + collsCount
                                                   + ",items=" + itemsCount));
             }
@@ -294,7 +251,8 @@ public class GenerateSitemaps {
             if (makeSitemapOrg) {
                 int files = sitemapsOrg.finish();
                 log.info(LogHelper.getHeader(c, "write_sitemap",
-                                              "type=html,num_files=" + files + ",communities="
+                                              "type=html,num_files=" + files + ",unchanged_files="
+                                                  + sitemapsOrg.getUnchangedCount() + ",communities="
                                                   + commsCount + ",collections=" + collsCount
                                                   + ",items=" + itemsCount));
             }
@@ -304,4 +262,59 @@ public class GenerateSitemaps {
             c.abort();
         }
     }
+
+    /**
+     * Stream the search documents of the objects of a type visible to the user of the context, in the order of
+     * their ids, with a Solr cursor rather than offsets which get slower and slower on the last pages.
+     *
+     * @param c            the DSpace context
+     * @param resourceType the type of the objects
+     * @param searchFields the search fields to read
+     * @return the search documents
+     * @throws SearchServiceException if search error
+     */
+    private static Iterator<DiscoverResult.SearchDocument> searchDocuments(Context c, String resourceType,
+                                                                           String... searchFields)
+        throws SearchServiceException {
+        DiscoverQuery discoveryQuery = new DiscoverQuery();
+        discoveryQuery.setMaxResults(PAGE_SIZE);
+        discoveryQuery.setQuery("*:*");
+        discoveryQuery.addFilterQueries(RESOURCE_TYPE_FIELD + ":" + resourceType);
+        for (String searchField : searchFields) {
+            discoveryQuery.addSearchField(searchField);
+        }
+        return searchService.iteratorSearchDocuments(c, discoveryQuery);
+    }
+
+    /**
+     * Count the items visible to the user of the context.
+     */
+    private static long countItems(Context c) throws SearchServiceException {
+        DiscoverQuery discoveryQuery = new DiscoverQuery();
+        discoveryQuery.setMaxResults(0);
+        discoveryQuery.setQuery("*:*");
+        discoveryQuery.addFilterQueries(RESOURCE_TYPE_FIELD + ":Item");
+        return searchService.search(c, discoveryQuery).getTotalSearchResults();
+    }
+
+    private static UUID getID(DiscoverResult.SearchDocument doc) {
+        return UUID.fromString(doc.getSearchFieldValues(SearchUtils.RESOURCE_ID_FIELD).get(0));
+    }
+
+    /**
+     * Add a URL to the generated sitemaps, grouped by its id if it isn't null.
+     */
+    private static void addURL(AbstractGenerator html, AbstractGenerator sitemapsOrg, String url, Instant lastMod,
+                               UUID id) throws IOException {
+        for (AbstractGenerator generator : new AbstractGenerator[] {html, sitemapsOrg}) {
+            if (generator == null) {
+                continue;
+            }
+            if (id != null) {
+                generator.addURL(url, lastMod, id);
+            } else {
+                generator.addURL(url, lastMod);
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Class for generating HTML "sitemaps" which contain links to various pages in
@@ -50,8 +51,8 @@ public class HTMLSitemapGenerator extends AbstractGenerator {
     }
 
     @Override
-    public String getFilename(int number) {
-        return "sitemap" + number + ".html";
+    public String getFilename(String name) {
+        return "sitemap" + name + ".html";
     }
 
     @Override
@@ -97,13 +98,13 @@ public class HTMLSitemapGenerator extends AbstractGenerator {
     }
 
     @Override
-    public void writeIndex(PrintStream output, int sitemapCount)
+    public void writeIndex(PrintStream output, List<String> sitemapNames)
         throws IOException {
         output.println(getLeadingBoilerPlate());
 
-        for (int i = 0; i < sitemapCount; i++) {
-            output.print("<li><a href=\"" + indexURLStem + i + indexURLTail
-                             + "\">sitemap " + i);
+        for (String name : sitemapNames) {
+            output.print("<li><a href=\"" + indexURLStem + name + indexURLTail
+                             + "\">sitemap " + name);
             output.print("</a></li>\n");
         }
 
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Class for generating <a href="http://sitemaps.org/">Sitemaps</a> to improve
@@ -56,8 +57,8 @@ public class SitemapsOrgGenerator extends AbstractGenerator {
     }
 
     @Override
-    public String getFilename(int number) {
-        return "sitemap" + number + ".xml";
+    public String getFilename(String name) {
+        return "sitemap" + name + ".xml";
     }
 
     @Override
@@ -107,18 +108,18 @@ public class SitemapsOrgGenerator extends AbstractGenerator {
     }
 
     @Override
-    public void writeIndex(PrintStream output, int sitemapCount)
+    public void writeIndex(PrintStream output, List<String> sitemapNames)
         throws IOException {
-        String now = w3dtfFormat.format(Instant.now());
-
         output.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
         output
             .println("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">");
 
-        for (int i = 0; i < sitemapCount; i++) {
-            output.print("<sitemap><loc>" + indexURLStem + i + indexURLTail
+        for (String name : sitemapNames) {
+            output.print("<sitemap><loc>" + indexURLStem + name + indexURLTail
                              + "</loc>");
-            output.print("<lastmod>" + now + "</lastmod></sitemap>\n");
+            // the files left unchanged keep their date
+            Instant lastMod = Instant.ofEpochMilli(new File(outputDir, getFilename(name)).lastModified());
+            output.print("<lastmod>" + w3dtfFormat.format(lastMod) + "</lastmod></sitemap>\n");
         }
 
         output.println("</sitemapindex>");
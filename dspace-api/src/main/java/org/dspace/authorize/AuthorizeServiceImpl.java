@@ -15,7 +15,9 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -510,9 +512,35 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     @Override
     public List<ResourcePolicy> getPoliciesActionFilter(Context c, DSpaceObject o,
                                                         int actionID) throws SQLException {
+        List<ResourcePolicy> cachedPolicies = c.getCachedResourcePolicies(o, actionID);
+        if (cachedPolicies != null) {
+            return cachedPolicies;
+        }
         return resourcePolicyService.find(c, o, actionID);
     }
 
+    @Override
+    public void cacheResourcePolicies(Context c, List<? extends DSpaceObject> dsos) throws SQLException {
+        if (dsos.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ResourcePolicy>> policiesByObject = new HashMap<>();
+        for (DSpaceObject dso : dsos) {
+            policiesByObject.put(dso.getID(), new ArrayList<>());
+        }
+        for (ResourcePolicy policy : resourcePolicyService.find(c, dsos)) {
+            policiesByObject.get(policy.getdSpaceObject().getID()).add(policy);
+        }
+        for (DSpaceObject dso : dsos) {
+            c.cacheResourcePolicies(dso, policiesByObject.get(dso.getID()));
+        }
+    }
+
+    @Override
+    public void clearCachedResourcePolicies(Context c) {
+        c.clearCachedResourcePolicies();
+    }
+
     @Override
     public void inheritPolicies(Context c, DSpaceObject src, DSpaceObject dest)
         throws SQLException, AuthorizeException {
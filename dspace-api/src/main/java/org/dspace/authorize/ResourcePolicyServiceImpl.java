@@ -115,6 +115,11 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         return resourcePolicyDAO.findByDSoAndAction(c, o, actionId);
     }
 
+    @Override
+    public List<ResourcePolicy> find(Context c, List<? extends DSpaceObject> dsos) throws SQLException {
+        return resourcePolicyDAO.findByDsos(c, dsos);
+    }
+
     @Override
     public List<ResourcePolicy> find(Context c, DSpaceObject dso, Group group, int action) throws SQLException {
         return resourcePolicyDAO.findByTypeGroupAction(c, dso, group, action);
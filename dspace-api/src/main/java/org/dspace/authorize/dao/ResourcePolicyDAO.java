@@ -30,6 +30,16 @@ public interface ResourcePolicyDAO extends GenericDAO<ResourcePolicy> {
 
     public List<ResourcePolicy> findByDso(Context context, DSpaceObject dso) throws SQLException;
 
+    /**
+     * Find the policies of several objects with a single query, with their eperson and group loaded.
+     *
+     * @param context DSpace context
+     * @param dsos    the objects
+     * @return the policies of all the objects
+     * @throws SQLException if database error
+     */
+    public List<ResourcePolicy> findByDsos(Context context, List<? extends DSpaceObject> dsos) throws SQLException;
+
     public List<ResourcePolicy> findByDsoAndType(Context context, DSpaceObject dSpaceObject, String type)
         throws SQLException;
 
@@ -54,6 +54,17 @@ public class ResourcePolicyDAOImpl extends AbstractHibernateDAO<ResourcePolicy>
         return list(context, criteriaQuery, false, ResourcePolicy.class, -1, -1);
     }
 
+    @Override
+    public List<ResourcePolicy> findByDsos(Context context, List<? extends DSpaceObject> dsos) throws SQLException {
+        if (dsos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Query query = createQuery(context, "SELECT rp FROM ResourcePolicy rp LEFT JOIN FETCH rp.eperson " +
+            "LEFT JOIN FETCH rp.epersonGroup WHERE rp.dSpaceObject IN (:dsos)");
+        query.setParameter("dsos", dsos);
+        return list(query);
+    }
+
     @Override
     public List<ResourcePolicy> findByDsoAndType(Context context, DSpaceObject dso, String type) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
@@ -310,6 +310,26 @@ public interface AuthorizeService {
      */
     public List<ResourcePolicy> getPoliciesActionFilter(Context c, DSpaceObject o, int actionID) throws SQLException;
 
+    /**
+     * Load the policies of all the given objects with a single query and keep them in the context, so that
+     * checking many actions on many objects doesn't query the policies one object and action at a time.
+     * The context mode is left as it is. The policies are kept until {@link #clearCachedResourcePolicies} is
+     * called or the context is committed, so the caller must clear them in a finally block once the checks are
+     * done, and must not change any policy meanwhile.
+     *
+     * @param c    context
+     * @param dsos the objects that are going to be checked
+     * @throws SQLException if there's a database problem
+     */
+    public void cacheResourcePolicies(Context c, List<? extends DSpaceObject> dsos) throws SQLException;
+
+    /**
+     * Forget the policies loaded with {@link #cacheResourcePolicies}.
+     *
+     * @param c context
+     */
+    public void clearCachedResourcePolicies(Context c);
+
     /**
      * Return a list of policies for an object that match the action except the record labeled with the rpType
      *
@@ -61,6 +61,16 @@ public interface ResourcePolicyService {
 
     public List<ResourcePolicy> find(Context c, DSpaceObject o, int actionId) throws SQLException;
 
+    /**
+     * Find the policies of several objects with a single query.
+     *
+     * @param c    DSpace context
+     * @param dsos the objects
+     * @return the policies of all the objects, with their eperson and group loaded
+     * @throws SQLException if database error
+     */
+    public List<ResourcePolicy> find(Context c, List<? extends DSpaceObject> dsos) throws SQLException;
+
     public List<ResourcePolicy> find(Context c, DSpaceObject dso, Group group, int action) throws SQLException;
 
     public List<ResourcePolicy> find(Context context, Group group) throws SQLException;
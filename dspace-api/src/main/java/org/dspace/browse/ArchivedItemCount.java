@@ -0,0 +1,74 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.core.Context;
+import org.dspace.core.ReloadableEntity;
+
+/**
+ * Database entity representation of the archived_item_count table, holding the number of archived, discoverable
+ * and not withdrawn items of a community or collection.
+ */
+@Entity
+@Table(name = "archived_item_count")
+public class ArchivedItemCount implements ReloadableEntity<UUID> {
+
+    @Id
+    @Column(name = "dspace_object_id")
+    private UUID id;
+
+    @Column(name = "item_count", nullable = false)
+    private int count;
+
+    @Column(name = "last_modified")
+    private Instant lastModified;
+
+    /**
+     * Protected constructor, the counts are maintained by
+     * {@link ArchivedItemCountService#update(Context, org.dspace.content.DSpaceObject)}
+     */
+    protected ArchivedItemCount() {
+
+    }
+
+    protected ArchivedItemCount(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the UUID of the community or collection
+     */
+    @Override
+    public UUID getID() {
+        return id;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+}
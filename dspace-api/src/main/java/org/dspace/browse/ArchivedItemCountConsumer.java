@@ -0,0 +1,261 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.content.Collection;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.DetailType;
+import org.dspace.event.Event;
+import org.dspace.event.EventDetail;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer keeping the archived_item_count table up to date. Installing, withdrawing, reinstating, moving or mapping
+ * an item or changing its discoverability adds or removes it from the counts of its collections and of all the
+ * communities above them: at the end of the commit, the collections and communities counting the item before and
+ * after the changes are compared and only the differences are applied, one per item, so that an item mapped into
+ * several collections of a community stays counted once there. Moving a collection or community, which is rare,
+ * counts the communities above it again, and the count of a new collection or community is stored when it is
+ * created. Deleted items are removed from the counts by
+ * {@link ArchivedItemCountService#removeItem} since their collections are unknown once they are gone.
+ */
+public class ArchivedItemCountConsumer implements Consumer {
+
+    private static final Logger log = LogManager.getLogger(ArchivedItemCountConsumer.class);
+
+    private static final String INSTALL = "INSTALL";
+    private static final String WITHDRAW = "WITHDRAW";
+    private static final String REINSTATE = "REINSTATE";
+    private static final String DISCOVERABLE = "DISCOVERABLE";
+    private static final String UNDISCOVERABLE = "UNDISCOVERABLE";
+    private static final String ADD = "ADD";
+    private static final String REMOVE = "REMOVE";
+
+    private ArchivedItemCountService archivedItemCountService;
+
+    private ItemService itemService;
+
+    private CollectionService collectionService;
+
+    /**
+     * The collections and communities counted again: the new ones and the communities above a collection or
+     * community which moved
+     */
+    private Set<DSpaceObject> containersToUpdate = new HashSet<>();
+
+    /**
+     * The changes of each item which may change the counts, in the order of the events
+     */
+    private Map<UUID, List<Change>> itemChanges = new LinkedHashMap<>();
+
+    @Override
+    public void initialize() throws Exception {
+        archivedItemCountService = new DSpace().getSingletonService(ArchivedItemCountService.class);
+        itemService = ContentServiceFactory.getInstance().getItemService();
+        collectionService = ContentServiceFactory.getInstance().getCollectionService();
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (event.getEventType() == Event.CREATE && event.getSubjectType() != Constants.ITEM) {
+            // The count of a new collection or community is stored right away, rather than when it is first read
+            DSpaceObject subject = event.getSubject(ctx);
+            if (subject != null) {
+                containersToUpdate.add(subject);
+            }
+            return;
+        }
+        switch (event.getSubjectType()) {
+            case Constants.ITEM:
+                String action = getItemAction(event);
+                if (action != null) {
+                    addChange(event.getSubjectID(), new Change(action, null));
+                }
+                break;
+            case Constants.COLLECTION:
+                if (event.getObjectType() == Constants.ITEM
+                    && (event.getEventType() == Event.ADD || event.getEventType() == Event.REMOVE)) {
+                    addChange(event.getObjectID(),
+                              new Change(event.getEventType() == Event.ADD ? ADD : REMOVE, event.getSubjectID()));
+                }
+                break;
+            case Constants.COMMUNITY:
+                if (event.getEventType() == Event.ADD || event.getEventType() == Event.REMOVE) {
+                    DSpaceObject subject = event.getSubject(ctx);
+                    if (subject == null) {
+                        log.debug("Ignoring event on a deleted object: " + event);
+                        return;
+                    }
+                    containersToUpdate.addAll(archivedItemCountService.getContainers(ctx, subject));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        try {
+            for (DSpaceObject container : containersToUpdate) {
+                container = ctx.reloadEntity(container);
+                if (container != null) {
+                    archivedItemCountService.update(ctx, container);
+                }
+            }
+            // The differences of all the items are added up first, a container without a stored count is counted
+            // once in the database with all of them
+            Map<DSpaceObject, Integer> deltas = new LinkedHashMap<>();
+            for (Map.Entry<UUID, List<Change>> entry : itemChanges.entrySet()) {
+                Item item = itemService.find(ctx, entry.getKey());
+                if (item == null) {
+                    // Deleted, already removed from the counts
+                    continue;
+                }
+                Set<DSpaceObject> after = getCountingContainers(ctx, item, entry.getValue(), false);
+                Set<DSpaceObject> before = getCountingContainers(ctx, item, entry.getValue(), true);
+                for (DSpaceObject container : before) {
+                    if (!after.contains(container)) {
+                        deltas.merge(container, -1, Integer::sum);
+                    }
+                }
+                for (DSpaceObject container : after) {
+                    if (!before.contains(container)) {
+                        deltas.merge(container, 1, Integer::sum);
+                    }
+                }
+            }
+            for (Map.Entry<DSpaceObject, Integer> delta : deltas.entrySet()) {
+                if (delta.getValue() != 0 && !containersToUpdate.contains(delta.getKey())) {
+                    archivedItemCountService.addToCount(ctx, delta.getKey(), delta.getValue());
+                }
+            }
+        } finally {
+            containersToUpdate.clear();
+            itemChanges.clear();
+        }
+    }
+
+    /**
+     * Get the change of an item event which may change the counts: its installation, withdrawal, reinstatement or
+     * a change of its discoverability.
+     *
+     * @return the change, null if the event doesn't change the counts
+     */
+    protected String getItemAction(Event event) {
+        if (event.getEventType() == Event.INSTALL) {
+            return INSTALL;
+        }
+        EventDetail detail = event.getDetail();
+        if (event.getEventType() != Event.MODIFY || detail == null
+            || !DetailType.ACTION.equals(detail.getDetailType())) {
+            return null;
+        }
+        Object action = detail.getDetailObject();
+        if (WITHDRAW.equals(action) || REINSTATE.equals(action) || DISCOVERABLE.equals(action)
+            || UNDISCOVERABLE.equals(action)) {
+            return (String) action;
+        }
+        return null;
+    }
+
+    private void addChange(UUID itemId, Change change) {
+        itemChanges.computeIfAbsent(itemId, id -> new ArrayList<>()).add(change);
+    }
+
+    /**
+     * Get the collections and communities counting the item, now or before the given changes. The state before the
+     * changes is found by undoing them, the last one first.
+     */
+    private Set<DSpaceObject> getCountingContainers(Context ctx, Item item, List<Change> changes, boolean before)
+        throws Exception {
+        boolean archived = item.isArchived();
+        boolean withdrawn = item.isWithdrawn();
+        boolean discoverable = item.isDiscoverable();
+        Set<UUID> collections = new HashSet<>();
+        for (Collection collection : item.getCollections()) {
+            collections.add(collection.getID());
+        }
+        for (int i = changes.size() - 1; before && i >= 0; i--) {
+            Change change = changes.get(i);
+            switch (change.action) {
+                case INSTALL:
+                    archived = false;
+                    break;
+                case WITHDRAW:
+                    withdrawn = false;
+                    break;
+                case REINSTATE:
+                    withdrawn = true;
+                    break;
+                case DISCOVERABLE:
+                    discoverable = false;
+                    break;
+                case UNDISCOVERABLE:
+                    discoverable = true;
+                    break;
+                case ADD:
+                    collections.remove(change.collection);
+                    break;
+                case REMOVE:
+                    collections.add(change.collection);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Set<DSpaceObject> containers = new HashSet<>();
+        if (!archived || withdrawn || !discoverable) {
+            return containers;
+        }
+        for (UUID collectionId : collections) {
+            Collection collection = collectionService.find(ctx, collectionId);
+            if (collection != null) {
+                containers.addAll(archivedItemCountService.getContainers(ctx, collection));
+            }
+        }
+        return containers;
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+        // No-op
+    }
+
+    /**
+     * A change of an item, or of the collections it belongs to
+     */
+    private static class Change {
+        private final String action;
+        private final UUID collection;
+
+        private Change(String action, UUID collection) {
+            this.action = action;
+            this.collection = collection;
+        }
+    }
+}
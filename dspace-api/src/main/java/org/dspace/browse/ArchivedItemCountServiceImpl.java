@@ -0,0 +1,244 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.browse.dao.ArchivedItemCountDAO;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.CommunityService;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.services.RequestService;
+import org.dspace.services.model.Request;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Service implementation for the ArchivedItemCount object.
+ * This class is responsible for all business logic calls for the ArchivedItemCount object and is autowired by
+ * spring. This class should never be accessed directly.
+ */
+public class ArchivedItemCountServiceImpl implements ArchivedItemCountService {
+
+    private static final Logger log = LogManager.getLogger(ArchivedItemCountServiceImpl.class);
+
+    /**
+     * Name of the request attribute holding the counts read during the current request
+     */
+    private static final String COUNTS_ATTRIBUTE = ArchivedItemCountServiceImpl.class.getName() + ".counts";
+
+    @Autowired(required = true)
+    protected ArchivedItemCountDAO archivedItemCountDAO;
+    @Autowired(required = true)
+    protected ItemService itemService;
+    @Autowired(required = true)
+    protected CollectionService collectionService;
+    @Autowired(required = true)
+    protected CommunityService communityService;
+    @Autowired(required = true)
+    protected RequestService requestService;
+
+    protected ArchivedItemCountServiceImpl() {
+
+    }
+
+    @Override
+    public int getCount(Context context, DSpaceObject dso) throws SQLException {
+        if (!(dso instanceof Collection) && !(dso instanceof Community)) {
+            return 0;
+        }
+        Map<UUID, Integer> storedCounts = getStoredCounts(context, dso);
+        Integer count;
+        if (storedCounts != null) {
+            count = storedCounts.get(dso.getID());
+        } else {
+            ArchivedItemCount stored = archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID());
+            count = stored != null ? stored.getCount() : null;
+        }
+        if (count == null) {
+            log.debug("No stored count for {}, counting its items", dso.getID());
+            count = countInDatabase(context, dso);
+            if (!context.isReadOnly()) {
+                store(context, archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID()), dso,
+                      count);
+            }
+            if (storedCounts != null) {
+                storedCounts.put(dso.getID(), count);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int update(Context context, DSpaceObject dso) throws SQLException {
+        int count = countInDatabase(context, dso);
+        store(context, archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID()), dso, count);
+        return count;
+    }
+
+    @Override
+    public void addToCount(Context context, DSpaceObject dso, int delta) throws SQLException {
+        ArchivedItemCount archivedItemCount =
+            archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID());
+        if (archivedItemCount == null) {
+            store(context, null, dso, countInDatabase(context, dso));
+        } else {
+            store(context, archivedItemCount, dso, Math.max(0, archivedItemCount.getCount() + delta));
+        }
+    }
+
+    @Override
+    public Set<DSpaceObject> getContainers(Context context, DSpaceObject dso) throws SQLException {
+        Set<DSpaceObject> containers = new LinkedHashSet<>();
+        if (dso instanceof Item) {
+            for (Collection collection : ((Item) dso).getCollections()) {
+                containers.add(collection);
+                containers.addAll(communityService.getAllParents(context, collection));
+            }
+        } else if (dso instanceof Collection) {
+            containers.add(dso);
+            containers.addAll(communityService.getAllParents(context, (Collection) dso));
+        } else if (dso instanceof Community) {
+            containers.add(dso);
+            containers.addAll(communityService.getAllParents(context, (Community) dso));
+        }
+        return containers;
+    }
+
+    @Override
+    public void removeItem(Context context, Item item) throws SQLException {
+        if (!item.isArchived() || item.isWithdrawn() || !item.isDiscoverable()) {
+            return;
+        }
+        for (DSpaceObject container : getContainers(context, item)) {
+            ArchivedItemCount archivedItemCount =
+                archivedItemCountDAO.findByID(context, ArchivedItemCount.class, container.getID());
+            // Containers without a stored count are counted when they are read
+            if (archivedItemCount != null && archivedItemCount.getCount() > 0) {
+                store(context, archivedItemCount, container, archivedItemCount.getCount() - 1);
+            }
+        }
+    }
+
+    @Override
+    public int reconcile(Context context) throws SQLException {
+        Map<UUID, ArchivedItemCount> stored = new HashMap<>();
+        for (ArchivedItemCount archivedItemCount : archivedItemCountDAO.findAll(context, ArchivedItemCount.class)) {
+            stored.put(archivedItemCount.getID(), archivedItemCount);
+        }
+
+        List<DSpaceObject> containers = new ArrayList<>();
+        containers.addAll(communityService.findAll(context));
+        containers.addAll(collectionService.findAll(context));
+
+        int corrected = 0;
+        for (DSpaceObject container : containers) {
+            ArchivedItemCount archivedItemCount = stored.get(container.getID());
+            int count = countInDatabase(context, container);
+            if (archivedItemCount == null || archivedItemCount.getCount() != count) {
+                log.info("Archived item count of {} corrected from {} to {}", container.getID(),
+                         archivedItemCount == null ? "none" : archivedItemCount.getCount(), count);
+                store(context, archivedItemCount, container, count);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * Get the stored counts read during the current request, including the one of the given community or
+     * collection if it has one. The counts of the objects rendered with it are read at the same time, with a single
+     * query: the other sub-communities and collections of its parent communities, or the other top communities.
+     *
+     * @return the stored counts by object UUID, or null outside a request
+     */
+    protected Map<UUID, Integer> getStoredCounts(Context context, DSpaceObject dso) throws SQLException {
+        Request currentRequest = requestService.getCurrentRequest();
+        if (currentRequest == null) {
+            return null;
+        }
+        StoredCounts storedCounts = (StoredCounts) currentRequest.getAttribute(COUNTS_ATTRIBUTE);
+        if (storedCounts == null) {
+            storedCounts = new StoredCounts();
+            currentRequest.setAttribute(COUNTS_ATTRIBUTE, storedCounts);
+        }
+        if (storedCounts.counts.containsKey(dso.getID())) {
+            return storedCounts.counts;
+        }
+
+        Set<UUID> parents = new HashSet<>();
+        List<Community> parentCommunities = dso instanceof Collection ? ((Collection) dso).getCommunities()
+            : ((Community) dso).getParentCommunities();
+        for (Community parent : parentCommunities) {
+            parents.add(parent.getID());
+        }
+        List<ArchivedItemCount> read = null;
+        if (parents.isEmpty()) {
+            if (!storedCounts.topCommunitiesRead) {
+                read = archivedItemCountDAO.findTopCommunities(context);
+                storedCounts.topCommunitiesRead = true;
+            }
+        } else {
+            parents.removeAll(storedCounts.parentsRead);
+            if (!parents.isEmpty()) {
+                read = archivedItemCountDAO.findChildren(context, parents);
+                storedCounts.parentsRead.addAll(parents);
+            }
+        }
+        if (read != null) {
+            for (ArchivedItemCount archivedItemCount : read) {
+                storedCounts.counts.put(archivedItemCount.getID(), archivedItemCount.getCount());
+            }
+        }
+        return storedCounts.counts;
+    }
+
+    protected int countInDatabase(Context context, DSpaceObject dso) throws SQLException {
+        if (dso instanceof Collection) {
+            return itemService.countItems(context, (Collection) dso);
+        } else if (dso instanceof Community) {
+            return itemService.countItems(context, (Community) dso);
+        }
+        return 0;
+    }
+
+    protected void store(Context context, ArchivedItemCount archivedItemCount, DSpaceObject dso, int count)
+        throws SQLException {
+        if (archivedItemCount == null) {
+            archivedItemCount = archivedItemCountDAO.create(context, new ArchivedItemCount(dso.getID()));
+        }
+        archivedItemCount.setCount(count);
+        archivedItemCount.setLastModified(Instant.now());
+        archivedItemCountDAO.save(context, archivedItemCount);
+    }
+
+    /**
+     * The stored counts read during a request
+     */
+    private static class StoredCounts {
+        private final Map<UUID, Integer> counts = new HashMap<>();
+        private final Set<UUID> parentsRead = new HashSet<>();
+        private boolean topCommunitiesRead = false;
+    }
+}
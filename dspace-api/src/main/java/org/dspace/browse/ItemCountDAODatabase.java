@@ -0,0 +1,49 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse;
+
+import java.sql.SQLException;
+
+import org.apache.logging.log4j.Logger;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.content.DSpaceObject;
+import org.dspace.core.Context;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Database driver implementing ItemCountDAO interface to look up the item counts of communities and collections
+ * in the archived_item_count table, which is maintained by the ArchivedItemCountConsumer. Unlike
+ * {@link ItemCountDAOSolr} it doesn't need a search per community or collection: the counts of sibling communities
+ * and collections are read at once during a request.
+ */
+public class ItemCountDAODatabase implements ItemCountDAO {
+    /**
+     * Log4j logger
+     */
+    private static Logger log = org.apache.logging.log4j.LogManager.getLogger(ItemCountDAODatabase.class);
+
+    @Autowired
+    protected ArchivedItemCountService archivedItemCountService;
+
+    /**
+     * Get the count of the items in the given container.
+     *
+     * @param context DSpace context
+     * @param dso DspaceObject
+     * @return count
+     */
+    @Override
+    public int getCount(Context context, DSpaceObject dso) {
+        try {
+            return archivedItemCountService.getCount(context, dso);
+        } catch (SQLException e) {
+            log.error("Error reading the number of Items in {} :", dso.getID(), e);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse.dao;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.dspace.browse.ArchivedItemCount;
+import org.dspace.core.Context;
+import org.dspace.core.GenericDAO;
+
+/**
+ * Database Access Object interface class for the ArchivedItemCount object.
+ *
+ * The implementation of this class is responsible for all database calls for the ArchivedItemCount object
+ * and is autowired by spring
+ */
+public interface ArchivedItemCountDAO extends GenericDAO<ArchivedItemCount> {
+
+    /**
+     * Find the stored counts of the top communities.
+     *
+     * @param context DSpace context
+     * @return the stored counts of the communities without parent community
+     * @throws SQLException if database error
+     */
+    List<ArchivedItemCount> findTopCommunities(Context context) throws SQLException;
+
+    /**
+     * Find the stored counts of the sub-communities and collections of the given communities.
+     *
+     * @param context     DSpace context
+     * @param communities the UUIDs of the parent communities
+     * @return the stored counts of their sub-communities and collections
+     * @throws SQLException if database error
+     */
+    List<ArchivedItemCount> findChildren(Context context, Collection<UUID> communities) throws SQLException;
+}
@@ -0,0 +1,48 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse.dao.impl;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.Query;
+import org.dspace.browse.ArchivedItemCount;
+import org.dspace.browse.dao.ArchivedItemCountDAO;
+import org.dspace.core.AbstractHibernateDAO;
+import org.dspace.core.Context;
+
+/**
+ * Hibernate implementation of the Database Access Object interface class for the ArchivedItemCount object.
+ * This class is responsible for all database calls for the ArchivedItemCount object
+ * and is autowired by spring
+ */
+public class ArchivedItemCountDAOImpl extends AbstractHibernateDAO<ArchivedItemCount>
+    implements ArchivedItemCountDAO {
+
+    protected ArchivedItemCountDAOImpl() {
+        super();
+    }
+
+    @Override
+    public List<ArchivedItemCount> findTopCommunities(Context context) throws SQLException {
+        Query query = createQuery(context, "SELECT a FROM ArchivedItemCount a WHERE a.id IN"
+            + " (SELECT c.id FROM Community c WHERE c.parentCommunities IS EMPTY)");
+        return list(query);
+    }
+
+    @Override
+    public List<ArchivedItemCount> findChildren(Context context, Collection<UUID> communities) throws SQLException {
+        Query query = createQuery(context, "SELECT a FROM ArchivedItemCount a WHERE a.id IN"
+            + " (SELECT s.id FROM Community p JOIN p.subCommunities s WHERE p.id IN (:communities))"
+            + " OR a.id IN (SELECT c.id FROM Collection c JOIN c.communities p WHERE p.id IN (:communities))");
+        query.setParameter("communities", communities);
+        return list(query);
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse.service;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+
+/**
+ * Service interface class for the maintained number of archived items of communities and collections.
+ * The counts are kept up to date by the ArchivedItemCountConsumer and can be reconciled with the actual
+ * content by the "item-count-reconcile" script.
+ */
+public interface ArchivedItemCountService {
+
+    /**
+     * Get the number of archived, discoverable and not withdrawn items of a community or collection. During a
+     * request, the stored counts of the object and of its sibling communities and collections are read with a single
+     * query and kept for the rest of the request, so that a page of sub-communities or collections is rendered with
+     * one query. When no count is stored for the object yet, it is counted in the database and stored, unless the
+     * context is read-only.
+     *
+     * @param context DSpace context
+     * @param dso     the community or collection
+     * @return the number of archived items, 0 for other kinds of objects
+     * @throws SQLException if database error
+     */
+    int getCount(Context context, DSpaceObject dso) throws SQLException;
+
+    /**
+     * Count the archived items of a community or collection in the database and store the result.
+     *
+     * @param context DSpace context
+     * @param dso     the community or collection
+     * @return the number of archived items
+     * @throws SQLException if database error
+     */
+    int update(Context context, DSpaceObject dso) throws SQLException;
+
+    /**
+     * Add items to or remove them from the stored count of a community or collection. A community or collection
+     * without a stored count is counted in the database instead, including the changes.
+     *
+     * @param context DSpace context
+     * @param dso     the community or collection
+     * @param delta   the number of items counted now minus the number of items which aren't counted anymore
+     * @throws SQLException if database error
+     */
+    void addToCount(Context context, DSpaceObject dso, int delta) throws SQLException;
+
+    /**
+     * Get the communities and collections whose counts depend on the given object: the collections of an item,
+     * a collection, a community and all the communities above them.
+     *
+     * @param context DSpace context
+     * @param dso     an item, collection or community
+     * @return the communities and collections to update
+     * @throws SQLException if database error
+     */
+    Set<DSpaceObject> getContainers(Context context, DSpaceObject dso) throws SQLException;
+
+    /**
+     * Remove an archived item about to be deleted from the counts of its collections and communities. This is done
+     * in the transaction deleting the item, since its collections can't be found anymore once it has been deleted.
+     *
+     * @param context DSpace context
+     * @param item    the item being deleted
+     * @throws SQLException if database error
+     */
+    void removeItem(Context context, Item item) throws SQLException;
+
+    /**
+     * Count the archived items of every community and collection in the database and store the counts which
+     * differ from the stored ones.
+     *
+     * @param context DSpace context
+     * @return the number of counts which were missing or wrong
+     * @throws SQLException if database error
+     */
+    int reconcile(Context context) throws SQLException;
+}
@@ -488,6 +488,16 @@ public class BitstreamServiceImpl extends DSpaceObjectServiceImpl<Bitstream> imp
         return bitstreamDAO.countByStoreNumber(context, storeNumber);
     }
 
+    @Override
+    public List<Bitstream> findByBundle(Context context, Bundle bundle, int limit, int offset) throws SQLException {
+        return bitstreamDAO.findByBundle(context, bundle, limit, offset);
+    }
+
+    @Override
+    public int countByBundle(Context context, Bundle bundle) throws SQLException {
+        return bitstreamDAO.countByBundle(context, bundle);
+    }
+
     @Override
     public int countTotal(Context context) throws SQLException {
         return bitstreamDAO.countRows(context);
@@ -222,6 +222,24 @@ public class CollectionServiceImpl extends DSpaceObjectServiceImpl<Collection> i
         return collectionDAO.findAll(context, nameField, limit, offset);
     }
 
+    @Override
+    public List<Collection> findMappedCollections(Context context, Item item, int limit, int offset)
+        throws SQLException {
+        MetadataField nameField = metadataFieldService.findByElement(context, MetadataSchemaEnum.DC.getName(),
+                                                                     "title", null);
+        if (nameField == null) {
+            throw new IllegalArgumentException(
+                "Required metadata field '" + MetadataSchemaEnum.DC.getName() + ".title' doesn't exist!");
+        }
+
+        return collectionDAO.findMappedByItem(context, item, nameField, limit, offset);
+    }
+
+    @Override
+    public int countMappedCollections(Context context, Item item) throws SQLException {
+        return collectionDAO.countMappedByItem(context, item);
+    }
+
     @Override
     public List<Collection> findAuthorizedOptimized(Context context, int actionID) throws SQLException {
         if (!configurationService
@@ -324,6 +342,11 @@ public class CollectionServiceImpl extends DSpaceObjectServiceImpl<Collection> i
         return collectionDAO.findByID(context, Collection.class, id);
     }
 
+    @Override
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException {
+        return collectionDAO.findExistingIds(context, Collection.class, ids);
+    }
+
     @Override
     public void setMetadataSingleValue(Context context, Collection collection,
             MetadataFieldName field, String language, String value)
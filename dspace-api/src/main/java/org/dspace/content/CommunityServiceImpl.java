@@ -159,6 +159,11 @@ public class CommunityServiceImpl extends DSpaceObjectServiceImpl<Community> imp
         return communityDAO.findByID(context, Community.class, id);
     }
 
+    @Override
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException {
+        return communityDAO.findExistingIds(context, Community.class, ids);
+    }
+
     @Override
     public List<Community> findAll(Context context) throws SQLException {
         MetadataField sortField = metadataFieldService.findByElement(context, MetadataSchemaEnum.DC.getName(),
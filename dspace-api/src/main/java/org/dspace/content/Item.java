@@ -113,6 +113,12 @@ public class Item extends DSpaceObject implements DSpaceObjectLegacySupport {
     @Transient
     private List<MetadataValue> cachedMetadata = new ArrayList<>();
 
+    /**
+     * The discoverable flag as it was before its first change since the last update, null if it wasn't changed
+     */
+    @Transient
+    private Boolean previousDiscoverable = null;
+
     /**
      * Protected constructor, create object using:
      * {@link org.dspace.content.service.ItemService#create(Context, WorkspaceItem)}
@@ -200,10 +206,29 @@ public class Item extends DSpaceObject implements DSpaceObjectLegacySupport {
      * @param discoverable new value for the flag
      */
     public void setDiscoverable(boolean discoverable) {
+        if (previousDiscoverable == null) {
+            previousDiscoverable = this.discoverable;
+        }
         this.discoverable = discoverable;
         setModified();
     }
 
+    /**
+     * Whether the discoverable flag differs from the one of the last update
+     *
+     * @return true if the item became discoverable or undiscoverable
+     */
+    public boolean isDiscoverableChanged() {
+        return previousDiscoverable != null && previousDiscoverable != discoverable;
+    }
+
+    /**
+     * Forget the changes of the discoverable flag, once the item is updated
+     */
+    public void clearDiscoverableChanged() {
+        previousDiscoverable = null;
+    }
+
     /**
      * Set the owning Collection for the item
      *
@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +36,7 @@ import org.dspace.authorize.AuthorizeException;
 import org.dspace.authorize.ResourcePolicy;
 import org.dspace.authorize.service.AuthorizeService;
 import org.dspace.authorize.service.ResourcePolicyService;
+import org.dspace.browse.service.ArchivedItemCountService;
 import org.dspace.content.authority.Choices;
 import org.dspace.content.dao.ItemDAO;
 import org.dspace.content.factory.ContentServiceFactory;
@@ -183,6 +185,10 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
 
     @Autowired
     private VersionHistoryService versionHistoryService;
+    @Autowired(required = true)
+    protected ArchivedItemCountService archivedItemCountService;
+    @Autowired(required = true)
+    protected VirtualMetadataCache virtualMetadataCache;
 
     protected ItemServiceImpl() {
     }
@@ -218,6 +224,30 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         return null;
     }
 
+    @Override
+    public Map<UUID, Thumbnail> getThumbnails(Context context, List<UUID> itemIds, boolean requireOriginal)
+        throws SQLException {
+        Map<UUID, Thumbnail> thumbnails = new HashMap<>();
+        for (Item item : itemDAO.findByIdsWithBundles(context, itemIds)) {
+            thumbnails.put(item.getID(), getThumbnail(context, item, requireOriginal));
+        }
+        return thumbnails;
+    }
+
+    @Override
+    public Map<UUID, Collection> getOwningCollections(Context context, List<UUID> itemIds) throws SQLException {
+        Map<UUID, Collection> owningCollections = new HashMap<>();
+        for (Item item : itemDAO.findByIdsWithOwningCollection(context, itemIds)) {
+            owningCollections.put(item.getID(), item.getOwningCollection());
+        }
+        return owningCollections;
+    }
+
+    @Override
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException {
+        return itemDAO.findExistingIds(context, Item.class, ids);
+    }
+
     @Override
     public Item find(Context context, UUID id) throws SQLException {
         Item item = itemDAO.findByID(context, Item.class, id);
@@ -693,12 +723,23 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
                     item.getMetadataEventDetails(), DetailType.DSO_SUMMARY,
                     getIdentifiers(context, item)));
                 item.clearMetadataEventDetails();
+                // Items related to this one read its new metadata in this transaction already, the
+                // VirtualMetadataCacheConsumer invalidates the cache again once the change is committed
+                virtualMetadataCache.invalidate(item.getID());
             }
 
-            context.addEvent(new Event(Event.MODIFY, Constants.ITEM, item.getID(),
-                                       null, getIdentifiers(context, item)));
+            if (item.isDiscoverableChanged()) {
+                // Like a withdrawal, a change of the discoverability changes the counts of archived items
+                context.addEvent(new Event(Event.MODIFY, Constants.ITEM, item.getID(),
+                    item.isDiscoverable() ? "DISCOVERABLE" : "UNDISCOVERABLE", DetailType.ACTION,
+                    getIdentifiers(context, item)));
+            } else {
+                context.addEvent(new Event(Event.MODIFY, Constants.ITEM, item.getID(),
+                                           null, getIdentifiers(context, item)));
+            }
             item.clearModified();
             item.clearDetails();
+            item.clearDiscoverableChanged();
         }
     }
 
@@ -890,6 +931,9 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
             qaEventsDao.delete(context, qaEvent);
         }
 
+        // The collections of the item are about to be cleared, remove it from their counts first
+        archivedItemCountService.removeItem(context, item);
+
         //Only clear collections after we have removed everything else from the item
         item.clearCollections();
         item.setOwningCollection(null);
@@ -55,6 +55,8 @@ public class MetadataFieldServiceImpl implements MetadataFieldService {
     protected MetadataSchemaService metadataSchemaService;
     @Autowired
     protected SiteService siteService;
+    @Autowired(required = true)
+    protected MetadataRegistryCache metadataRegistryCache;
 
     protected MetadataFieldServiceImpl() {
 
@@ -83,6 +85,7 @@ public class MetadataFieldServiceImpl implements MetadataFieldService {
         metadataField.setMetadataSchema(metadataSchema);
         metadataField = metadataFieldDAO.create(context, metadataField);
         metadataFieldDAO.save(context, metadataField);
+        metadataRegistryCache.invalidate();
 
         log.info(LogHelper.getHeader(context, "create_metadata_field",
                                       "metadata_field_id=" + metadataField.getID()));
@@ -99,12 +102,24 @@ public class MetadataFieldServiceImpl implements MetadataFieldService {
     @Override
     public MetadataField findByElement(Context context, MetadataSchema metadataSchema, String element, String qualifier)
         throws SQLException {
-        return metadataFieldDAO.findByElement(context, metadataSchema, element, qualifier);
+        return findByElement(context, metadataSchema.getName(), element, qualifier);
     }
 
     @Override
     public MetadataField findByElement(Context context, String metadataSchemaName, String element, String qualifier)
         throws SQLException {
+        Integer id = metadataRegistryCache.findFieldId(context, metadataSchemaName, element, qualifier);
+        if (id != null) {
+            MetadataField metadataField = find(context, id);
+            // The snapshot may lag behind registry changes in this transaction, so verify what we got
+            if (metadataField != null
+                && StringUtils.equals(metadataField.getMetadataSchema().getName(), metadataSchemaName)
+                && StringUtils.equals(metadataField.getElement(), element)
+                && StringUtils.equals(StringUtils.trimToNull(metadataField.getQualifier()),
+                                      StringUtils.trimToNull(qualifier))) {
+                return metadataField;
+            }
+        }
         return metadataFieldDAO.findByElement(context, metadataSchemaName, element, qualifier);
     }
 
@@ -155,6 +170,7 @@ public class MetadataFieldServiceImpl implements MetadataFieldService {
         }
 
         metadataFieldDAO.save(context, metadataField);
+        metadataRegistryCache.invalidate();
 
         log.info(LogHelper.getHeader(context, "update_metadatafieldregistry",
                                       "metadata_field_id=" + metadataField.getID() + "element=" + metadataField
@@ -183,6 +199,7 @@ public class MetadataFieldServiceImpl implements MetadataFieldService {
         // Only remove this field if it is NOT in use (as we don't want to bulk delete metadata values)
         if (CollectionUtils.isEmpty(values)) {
             metadataFieldDAO.delete(context, metadataField);
+            metadataRegistryCache.invalidate();
         } else {
             throw new IllegalStateException("Metadata field " + metadataField
                 .toString() + " cannot be deleted as it is currently used by one or more objects.");
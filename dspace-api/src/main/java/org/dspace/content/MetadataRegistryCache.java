@@ -0,0 +1,158 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.dao.MetadataFieldDAO;
+import org.dspace.content.dao.MetadataSchemaDAO;
+import org.dspace.core.Context;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * In-memory snapshot of the metadata registry, used to resolve metadata fields and schemas by name without a
+ * database query. The snapshot only maps names to ids (and back); the entities themselves are always obtained from
+ * Hibernate by id, which is served from the session or second level cache.
+ * <p>
+ * The snapshot is immutable and replaced as a whole. It is invalidated by the {@link MetadataRegistryCacheConsumer}
+ * whenever the registry changes, and rebuilt lazily on the next lookup. Callers must still verify that the entity
+ * they load matches the requested name, since a snapshot may briefly lag behind uncommitted registry changes.
+ */
+public class MetadataRegistryCache {
+
+    private static final Logger log = LogManager.getLogger(MetadataRegistryCache.class);
+
+    @Autowired(required = true)
+    protected MetadataFieldDAO metadataFieldDAO;
+
+    @Autowired(required = true)
+    protected MetadataSchemaDAO metadataSchemaDAO;
+
+    /**
+     * Incremented on every invalidation, a snapshot built for an older generation is never served.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    protected MetadataRegistryCache() {
+
+    }
+
+    /**
+     * Look up the id of a metadata field.
+     *
+     * @param context   DSpace context, used to (re)build the snapshot if needed
+     * @param schema    short name of the schema
+     * @param element   element of the field
+     * @param qualifier qualifier of the field, blank or null for an unqualified field
+     * @return the id of the field, or null if it is not in the snapshot
+     * @throws SQLException if database error while building the snapshot
+     */
+    public Integer findFieldId(Context context, String schema, String element, String qualifier)
+        throws SQLException {
+        return getSnapshot(context).fieldIds.get(fieldKey(schema, element, qualifier));
+    }
+
+    /**
+     * Look up the key ({@code schema.element[.qualifier]}) of a metadata field by id.
+     *
+     * @param context DSpace context, used to (re)build the snapshot if needed
+     * @param id      id of the metadata field
+     * @return the key of the field, or null if it is not in the snapshot
+     * @throws SQLException if database error while building the snapshot
+     */
+    public String findFieldKey(Context context, int id) throws SQLException {
+        return getSnapshot(context).fieldKeys.get(id);
+    }
+
+    /**
+     * Look up the id of a metadata schema.
+     *
+     * @param context DSpace context, used to (re)build the snapshot if needed
+     * @param name    short name of the schema
+     * @return the id of the schema, or null if it is not in the snapshot
+     * @throws SQLException if database error while building the snapshot
+     */
+    public Integer findSchemaId(Context context, String name) throws SQLException {
+        return getSnapshot(context).schemaIds.get(name);
+    }
+
+    /**
+     * Discard the current snapshot. The next lookup will build a new one from the database.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        log.debug("Metadata registry snapshot invalidated");
+    }
+
+    /**
+     * Build the key under which a field is stored in the snapshot.
+     *
+     * @param schema    short name of the schema
+     * @param element   element of the field
+     * @param qualifier qualifier of the field, blank or null for an unqualified field
+     * @return {@code schema.element} or {@code schema.element.qualifier}
+     */
+    public static String fieldKey(String schema, String element, String qualifier) {
+        if (StringUtils.isBlank(qualifier)) {
+            return schema + "." + element;
+        }
+        return schema + "." + element + "." + qualifier;
+    }
+
+    protected Snapshot getSnapshot(Context context) throws SQLException {
+        long currentGeneration = generation.get();
+        Snapshot current = snapshot;
+        if (current != null && current.generation == currentGeneration) {
+            return current;
+        }
+        Snapshot rebuilt = new Snapshot(currentGeneration,
+                                        metadataSchemaDAO.findAll(context, MetadataSchema.class),
+                                        metadataFieldDAO.findAll(context, MetadataField.class));
+        snapshot = rebuilt;
+        log.debug("Metadata registry snapshot rebuilt with {} schemas and {} fields",
+                  rebuilt.schemaIds.size(), rebuilt.fieldIds.size());
+        return rebuilt;
+    }
+
+    /**
+     * Immutable name/id maps of the registry at one point in time.
+     */
+    protected static final class Snapshot {
+        private final long generation;
+        private final Map<String, Integer> schemaIds;
+        private final Map<String, Integer> fieldIds;
+        private final Map<Integer, String> fieldKeys;
+
+        Snapshot(long generation, List<MetadataSchema> schemas, List<MetadataField> fields) {
+            this.generation = generation;
+            Map<String, Integer> schemaIds = new HashMap<>();
+            for (MetadataSchema schema : schemas) {
+                schemaIds.put(schema.getName(), schema.getID());
+            }
+            Map<String, Integer> fieldIds = new HashMap<>();
+            Map<Integer, String> fieldKeys = new HashMap<>();
+            for (MetadataField field : fields) {
+                String key = fieldKey(field.getMetadataSchema().getName(), field.getElement(), field.getQualifier());
+                fieldIds.put(key, field.getID());
+                fieldKeys.put(field.getID(), key);
+            }
+            this.schemaIds = Map.copyOf(schemaIds);
+            this.fieldIds = Map.copyOf(fieldIds);
+            this.fieldKeys = Map.copyOf(fieldKeys);
+        }
+    }
+}
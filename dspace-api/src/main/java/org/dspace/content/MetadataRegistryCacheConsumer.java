@@ -0,0 +1,62 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.discovery.indexobject.IndexableMetadataField;
+import org.dspace.event.Consumer;
+import org.dspace.event.DetailType;
+import org.dspace.event.Event;
+import org.dspace.event.EventDetail;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer that invalidates the {@link MetadataRegistryCache} once changes to the metadata registry have been
+ * committed, so that the next lookup rebuilds the snapshot from committed data.
+ */
+public class MetadataRegistryCacheConsumer implements Consumer {
+
+    private static final Logger log = LogManager.getLogger(MetadataRegistryCacheConsumer.class);
+
+    private boolean invalidateNeeded = false;
+
+    @Override
+    public void initialize() throws Exception {
+        // No-op
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (event.getSubjectType() != Constants.SITE) {
+            return;
+        }
+        EventDetail detail = event.getDetail();
+        if (detail != null && DetailType.DSO_TYPE.equals(detail.getDetailType())
+            && IndexableMetadataField.TYPE.equals(detail.getDetailObject())) {
+            log.debug("Metadata registry changed: " + event);
+            invalidateNeeded = true;
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (invalidateNeeded) {
+            new DSpace().getSingletonService(MetadataRegistryCache.class).invalidate();
+            invalidateNeeded = false;
+        }
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+        // No-op
+    }
+
+}
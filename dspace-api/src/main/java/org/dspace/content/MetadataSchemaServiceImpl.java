@@ -43,6 +43,9 @@ public class MetadataSchemaServiceImpl implements MetadataSchemaService {
     @Autowired(required = true)
     protected MetadataSchemaDAO metadataSchemaDAO;
 
+    @Autowired(required = true)
+    protected MetadataRegistryCache metadataRegistryCache;
+
     protected MetadataSchemaServiceImpl() {
 
     }
@@ -74,6 +77,7 @@ public class MetadataSchemaServiceImpl implements MetadataSchemaService {
         metadataSchema.setNamespace(namespace);
         metadataSchema.setName(name);
         metadataSchemaDAO.save(context, metadataSchema);
+        metadataRegistryCache.invalidate();
         log.info(LogHelper.getHeader(context, "create_metadata_schema",
                                       "metadata_schema_id="
                                           + metadataSchema.getID()));
@@ -106,6 +110,7 @@ public class MetadataSchemaServiceImpl implements MetadataSchemaService {
                                                      + " unique");
         }
         metadataSchemaDAO.save(context, metadataSchema);
+        metadataRegistryCache.invalidate();
         log.info(LogHelper.getHeader(context, "update_metadata_schema",
                                       "metadata_schema_id=" + metadataSchema.getID() + "namespace="
                                           + metadataSchema.getNamespace() + "name=" + metadataSchema.getName()));
@@ -124,6 +129,7 @@ public class MetadataSchemaServiceImpl implements MetadataSchemaService {
         }
 
         metadataSchemaDAO.delete(context, metadataSchema);
+        metadataRegistryCache.invalidate();
 
         log.info(LogHelper.getHeader(context, "delete_metadata_schema",
                 "metadata_schema_id=" + metadataSchema.getID()));
@@ -145,6 +151,14 @@ public class MetadataSchemaServiceImpl implements MetadataSchemaService {
         if (shortName == null) {
             return null;
         }
+        Integer id = metadataRegistryCache.findSchemaId(context, shortName);
+        if (id != null) {
+            MetadataSchema metadataSchema = find(context, id);
+            // The snapshot may lag behind registry changes in this transaction, so verify what we got
+            if (metadataSchema != null && shortName.equals(metadataSchema.getName())) {
+                return metadataSchema;
+            }
+        }
         return metadataSchemaDAO.find(context, shortName);
     }
 
@@ -12,10 +12,13 @@ import static org.dspace.content.RelationshipType.Tilted.RIGHT;
 
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -54,33 +57,35 @@ public class RelationshipMetadataServiceImpl implements RelationshipMetadataServ
     @Autowired(required = true)
     protected MetadataFieldService metadataFieldService;
 
+    @Autowired(required = true)
+    protected VirtualMetadataCache virtualMetadataCache;
+
     @Override
     public List<RelationshipMetadataValue> getRelationshipMetadata(Item item, boolean enableVirtualMetadata) {
         Context context = new Context();
         List<RelationshipMetadataValue> fullMetadataValueList = new LinkedList<>();
+        boolean useCache = enableVirtualMetadata && virtualMetadataCache.isEnabled();
         try {
-            EntityType entityType = itemService.getEntityType(context, item);
-            if (entityType != null) {
-                // NOTE: The following code will add metadata fields of type relation.*.latestForDiscovery
-                //       (e.g. relation.isAuthorOfPublication.latestForDiscovery).
-                //       These fields contain the UUIDs of the items that have a relationship with current item,
-                //       from the perspective of the other item. In other words, given a relationship with this item,
-                //       the current item should have "latest status" in order for the other item to appear in
-                //       relation.*.latestForDiscovery fields.
-                fullMetadataValueList.addAll(findLatestForDiscoveryMetadataValues(context, item, entityType));
-
-                // NOTE: The following code will, among other things,
-                //       add metadata fields of type relation.* (e.g. relation.isAuthorOfPublication).
-                //       These fields contain the UUIDs of the items that have a relationship with current item,
-                //       from the perspective of this item. In other words, given a relationship with this item,
-                //       the other item should have "latest status" in order to appear in relation.* fields.
-                List<Relationship> relationships = relationshipService.findByItem(context, item, -1, -1, true);
-                for (Relationship relationship : relationships) {
-                    fullMetadataValueList
-                        .addAll(findRelationshipMetadataValueForItemRelationship(context, item, entityType.getLabel(),
-                                relationship, enableVirtualMetadata));
+            if (useCache) {
+                List<RelationshipMetadataValue> cached = getCachedRelationshipMetadata(context, item);
+                if (cached != null) {
+                    return cached;
                 }
-
+            }
+            long generation = virtualMetadataCache.getGeneration();
+            // the items visited by the virtual metadata beans are recorded as well
+            Set<UUID> relatedItems = useCache ? VirtualMetadataCache.startRecording() : new HashSet<>();
+            try {
+                computeRelationshipMetadata(context, item, enableVirtualMetadata, fullMetadataValueList,
+                                            relatedItems);
+            } finally {
+                if (useCache) {
+                    VirtualMetadataCache.stopRecording(relatedItems);
+                }
+            }
+            if (useCache) {
+                relatedItems.remove(item.getID());
+                virtualMetadataCache.put(item, fullMetadataValueList, relatedItems, generation);
             }
         } catch (SQLException e) {
             log.error("Lookup for Relationships for item with uuid: " + item.getID() + " caused DSpace to crash", e);
@@ -88,6 +93,68 @@ public class RelationshipMetadataServiceImpl implements RelationshipMetadataServ
         return fullMetadataValueList;
     }
 
+    /**
+     * Compute the relationship metadata of an item.
+     * @param context the DSpace context.
+     * @param item the item.
+     * @param enableVirtualMetadata whether the virtual metadata of the relationships is computed too.
+     * @param fullMetadataValueList the list receiving the relationship metadata.
+     * @param relatedItems the set receiving the UUIDs of the items on both sides of the relationships.
+     */
+    private void computeRelationshipMetadata(Context context, Item item, boolean enableVirtualMetadata,
+                                             List<RelationshipMetadataValue> fullMetadataValueList,
+                                             Set<UUID> relatedItems) throws SQLException {
+        EntityType entityType = itemService.getEntityType(context, item);
+        if (entityType != null) {
+            // NOTE: The following code will add metadata fields of type relation.*.latestForDiscovery
+            //       (e.g. relation.isAuthorOfPublication.latestForDiscovery).
+            //       These fields contain the UUIDs of the items that have a relationship with current item,
+            //       from the perspective of the other item. In other words, given a relationship with this item,
+            //       the current item should have "latest status" in order for the other item to appear in
+            //       relation.*.latestForDiscovery fields.
+            fullMetadataValueList.addAll(findLatestForDiscoveryMetadataValues(context, item, entityType));
+
+            // NOTE: The following code will, among other things,
+            //       add metadata fields of type relation.* (e.g. relation.isAuthorOfPublication).
+            //       These fields contain the UUIDs of the items that have a relationship with current item,
+            //       from the perspective of this item. In other words, given a relationship with this item,
+            //       the other item should have "latest status" in order to appear in relation.* fields.
+            List<Relationship> relationships = relationshipService.findByItem(context, item, -1, -1, true);
+            for (Relationship relationship : relationships) {
+                relatedItems.add(relationship.getLeftItem().getID());
+                relatedItems.add(relationship.getRightItem().getID());
+                fullMetadataValueList
+                    .addAll(findRelationshipMetadataValueForItemRelationship(context, item, entityType.getLabel(),
+                            relationship, enableVirtualMetadata));
+            }
+
+        }
+    }
+
+    /**
+     * Create the relationship metadata of an item from the {@link VirtualMetadataCache}.
+     * @param context the DSpace context.
+     * @param item the item.
+     * @return the relationship metadata, or null if it isn't cached for the item as last modified.
+     */
+    protected List<RelationshipMetadataValue> getCachedRelationshipMetadata(Context context, Item item)
+        throws SQLException {
+        List<VirtualMetadataCache.CachedValue> cachedValues = virtualMetadataCache.get(item);
+        if (cachedValues == null) {
+            return null;
+        }
+        List<RelationshipMetadataValue> metadataValues = new LinkedList<>();
+        for (VirtualMetadataCache.CachedValue cachedValue : cachedValues) {
+            MetadataField metadataField = metadataFieldService.find(context, cachedValue.getMetadataFieldId());
+            if (metadataField == null) {
+                // The registry has changed, compute the values again
+                return null;
+            }
+            metadataValues.add(cachedValue.toMetadataValue(item, metadataField));
+        }
+        return metadataValues;
+    }
+
     /**
      * Create the list of relation.*.latestForDiscovery virtual metadata values for the given item.
      * @param context the DSpace context.
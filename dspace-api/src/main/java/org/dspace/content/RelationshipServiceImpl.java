@@ -11,8 +11,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -206,6 +209,156 @@ public class RelationshipServiceImpl implements RelationshipService {
         return relationship;
     }
 
+    @Override
+    public List<Relationship> create(Context context, Item item, List<Relationship> relationships)
+        throws SQLException, AuthorizeException {
+        if (CollectionUtils.isEmpty(relationships)) {
+            return Collections.emptyList();
+        }
+
+        // Verify all the relationships before creating any of them
+        Map<String, Integer> relationshipCounts = new HashMap<>();
+        for (Relationship relationship : relationships) {
+            if (!item.equals(relationship.getLeftItem()) && !item.equals(relationship.getRightItem())) {
+                throw new IllegalArgumentException("The relationships given should all relate item " + item.getID());
+            }
+            if (!authorizeService.authorizeActionBoolean(context, relationship.getLeftItem(), Constants.WRITE) &&
+                !authorizeService.authorizeActionBoolean(context, relationship.getRightItem(), Constants.WRITE)) {
+                throw new AuthorizeException("You do not have write rights on this relationship's items");
+            }
+            if (!isRelationshipValidToCreate(context, relationship, relationshipCounts)) {
+                throw new IllegalArgumentException("The relationship given was not valid");
+            }
+        }
+
+        // Read the siblings of every item and side once, before any of the new relationships is added to them
+        Map<String, PlaceSiblings> siblings = new HashMap<>();
+        for (Relationship relationship : relationships) {
+            getPlaceSiblings(context, siblings, relationship, true);
+            getPlaceSiblings(context, siblings, relationship, false);
+        }
+
+        List<Relationship> created = new ArrayList<>(relationships.size());
+        for (Relationship relationship : relationships) {
+            insertPlace(context, siblings, relationship, true);
+            insertPlace(context, siblings, relationship, false);
+            created.add(relationshipDAO.create(context, relationship));
+        }
+
+        // The places of the siblings are written when the session is flushed, the items are updated only once
+        updateItemsInRelationships(context, created);
+        return created;
+    }
+
+    @Override
+    public void reorder(Context context, Item item, List<Relationship> relationships)
+        throws SQLException, AuthorizeException {
+        if (CollectionUtils.isEmpty(relationships)) {
+            return;
+        }
+        RelationshipType relationshipType = relationships.get(0).getRelationshipType();
+        boolean isLeft = item.equals(relationships.get(0).getLeftItem());
+
+        List<Integer> places = new ArrayList<>(relationships.size());
+        for (Relationship relationship : relationships) {
+            if (!relationshipType.equals(relationship.getRelationshipType())
+                || !item.equals(isLeft ? relationship.getLeftItem() : relationship.getRightItem())) {
+                throw new IllegalArgumentException("The relationships given should all be of the same type, with item "
+                                                       + item.getID() + " on the same side");
+            }
+            if (!authorizeService.authorizeActionBoolean(context, relationship.getLeftItem(), Constants.WRITE) &&
+                !authorizeService.authorizeActionBoolean(context, relationship.getRightItem(), Constants.WRITE)) {
+                throw new AuthorizeException("You do not have write rights on this relationship's items");
+            }
+            places.add(getPlace(relationship, isLeft));
+        }
+        if (relationships.stream().distinct().count() != relationships.size()) {
+            throw new IllegalArgumentException("The relationships given should not contain duplicates");
+        }
+
+        // Hand out the places currently taken by these relationships in the new order, the places of the other
+        // relationships and metadata of the item don't change
+        Collections.sort(places);
+        for (int i = 0; i < relationships.size(); i++) {
+            setPlace(relationships.get(i), isLeft, places.get(i));
+            relationshipDAO.save(context, relationships.get(i));
+        }
+
+        context.turnOffAuthorisationSystem();
+        try {
+            List<Item> itemsToUpdate = new ArrayList<>();
+            itemsToUpdate.add(item);
+            if (containsVirtualMetadata(isLeft ? relationshipType.getLeftwardType()
+                                               : relationshipType.getRightwardType())) {
+                findModifiedDiscoveryItemsForCurrentItem(context, item, itemsToUpdate,
+                    configurationService.getIntProperty("relationship.update.relateditems.max", 20), 0,
+                    configurationService.getIntProperty("relationship.update.relateditems.maxdepth", 5));
+            }
+            for (Item itemToUpdate : itemsToUpdate) {
+                updateItem(context, itemToUpdate);
+            }
+        } finally {
+            context.restoreAuthSystemState();
+        }
+    }
+
+    /**
+     * Get the sibling relationships and metadata of one side of a relationship, reading them only the first time
+     * the item, relationship type and side are encountered.
+     */
+    private PlaceSiblings getPlaceSiblings(
+        Context context, Map<String, PlaceSiblings> siblings, Relationship relationship, boolean isLeft
+    ) throws SQLException {
+        Item item = isLeft ? relationship.getLeftItem() : relationship.getRightItem();
+        String key = getCountKey(item, relationship.getRelationshipType(), isLeft);
+        PlaceSiblings placeSiblings = siblings.get(key);
+        if (placeSiblings == null) {
+            // As in updatePlaceInRelationship, the non-latest relationships are included as well
+            placeSiblings = new PlaceSiblings(
+                findByItemAndRelationshipType(context, item, relationship.getRelationshipType(), isLeft, -1, -1,
+                                              false),
+                getSiblingMetadata(item, relationship, isLeft)
+            );
+            siblings.put(key, placeSiblings);
+        }
+        return placeSiblings;
+    }
+
+    /**
+     * Resolve the place of a new relationship on one side and shift its siblings in memory, as
+     * {@link #updatePlaceInRelationship} does on creation, then add the relationship to the siblings of the next
+     * relationships.
+     */
+    private void insertPlace(
+        Context context, Map<String, PlaceSiblings> siblings, Relationship relationship, boolean isLeft
+    ) throws SQLException {
+        PlaceSiblings placeSiblings = getPlaceSiblings(context, siblings, relationship, isLeft);
+        int oldPlace = getPlace(relationship, isLeft);
+        resolveRelationshipPlace(
+            relationship, isLeft, placeSiblings.relationships, placeSiblings.metadata, oldPlace, null
+        );
+        if (relationshipVersioningUtils.otherSideIsLatest(isLeft, relationship.getLatestVersionStatus())) {
+            shiftSiblings(
+                relationship, isLeft, oldPlace, false, true, false,
+                placeSiblings.relationships, placeSiblings.metadata
+            );
+        }
+        placeSiblings.relationships.add(relationship);
+    }
+
+    /**
+     * The sibling relationships and metadata of one side of relationships being created in bulk.
+     */
+    private static class PlaceSiblings {
+        private final List<Relationship> relationships;
+        private final List<MetadataValue> metadata;
+
+        PlaceSiblings(List<Relationship> relationships, List<MetadataValue> metadata) {
+            this.relationships = new ArrayList<>(relationships);
+            this.metadata = metadata;
+        }
+    }
+
     /**
      * This method will update the place for the Relationship and all other relationships found by the items and
      * relationship type of the given Relationship.
@@ -530,6 +683,19 @@ public class RelationshipServiceImpl implements RelationshipService {
     }
 
     private boolean isRelationshipValidToCreate(Context context, Relationship relationship) throws SQLException {
+        return isRelationshipValidToCreate(context, relationship, new HashMap<>());
+    }
+
+    /**
+     * Verify whether a relationship is valid to create.
+     *
+     * @param relationshipCounts the number of relationships by item, relationship type and side, counted in the
+     *                           database on first use. When given the same map for several relationships, each
+     *                           valid relationship is added to the counts of its items so that the max
+     *                           cardinality is verified for them together.
+     */
+    private boolean isRelationshipValidToCreate(Context context, Relationship relationship,
+                                                Map<String, Integer> relationshipCounts) throws SQLException {
         RelationshipType relationshipType = relationship.getRelationshipType();
 
         if (!verifyEntityTypes(relationship.getLeftItem(), relationshipType.getLeftType())) {
@@ -546,7 +712,8 @@ public class RelationshipServiceImpl implements RelationshipService {
         }
         if (!relationship.getLatestVersionStatus().equals(LatestVersionStatus.LEFT_ONLY)
             && !verifyMaxCardinality(context, relationship.getLeftItem(),
-                                  relationshipType.getLeftMaxCardinality(), relationshipType, true)) {
+                                  relationshipType.getLeftMaxCardinality(), relationshipType, true,
+                                  relationshipCounts)) {
             //If RIGHT_ONLY => it's a copied relationship, and the count can be ignored
             log.warn("The relationship has been deemed invalid since the left item has more" +
                          " relationships than the left max cardinality allows after we'd store this relationship");
@@ -555,16 +722,29 @@ public class RelationshipServiceImpl implements RelationshipService {
         }
         if (!relationship.getLatestVersionStatus().equals(LatestVersionStatus.RIGHT_ONLY)
                 && !verifyMaxCardinality(context, relationship.getRightItem(),
-                                  relationshipType.getRightMaxCardinality(), relationshipType, false)) {
+                                  relationshipType.getRightMaxCardinality(), relationshipType, false,
+                                  relationshipCounts)) {
             //If LEFT_ONLY => it's a copied relationship, and the count can be ignored
             log.warn("The relationship has been deemed invalid since the right item has more" +
                          " relationships than the right max cardinality allows after we'd store this relationship");
             logRelationshipTypeDetailsForError(relationshipType);
             return false;
         }
+        if (!relationship.getLatestVersionStatus().equals(LatestVersionStatus.LEFT_ONLY)) {
+            relationshipCounts.computeIfPresent(getCountKey(relationship.getLeftItem(), relationshipType, true),
+                                                (key, count) -> count + 1);
+        }
+        if (!relationship.getLatestVersionStatus().equals(LatestVersionStatus.RIGHT_ONLY)) {
+            relationshipCounts.computeIfPresent(getCountKey(relationship.getRightItem(), relationshipType, false),
+                                                (key, count) -> count + 1);
+        }
         return true;
     }
 
+    private String getCountKey(Item item, RelationshipType relationshipType, boolean isLeft) {
+        return item.getID() + "_" + relationshipType.getID() + "_" + isLeft;
+    }
+
     private void logRelationshipTypeDetailsForError(RelationshipType relationshipType) {
         log.warn("The relationshipType's ID is: " + relationshipType.getID());
         log.warn("The relationshipType's leftward type is: " + relationshipType.getLeftwardType());
@@ -580,14 +760,19 @@ public class RelationshipServiceImpl implements RelationshipService {
     private boolean verifyMaxCardinality(Context context, Item itemToProcess,
                                          Integer maxCardinality,
                                          RelationshipType relationshipType,
-                                         boolean isLeft) throws SQLException {
+                                         boolean isLeft, Map<String, Integer> relationshipCounts)
+        throws SQLException {
         if (maxCardinality == null) {
             //no need to check the relationships
             return true;
         }
-        List<Relationship> rightRelationships = findByItemAndRelationshipType(context, itemToProcess, relationshipType,
-                                                                              isLeft);
-        if (rightRelationships.size() >= maxCardinality) {
+        String key = getCountKey(itemToProcess, relationshipType, isLeft);
+        Integer count = relationshipCounts.get(key);
+        if (count == null) {
+            count = countByItemAndRelationshipType(context, itemToProcess, relationshipType, isLeft);
+            relationshipCounts.put(key, count);
+        }
+        if (count >= maxCardinality) {
             return false;
         }
         return true;
@@ -741,6 +926,18 @@ public class RelationshipServiceImpl implements RelationshipService {
      * @throws SQLException     If something goes wrong
      */
     private void updateItemsInRelationship(Context context, Relationship relationship) throws SQLException {
+        updateItemsInRelationships(context, Collections.singletonList(relationship));
+    }
+
+    /**
+     * Update the items of the given relationships, and the items whose virtual metadata depends on them, once each.
+     * See {@link #updateItemsInRelationship(Context, Relationship)}.
+     *
+     * @param context           The relevant DSpace context
+     * @param relationships     The relationships which have been created, updated or deleted
+     * @throws SQLException     If something goes wrong
+     */
+    private void updateItemsInRelationships(Context context, List<Relationship> relationships) throws SQLException {
         // Since this call is performed after creating, updating or deleting the relationships, the permissions have
         // already been verified. The following updateItem calls can however call the
         // ItemService.update() functions which would fail if the user doesn't have permission on both items.
@@ -754,16 +951,29 @@ public class RelationshipServiceImpl implements RelationshipService {
             int maxDepth = configurationService.getIntProperty("relationship.update.relateditems.maxdepth", 5);
             // This is the list containing all items which will have changes to their virtual metadata
             List<Item> itemsToUpdate = new ArrayList<>();
-            itemsToUpdate.add(relationship.getLeftItem());
-            itemsToUpdate.add(relationship.getRightItem());
-
-            if (containsVirtualMetadata(relationship.getRelationshipType().getLeftwardType())) {
-                findModifiedDiscoveryItemsForCurrentItem(context, relationship.getLeftItem(),
-                                           itemsToUpdate, max, 0, maxDepth);
+            for (Relationship relationship : relationships) {
+                if (!itemsToUpdate.contains(relationship.getLeftItem())) {
+                    itemsToUpdate.add(relationship.getLeftItem());
+                }
+                if (!itemsToUpdate.contains(relationship.getRightItem())) {
+                    itemsToUpdate.add(relationship.getRightItem());
+                }
             }
-            if (containsVirtualMetadata(relationship.getRelationshipType().getRightwardType())) {
-                findModifiedDiscoveryItemsForCurrentItem(context, relationship.getRightItem(),
-                                            itemsToUpdate, max, 0, maxDepth);
+
+            // Each item and relationship type only needs to be traversed once
+            Set<String> traversed = new HashSet<>();
+            for (Relationship relationship : relationships) {
+                RelationshipType relationshipType = relationship.getRelationshipType();
+                if (containsVirtualMetadata(relationshipType.getLeftwardType())
+                    && traversed.add(getCountKey(relationship.getLeftItem(), relationshipType, true))) {
+                    findModifiedDiscoveryItemsForCurrentItem(context, relationship.getLeftItem(),
+                                               itemsToUpdate, max, 0, maxDepth);
+                }
+                if (containsVirtualMetadata(relationshipType.getRightwardType())
+                    && traversed.add(getCountKey(relationship.getRightItem(), relationshipType, false))) {
+                    findModifiedDiscoveryItemsForCurrentItem(context, relationship.getRightItem(),
+                                                itemsToUpdate, max, 0, maxDepth);
+                }
             }
 
             for (Item item : itemsToUpdate) {
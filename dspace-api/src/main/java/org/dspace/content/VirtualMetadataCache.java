@@ -0,0 +1,302 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Cache of the relationship (virtual) metadata computed by the {@link RelationshipMetadataService}, shared by all
+ * the requests and the indexing so that the relationships and the metadata of the related items of an item are not
+ * walked through again every time its metadata is read.
+ * <p>
+ * The values are cached per item and last modification date of the item. Creating, updating or deleting a
+ * relationship updates its items (and the last modification date) in the same transaction, so the values are
+ * computed again as soon as the relationships of the item change. Changes of the metadata of related items are
+ * reported by the {@link VirtualMetadataCacheConsumer}, which discards the values of all the items which used them.
+ * The items used are recorded while the values are computed, including all the items visited through chains of
+ * {@link org.dspace.content.virtual.Related} beans (e.g. the journal of the volume of the issue of a publication).
+ * <p>
+ * The cache is local to the JVM: the changes made by another process (e.g. a command line script while the REST
+ * API is running) are only noticed for the items whose last modification date changed, the values of the items
+ * related to them stay stale until they are evicted. The cache only holds the data of the values, the metadata
+ * fields and the values themselves are created again for every read. Its size is set with
+ * relationship.virtual-metadata.cache.size (0, the default, disables it).
+ */
+public class VirtualMetadataCache {
+
+    private static final Logger log = LogManager.getLogger(VirtualMetadataCache.class);
+
+    public static final String CACHE_SIZE_PROPERTY = "relationship.virtual-metadata.cache.size";
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    /**
+     * Incremented on every invalidation, values computed before an invalidation are never stored.
+     */
+    private long generation = 0;
+
+    /**
+     * The cached values by item, in access order so that the least recently used are evicted first.
+     */
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The cached items by related item whose metadata they use.
+     */
+    private final Map<UUID, Set<UUID>> dependents = new HashMap<>();
+
+    /**
+     * The items used by the computations of relationship metadata in progress in the current thread, the innermost
+     * last. Computations are nested when a virtual metadata bean reads the metadata of a related item.
+     */
+    private static final ThreadLocal<Deque<Set<UUID>>> recordings = ThreadLocal.withInitial(ArrayDeque::new);
+
+    protected VirtualMetadataCache() {
+
+    }
+
+    /**
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return getMaxSize() > 0;
+    }
+
+    /**
+     * Get the current generation of the cache, to be passed to {@link #put} along with the values computed
+     * afterwards.
+     *
+     * @return the current generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the cached relationship metadata of an item.
+     *
+     * @param item the item
+     * @return the cached values, or null if the values of the item as last modified are not cached
+     */
+    public synchronized List<CachedValue> get(Item item) {
+        Entry entry = entries.get(item.getID());
+        if (entry == null || !Objects.equals(entry.lastModified, item.getLastModified())) {
+            return null;
+        }
+        // the values of an enclosing computation depend on the same items
+        for (UUID relatedItem : entry.relatedItems) {
+            recordDependency(relatedItem);
+        }
+        return entry.values;
+    }
+
+    /**
+     * Start recording the items used to compute the relationship metadata of an item in the current thread.
+     * Must be followed by {@link #stopRecording(Set)}.
+     *
+     * @return the set receiving the UUIDs of the items used
+     */
+    public static Set<UUID> startRecording() {
+        Set<UUID> recorded = new HashSet<>();
+        recordings.get().push(recorded);
+        return recorded;
+    }
+
+    /**
+     * Record that the relationship metadata being computed in the current thread uses the metadata or the
+     * relationships of an item. Does nothing if no computation is being recorded.
+     *
+     * @param itemId the UUID of the item used
+     */
+    public static void recordDependency(UUID itemId) {
+        Set<UUID> recorded = recordings.get().peek();
+        if (recorded != null) {
+            recorded.add(itemId);
+        }
+    }
+
+    /**
+     * Stop recording the items used by a computation started with {@link #startRecording()}. They are used by the
+     * enclosing computation too, if any.
+     *
+     * @param recorded the set returned by {@link #startRecording()}
+     */
+    public static void stopRecording(Set<UUID> recorded) {
+        Deque<Set<UUID>> stack = recordings.get();
+        stack.remove(recorded);
+        Set<UUID> enclosing = stack.peek();
+        if (enclosing != null) {
+            enclosing.addAll(recorded);
+        }
+        if (stack.isEmpty()) {
+            recordings.remove();
+        }
+    }
+
+    /**
+     * Cache the relationship metadata of an item, unless the cache has been invalidated since the values have been
+     * computed.
+     *
+     * @param item         the item
+     * @param values       the relationship metadata of the item
+     * @param relatedItems the UUIDs of the items whose metadata or relationships have been used
+     * @param generation   the generation of the cache before the values have been computed
+     */
+    public synchronized void put(Item item, List<RelationshipMetadataValue> values, Set<UUID> relatedItems,
+                                 long generation) {
+        if (generation != this.generation) {
+            log.debug("Not caching the virtual metadata of {}, the cache has been invalidated meanwhile",
+                      item.getID());
+            return;
+        }
+        List<CachedValue> cachedValues = new ArrayList<>(values.size());
+        for (RelationshipMetadataValue value : values) {
+            cachedValues.add(new CachedValue(value));
+        }
+        remove(item.getID());
+        entries.put(item.getID(), new Entry(item.getLastModified(), List.copyOf(cachedValues),
+                                            Set.copyOf(relatedItems)));
+        for (UUID relatedItem : relatedItems) {
+            dependents.computeIfAbsent(relatedItem, k -> new HashSet<>()).add(item.getID());
+        }
+
+        int maxSize = getMaxSize();
+        while (entries.size() > maxSize) {
+            remove(entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Discard the cached values of an item and of all the items using its metadata or relationships.
+     *
+     * @param itemId the UUID of the item which has been changed or deleted
+     */
+    public synchronized void invalidate(UUID itemId) {
+        generation++;
+        remove(itemId);
+        Set<UUID> items = dependents.remove(itemId);
+        if (items != null) {
+            for (UUID item : items) {
+                remove(item);
+            }
+        }
+    }
+
+    /**
+     * Discard all the cached values.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        dependents.clear();
+    }
+
+    /**
+     * @return the number of items whose values are cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    protected int getMaxSize() {
+        return configurationService.getIntProperty(CACHE_SIZE_PROPERTY, 0);
+    }
+
+    private void remove(UUID itemId) {
+        Entry entry = entries.remove(itemId);
+        if (entry == null) {
+            return;
+        }
+        for (UUID relatedItem : entry.relatedItems) {
+            Set<UUID> items = dependents.get(relatedItem);
+            if (items != null) {
+                items.remove(itemId);
+                if (items.isEmpty()) {
+                    dependents.remove(relatedItem);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Instant lastModified;
+        private final List<CachedValue> values;
+        private final Set<UUID> relatedItems;
+
+        Entry(Instant lastModified, List<CachedValue> values, Set<UUID> relatedItems) {
+            this.lastModified = lastModified;
+            this.values = values;
+            this.relatedItems = relatedItems;
+        }
+    }
+
+    /**
+     * The immutable data of a cached {@link RelationshipMetadataValue}.
+     */
+    public static final class CachedValue {
+        private final int metadataFieldId;
+        private final String value;
+        private final String authority;
+        private final int confidence;
+        private final int place;
+        private final boolean useForPlace;
+        private final boolean ofItem;
+
+        CachedValue(RelationshipMetadataValue metadataValue) {
+            this.metadataFieldId = metadataValue.getMetadataField().getID();
+            this.value = metadataValue.getValue();
+            this.authority = metadataValue.getAuthority();
+            this.confidence = metadataValue.getConfidence();
+            this.place = metadataValue.getPlace();
+            this.useForPlace = metadataValue.isUseForPlace();
+            this.ofItem = metadataValue.getDSpaceObject() != null;
+        }
+
+        /**
+         * Create the metadata value again.
+         *
+         * @param item          the item the value belongs to
+         * @param metadataField the field of the value, see {@link #getMetadataFieldId()}
+         * @return a new metadata value
+         */
+        public RelationshipMetadataValue toMetadataValue(Item item, MetadataField metadataField) {
+            RelationshipMetadataValue metadataValue = new RelationshipMetadataValue();
+            metadataValue.setMetadataField(metadataField);
+            metadataValue.setValue(value);
+            metadataValue.setAuthority(authority);
+            metadataValue.setConfidence(confidence);
+            metadataValue.setPlace(place);
+            metadataValue.setUseForPlace(useForPlace);
+            if (ofItem) {
+                metadataValue.setDSpaceObject(item);
+            }
+            return metadataValue;
+        }
+
+        public int getMetadataFieldId() {
+            return metadataFieldId;
+        }
+    }
+}
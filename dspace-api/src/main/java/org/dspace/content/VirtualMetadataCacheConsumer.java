@@ -0,0 +1,68 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer that discards the cached virtual metadata of the items whose relationships or related items changed.
+ * The cache is invalidated when the events are dispatched and once more after the transaction has been committed,
+ * so that values computed by other threads from the data not yet committed are not kept either.
+ */
+public class VirtualMetadataCacheConsumer implements Consumer {
+
+    private static final Logger log = LogManager.getLogger(VirtualMetadataCacheConsumer.class);
+
+    private Set<UUID> itemsToInvalidate = new HashSet<>();
+
+    @Override
+    public void initialize() throws Exception {
+        // No-op
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (event.getSubjectType() == Constants.ITEM && event.getSubjectID() != null) {
+            itemsToInvalidate.add(event.getSubjectID());
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (itemsToInvalidate.isEmpty()) {
+            return;
+        }
+        VirtualMetadataCache virtualMetadataCache = new DSpace().getSingletonService(VirtualMetadataCache.class);
+        Set<UUID> items = itemsToInvalidate;
+        itemsToInvalidate = new HashSet<>();
+        log.debug("Invalidating the virtual metadata of {} items and of the items related to them", items.size());
+        for (UUID item : items) {
+            virtualMetadataCache.invalidate(item);
+        }
+        ctx.addAfterCommitTask(() -> {
+            for (UUID item : items) {
+                virtualMetadataCache.invalidate(item);
+            }
+        });
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+        // No-op
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
 import org.dspace.content.Item;
@@ -41,6 +42,28 @@ public interface BitstreamDAO extends DSpaceObjectLegacySupportDAO<Bitstream> {
 
     public Iterator<Bitstream> findByItem(Context context, Item item) throws SQLException;
 
+    /**
+     * Find one page of the bitstreams of a bundle, in the order of the bundle.
+     *
+     * @param context DSpace context
+     * @param bundle  the bundle
+     * @param limit   maximum number of bitstreams
+     * @param offset  position of the first bitstream in the bundle
+     * @return the bitstreams
+     * @throws SQLException if database error
+     */
+    public List<Bitstream> findByBundle(Context context, Bundle bundle, int limit, int offset) throws SQLException;
+
+    /**
+     * Count the bitstreams of a bundle.
+     *
+     * @param context DSpace context
+     * @param bundle  the bundle
+     * @return the number of bitstreams
+     * @throws SQLException if database error
+     */
+    public int countByBundle(Context context, Bundle bundle) throws SQLException;
+
     public Iterator<Bitstream> findByStoreNumber(Context context, Integer storeNumber) throws SQLException;
 
     public Long countByStoreNumber(Context context, Integer storeNumber) throws SQLException;
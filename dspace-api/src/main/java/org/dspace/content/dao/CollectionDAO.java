@@ -44,6 +44,31 @@ public interface CollectionDAO extends DSpaceObjectLegacySupportDAO<Collection>
      */
     public Collection findByGroup(Context context, Group group) throws SQLException;
 
+    /**
+     * Find one page of the collections an item is mapped to, i.e. all its collections except its owning collection,
+     * sorted by the given metadata field (usually the title).
+     *
+     * @param context DSpace context
+     * @param item    the item
+     * @param order   metadata field to sort on
+     * @param limit   maximum number of collections
+     * @param offset  number of collections to skip
+     * @return the collections
+     * @throws SQLException if database error
+     */
+    public List<Collection> findMappedByItem(Context context, Item item, MetadataField order, int limit, int offset)
+        throws SQLException;
+
+    /**
+     * Count the collections an item is mapped to, i.e. all its collections except its owning collection.
+     *
+     * @param context DSpace context
+     * @param item    the item
+     * @return the number of collections
+     * @throws SQLException if database error
+     */
+    public int countMappedByItem(Context context, Item item) throws SQLException;
+
     public List<Collection> findAuthorized(Context context, EPerson ePerson, List<Integer> actions) throws SQLException;
 
     List<Collection> findAuthorizedByGroup(Context context, EPerson ePerson, List<Integer> actions) throws SQLException;
@@ -7,7 +7,13 @@
  */
 package org.dspace.content.dao;
 
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 import org.dspace.content.DSpaceObject;
+import org.dspace.core.Context;
 import org.dspace.core.GenericDAO;
 
 /**
@@ -18,4 +24,15 @@ import org.dspace.core.GenericDAO;
  * @author kevinvandevelde at atmire.com
  */
 public interface DSpaceObjectDAO<T extends DSpaceObject> extends GenericDAO<T> {
+
+    /**
+     * Find which of the given ids are those of existing objects, with one query and without loading the objects.
+     *
+     * @param context current DSpace context.
+     * @param clazz   DSO subtype of the objects.
+     * @param ids     the ids to look for.
+     * @return the ids of the objects found, in no particular order.
+     * @throws SQLException if database error
+     */
+    public List<UUID> findExistingIds(Context context, Class<T> clazz, Collection<UUID> ids) throws SQLException;
 }
@@ -231,4 +231,25 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
                    boolean discoverable)
         throws SQLException;
 
+    /**
+     * Find items by id together with their owning collection, with a single query.
+     *
+     * @param context context
+     * @param ids     the ids of the items
+     * @return the items found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Item> findByIdsWithOwningCollection(Context context, List<UUID> ids) throws SQLException;
+
+    /**
+     * Find items by id together with their bundles and their bitstreams, and the names of both, so that the
+     * files of many items can be looked at without a query per item and bundle.
+     *
+     * @param context context
+     * @param ids     the ids of the items
+     * @return the items found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<Item> findByIdsWithBundles(Context context, List<UUID> ids) throws SQLException;
+
 }
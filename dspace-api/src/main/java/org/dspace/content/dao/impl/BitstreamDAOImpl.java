@@ -153,6 +153,22 @@ public class BitstreamDAOImpl extends AbstractHibernateDSODAO<Bitstream> impleme
         return new UUIDIterator<Bitstream>(context, uuids, Bitstream.class, this);
     }
 
+    @Override
+    public List<Bitstream> findByBundle(Context context, Bundle bundle, int limit, int offset) throws SQLException {
+        Query query = createQuery(context, "SELECT bit FROM Bundle bundle JOIN bundle.bitstreams bit"
+            + " WHERE bundle = :bundle ORDER BY index(bit)");
+        query.setParameter("bundle", bundle);
+        return list(query, limit, offset);
+    }
+
+    @Override
+    public int countByBundle(Context context, Bundle bundle) throws SQLException {
+        Query query = createQuery(context, "SELECT count(bit) FROM Bundle bundle JOIN bundle.bitstreams bit"
+            + " WHERE bundle = :bundle");
+        query.setParameter("bundle", bundle);
+        return count(query);
+    }
+
     @Override
     public Long countByStoreNumber(Context context, Integer storeNumber) throws SQLException {
 
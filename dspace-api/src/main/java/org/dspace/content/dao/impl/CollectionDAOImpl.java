@@ -99,6 +99,33 @@ public class CollectionDAOImpl extends AbstractHibernateDSODAO<Collection> imple
         return list(hibernateQuery);
     }
 
+    @Override
+    public List<Collection> findMappedByItem(Context context, Item item, MetadataField order, int limit, int offset)
+        throws SQLException {
+        // Same sorting on the first title as in findAll, the id makes the order stable for paging
+        Query query = createQuery(context, "SELECT c" +
+            " FROM Item i JOIN i.collections c" +
+            " left join c.metadata title on title.metadataField = :sortField and" +
+            " title.dSpaceObject = c and" +
+            " title.place = (select min(internal.place) " +
+            "from c.metadata internal " +
+            "where internal.metadataField = :sortField and" +
+            " internal.dSpaceObject = c)" +
+            " WHERE i = :item AND (i.owningCollection IS NULL OR c <> i.owningCollection)" +
+            " ORDER BY LOWER(CAST(title.value as string)), c.id");
+        query.setParameter("sortField", order);
+        query.setParameter("item", item);
+        return list(query, limit, offset);
+    }
+
+    @Override
+    public int countMappedByItem(Context context, Item item) throws SQLException {
+        Query query = createQuery(context, "SELECT count(c) FROM Item i JOIN i.collections c" +
+            " WHERE i = :item AND (i.owningCollection IS NULL OR c <> i.owningCollection)");
+        query.setParameter("item", item);
+        return count(query);
+    }
+
     @Override
     public Collection findByTemplateItem(Context context, Item item) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
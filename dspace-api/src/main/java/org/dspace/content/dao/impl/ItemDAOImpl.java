@@ -23,6 +23,8 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.apache.logging.log4j.Logger;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
 import org.dspace.content.Collection;
 import org.dspace.content.DSpaceObject_;
 import org.dspace.content.Item;
@@ -522,4 +524,55 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
         return count(query);
 
     }
+
+    @Override
+    public List<Item> findByIdsWithOwningCollection(Context context, List<UUID> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Query query = createQuery(context,
+                "SELECT i FROM Item i LEFT JOIN FETCH i.owningCollection WHERE i.id IN (:ids)");
+        query.setParameter("ids", ids);
+        return list(query);
+    }
+
+    @Override
+    public List<Item> findByIdsWithBundles(Context context, List<UUID> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // Bundle.bitstreams is an indexed list, so it can be fetched together with the bundles
+        Query query = createQuery(context,
+                "SELECT DISTINCT i FROM Item i LEFT JOIN FETCH i.bundles bundle LEFT JOIN FETCH bundle.bitstreams " +
+                "WHERE i.id IN (:ids)");
+        query.setParameter("ids", ids);
+        List<Item> items = list(query);
+
+        // The names of the bundles are metadata, load them in a second query rather than once per bundle
+        List<Bundle> bundles = new ArrayList<>();
+        for (Item item : items) {
+            bundles.addAll(item.getBundles());
+        }
+        if (!bundles.isEmpty()) {
+            Query bundleQuery = createQuery(context,
+                    "SELECT DISTINCT bundle FROM Bundle bundle LEFT JOIN FETCH bundle.metadata " +
+                    "WHERE bundle IN (:bundles)");
+            bundleQuery.setParameter("bundles", bundles);
+            bundleQuery.getResultList();
+        }
+
+        // The same for the names of the bitstreams, which the thumbnails are looked up by
+        List<Bitstream> bitstreams = new ArrayList<>();
+        for (Bundle bundle : bundles) {
+            bitstreams.addAll(bundle.getBitstreams());
+        }
+        if (!bitstreams.isEmpty()) {
+            Query bitstreamQuery = createQuery(context,
+                    "SELECT DISTINCT bitstream FROM Bitstream bitstream LEFT JOIN FETCH bitstream.metadata " +
+                    "WHERE bitstream IN (:bitstreams)");
+            bitstreamQuery.setParameter("bitstreams", bitstreams);
+            bitstreamQuery.getResultList();
+        }
+        return items;
+    }
 }
@@ -14,7 +14,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 import org.dspace.content.Site;
 import org.dspace.content.dao.SiteDAO;
-import org.dspace.core.AbstractHibernateDAO;
+import org.dspace.core.AbstractHibernateDSODAO;
 import org.dspace.core.Context;
 
 /**
@@ -24,7 +24,7 @@ import org.dspace.core.Context;
  *
  * @author kevinvandevelde at atmire.com
  */
-public class SiteDAOImpl extends AbstractHibernateDAO<Site> implements SiteDAO {
+public class SiteDAOImpl extends AbstractHibernateDSODAO<Site> implements SiteDAO {
     protected SiteDAOImpl() {
         super();
     }
@@ -218,6 +218,29 @@ public interface BitstreamService extends DSpaceObjectService<Bitstream>, DSpace
 
     public Long countByStoreNumber(Context context, Integer storeNumber) throws SQLException;
 
+    /**
+     * Get one page of the bitstreams of a bundle, in the order of the bundle, without loading all of them as
+     * {@link Bundle#getBitstreams()} does.
+     *
+     * @param context DSpace context
+     * @param bundle  the bundle
+     * @param limit   maximum number of bitstreams
+     * @param offset  position of the first bitstream in the bundle
+     * @return the bitstreams
+     * @throws SQLException if database error
+     */
+    public List<Bitstream> findByBundle(Context context, Bundle bundle, int limit, int offset) throws SQLException;
+
+    /**
+     * Count the bitstreams of a bundle.
+     *
+     * @param context DSpace context
+     * @param bundle  the bundle
+     * @return the number of bitstreams
+     * @throws SQLException if database error
+     */
+    public int countByBundle(Context context, Bundle bundle) throws SQLException;
+
     int countTotal(Context context) throws SQLException;
 
     int countDeletedBitstreams(Context context) throws SQLException;
@@ -38,6 +38,16 @@ public interface CollectionService
      */
     public static final String SOLR_SORT_FIELD = "dc.title_sort";
 
+    /**
+     * Find which of the given ids are those of existing collections, with one query.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look for
+     * @return the ids of the collections found, in no particular order
+     * @throws SQLException if database error
+     */
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Create a new collection with a new ID.
      * Once created the collection is added to the given community
@@ -101,6 +111,30 @@ public interface CollectionService
      */
     public List<Collection> findAll(Context context, Integer limit, Integer offset) throws SQLException;
 
+    /**
+     * Get one page of the collections an item is mapped to, i.e. all its collections except its owning collection,
+     * sorted by title. This avoids loading all the collections of the item as {@link Item#getCollections()} does.
+     *
+     * @param context The relevant DSpace Context.
+     * @param item    the item
+     * @param limit   paging limit
+     * @param offset  paging offset
+     * @return List of Collections
+     * @throws SQLException if database error
+     */
+    public List<Collection> findMappedCollections(Context context, Item item, int limit, int offset)
+        throws SQLException;
+
+    /**
+     * Count the collections an item is mapped to, i.e. all its collections except its owning collection.
+     *
+     * @param context The relevant DSpace Context.
+     * @param item    the item
+     * @return the number of collections
+     * @throws SQLException if database error
+     */
+    public int countMappedCollections(Context context, Item item) throws SQLException;
+
     public List<Collection> findAuthorizedOptimized(Context context, int actionID) throws java.sql.SQLException;
 
     public List<Collection> findDirectMapped(Context context, int actionID) throws java.sql.SQLException;
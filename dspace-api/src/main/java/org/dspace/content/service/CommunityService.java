@@ -29,6 +29,16 @@ import org.dspace.eperson.Group;
  */
 public interface CommunityService extends DSpaceObjectService<Community>, DSpaceObjectLegacySupportService<Community> {
 
+    /**
+     * Find which of the given ids are those of existing communities, with one query.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look for
+     * @return the ids of the communities found, in no particular order
+     * @throws SQLException if database error
+     */
+    public List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Create a new top-level community, with a new ID.
      *
@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.dspace.authorize.AuthorizeException;
@@ -44,6 +45,39 @@ public interface ItemService
 
     Thumbnail getThumbnail(Context context, Item item, boolean requireOriginal) throws SQLException;
 
+    /**
+     * Get the thumbnails of several items, like {@link #getThumbnail(Context, Item, boolean)}, loading the
+     * bundles and bitstreams of all the items at once instead of item by item.
+     *
+     * @param context         DSpace context object
+     * @param itemIds         the ids of the items
+     * @param requireOriginal as in {@link #getThumbnail(Context, Item, boolean)}
+     * @return the thumbnail of every item found by id, {@code null} for the items without a thumbnail
+     * @throws SQLException if database error
+     */
+    Map<UUID, Thumbnail> getThumbnails(Context context, List<UUID> itemIds, boolean requireOriginal)
+        throws SQLException;
+
+    /**
+     * Get the owning collections of several items with a single query.
+     *
+     * @param context DSpace context object
+     * @param itemIds the ids of the items
+     * @return the owning collection of every item found by id, {@code null} for the items that don't have one yet
+     * @throws SQLException if database error
+     */
+    Map<UUID, Collection> getOwningCollections(Context context, List<UUID> itemIds) throws SQLException;
+
+    /**
+     * Find which of the given ids are those of existing items, with one query.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids to look for
+     * @return the ids of the items found, in no particular order
+     * @throws SQLException if database error
+     */
+    List<UUID> findExistingIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Create a new item, with a new internal ID. Authorization is done
      * inside of this method.
@@ -149,6 +149,49 @@ public interface RelationshipService extends DSpaceCRUDService<Relationship> {
     Relationship move(Context context, Relationship relationship, Item newLeftItem, Item newRightItem)
             throws SQLException, AuthorizeException;
 
+    /**
+     * Create many relationships of one Item at once, e.g. all the authors of a dataset.
+     *
+     * This will
+     *   1. verify whether each relationship is valid and whether its creation is authorized
+     *   2. read the sibling relationships and metadata of every affected Item only once, and resolve the
+     *      left/right places of all the relationships (in the given order) and of their siblings in memory
+     *   3. update every affected Item only once, which fires a single modify event per Item
+     *
+     * The result is the same as creating the relationships one by one with {@link #create(Context, Relationship)},
+     * without recalculating the places of all the siblings and updating both Items for every single relationship.
+     * The places left to -1 are resolved to the end of the list, as when creating a single relationship.
+     *
+     * @param context               The relevant DSpace context
+     * @param item                  The Item which is the left or right item of all the given relationships
+     * @param relationships         The relationships to create, in the order they should be added
+     * @return                      The created relationships with updated place variables
+     * @throws SQLException         If something goes wrong
+     * @throws AuthorizeException   If the user is not authorized to create one of the relationships
+     * @throws IllegalArgumentException If one of the relationships is not valid or does not relate the given Item
+     */
+    List<Relationship> create(Context context, Item item, List<Relationship> relationships)
+            throws SQLException, AuthorizeException;
+
+    /**
+     * Reorder relationships of the same type of one Item.
+     *
+     * The given relationships take the places they currently occupy in the Item, in the order of the list. The
+     * places of the other relationships and metadata of the Item are left untouched, so that the given
+     * relationships can be reordered among themselves without recalculating the place of every sibling per move.
+     * The Item is updated only once afterwards.
+     *
+     * @param context               The relevant DSpace context
+     * @param item                  The Item which is on the same side of all the given relationships
+     * @param relationships         The relationships in their new order
+     * @throws SQLException         If something goes wrong
+     * @throws AuthorizeException   If the user is not authorized to update one of the relationships
+     * @throws IllegalArgumentException If the relationships are not all of the same type, with the given Item on
+     *                                  the same side
+     */
+    void reorder(Context context, Item item, List<Relationship> relationships)
+            throws SQLException, AuthorizeException;
+
     /**
      * This method returns a list of Relationships for which the leftItem or rightItem is equal to the given
      * Item object and for which the RelationshipType object is equal to the relationshipType property
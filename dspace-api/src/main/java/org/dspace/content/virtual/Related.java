@@ -17,6 +17,7 @@ import org.dspace.content.EntityType;
 import org.dspace.content.Item;
 import org.dspace.content.Relationship;
 import org.dspace.content.RelationshipType;
+import org.dspace.content.VirtualMetadataCache;
 import org.dspace.content.service.EntityService;
 import org.dspace.content.service.RelationshipService;
 import org.dspace.core.Context;
@@ -167,11 +168,13 @@ public class Related implements VirtualMetadataConfiguration {
             if (relationship.getRelationshipType().getLeftType().equals(entityType)) {
                 if (place == null || relationship.getLeftPlace() == place) {
                     Item otherItem = relationship.getRightItem();
+                    VirtualMetadataCache.recordDependency(otherItem.getID());
                     return virtualMetadataConfiguration.getValues(context, otherItem);
                 }
             } else if (relationship.getRelationshipType().getRightType().equals(entityType)) {
                 if (place == null || relationship.getRightPlace() == place) {
                     Item otherItem = relationship.getLeftItem();
+                    VirtualMetadataCache.recordDependency(otherItem.getID());
                     return virtualMetadataConfiguration.getValues(context, otherItem);
                 }
             }
@@ -9,8 +9,11 @@ package org.dspace.core;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
+import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
@@ -51,6 +54,24 @@ public abstract class AbstractHibernateDSODAO<T extends DSpaceObject> extends Ab
         return uniqueResult(context, criteriaQuery, false, clazz);
     }
 
+    /**
+     * Find which of the given ids are those of existing objects, see
+     * {@link org.dspace.content.dao.DSpaceObjectDAO#findExistingIds}.
+     * @param context current DSpace context.
+     * @param clazz DSO subtype of the objects.
+     * @param ids the ids to look for.
+     * @return the ids of the objects found.
+     * @throws SQLException
+     */
+    public List<UUID> findExistingIds(Context context, Class<T> clazz, Collection<UUID> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Query query = createQuery(context, "SELECT o.id FROM " + clazz.getSimpleName() + " o WHERE o.id IN (:ids)");
+        query.setParameter("ids", ids);
+        return query.getResultList();
+    }
+
     /**
      * Add left outer join on all metadata fields which are passed to this function.
      * The identifier of the join will be the toString() representation of the metadata field.
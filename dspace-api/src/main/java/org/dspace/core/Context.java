@@ -11,10 +11,12 @@ import java.lang.ref.Cleaner;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -27,6 +29,7 @@ import org.dspace.authorize.ResourcePolicy;
 import org.dspace.content.DSpaceObject;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
+import org.dspace.eperson.GroupMembershipIndex;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.event.Dispatcher;
 import org.dspace.event.Event;
@@ -129,6 +132,17 @@ public class Context implements AutoCloseable {
      */
     private LinkedList<Event> events = null;
 
+    /**
+     * Whether one of the events is a change of group memberships, see
+     * {@link GroupMembershipIndex#changesMembership(Event)}
+     */
+    private boolean groupMembershipEvents = false;
+
+    /**
+     * Tasks to run once the current transaction has been committed
+     */
+    private List<Runnable> afterCommitTasks = null;
+
     /**
      * Event dispatcher name
      */
@@ -144,6 +158,12 @@ public class Context implements AutoCloseable {
      */
     private final ContextReadOnlyCache readOnlyCache = new ContextReadOnlyCache();
 
+    /**
+     * Resource policies of DSpace Objects by object ID, loaded for many objects at once with
+     * {@link #cacheResourcePolicies}. Only set until {@link #clearCachedResourcePolicies()} is called.
+     */
+    private Map<UUID, List<ResourcePolicy>> resourcePoliciesCache;
+
     protected EventService eventService;
 
     private DBConnection dbConnection;
@@ -467,10 +487,45 @@ public class Context implements AutoCloseable {
                 log.debug("Cache size on commit is " + getCacheSize());
             }
 
+            clearCachedResourcePolicies();
             if (dbConnection != null) {
                 // Commit our changes (this closes the transaction but leaves database connection open)
                 dbConnection.commit();
                 reloadContextBoundEntities();
+                runAfterCommitTasks();
+            }
+        }
+    }
+
+    /**
+     * Register a task to be run once the current transaction has been committed successfully, e.g. handing events
+     * over to consumers which run asynchronously and must see the committed changes. The task is discarded if the
+     * transaction is rolled back or the context is aborted.
+     *
+     * @param task the task to run after commit
+     */
+    public void addAfterCommitTask(Runnable task) {
+        if (afterCommitTasks == null) {
+            afterCommitTasks = new ArrayList<>();
+        }
+        afterCommitTasks.add(task);
+    }
+
+    /**
+     * Run (and forget) the tasks registered with {@link #addAfterCommitTask(Runnable)}. The transaction has already
+     * been committed, so failures are only logged.
+     */
+    private void runAfterCommitTasks() {
+        if (afterCommitTasks == null) {
+            return;
+        }
+        List<Runnable> tasks = afterCommitTasks;
+        afterCommitTasks = null;
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Error running after commit task", e);
             }
         }
     }
@@ -496,6 +551,7 @@ public class Context implements AutoCloseable {
             }
         } finally {
             events = null;
+            groupMembershipEvents = false;
             if (dispatcher != null) {
                 eventService.returnDispatcher(dispName, dispatcher);
             }
@@ -534,6 +590,9 @@ public class Context implements AutoCloseable {
         }
 
         events.add(event);
+        if (GroupMembershipIndex.changesMembership(event)) {
+            groupMembershipEvents = true;
+        }
     }
 
     /**
@@ -554,6 +613,16 @@ public class Context implements AutoCloseable {
         return !CollectionUtils.isEmpty(events);
     }
 
+    /**
+     * Whether one of the events cached since they were last dispatched changes group memberships, without going
+     * through all of them.
+     *
+     * @return true or false
+     */
+    public boolean hasGroupMembershipEvents() {
+        return groupMembershipEvents;
+    }
+
     /**
      * Retrieves the first element in the events list and removes it from the list of events once retrieved
      *
@@ -594,6 +663,8 @@ public class Context implements AutoCloseable {
             }
         } finally {
             events = null;
+            groupMembershipEvents = false;
+            afterCommitTasks = null;
         }
     }
 
@@ -632,6 +703,8 @@ public class Context implements AutoCloseable {
                 log.error("Error closing the database connection", ex);
             }
             events = null;
+            groupMembershipEvents = false;
+            afterCommitTasks = null;
 
             // Clear the holder and unregister the Cleaner to prevent double-cleanup
             dbConnectionHolder.set(null);
@@ -974,6 +1047,53 @@ public class Context implements AutoCloseable {
         }
     }
 
+    /**
+     * Get the policies of the given object for the given action, if the policies of the object have been cached
+     * with {@link #cacheResourcePolicies}.
+     *
+     * @param dspaceObject the object
+     * @param action       the action ID
+     * @return the policies, or {@code null} if they are not cached
+     */
+    public List<ResourcePolicy> getCachedResourcePolicies(DSpaceObject dspaceObject, int action) {
+        if (resourcePoliciesCache == null) {
+            return null;
+        }
+        List<ResourcePolicy> policies = resourcePoliciesCache.get(dspaceObject.getID());
+        if (policies == null) {
+            return null;
+        }
+        List<ResourcePolicy> result = new ArrayList<>();
+        for (ResourcePolicy policy : policies) {
+            if (policy.getAction() == action) {
+                result.add(policy);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cache all the policies of an object, for all actions, in any mode. Unlike the read-only cache, which is
+     * dropped when the mode changes, the policies are kept until {@link #clearCachedResourcePolicies()} is called
+     * or the context is committed: the caller must clear them once done, and before it changes any policy.
+     *
+     * @param dspaceObject the object
+     * @param policies     all the policies of the object
+     */
+    public void cacheResourcePolicies(DSpaceObject dspaceObject, List<ResourcePolicy> policies) {
+        if (resourcePoliciesCache == null) {
+            resourcePoliciesCache = new HashMap<>();
+        }
+        resourcePoliciesCache.put(dspaceObject.getID(), policies);
+    }
+
+    /**
+     * Forget the policies cached with {@link #cacheResourcePolicies}.
+     */
+    public void clearCachedResourcePolicies() {
+        resourcePoliciesCache = null;
+    }
+
     public Boolean getCachedGroupMembership(Group group, EPerson eperson) {
         if (isReadOnly()) {
             return readOnlyCache.getCachedGroupMembership(group, eperson);
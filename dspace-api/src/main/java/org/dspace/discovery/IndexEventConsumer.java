@@ -24,6 +24,7 @@ import org.dspace.event.DetailType;
 import org.dspace.event.Event;
 import org.dspace.event.EventDetail;
 import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.utils.DSpace;
 
 /**
  * Class for updating search indices in discovery from content events.
@@ -244,6 +245,12 @@ public class IndexEventConsumer implements Consumer {
 
                 indexer.commit();
 
+                // the cached responses of the anonymous searches may have changed
+                SearchResponseCache responseCache = new DSpace().getSingletonService(SearchResponseCache.class);
+                if (responseCache != null && responseCache.isEnabled()) {
+                    responseCache.invalidateAll();
+                }
+
                 // "free" the resources
                 objectsToUpdate.clear();
                 uniqueIdsToDelete.clear();
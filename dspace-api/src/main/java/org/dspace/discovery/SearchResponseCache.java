@@ -0,0 +1,173 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Cache of the rendered responses of the anonymous search and browse requests, which are the same for all the
+ * anonymous users until the search index changes.
+ * <p>
+ * The responses are stored in the "discovery.responses" cache of ehcache.xml, which bounds its size in memory and
+ * the time to live of its entries. The cache is cleared by the {@link IndexEventConsumer} every time it commits
+ * changes to the search index. The changes made to the index by other processes, e.g. by the index-discovery
+ * script, are only visible once the entries expire.
+ * <p>
+ * It is enabled with discovery.response-cache.enabled.
+ */
+public class SearchResponseCache {
+
+    private static final Logger log = LogManager.getLogger(SearchResponseCache.class);
+
+    public static final String CACHE_NAME = "discovery.responses";
+
+    public static final String ENABLED_PROPERTY = "discovery.response-cache.enabled";
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    @Autowired(required = true)
+    protected CacheManager cacheManager;
+
+    /**
+     * Incremented on every invalidation, responses computed before an invalidation are never stored.
+     */
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    protected SearchResponseCache() {
+
+    }
+
+    /**
+     * @return whether the cache is enabled
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty(ENABLED_PROPERTY, false);
+    }
+
+    /**
+     * Get the current generation of the cache, to be passed to {@link #put} along with the response computed
+     * afterwards.
+     *
+     * @return the current generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the cached response of a request.
+     *
+     * @param key the normalized request
+     * @return the cached response, or null if there is none
+     */
+    public CachedResponse get(String key) {
+        CachedResponse response = getCache().get(key, CachedResponse.class);
+        if (response != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * Store the response of a request, unless the cache was invalidated since it started to be computed.
+     *
+     * @param key        the normalized request
+     * @param response   the response
+     * @param generation the generation of the cache when the response started to be computed
+     */
+    public synchronized void put(String key, CachedResponse response, long generation) {
+        if (generation == this.generation) {
+            getCache().put(key, response);
+        }
+    }
+
+    /**
+     * Discard all the cached responses, e.g. because the search index changed.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.incrementAndGet();
+        getCache().clear();
+        log.debug("Cleared the search response cache");
+    }
+
+    /**
+     * @return the number of requests answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of requests which were not in the cache
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of times the cache was cleared
+     */
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    private Cache getCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    /**
+     * A cached response: its body and the headers describing it.
+     */
+    public static class CachedResponse implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String contentType;
+
+        private final String contentLanguage;
+
+        private final byte[] body;
+
+        public CachedResponse(String contentType, String contentLanguage, byte[] body) {
+            this.contentType = contentType;
+            this.contentLanguage = contentLanguage;
+            this.body = body;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getContentLanguage() {
+            return contentLanguage;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -67,6 +67,22 @@ public interface SearchService {
     Iterator<Item> iteratorSearch(Context context, IndexableObject dso, DiscoverQuery query)
         throws SearchServiceException;
 
+    /**
+     * Iterate over the search documents of all the results of a query, read in pages of its max results with a Solr
+     * cursor, in the order of their unique index ids. Unlike offsets, the cursor keeps every page as fast as the first
+     * one however deep it is. The documents only hold the search fields of the query, with the resource type and id.
+     * The existence of the DSpace objects of every page is checked at once, to skip the stale documents whose object
+     * no longer exists in the database (as {@link #search(Context, DiscoverQuery)} does). The start and the sort of the
+     * query are ignored.
+     *
+     * @param context DSpace context object
+     * @param query   the discovery query object
+     * @return an iterator over the search documents of the results
+     * @throws SearchServiceException if search error
+     */
+    Iterator<DiscoverResult.SearchDocument> iteratorSearchDocuments(Context context, DiscoverQuery query)
+        throws SearchServiceException;
+
 
     List<IndexableObject> search(Context context, String query, String orderfield, boolean ascending, int offset,
                                  int max, String... filterquery);
@@ -8,6 +8,8 @@
 package org.dspace.discovery;
 
 import static java.util.stream.Collectors.joining;
+import static org.apache.solr.common.params.CursorMarkParams.CURSOR_MARK_PARAM;
+import static org.apache.solr.common.params.CursorMarkParams.CURSOR_MARK_START;
 import static org.dspace.discovery.indexobject.ItemIndexFactoryImpl.STATUS_FIELD;
 import static org.dspace.discovery.indexobject.ItemIndexFactoryImpl.STATUS_FIELD_PREDB;
 
@@ -19,13 +21,16 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import jakarta.mail.MessagingException;
@@ -835,6 +840,121 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    @Override
+    public Iterator<DiscoverResult.SearchDocument> iteratorSearchDocuments(Context context, DiscoverQuery query)
+        throws SearchServiceException {
+        if (query.getMaxResults() <= 0) {
+            query.setMaxResults(100);
+        }
+        try {
+            if (solrSearchCore.getSolr() == null) {
+                return Collections.emptyIterator();
+            }
+            SolrQuery solrQuery = resolveToSolrQuery(context, query);
+            // a cursor requires no start, and a sort on the unique key
+            solrQuery.setStart(null);
+            solrQuery.clearSorts();
+            solrQuery.addSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
+            return new CursorSearchIterator(context, solrQuery, query.getSearchFields());
+        } catch (SearchServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SearchServiceException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * This class implements an iterator over the search documents of the results of a query, read with a Solr cursor.
+     * The stale documents, whose DSpace object no longer exists, are skipped: the existence of the objects of every
+     * page is checked at once.
+     */
+    private class CursorSearchIterator implements Iterator<DiscoverResult.SearchDocument> {
+        private final Context context;
+        private final SolrQuery solrQuery;
+        private final List<String> searchFields;
+        private String cursorMark = CURSOR_MARK_START;
+        private boolean lastPage = false;
+        private Iterator<DiscoverResult.SearchDocument> page;
+
+        CursorSearchIterator(Context context, SolrQuery solrQuery, List<String> searchFields)
+            throws SolrServerException, IOException, SQLException {
+            this.context = context;
+            this.solrQuery = solrQuery;
+            this.searchFields = searchFields;
+            fetchPage();
+        }
+
+        private void fetchPage() throws SolrServerException, IOException, SQLException {
+            solrQuery.set(CURSOR_MARK_PARAM, cursorMark);
+            QueryResponse response = solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
+
+            // the existence of the objects of the page is checked with one query per type
+            Map<String, List<String>> idsByType = new HashMap<>();
+            for (SolrDocument doc : response.getResults()) {
+                idsByType.computeIfAbsent((String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD),
+                                          type -> new ArrayList<>())
+                         .add((String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD));
+            }
+            Map<String, Set<String>> existingIdsByType = new HashMap<>();
+            for (Map.Entry<String, List<String>> ids : idsByType.entrySet()) {
+                existingIdsByType.put(ids.getKey(), indexObjectServiceFactory.getIndexFactoryByType(ids.getKey())
+                                                                             .findExistingIds(context, ids.getValue()));
+            }
+
+            List<DiscoverResult.SearchDocument> documents = new ArrayList<>();
+            for (SolrDocument doc : response.getResults()) {
+                String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+                if (!existingIdsByType.get(type).contains((String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD))) {
+                    log.warn(LogHelper.getHeader(context,
+                            "Stale entry found in Discovery index,"
+                          + " as we could not find the DSpace object it refers to. ",
+                            "Unique identifier: " + doc.getFirstValue(SearchUtils.RESOURCE_UNIQUE_ID)));
+                    continue;
+                }
+
+                DiscoverResult.SearchDocument resultDoc = new DiscoverResult.SearchDocument();
+                resultDoc.addSearchField(SearchUtils.RESOURCE_TYPE_FIELD,
+                                         String.valueOf(doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD)));
+                resultDoc.addSearchField(SearchUtils.RESOURCE_ID_FIELD,
+                                         String.valueOf(doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD)));
+                for (String field : searchFields) {
+                    List<String> valuesAsString = new ArrayList<>();
+                    // the dates are given as instants, as they are indexed
+                    Optional.ofNullable(doc.getFieldValues(field))
+                            .ifPresent(l -> l.forEach(o -> valuesAsString.add(
+                                o instanceof Date date ? date.toInstant().toString() : String.valueOf(o))));
+                    resultDoc.addSearchField(field, valuesAsString.toArray(new String[valuesAsString.size()]));
+                }
+                documents.add(resultDoc);
+            }
+            page = documents.iterator();
+
+            String nextCursorMark = response.getNextCursorMark();
+            lastPage = cursorMark.equals(nextCursorMark);
+            cursorMark = nextCursorMark;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !lastPage) {
+                try {
+                    fetchPage();
+                } catch (SolrServerException | IOException | SQLException e) {
+                    throw new RuntimeException("Error while getting search results", e);
+                }
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public DiscoverResult.SearchDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
+
     protected SolrQuery resolveToSolrQuery(Context context, DiscoverQuery discoveryQuery)
         throws SearchServiceException {
         SolrQuery solrQuery = new SolrQuery();
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -154,6 +155,11 @@ public class CollectionIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Ind
         return collection == null ? Optional.empty() : Optional.of(new IndexableCollection(collection));
     }
 
+    @Override
+    public Set<String> findExistingIds(Context context, List<String> ids) throws SQLException {
+        return toIdentifiers(collectionService.findExistingIds(context, toUUIDs(ids)));
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCollection indexableCollection) throws SQLException {
         return getCollectionLocations(context, indexableCollection.getIndexedObject());
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.apache.solr.common.SolrInputDocument;
@@ -121,6 +122,11 @@ public class CommunityIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Inde
         return community == null ? Optional.empty() : Optional.of(new IndexableCommunity(community));
     }
 
+    @Override
+    public Set<String> findExistingIds(Context context, List<String> ids) throws SQLException {
+        return toIdentifiers(communityService.findExistingIds(context, toUUIDs(ids)));
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCommunity indexableDSpaceObject) throws SQLException {
         final Community target = indexableDSpaceObject.getIndexedObject();
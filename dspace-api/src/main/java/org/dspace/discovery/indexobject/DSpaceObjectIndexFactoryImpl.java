@@ -9,7 +9,10 @@ package org.dspace.discovery.indexobject;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrInputDocument;
@@ -64,6 +67,30 @@ public abstract class DSpaceObjectIndexFactoryImpl<T extends IndexableDSpaceObje
         }
     }
 
+    /**
+     * Convert the identifiers of indexable objects to the ids of their DSpace objects
+     *
+     * @param ids the identifiers of the indexable objects
+     * @return the ids of the DSpace objects
+     */
+    protected List<UUID> toUUIDs(List<String> ids) {
+        return ids.stream().map(UUID::fromString).toList();
+    }
+
+    /**
+     * Convert the ids of DSpace objects to the identifiers of their indexable objects
+     *
+     * @param ids the ids of the DSpace objects
+     * @return the identifiers of the indexable objects
+     */
+    protected Set<String> toIdentifiers(List<UUID> ids) {
+        Set<String> identifiers = new HashSet<>();
+        for (UUID id : ids) {
+            identifiers.add(id.toString());
+        }
+        return identifiers;
+    }
+
     @Override
     public void storeCommunityCollectionLocations(SolrInputDocument doc, List<String> locations) {
         if (locations != null) {
@@ -11,7 +11,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -49,6 +52,22 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
     @Autowired
     protected SolrSearchCore solrSearchCore;
 
+    /**
+     * Looks the indexable objects up one at a time, and uncaches them
+     */
+    @Override
+    public Set<String> findExistingIds(Context context, List<String> ids) throws SQLException {
+        Set<String> existingIds = new HashSet<>();
+        for (String id : ids) {
+            Optional<T> indexableObject = findIndexableObject(context, id);
+            if (indexableObject.isPresent()) {
+                existingIds.add(id);
+                context.uncacheEntity(indexableObject.get().getIndexedObject());
+            }
+        }
+        return existingIds;
+    }
+
     @Override
     public SolrInputDocument buildDocument(Context context, T indexableObject) throws SQLException, IOException {
         SolrInputDocument doc = new SolrInputDocument();
@@ -683,6 +683,11 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         return item == null ? Optional.empty() : Optional.of(new IndexableItem(item));
     }
 
+    @Override
+    public Set<String> findExistingIds(Context context, List<String> ids) throws SQLException {
+        return toIdentifiers(itemService.findExistingIds(context, toUUIDs(ids)));
+    }
+
     /**
      * Handles indexing when discoverySearchFilter is of type facet.
      *
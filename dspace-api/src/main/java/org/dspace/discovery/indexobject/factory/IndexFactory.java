@@ -12,6 +12,7 @@ import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.common.SolrInputDocument;
@@ -98,6 +99,16 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     Optional<T> findIndexableObject(Context context, String id) throws SQLException;
 
+    /**
+     * Find which of the provided identifiers still refer to an existing indexable object, e.g. to skip the stale
+     * documents of a page of search results
+     * @param context       DSpace context object
+     * @param ids           The identifiers to look for
+     * @return              The identifiers of the indexable objects found
+     * @throws SQLException If database error
+     */
+    Set<String> findExistingIds(Context context, List<String> ids) throws SQLException;
+
     /**
      * Determine whether the class can handle the factory implementation
      * @param object        The object which we want to check
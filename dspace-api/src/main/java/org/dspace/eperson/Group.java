@@ -9,7 +9,10 @@ package org.dspace.eperson;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -81,6 +84,13 @@ public class Group extends CacheableDSpaceObject implements DSpaceObjectLegacySu
     @Transient
     private boolean groupsChanged;
 
+    /**
+     * UUIDs of the groups which were added to or removed from a parent group since the last update, i.e. the groups
+     * whose rows in the group2groupcache table (and those of their descendants) may need to be updated.
+     */
+    @Transient
+    private final Set<UUID> changedChildGroups = new HashSet<>();
+
     /**
      * Protected constructor, create object using:
      * {@link org.dspace.eperson.service.GroupService#create(Context)}
@@ -109,16 +119,19 @@ public class Group extends CacheableDSpaceObject implements DSpaceObjectLegacySu
     void addMember(Group g) {
         getMemberGroups().add(g);
         groupsChanged = true;
+        changedChildGroups.add(g.getID());
     }
 
     void addParentGroup(Group group) {
         getParentGroups().add(group);
         groupsChanged = true;
+        changedChildGroups.add(getID());
     }
 
     void removeParentGroup(Group group) {
         getParentGroups().remove(group);
         groupsChanged = true;
+        changedChildGroups.add(getID());
     }
 
     boolean remove(EPerson e) {
@@ -127,6 +140,7 @@ public class Group extends CacheableDSpaceObject implements DSpaceObjectLegacySu
 
     boolean remove(Group g) {
         groupsChanged = true;
+        changedChildGroups.add(g.getID());
         return getMemberGroups().remove(g);
     }
 
@@ -209,8 +223,19 @@ public class Group extends CacheableDSpaceObject implements DSpaceObjectLegacySu
         return groupsChanged;
     }
 
+    /**
+     * Get the groups which were added to or removed from a parent group since the last update. These are the member
+     * groups added to or removed from this group, and/or this group if it was added to or removed from a parent.
+     *
+     * @return UUIDs of the changed member groups
+     */
+    Set<UUID> getChangedChildGroups() {
+        return changedChildGroups;
+    }
+
     public void clearGroupsChanged() {
         this.groupsChanged = false;
+        changedChildGroups.clear();
     }
 
     @Override
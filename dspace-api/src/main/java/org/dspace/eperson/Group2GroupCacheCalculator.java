@@ -0,0 +1,74 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Computes rows of the group2groupcache table (the transitive closure of the group2group table) from the direct
+ * parent - child group relations.
+ * <p>
+ * When groups are added to or removed from parent groups, only the rows whose child is one of those groups or one
+ * of their descendants can change: {@link #computeRows(Collection)} computes the rows of these groups by walking up
+ * the hierarchy, so that only that part of the table has to be compared and rewritten. The given relations only
+ * need to cover the ancestors of these groups.
+ */
+class Group2GroupCacheCalculator {
+
+    private final Map<UUID, Set<UUID>> parents = new HashMap<>();
+
+    /**
+     * @param group2group direct parent - child group relations
+     */
+    Group2GroupCacheCalculator(Collection<Pair<UUID, UUID>> group2group) {
+        for (Pair<UUID, UUID> relation : group2group) {
+            parents.computeIfAbsent(relation.getRight(), child -> new HashSet<>()).add(relation.getLeft());
+        }
+    }
+
+    /**
+     * Compute the cache rows of the given child groups, i.e. a pair for every (transitive) parent group.
+     *
+     * @param childGroups the child groups
+     * @return pairs of parent and child group UUIDs
+     */
+    Set<Pair<UUID, UUID>> computeRows(Collection<UUID> childGroups) {
+        Set<Pair<UUID, UUID>> rows = new HashSet<>();
+        for (UUID child : childGroups) {
+            for (UUID ancestor : getAncestors(child)) {
+                rows.add(Pair.of(ancestor, child));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Breadth first walk up the hierarchy.
+     */
+    private Set<UUID> getAncestors(UUID child) {
+        Set<UUID> visited = new HashSet<>();
+        Deque<UUID> queue = new ArrayDeque<>(Set.of(child));
+        while (!queue.isEmpty()) {
+            for (UUID next : parents.getOrDefault(queue.poll(), Set.of())) {
+                if (visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return visited;
+    }
+}
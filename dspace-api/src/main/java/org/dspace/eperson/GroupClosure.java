@@ -0,0 +1,289 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory transitive closure of the group hierarchy (the same relation as the group2groupcache table).
+ * <p>
+ * Every group known to the closure gets a dense int index. For each group the direct parents, the direct children
+ * and the sorted array of all (transitive) ancestors are kept. Adding or removing one membership edge only touches
+ * the closure of the child group and its descendants.
+ * <p>
+ * This class is not thread safe, see {@link GroupMembershipIndex} for the synchronized wrapper.
+ */
+class GroupClosure {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<UUID, Integer> indexes = new HashMap<>();
+    private final List<UUID> ids = new ArrayList<>();
+    private final List<int[]> parents = new ArrayList<>();
+    private final List<int[]> children = new ArrayList<>();
+    private final List<int[]> ancestors = new ArrayList<>();
+
+    /**
+     * Get the index of a group, or -1 if the group is not known to the closure.
+     *
+     * @param group UUID of the group
+     * @return index of the group or -1
+     */
+    int indexOf(UUID group) {
+        Integer index = indexes.get(group);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the UUID of the group with the given index.
+     *
+     * @param index index of the group
+     * @return UUID of the group
+     */
+    UUID idOf(int index) {
+        return ids.get(index);
+    }
+
+    /**
+     * Get the index of a group, registering the group if it is not known yet.
+     *
+     * @param group UUID of the group
+     * @return index of the group
+     */
+    int register(UUID group) {
+        Integer index = indexes.get(group);
+        if (index == null) {
+            index = ids.size();
+            indexes.put(group, index);
+            ids.add(group);
+            parents.add(EMPTY);
+            children.add(EMPTY);
+            ancestors.add(EMPTY);
+        }
+        return index;
+    }
+
+    /**
+     * Add a membership edge.
+     *
+     * @param parent UUID of the parent group
+     * @param child  UUID of the member group
+     * @return true if the edge was added, false if it was already present
+     */
+    boolean addEdge(UUID parent, UUID child) {
+        int p = register(parent);
+        int c = register(child);
+        if (p == c || contains(children.get(p), c)) {
+            return false;
+        }
+        children.set(p, insert(children.get(p), c));
+        parents.set(c, insert(parents.get(c), p));
+
+        // Everything below (and including) the child gains the parent and the parent's ancestors
+        int[] gained = insert(ancestors.get(p), p);
+        for (int d : descendantsAndSelf(c)) {
+            ancestors.set(d, union(ancestors.get(d), gained));
+        }
+        return true;
+    }
+
+    /**
+     * Remove a membership edge.
+     *
+     * @param parent UUID of the parent group
+     * @param child  UUID of the member group
+     * @return true if the edge was removed, false if it was not present
+     */
+    boolean removeEdge(UUID parent, UUID child) {
+        int p = indexOf(parent);
+        int c = indexOf(child);
+        if (p < 0 || c < 0 || !contains(children.get(p), c)) {
+            return false;
+        }
+        children.set(p, remove(children.get(p), c));
+        parents.set(c, remove(parents.get(c), p));
+        recomputeAncestors(descendantsAndSelf(c));
+        return true;
+    }
+
+    /**
+     * Remove a group and all its membership edges.
+     *
+     * @param group UUID of the group
+     */
+    void removeGroup(UUID group) {
+        int g = indexOf(group);
+        if (g < 0) {
+            return;
+        }
+        for (int p : parents.get(g)) {
+            children.set(p, remove(children.get(p), g));
+        }
+        parents.set(g, EMPTY);
+        int[] formerChildren = children.get(g);
+        children.set(g, EMPTY);
+        for (int c : formerChildren) {
+            parents.set(c, remove(parents.get(c), g));
+        }
+        ancestors.set(g, EMPTY);
+        Set<Integer> affected = new HashSet<>();
+        for (int c : formerChildren) {
+            affected.addAll(descendantsAndSelf(c));
+        }
+        recomputeAncestors(affected);
+        // The slot is not reused, indexes of other groups stay valid
+        indexes.remove(group);
+    }
+
+    /**
+     * Check whether a group is a (transitive) member of another group.
+     *
+     * @param ancestor   index of the candidate ancestor
+     * @param descendant index of the candidate descendant
+     * @return true if the descendant is a direct or indirect member of the ancestor
+     */
+    boolean isAncestor(int ancestor, int descendant) {
+        return ancestor >= 0 && descendant >= 0 && contains(ancestors.get(descendant), ancestor);
+    }
+
+    /**
+     * Get the sorted indexes of all the (transitive) ancestors of a group.
+     *
+     * @param group index of the group
+     * @return sorted ancestor indexes, must not be modified
+     */
+    int[] ancestorsOf(int group) {
+        return group < 0 ? EMPTY : ancestors.get(group);
+    }
+
+    /**
+     * Get the indexes of all the (transitive) descendants of a group, including the group itself.
+     *
+     * @param group index of the group
+     * @return descendant indexes
+     */
+    Set<Integer> descendantsAndSelf(int group) {
+        Set<Integer> visited = new HashSet<>();
+        Deque<Integer> queue = new ArrayDeque<>();
+        visited.add(group);
+        queue.add(group);
+        while (!queue.isEmpty()) {
+            for (int child : children.get(queue.poll())) {
+                if (visited.add(child)) {
+                    queue.add(child);
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Rebuild the ancestors of the given groups from their direct parents. The closure of any group outside of the
+     * given set is trusted, so the upward walk stops there.
+     */
+    private void recomputeAncestors(Set<Integer> affected) {
+        for (int d : affected) {
+            Set<Integer> found = new HashSet<>();
+            Deque<Integer> queue = new ArrayDeque<>();
+            queue.add(d);
+            while (!queue.isEmpty()) {
+                for (int q : parents.get(queue.poll())) {
+                    if (!found.add(q)) {
+                        continue;
+                    }
+                    if (affected.contains(q)) {
+                        queue.add(q);
+                    } else {
+                        for (int a : ancestors.get(q)) {
+                            found.add(a);
+                        }
+                    }
+                }
+            }
+            ancestors.set(d, toSortedArray(found));
+        }
+    }
+
+    /**
+     * @return the number of group slots, including removed groups
+     */
+    int size() {
+        return ids.size();
+    }
+
+    static boolean contains(int[] sorted, int value) {
+        return Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    static int[] insert(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        position = -position - 1;
+        int[] result = new int[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(sorted, position, result, position + 1, sorted.length - position);
+        return result;
+    }
+
+    static int[] remove(int[] sorted, int value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        int[] result = new int[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, position);
+        System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+        return result;
+    }
+
+    static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[k++] = b[j++];
+            } else {
+                result[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[k++] = a[i++];
+        }
+        while (j < b.length) {
+            result[k++] = b[j++];
+        }
+        return k == result.length ? result : Arrays.copyOf(result, k);
+    }
+
+    static int[] toSortedArray(Set<Integer> values) {
+        int[] result = new int[values.size()];
+        int i = 0;
+        for (int value : values) {
+            result[i++] = value;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+}
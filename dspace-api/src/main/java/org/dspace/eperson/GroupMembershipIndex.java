@@ -0,0 +1,314 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.eperson.dao.GroupDAO;
+import org.dspace.event.Event;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * In-memory index of group memberships, used by the {@link GroupServiceImpl} to answer membership questions without
+ * querying the group2groupcache and epersongroup2eperson tables.
+ * <p>
+ * The index holds the transitive closure of the group hierarchy (see {@link GroupClosure}) and the direct group
+ * memberships of every EPerson as sorted arrays of group indexes. It is loaded lazily from the database and then kept
+ * up to date, one membership edge at a time, by the {@link GroupMembershipIndexConsumer}. For this to work the
+ * consumer must be enabled in every event dispatcher used to change group memberships.
+ * <p>
+ * The index only reflects changes which have been dispatched, so it is not used by a Context which still has
+ * undispatched group events: such a Context keeps using the database, and so sees its own changes.
+ * <p>
+ * The index is disabled by default, see {@code eperson.group.membership-index.enabled} in dspace.cfg.
+ */
+public class GroupMembershipIndex {
+
+    private static final Logger log = LogManager.getLogger(GroupMembershipIndex.class);
+
+    private static final int[] EMPTY = new int[0];
+
+    @Autowired(required = true)
+    protected GroupDAO groupDAO;
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Closure of the group hierarchy, null when the index has not been loaded.
+     */
+    private GroupClosure closure;
+
+    /**
+     * Sorted indexes of the groups each EPerson is a direct member of.
+     */
+    private Map<UUID, int[]> epersonGroups;
+
+    private long loadedAt;
+
+    protected GroupMembershipIndex() {
+
+    }
+
+    /**
+     * @return true if the index is enabled in the configuration
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("eperson.group.membership-index.enabled", false);
+    }
+
+    /**
+     * Check whether the index may be used to answer membership questions in the given Context. This is the case when
+     * the index is enabled and the Context has no undispatched events which change group memberships.
+     *
+     * @param context The relevant DSpace Context.
+     * @return true if the index may be used
+     */
+    public boolean isUsable(Context context) {
+        if (!isEnabled()) {
+            return false;
+        }
+        return !context.hasGroupMembershipEvents();
+    }
+
+    /**
+     * Check whether an EPerson is a direct or indirect member of a group. Special groups are not taken into account.
+     *
+     * @param context The relevant DSpace Context.
+     * @param ePerson UUID of the EPerson
+     * @param group   UUID of the group
+     * @return true if the EPerson is a member of the group
+     * @throws SQLException if database error while loading the index
+     */
+    public boolean isMember(Context context, UUID ePerson, UUID group) throws SQLException {
+        ensureLoaded(context);
+        lock.readLock().lock();
+        try {
+            int g = closure.indexOf(group);
+            if (g < 0) {
+                return false;
+            }
+            for (int direct : epersonGroups.getOrDefault(ePerson, EMPTY)) {
+                if (direct == g || closure.isAncestor(g, direct)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether a group is a direct or indirect member of another group.
+     *
+     * @param context The relevant DSpace Context.
+     * @param parent  UUID of the parent group
+     * @param child   UUID of the member group
+     * @return true if the child is a member of the parent
+     * @throws SQLException if database error while loading the index
+     */
+    public boolean isParentOf(Context context, UUID parent, UUID child) throws SQLException {
+        ensureLoaded(context);
+        lock.readLock().lock();
+        try {
+            return closure.isAncestor(closure.indexOf(parent), closure.indexOf(child));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the groups an EPerson is a direct member of.
+     *
+     * @param context The relevant DSpace Context.
+     * @param ePerson UUID of the EPerson
+     * @return UUIDs of the groups
+     * @throws SQLException if database error while loading the index
+     */
+    public Set<UUID> getDirectGroups(Context context, UUID ePerson) throws SQLException {
+        ensureLoaded(context);
+        lock.readLock().lock();
+        try {
+            Set<UUID> result = new HashSet<>();
+            for (int direct : epersonGroups.getOrDefault(ePerson, EMPTY)) {
+                result.add(closure.idOf(direct));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the given groups together with all the groups they are a direct or indirect member of.
+     *
+     * @param context The relevant DSpace Context.
+     * @param groups  UUIDs of the groups
+     * @return UUIDs of the groups and all their ancestors
+     * @throws SQLException if database error while loading the index
+     */
+    public Set<UUID> getGroupsAndAncestors(Context context, Collection<UUID> groups) throws SQLException {
+        ensureLoaded(context);
+        lock.readLock().lock();
+        try {
+            Set<UUID> result = new HashSet<>(groups);
+            for (UUID group : groups) {
+                for (int ancestor : closure.ancestorsOf(closure.indexOf(group))) {
+                    result.add(closure.idOf(ancestor));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed membership change to the index. Events which do not change memberships are ignored.
+     *
+     * @param event the event dispatched for the change
+     */
+    public void apply(Event event) {
+        if (!changesMembership(event)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (closure == null) {
+                // Nothing loaded yet, the next load will see the change
+                return;
+            }
+            UUID subject = event.getSubjectID();
+            if (event.getSubjectType() == Constants.EPERSON) {
+                epersonGroups.remove(subject);
+            } else if (event.getEventType() == Event.DELETE) {
+                removeGroup(subject);
+            } else if (event.getObjectType() == Constants.GROUP) {
+                if (event.getEventType() == Event.ADD) {
+                    closure.addEdge(subject, event.getObjectID());
+                } else {
+                    closure.removeEdge(subject, event.getObjectID());
+                }
+            } else {
+                int group = closure.register(subject);
+                int[] groups = epersonGroups.getOrDefault(event.getObjectID(), EMPTY);
+                groups = event.getEventType() == Event.ADD ? GroupClosure.insert(groups, group)
+                    : GroupClosure.remove(groups, group);
+                if (groups.length == 0) {
+                    epersonGroups.remove(event.getObjectID());
+                } else {
+                    epersonGroups.put(event.getObjectID(), groups);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discard the index, it will be reloaded from the database on next use.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            closure = null;
+            epersonGroups = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether an event changes group memberships, i.e. whether it is an ADD or REMOVE of a group member, the
+     * deletion of a group or the deletion of an EPerson.
+     *
+     * @param event the event
+     * @return true if the index is affected by the event
+     */
+    public static boolean changesMembership(Event event) {
+        int eventType = event.getEventType();
+        if (event.getSubjectType() == Constants.GROUP) {
+            return eventType == Event.DELETE
+                || ((eventType == Event.ADD || eventType == Event.REMOVE)
+                    && (event.getObjectType() == Constants.GROUP || event.getObjectType() == Constants.EPERSON));
+        }
+        return event.getSubjectType() == Constants.EPERSON && eventType == Event.DELETE;
+    }
+
+    private void removeGroup(UUID group) {
+        int g = closure.indexOf(group);
+        if (g < 0) {
+            return;
+        }
+        closure.removeGroup(group);
+        epersonGroups.replaceAll((ePerson, groups) -> GroupClosure.remove(groups, g));
+        epersonGroups.values().removeIf(groups -> groups.length == 0);
+    }
+
+    private void ensureLoaded(Context context) throws SQLException {
+        long maxAge = configurationService.getLongProperty("eperson.group.membership-index.max-age", 3600) * 1000;
+        lock.readLock().lock();
+        try {
+            if (closure != null && (maxAge <= 0 || System.currentTimeMillis() - loadedAt < maxAge)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (closure != null && (maxAge <= 0 || System.currentTimeMillis() - loadedAt < maxAge)) {
+                return;
+            }
+            load(context);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void load(Context context) throws SQLException {
+        long start = System.currentTimeMillis();
+        GroupClosure loadedClosure = new GroupClosure();
+        for (Pair<UUID, UUID> edge : groupDAO.getGroup2GroupResults(context, false)) {
+            loadedClosure.addEdge(edge.getLeft(), edge.getRight());
+        }
+        Map<UUID, Set<Integer>> memberships = new HashMap<>();
+        List<Pair<UUID, UUID>> group2EPerson = groupDAO.getGroup2EPersonResults(context);
+        for (Pair<UUID, UUID> membership : group2EPerson) {
+            memberships.computeIfAbsent(membership.getRight(), ePerson -> new HashSet<>())
+                       .add(loadedClosure.register(membership.getLeft()));
+        }
+        Map<UUID, int[]> loadedEPersonGroups = new HashMap<>();
+        for (Map.Entry<UUID, Set<Integer>> entry : memberships.entrySet()) {
+            loadedEPersonGroups.put(entry.getKey(), GroupClosure.toSortedArray(entry.getValue()));
+        }
+        closure = loadedClosure;
+        epersonGroups = loadedEPersonGroups;
+        loadedAt = System.currentTimeMillis();
+        log.info("Loaded group membership index with {} groups and {} memberships in {} ms",
+                 loadedClosure.size(), group2EPerson.size(), loadedAt - start);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+import org.dspace.utils.DSpace;
+
+/**
+ * Consumer that keeps the {@link GroupMembershipIndex} up to date with membership changes.
+ */
+public class GroupMembershipIndexConsumer implements Consumer {
+
+    private final List<Event> events = new ArrayList<>();
+
+    @Override
+    public void initialize() throws Exception {
+        // No-op
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        events.add(event);
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        try {
+            GroupMembershipIndex groupMembershipIndex = new DSpace().getSingletonService(GroupMembershipIndex.class);
+            if (groupMembershipIndex.isEnabled()) {
+                for (Event event : events) {
+                    groupMembershipIndex.apply(event);
+                }
+            }
+        } finally {
+            events.clear();
+        }
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+        // No-op
+    }
+
+}
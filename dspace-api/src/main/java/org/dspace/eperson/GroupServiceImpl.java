@@ -98,6 +98,8 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
     protected ClaimedTaskService claimedTaskService;
     @Autowired(required = true)
     protected XmlWorkflowFactory workflowFactory;
+    @Autowired(required = true)
+    protected GroupMembershipIndex groupMembershipIndex;
 
     protected GroupServiceImpl() {
         super();
@@ -270,6 +272,9 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
 
     @Override
     public boolean isParentOf(Context context, Group parentGroup, Group childGroup) throws SQLException {
+        if (parentGroup != null && childGroup != null && groupMembershipIndex.isUsable(context)) {
+            return groupMembershipIndex.isParentOf(context, parentGroup.getID(), childGroup.getID());
+        }
         return group2GroupCacheDAO.findByParentAndChild(context, parentGroup, childGroup) != null;
     }
 
@@ -298,10 +303,14 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             } else {
                 boolean isMember = false;
 
-                //If we have an ePerson, check we can find membership in the database
+                //If we have an ePerson, check we can find membership in the index or in the database
                 if (ePerson != null) {
-                    //lookup eperson in normal groups and subgroups with 1 query
-                    isMember = isEPersonInGroup(context, group, ePerson);
+                    if (groupMembershipIndex.isUsable(context)) {
+                        isMember = groupMembershipIndex.isMember(context, ePerson.getID(), group.getID());
+                    } else {
+                        //lookup eperson in normal groups and subgroups with 1 query
+                        isMember = isEPersonInGroup(context, group, ePerson);
+                    }
                 }
 
                 //If we did not find the group membership in the database, check the special groups.
@@ -356,6 +365,12 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             return cachedGroupMembership;
         }
 
+        if (groupMembershipIndex.isUsable(context)) {
+            Set<Group> groups = allMemberGroupsSetFromIndex(context, ePerson);
+            context.cacheAllMemberGroupsSet(ePerson, groups);
+            return groups;
+        }
+
         Set<Group> groups = new HashSet<>();
 
         if (ePerson != null) {
@@ -388,6 +403,34 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         return groups;
     }
 
+    /**
+     * Variant of {@link #allMemberGroupsSet(Context, EPerson)} which resolves memberships through the
+     * {@link GroupMembershipIndex}. The groups are then loaded by id, which is served by Hibernate's caches.
+     */
+    private Set<Group> allMemberGroupsSetFromIndex(Context context, EPerson ePerson) throws SQLException {
+        Set<UUID> groupIds = new HashSet<>();
+        if (ePerson != null) {
+            groupIds.addAll(groupMembershipIndex.getDirectGroups(context, ePerson.getID()));
+        }
+        // Special groups only apply to the current user, see allMemberGroupsSet
+        if ((context.getCurrentUser() == null) || (context.getCurrentUser().equals(ePerson))) {
+            groupIds.addAll(context.getSpecialGroupUuids());
+        }
+        Group anonymous = findByName(context, Group.ANONYMOUS);
+        if (anonymous != null) {
+            groupIds.add(anonymous.getID());
+        }
+
+        Set<Group> groups = new HashSet<>();
+        for (UUID groupId : groupMembershipIndex.getGroupsAndAncestors(context, groupIds)) {
+            Group group = find(context, groupId);
+            if (group != null) {
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
     @Override
     public List<EPerson> allMembers(Context c, Group g) throws SQLException {
         // two queries - first to get all groups which are a member of this group
@@ -564,6 +607,12 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         // Remove any ResourcePolicies that reference this group
         authorizeService.removeGroupPolicies(context, group);
 
+        // The former member groups (and their descendants) are the only groups whose cache rows may change
+        Set<UUID> formerMemberGroups = new HashSet<>();
+        for (Group memberGroup : group.getMemberGroups()) {
+            formerMemberGroups.add(memberGroup.getID());
+        }
+
         group.getMemberGroups().clear();
         group.getParentGroups().clear();
 
@@ -575,11 +624,12 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             ePerson.getGroups().remove(group);
         }
 
-        // empty out group2groupcache table (if we do it after we delete our object we get an issue with references)
-        group2GroupCacheDAO.deleteAll(context);
+        // remove our rows from the group2groupcache table
+        // (if we do it after we delete our object we get an issue with references)
+        group2GroupCacheDAO.deleteByGroup(context, group.getID());
         // Remove ourself
         groupDAO.delete(context, group);
-        rethinkGroupCache(context, false);
+        rethinkGroupCache(context, formerMemberGroups, false);
 
         log.info(LogHelper.getHeader(context, "delete_group", "group_id="
             + group.getID()));
@@ -671,7 +721,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         }
 
         if (group.isGroupsChanged()) {
-            rethinkGroupCache(context, true);
+            rethinkGroupCache(context, group.getChangedChildGroups(), true);
             group.clearGroupsChanged();
         }
 
@@ -755,6 +805,73 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         }
     }
 
+    /**
+     * Incrementally update the group cache AKA the group2groupcache table in the database after groups have been
+     * added to or removed from other groups. Only the rows whose child is one of the changed groups or one of their
+     * (transitive) member groups are compared with the current group hierarchy and rewritten, the rest of the table
+     * is left untouched. Likewise, only the part of the group2group table these rows depend on is read: the member
+     * groups of the changed groups, level by level, and then the parent groups of all of them.
+     *
+     * @param context         The relevant DSpace Context.
+     * @param changedChildren UUIDs of the groups which were added to or removed from a parent group
+     * @param flushQueries    flushQueries Flush all pending queries
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void rethinkGroupCache(Context context, Set<UUID> changedChildren, boolean flushQueries)
+        throws SQLException {
+        if (changedChildren.isEmpty()) {
+            return;
+        }
+        Set<Pair<UUID, UUID>> group2group = new HashSet<>();
+        Set<UUID> affectedChildren = walkGroup2Group(context, changedChildren, true, group2group);
+        walkGroup2Group(context, affectedChildren, false, group2group);
+        Group2GroupCacheCalculator calculator = new Group2GroupCacheCalculator(group2group);
+
+        // current cache rows of the affected groups in the database
+        Set<Pair<UUID, UUID>> oldCache = group2GroupCacheDAO.getCacheByChildren(context, affectedChildren);
+
+        // correct cache rows of the affected groups, computed from the Group table
+        Set<Pair<UUID, UUID>> newCache = calculator.computeRows(affectedChildren);
+
+        for (Pair<UUID, UUID> pair : SetUtils.difference(oldCache, newCache)) {
+            group2GroupCacheDAO.deleteFromCache(context, pair.getLeft(), pair.getRight());
+        }
+
+        for (Pair<UUID, UUID> pair : SetUtils.difference(newCache, oldCache)) {
+            group2GroupCacheDAO.addToCache(context, pair.getLeft(), pair.getRight());
+        }
+    }
+
+    /**
+     * Breadth first walk of the group2group table from the given groups, one query per level of the hierarchy.
+     *
+     * @param context     The relevant DSpace Context.
+     * @param start       UUIDs of the groups to start from
+     * @param down        whether to walk down to the member groups, or up to the parent groups
+     * @param group2group collects the parent - child relations met during the walk
+     * @return the start groups and all the groups reached from them
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    private Set<UUID> walkGroup2Group(Context context, Set<UUID> start, boolean down,
+                                      Set<Pair<UUID, UUID>> group2group) throws SQLException {
+        Set<UUID> visited = new HashSet<>(start);
+        Set<UUID> level = start;
+        while (!level.isEmpty()) {
+            List<Pair<UUID, UUID>> relations = down ? groupDAO.getGroup2GroupResultsByParents(context, level)
+                : groupDAO.getGroup2GroupResultsByChildren(context, level);
+            Set<UUID> nextLevel = new HashSet<>();
+            for (Pair<UUID, UUID> relation : relations) {
+                group2group.add(relation);
+                UUID next = down ? relation.getRight() : relation.getLeft();
+                if (visited.add(next)) {
+                    nextLevel.add(next);
+                }
+            }
+            level = nextLevel;
+        }
+        return visited;
+    }
+
     @Override
     public DSpaceObject getParentObject(Context context, Group group) throws SQLException {
         if (group == null) {
@@ -8,6 +8,7 @@
 package org.dspace.eperson.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -36,6 +37,15 @@ public interface Group2GroupCacheDAO extends GenericDAO<Group2GroupCache> {
      */
     Set<Pair<UUID, UUID>> getCache(Context context) throws SQLException;
 
+    /**
+     * Returns the rows of the cache table for the given child groups as a set of UUID pairs.
+     * @param context The relevant DSpace Context.
+     * @param children UUIDs of the child groups.
+     * @return Set of UUID pairs, where the first element is the parent UUID and the second one is the child UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    Set<Pair<UUID, UUID>> getCacheByChildren(Context context, Collection<UUID> children) throws SQLException;
+
     /**
      * Returns all cache entities that are children of a given parent Group entity.
      * @param context The relevant DSpace Context.
@@ -90,6 +100,14 @@ public interface Group2GroupCacheDAO extends GenericDAO<Group2GroupCache> {
      */
     void deleteFromCache(Context context, UUID parent, UUID child) throws SQLException;
 
+    /**
+     * Deletes all cache rows in which the given group is either the parent or the child.
+     * @param context The relevant DSpace Context.
+     * @param group Group UUID.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    void deleteByGroup(Context context, UUID group) throws SQLException;
+
     /**
      * Adds a single row to the cache table given parent and child groups UUIDs.
      * @param context The relevant DSpace Context.
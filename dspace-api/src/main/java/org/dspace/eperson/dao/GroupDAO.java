@@ -8,6 +8,7 @@
 package org.dspace.eperson.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -85,6 +86,37 @@ public interface GroupDAO extends DSpaceObjectDAO<Group>, DSpaceObjectLegacySupp
      */
     List<Pair<UUID, UUID>> getGroup2GroupResults(Context context, boolean flushQueries) throws SQLException;
 
+    /**
+     * Get the direct parent - child group relations in the database whose parent is one of the given groups
+     *
+     * @param context The DSpace context
+     * @param parents UUIDs of the parent groups
+     * @return A list of pairs indicating parent - child
+     * @throws SQLException if database error
+     */
+    List<Pair<UUID, UUID>> getGroup2GroupResultsByParents(Context context, Collection<UUID> parents)
+        throws SQLException;
+
+    /**
+     * Get the direct parent - child group relations in the database whose child is one of the given groups
+     *
+     * @param context  The DSpace context
+     * @param children UUIDs of the child groups
+     * @return A list of pairs indicating parent - child
+     * @throws SQLException if database error
+     */
+    List<Pair<UUID, UUID>> getGroup2GroupResultsByChildren(Context context, Collection<UUID> children)
+        throws SQLException;
+
+    /**
+     * Get a list of all direct group - eperson membership relations in the database
+     *
+     * @param context The DSpace context
+     * @return A list of pairs indicating group - eperson
+     * @throws SQLException if database error
+     */
+    List<Pair<UUID, UUID>> getGroup2EPersonResults(Context context) throws SQLException;
+
     /**
      * Return all empty groups
      *
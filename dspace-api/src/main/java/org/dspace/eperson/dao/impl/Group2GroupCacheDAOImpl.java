@@ -8,6 +8,8 @@
 package org.dspace.eperson.dao.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -35,6 +37,11 @@ import org.dspace.eperson.dao.Group2GroupCacheDAO;
  * @author kevinvandevelde at atmire.com
  */
 public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCache> implements Group2GroupCacheDAO {
+    /**
+     * Maximum number of UUIDs passed in a single IN clause
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     protected Group2GroupCacheDAOImpl() {
         super();
     }
@@ -49,6 +56,23 @@ public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCac
         return new HashSet<Pair<UUID, UUID>>(results);
     }
 
+    @Override
+    public Set<Pair<UUID, UUID>> getCacheByChildren(Context context, Collection<UUID> children) throws SQLException {
+        Set<Pair<UUID, UUID>> results = new HashSet<>();
+        List<UUID> childList = new ArrayList<>(children);
+        // Query in chunks to keep the IN clause within database limits
+        for (int i = 0; i < childList.size(); i += MAX_IN_CLAUSE_SIZE) {
+            Query query = createQuery(
+                context,
+                "SELECT new org.apache.commons.lang3.tuple.ImmutablePair(g.parent.id, g.child.id) " +
+                    "FROM Group2GroupCache g WHERE g.child.id IN (:children)"
+            );
+            query.setParameter("children", childList.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, childList.size())));
+            results.addAll(query.getResultList());
+        }
+        return results;
+    }
+
     @Override
     public List<Group2GroupCache> findByParent(Context context, Group group) throws SQLException {
         CriteriaBuilder criteriaBuilder = getCriteriaBuilder(context);
@@ -115,6 +139,15 @@ public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCac
         query.executeUpdate();
     }
 
+    @Override
+    public void deleteByGroup(Context context, UUID group) throws SQLException {
+        Query query = getHibernateSession(context).createNativeQuery(
+            "delete from group2groupcache g WHERE g.parent_id = :group OR g.child_id = :group"
+        );
+        query.setParameter("group", group);
+        query.executeUpdate();
+    }
+
     @Override
     public void addToCache(Context context, UUID parent, UUID child) throws SQLException {
         Query query = getHibernateSession(context).createNativeQuery(
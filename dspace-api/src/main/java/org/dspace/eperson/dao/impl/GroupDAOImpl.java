@@ -8,6 +8,8 @@
 package org.dspace.eperson.dao.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +32,11 @@ import org.dspace.eperson.dao.GroupDAO;
  * @author kevinvandevelde at atmire.com
  */
 public class GroupDAOImpl extends AbstractHibernateDSODAO<Group> implements GroupDAO {
+    /**
+     * Maximum number of UUIDs passed in a single IN clause
+     */
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     protected GroupDAOImpl() {
         super();
     }
@@ -221,6 +228,52 @@ public class GroupDAOImpl extends AbstractHibernateDSODAO<Group> implements Grou
         return results;
     }
 
+    @Override
+    public List<Pair<UUID, UUID>> getGroup2GroupResultsByParents(Context context, Collection<UUID> parents)
+        throws SQLException {
+        return getGroup2GroupResults(context, "g.id", parents);
+    }
+
+    @Override
+    public List<Pair<UUID, UUID>> getGroup2GroupResultsByChildren(Context context, Collection<UUID> children)
+        throws SQLException {
+        return getGroup2GroupResults(context, "c.id", children);
+    }
+
+    /**
+     * Get the direct parent - child group relations in which the given side (g.id for the parent, c.id for the
+     * child) is one of the given groups.
+     */
+    private List<Pair<UUID, UUID>> getGroup2GroupResults(Context context, String side, Collection<UUID> groups)
+        throws SQLException {
+        List<Pair<UUID, UUID>> results = new ArrayList<>();
+        List<UUID> groupList = new ArrayList<>(groups);
+        // Query in chunks to keep the IN clause within database limits
+        for (int i = 0; i < groupList.size(); i += MAX_IN_CLAUSE_SIZE) {
+            Query query = createQuery(context, "SELECT new org.apache.commons.lang3.tuple.ImmutablePair(g.id, c.id) " +
+                "FROM Group g " +
+                "JOIN g.groups c " +
+                "WHERE " + side + " IN (:groups)");
+            query.setParameter("groups", groupList.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, groupList.size())));
+            @SuppressWarnings("unchecked")
+            List<Pair<UUID, UUID>> chunk = query.getResultList();
+            results.addAll(chunk);
+        }
+        return results;
+    }
+
+    @Override
+    public List<Pair<UUID, UUID>> getGroup2EPersonResults(Context context) throws SQLException {
+
+        Query query = createQuery(context, "SELECT new org.apache.commons.lang3.tuple.ImmutablePair(g.id, e.id) " +
+            "FROM Group g " +
+            "JOIN g.epeople e ");
+
+        @SuppressWarnings("unchecked")
+        List<Pair<UUID, UUID>> results = query.getResultList();
+        return results;
+    }
+
     @Override
     public List<Group> getEmptyGroups(Context context) throws SQLException {
         return list(createQuery(context, "SELECT g from Group g where g.epeople is EMPTY"));
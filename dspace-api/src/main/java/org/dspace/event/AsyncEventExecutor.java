@@ -0,0 +1,250 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Runs the consumers configured with {@code event.consumer.<name>.async = true} outside of the committing thread.
+ * <p>
+ * Every asynchronous consumer gets its own single threaded lane with a bounded queue and its own consumer
+ * instance, so batches of one consumer are processed one at a time and in commit order, while a slow consumer does
+ * not hold up the others. Each batch is processed in a new {@link Context} with the authorization system turned
+ * off, and that context is committed after {@link Consumer#end(Context)}. When the queue of a lane is full, the
+ * committing thread waits for room in it rather than dropping events.
+ * <p>
+ * The queue depth and processing latency of every lane are available for monitoring.
+ */
+public class AsyncEventExecutor {
+
+    private static final Logger log = LogManager.getLogger(AsyncEventExecutor.class);
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    @Autowired(required = true)
+    protected EventStatistics eventStatistics;
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Name of the consumer whose lane runs in the current thread, if any
+     */
+    private static final ThreadLocal<String> currentLane = new ThreadLocal<>();
+
+    protected AsyncEventExecutor() {
+    }
+
+    /**
+     * Queue a batch of events for an asynchronous consumer. Must only be called once the transaction which produced
+     * the events was committed.
+     *
+     * @param consumerName configured name of the consumer
+     * @param events       the events which passed the filters of the consumer, in dispatch order
+     */
+    public void submit(String consumerName, List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Lane lane = lanes.computeIfAbsent(consumerName, this::createLane);
+        lane.executor.execute(() -> lane.process(events));
+        if (log.isDebugEnabled()) {
+            log.debug("Queued " + events.size() + " events for asynchronous consumer \"" + consumerName
+                          + "\", queue depth " + lane.executor.getQueue().size());
+        }
+    }
+
+    /**
+     * @return names of the asynchronous consumers which received events so far
+     */
+    public Set<String> getConsumerNames() {
+        return lanes.keySet();
+    }
+
+    /**
+     * @param consumerName configured name of the consumer
+     * @return number of batches waiting to be processed by the consumer
+     */
+    public int getQueueDepth(String consumerName) {
+        Lane lane = lanes.get(consumerName);
+        return lane == null ? 0 : lane.executor.getQueue().size();
+    }
+
+    /**
+     * @return number of batches waiting to be processed by all asynchronous consumers
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (Lane lane : lanes.values()) {
+            depth += lane.executor.getQueue().size();
+        }
+        return depth;
+    }
+
+    /**
+     * @return maximum number of batches waiting for one consumer
+     */
+    public int getQueueCapacity() {
+        return configurationService.getIntProperty("event.dispatcher.async.queue-size", 1000);
+    }
+
+    /**
+     * @param consumerName configured name of the consumer
+     * @return number of batches processed by the consumer
+     */
+    public long getProcessedBatches(String consumerName) {
+        Lane lane = lanes.get(consumerName);
+        return lane == null ? 0 : lane.batches.get();
+    }
+
+    /**
+     * @param consumerName configured name of the consumer
+     * @return average time in milliseconds the consumer took to process a batch
+     */
+    public double getAverageLatency(String consumerName) {
+        Lane lane = lanes.get(consumerName);
+        if (lane == null || lane.batches.get() == 0) {
+            return 0;
+        }
+        return lane.totalNanos.get() / (double) lane.batches.get() / 1000000.0;
+    }
+
+    /**
+     * @param consumerName configured name of the consumer
+     * @return longest time in milliseconds the consumer took to process a batch
+     */
+    public double getMaxLatency(String consumerName) {
+        Lane lane = lanes.get(consumerName);
+        return lane == null ? 0 : lane.maxNanos.get() / 1000000.0;
+    }
+
+    /**
+     * Stop accepting batches and wait a little while for the queued ones to be processed.
+     */
+    public void shutdown() {
+        for (Lane lane : lanes.values()) {
+            lane.executor.shutdown();
+        }
+        long timeout = configurationService.getLongProperty("event.dispatcher.async.shutdown-timeout", 30);
+        for (Map.Entry<String, Lane> entry : lanes.entrySet()) {
+            try {
+                if (!entry.getValue().executor.awaitTermination(timeout, TimeUnit.SECONDS)) {
+                    log.warn("Asynchronous consumer \"" + entry.getKey() + "\" did not finish, "
+                                 + entry.getValue().executor.getQueue().size() + " batches are lost");
+                    entry.getValue().executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Lane createLane(String consumerName) {
+        ConsumerProfile profile;
+        try {
+            profile = ConsumerProfile.makeConsumerProfile(consumerName);
+            profile.getConsumer().initialize();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to create asynchronous consumer " + consumerName, e);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "event-" + consumerName);
+                thread.setDaemon(true);
+                return thread;
+            },
+            (task, pool) -> {
+                // Full queue: make the committing thread wait instead of losing events
+                if (pool.isShutdown()) {
+                    throw new RejectedExecutionException("Asynchronous consumer " + consumerName + " is shut down");
+                }
+                if (consumerName.equals(currentLane.get())) {
+                    // Events committed by the consumer itself, waiting for its own lane would never end
+                    task.run();
+                    return;
+                }
+                try {
+                    pool.getQueue().put(task);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while queueing events for " + consumerName, e);
+                }
+            });
+        return new Lane(profile, executor, eventStatistics);
+    }
+
+    /**
+     * Single threaded executor and statistics of one asynchronous consumer.
+     */
+    private static class Lane {
+        private final ConsumerProfile profile;
+        private final ThreadPoolExecutor executor;
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final EventStatistics eventStatistics;
+
+        Lane(ConsumerProfile profile, ThreadPoolExecutor executor, EventStatistics eventStatistics) {
+            this.profile = profile;
+            this.executor = executor;
+            this.eventStatistics = eventStatistics;
+        }
+
+        void process(List<Event> events) {
+            long start = System.nanoTime();
+            String outerLane = currentLane.get();
+            currentLane.set(profile.getName());
+            Consumer consumer = profile.getConsumer();
+            Context context = new Context();
+            try {
+                context.turnOffAuthorisationSystem();
+                for (Event event : events) {
+                    long consumeStart = System.nanoTime();
+                    try {
+                        consumer.consume(context, event);
+                    } catch (Exception e) {
+                        log.error("Consumer(\"" + profile.getName() + "\").consume threw: " + e.toString(), e);
+                    }
+                    eventStatistics.recordConsume(profile.getName(), true, System.nanoTime() - consumeStart);
+                }
+                long endStart = System.nanoTime();
+                consumer.end(context);
+                eventStatistics.recordEnd(profile.getName(), true, System.nanoTime() - endStart);
+                context.restoreAuthSystemState();
+                context.complete();
+            } catch (Exception e) {
+                log.error("Error in asynchronous Consumer(\"" + profile.getName() + "\").end: " + e.toString(), e);
+            } finally {
+                if (context.isValid()) {
+                    context.abort();
+                }
+                long elapsed = System.nanoTime() - start;
+                batches.incrementAndGet();
+                totalNanos.addAndGet(elapsed);
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+                currentLane.set(outerLane);
+            }
+        }
+    }
+}
@@ -7,16 +7,26 @@
  */
 package org.dspace.event;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.Logger;
 import org.dspace.core.Context;
 import org.dspace.core.Utils;
+import org.dspace.utils.DSpace;
 
 /**
  * BasicDispatcher implements the primary task of a Dispatcher: it delivers a
  * filtered list of events, synchronously, to a configured list of consumers. It
  * may be extended for more elaborate behavior.
+ * <p>
+ * Consumers configured as asynchronous (see {@link ConsumerProfile#isAsync()})
+ * are not called here: their events are collected into one batch per consumer,
+ * which is passed to the {@link AsyncEventExecutor} after the transaction was
+ * committed.
  *
  * @version $Revision$
  */
@@ -31,6 +41,11 @@ public class BasicDispatcher extends Dispatcher {
      */
     private static Logger log = org.apache.logging.log4j.LogManager.getLogger(BasicDispatcher.class);
 
+    /**
+     * Timings of the consumers, looked up on first dispatch
+     */
+    private EventStatistics eventStatistics;
+
     @Override
     public void addConsumerProfile(ConsumerProfile cp)
         throws IllegalArgumentException {
@@ -75,15 +90,24 @@ public class BasicDispatcher extends Dispatcher {
                               + String.valueOf(ctx.getEvents().size()) + " events.");
             }
 
+            long dispatchStart = System.nanoTime();
+            if (eventStatistics == null) {
+                eventStatistics = new DSpace().getSingletonService(EventStatistics.class);
+            }
+
             // transaction identifier applies to all events created in
             // this context for the current transaction. Prefix it with
             // some letters so RDF readers don't mistake it for an integer.
             String tid = "TX" + Utils.generateKey();
 
+            // Events for the consumers which run after commit, by consumer name
+            Map<String, List<Event>> asyncBatches = new LinkedHashMap<>();
+
             while (ctx.hasEvents()) {
                 Event event = ctx.pollEvent();
                 event.setDispatcher(getIdentifier());
                 event.setTransactionID(tid);
+                eventStatistics.recordEvent(event);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Iterating over "
@@ -94,12 +118,16 @@ public class BasicDispatcher extends Dispatcher {
                 for (Iterator ci = consumers.values().iterator(); ci.hasNext(); ) {
                     ConsumerProfile cp = (ConsumerProfile) ci.next();
 
-                    if (event.pass(cp.getFilters())) {
+                    if (event.pass(cp.getFilters()) && cp.isAsync()) {
+                        // Delivered after commit
+                        asyncBatches.computeIfAbsent(cp.getName(), name -> new ArrayList<>()).add(event);
+                    } else if (event.pass(cp.getFilters())) {
                         if (log.isDebugEnabled()) {
                             log.debug("Sending event to \"" + cp.getName()
                                           + "\": " + event.toString());
                         }
 
+                        long start = System.nanoTime();
                         try {
                             cp.getConsumer().consume(ctx, event);
 
@@ -110,6 +138,7 @@ public class BasicDispatcher extends Dispatcher {
                             log.error("Consumer(\"" + cp.getName()
                                           + "\").consume threw: " + e.toString(), e);
                         }
+                        eventStatistics.recordConsume(cp.getName(), false, System.nanoTime() - start);
                     }
 
                 }
@@ -118,20 +147,33 @@ public class BasicDispatcher extends Dispatcher {
             // Call end on the consumers that got synchronous events.
             for (Iterator ci = consumers.values().iterator(); ci.hasNext(); ) {
                 ConsumerProfile cp = (ConsumerProfile) ci.next();
-                if (cp != null) {
+                if (cp != null && !cp.isAsync()) {
                     if (log.isDebugEnabled()) {
                         log.debug("Calling end for consumer \"" + cp.getName()
                                       + "\"");
                     }
 
+                    long start = System.nanoTime();
                     try {
                         cp.getConsumer().end(ctx);
                     } catch (Exception e) {
                         log.error("Error in Consumer(\"" + cp.getName()
                                       + "\").end: " + e.toString(), e);
                     }
+                    eventStatistics.recordEnd(cp.getName(), false, System.nanoTime() - start);
                 }
             }
+
+            // Hand the events over to the asynchronous consumers once they can see the committed changes
+            if (!asyncBatches.isEmpty()) {
+                ctx.addAfterCommitTask(() -> {
+                    AsyncEventExecutor asyncEventExecutor = new DSpace().getSingletonService(AsyncEventExecutor.class);
+                    for (Map.Entry<String, List<Event>> batch : asyncBatches.entrySet()) {
+                        asyncEventExecutor.submit(batch.getKey(), batch.getValue());
+                    }
+                });
+            }
+            eventStatistics.recordDispatch(System.nanoTime() - dispatchStart);
         }
     }
 
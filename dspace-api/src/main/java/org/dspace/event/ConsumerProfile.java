@@ -43,6 +43,11 @@ public class ConsumerProfile {
      */
     private List<int[]> filters;
 
+    /**
+     * Whether the consumer may run asynchronously, after the transaction which produced the events was committed
+     */
+    private boolean async;
+
     // Prefix of keys in DSpace Configuration.
     private static final String CONSUMER_PREFIX = "event.consumer.";
 
@@ -104,6 +109,8 @@ public class ConsumerProfile {
                 "No filters configured for consumer named: " + name);
         }
 
+        async = configurationService.getBooleanProperty(CONSUMER_PREFIX + name + ".async", false);
+
         consumer = Class.forName(className.trim())
                 .asSubclass(Consumer.class)
                 .getDeclaredConstructor().newInstance();
@@ -163,4 +170,15 @@ public class ConsumerProfile {
     public String getName() {
         return name;
     }
+
+    /**
+     * Consumers which do not need to see the events in the same transaction, and whose work need not be visible
+     * when the commit returns, can be configured with {@code event.consumer.<name>.async = true}. Dispatchers then
+     * hand their events over to the {@link AsyncEventExecutor} once the transaction was committed.
+     *
+     * @return true if the consumer is configured to run asynchronously
+     */
+    public boolean isAsync() {
+        return async;
+    }
 }
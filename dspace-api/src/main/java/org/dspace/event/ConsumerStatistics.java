@@ -0,0 +1,43 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+/**
+ * Timings of one event consumer, see {@link EventStatistics}.
+ */
+public class ConsumerStatistics {
+
+    private final boolean async;
+    private final LatencyHistogram consume = new LatencyHistogram();
+    private final LatencyHistogram end = new LatencyHistogram();
+
+    ConsumerStatistics(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * @return true if the consumer runs after commit, see {@link ConsumerProfile#isAsync()}
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @return durations of the {@link Consumer#consume(org.dspace.core.Context, Event)} calls
+     */
+    public LatencyHistogram getConsume() {
+        return consume;
+    }
+
+    /**
+     * @return durations of the {@link Consumer#end(org.dspace.core.Context)} calls
+     */
+    public LatencyHistogram getEnd() {
+        return end;
+    }
+}
@@ -128,6 +128,16 @@ public class EventServiceImpl implements EventService {
 
     }
 
+    @Override
+    public int getNumActiveDispatchers() {
+        return dispatcherPool == null ? 0 : dispatcherPool.getNumActive();
+    }
+
+    @Override
+    public int getNumIdleDispatchers() {
+        return dispatcherPool == null ? 0 : dispatcherPool.getNumIdle();
+    }
+
     protected void enumerateConsumers() {
         // Get all configs starting with CONSUMER_PFX
         List<String> propertyNames = configurationService.getPropertyKeys(CONSUMER_PFX);
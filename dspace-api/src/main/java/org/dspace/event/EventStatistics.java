@@ -0,0 +1,163 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.event.service.EventService;
+import org.dspace.utils.DSpace;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Records how long each event consumer takes and how many events of each kind are dispatched, so that slow
+ * consumers can be identified. The dispatchers and the {@link AsyncEventExecutor} report into this bean.
+ * <p>
+ * The statistics are exposed through JMX as {@value #OBJECT_NAME} and through the "events" health indicator of
+ * the REST API.
+ */
+public class EventStatistics implements EventStatisticsMXBean {
+
+    public static final String OBJECT_NAME = "org.dspace:type=EventStatistics";
+
+    private static final Logger log = LogManager.getLogger(EventStatistics.class);
+
+    @Autowired(required = true)
+    protected EventService eventService;
+
+    private final Map<String, ConsumerStatistics> consumers = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> eventCounts = new ConcurrentHashMap<>();
+
+    private volatile LatencyHistogram dispatches = new LatencyHistogram();
+
+    protected EventStatistics() {
+    }
+
+    /**
+     * Register the MBean, called by Spring after construction.
+     */
+    public void init() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!mbs.isRegistered(name)) {
+                mbs.registerMBean(this, name);
+            }
+        } catch (Exception e) {
+            log.warn("Unable to register the event statistics MBean", e);
+        }
+    }
+
+    /**
+     * Unregister the MBean, called by Spring on shutdown.
+     */
+    public void destroy() {
+        try {
+            MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (mbs.isRegistered(name)) {
+                mbs.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            log.warn("Unable to unregister the event statistics MBean", e);
+        }
+    }
+
+    /**
+     * Count an event taken from the queue of a context by a dispatcher.
+     *
+     * @param event the event
+     */
+    public void recordEvent(Event event) {
+        eventCounts.computeIfAbsent(event.getSubjectTypeAsString() + "+" + event.getEventTypeAsString(),
+                                    key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record the duration of the dispatch of all the events of a transaction.
+     *
+     * @param nanos duration in nanoseconds
+     */
+    public void recordDispatch(long nanos) {
+        dispatches.record(nanos);
+    }
+
+    /**
+     * Record the duration of a {@link Consumer#consume} call.
+     *
+     * @param consumer configured name of the consumer
+     * @param async    whether the consumer runs asynchronously
+     * @param nanos    duration in nanoseconds
+     */
+    public void recordConsume(String consumer, boolean async, long nanos) {
+        getConsumerStatistics(consumer, async).getConsume().record(nanos);
+    }
+
+    /**
+     * Record the duration of a {@link Consumer#end} call.
+     *
+     * @param consumer configured name of the consumer
+     * @param async    whether the consumer runs asynchronously
+     * @param nanos    duration in nanoseconds
+     */
+    public void recordEnd(String consumer, boolean async, long nanos) {
+        getConsumerStatistics(consumer, async).getEnd().record(nanos);
+    }
+
+    private ConsumerStatistics getConsumerStatistics(String consumer, boolean async) {
+        return consumers.computeIfAbsent(consumer, name -> new ConsumerStatistics(async));
+    }
+
+    @Override
+    public LatencyHistogram getDispatches() {
+        return dispatches;
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        eventCounts.forEach((key, count) -> result.put(key, count.sum()));
+        return result;
+    }
+
+    @Override
+    public Map<String, ConsumerStatistics> getConsumers() {
+        return new TreeMap<>(consumers);
+    }
+
+    @Override
+    public int getActiveDispatchers() {
+        return eventService.getNumActiveDispatchers();
+    }
+
+    @Override
+    public int getIdleDispatchers() {
+        return eventService.getNumIdleDispatchers();
+    }
+
+    @Override
+    public int getAsyncQueueDepth() {
+        // Looked up on demand, the executor reports into this bean
+        return new DSpace().getSingletonService(AsyncEventExecutor.class).getQueueDepth();
+    }
+
+    @Override
+    public void reset() {
+        consumers.clear();
+        eventCounts.clear();
+        dispatches = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link EventStatistics}, registered as {@value EventStatistics#OBJECT_NAME}.
+ */
+public interface EventStatisticsMXBean {
+
+    /**
+     * @return durations of the complete dispatch of the events of a transaction to the synchronous consumers
+     */
+    LatencyHistogram getDispatches();
+
+    /**
+     * @return number of dispatched events by subject type and action, e.g. "ITEM+MODIFY"
+     */
+    Map<String, Long> getEventCounts();
+
+    /**
+     * @return timings by consumer name
+     */
+    Map<String, ConsumerStatistics> getConsumers();
+
+    /**
+     * @return number of dispatchers borrowed from the dispatcher pool
+     */
+    int getActiveDispatchers();
+
+    /**
+     * @return number of idle dispatchers in the dispatcher pool
+     */
+    int getIdleDispatchers();
+
+    /**
+     * @return number of event batches waiting for asynchronous consumers
+     */
+    int getAsyncQueueDepth();
+
+    /**
+     * Forget all timings and counts recorded so far.
+     */
+    void reset();
+}
@@ -34,4 +34,14 @@ public interface EventService {
     public void returnDispatcher(String key, Dispatcher disp);
 
     public int getConsumerIndex(String consumerClass);
+
+    /**
+     * @return number of dispatchers currently borrowed from the pool
+     */
+    public int getNumActiveDispatchers();
+
+    /**
+     * @return number of dispatchers currently idle in the pool
+     */
+    public int getNumIdleDispatchers();
 }
@@ -0,0 +1,95 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the OAI harvests of this instance, from which their throughput is published as metrics (see the
+ * MeterBinder of the server webapp).
+ * <p>
+ * Use HarvestServiceFactory.getInstance().getHarvestMetrics() to retrieve it.
+ */
+public class HarvestMetrics {
+
+    private final AtomicLong records = new AtomicLong();
+
+    private final AtomicLong recordNanos = new AtomicLong();
+
+    private final AtomicLong pages = new AtomicLong();
+
+    private final AtomicLong successfulHarvests = new AtomicLong();
+
+    private final AtomicLong failedHarvests = new AtomicLong();
+
+    protected HarvestMetrics() {
+
+    }
+
+    /**
+     * Count a record ingested (or deleted) by a harvest.
+     *
+     * @param nanos the time taken to process the record, in nanoseconds
+     */
+    public void recordProcessed(long nanos) {
+        records.incrementAndGet();
+        recordNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Count a ListRecords page fetched from a remote source.
+     */
+    public void pageFetched() {
+        pages.incrementAndGet();
+    }
+
+    /**
+     * Count a finished harvest.
+     *
+     * @param successful whether the harvest was successful
+     */
+    public void harvestFinished(boolean successful) {
+        (successful ? successfulHarvests : failedHarvests).incrementAndGet();
+    }
+
+    /**
+     * @return the number of records processed
+     */
+    public long getRecords() {
+        return records.get();
+    }
+
+    /**
+     * @return the total time taken to process the records, in seconds
+     */
+    public double getRecordSeconds() {
+        return recordNanos.get() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the number of ListRecords pages fetched
+     */
+    public long getPages() {
+        return pages.get();
+    }
+
+    /**
+     * @return the number of successful harvests
+     */
+    public long getSuccessfulHarvests() {
+        return successfulHarvests.get();
+    }
+
+    /**
+     * @return the number of failed harvests
+     */
+    public long getFailedHarvests() {
+        return failedHarvests.get();
+    }
+}
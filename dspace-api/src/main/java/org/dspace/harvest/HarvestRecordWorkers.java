@@ -0,0 +1,232 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.Collection;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.core.Context;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.harvest.factory.HarvestServiceFactory;
+import org.jdom2.Element;
+
+/**
+ * Workers processing the records of the pages of a harvest in parallel. Every worker has its own context, with its
+ * own harvester of the collection, and commits after every record like the harvester does.
+ * <p>
+ * The records of a page are all processed before the next page, and the records with the same OAI identifier are
+ * processed in order by the same worker, so that the successive versions and the deletion of a record are applied
+ * in the order given by the source.
+ */
+class HarvestRecordWorkers implements AutoCloseable {
+    private static final Logger log = LogManager.getLogger();
+
+    private static final Batch END_OF_BATCHES = new Batch(List.of(), 0, 0, null, null);
+
+    private final BlockingQueue<Batch> batches;
+
+    private final ExecutorService executor;
+
+    private final List<Future<?>> workers = new ArrayList<>();
+
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    private final HarvestMetrics harvestMetrics;
+
+    /**
+     * Start the workers.
+     *
+     * @param threads      the number of workers
+     * @param collectionId the harvested collection
+     * @param userId       the user of the harvest, null if none
+     * @param OREPrefix    the metadataPrefix of the source for ORE
+     */
+    HarvestRecordWorkers(int threads, UUID collectionId, UUID userId, String OREPrefix) {
+        this(threads, context -> createHarvester(context, collectionId, userId), OREPrefix);
+    }
+
+    /**
+     * Start the workers.
+     *
+     * @param threads          the number of workers
+     * @param harvesterFactory creates the harvester of every worker, in the context of the worker
+     * @param OREPrefix        the metadataPrefix of the source for ORE
+     */
+    HarvestRecordWorkers(int threads, HarvesterFactory harvesterFactory, String OREPrefix) {
+        this.batches = new ArrayBlockingQueue<>(threads * 2);
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.harvestMetrics = HarvestServiceFactory.getInstance().getHarvestMetrics();
+        for (int i = 0; i < threads; i++) {
+            workers.add(executor.submit(() -> work(harvesterFactory, OREPrefix)));
+        }
+    }
+
+    private static OAIHarvester createHarvester(Context context, UUID collectionId, UUID userId) throws Exception {
+        if (userId != null) {
+            context.setCurrentUser(EPersonServiceFactory.getInstance().getEPersonService().find(context, userId));
+        }
+        Collection collection = ContentServiceFactory.getInstance().getCollectionService().find(context, collectionId);
+        return new OAIHarvester(context, collection, HarvestServiceFactory.getInstance()
+                                                                          .getHarvestedCollectionService()
+                                                                          .find(context, collection));
+    }
+
+    /**
+     * Process the records of a page, waiting until they are all processed.
+     *
+     * @param records       the records of the page
+     * @param firstRecord   the number of the first record of the page in the harvest
+     * @param totalListSize the number of records of the harvest
+     * @param interruption  checked by the workers before every record, throwing an exception to interrupt the
+     *                      harvest
+     * @throws Exception the first exception thrown by a worker
+     */
+    void process(List<Element> records, long firstRecord, long totalListSize, Interruption interruption)
+        throws Exception {
+        Map<String, List<Element>> recordsById = new LinkedHashMap<>();
+        for (Element record : records) {
+            recordsById.computeIfAbsent(OAIHarvester.getOaiIdentifier(record), id -> new ArrayList<>()).add(record);
+        }
+
+        CountDownLatch processed = new CountDownLatch(recordsById.size());
+        long number = firstRecord;
+        for (List<Element> sameRecords : recordsById.values()) {
+            batches.put(new Batch(sameRecords, number, totalListSize, interruption, processed));
+            number += sameRecords.size();
+        }
+        processed.await();
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() throws Exception {
+        Exception e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Process the batches in a context of this thread until the end of the batches.
+     */
+    private void work(HarvesterFactory harvesterFactory, String OREPrefix) {
+        Context context = null;
+        OAIHarvester harvester = null;
+        try {
+            context = new Context(Context.Mode.BATCH_EDIT);
+            harvester = harvesterFactory.create(context);
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+
+        while (true) {
+            Batch batch;
+            try {
+                batch = batches.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (batch == END_OF_BATCHES) {
+                break;
+            }
+            try {
+                // after a failure, the remaining records are skipped
+                if (failure.get() == null) {
+                    long number = batch.firstRecord;
+                    for (Element record : batch.records) {
+                        batch.interruption.check();
+                        long start = System.nanoTime();
+                        harvester.processRecord(record, OREPrefix, number++, batch.totalListSize);
+                        context.dispatchEvents();
+                        harvester.intermediateCommit();
+                        harvestMetrics.recordProcessed(System.nanoTime() - start);
+                    }
+                }
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                batch.processed.countDown();
+            }
+        }
+
+        if (context != null && context.isValid()) {
+            // every record has been committed
+            context.abort();
+        }
+    }
+
+    /**
+     * Stop the workers once they have processed the records given to them.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        for (int i = 0; i < workers.size(); i++) {
+            batches.put(END_OF_BATCHES);
+        }
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                log.error("Harvest worker failed", e.getCause());
+            }
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Creates the harvester of a worker.
+     */
+    @FunctionalInterface
+    interface HarvesterFactory {
+        OAIHarvester create(Context context) throws Exception;
+    }
+
+    /**
+     * Check made before processing every record.
+     */
+    @FunctionalInterface
+    interface Interruption {
+        void check() throws HarvestingException;
+    }
+
+    /**
+     * The records of a page with the same OAI identifier.
+     */
+    private static class Batch {
+        private final List<Element> records;
+        private final long firstRecord;
+        private final long totalListSize;
+        private final Interruption interruption;
+        // counted down once the batch is processed, for the whole page
+        private final CountDownLatch processed;
+
+        private Batch(List<Element> records, long firstRecord, long totalListSize, Interruption interruption,
+                      CountDownLatch processed) {
+            this.records = records;
+            this.firstRecord = firstRecord;
+            this.totalListSize = totalListSize;
+            this.interruption = interruption;
+            this.processed = processed;
+        }
+    }
+}
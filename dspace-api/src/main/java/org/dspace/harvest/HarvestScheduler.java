@@ -11,9 +11,15 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -30,6 +36,8 @@ import org.dspace.services.factory.DSpaceServicesFactory;
 
 /**
  * The class responsible for scheduling harvesting cycles are regular intervals.
+ * <p>
+ * The harvests are run by a pool of oai.harvester.maxThreads threads.
  *
  * @author alexey
  */
@@ -43,11 +51,11 @@ public class HarvestScheduler implements Runnable {
 
     public static final Object lock = new Object();
 
-    protected static Stack<HarvestThread> harvestThreads;
+    protected static Queue<HarvestThread> harvestThreads;
 
     protected static Integer maxActiveThreads;
 
-    protected static volatile Integer activeThreads = 0;
+    protected ExecutorService harvestExecutor;
 
     public static final int HARVESTER_STATUS_RUNNING = 1;
 
@@ -132,12 +140,13 @@ public class HarvestScheduler implements Runnable {
                                                 .findByEmail(mainContext, harvestAdminParam);
         }
 
-        harvestThreads = new Stack<>();
+        harvestThreads = new ConcurrentLinkedQueue<>();
 
         maxActiveThreads = configurationService.getIntProperty("oai.harvester.maxThreads");
         if (maxActiveThreads == 0) {
             maxActiveThreads = 3;
         }
+        harvestExecutor = Executors.newFixedThreadPool(maxActiveThreads);
         minHeartbeat = configurationService.getIntProperty("oai.harvester.minHeartbeat");
         minHeartbeat = minHeartbeat * 1000; // multiple by 1000 to turn seconds to ms
         if (minHeartbeat == 0) {
@@ -178,6 +187,7 @@ public class HarvestScheduler implements Runnable {
                         case HARVESTER_INTERRUPT_STOP:
                             interrupt = HARVESTER_INTERRUPT_NONE;
                             status = HARVESTER_STATUS_STOPPED;
+                            harvestExecutor.shutdown();
                             return;
                         default:
                             break;
@@ -204,30 +214,26 @@ public class HarvestScheduler implements Runnable {
                     addThread(mainContext, harvestedCollection);
                 }
 
-                // Stage #2: start up all the threads currently in the queue up to the maximum number
-                while (!harvestThreads.isEmpty()) {
-                    synchronized (HarvestScheduler.class) {
-                        activeThreads++;
-                    }
-                    Thread activeThread = new Thread(harvestThreads.pop());
-                    activeThread.start();
-                    log.info("Thread started: " + activeThread.toString());
-
-                    /* Wait while the number of threads running is greater than or equal to max */
-                    while (activeThreads >= maxActiveThreads) {
-                        /* Wait a second */
-                        Thread.sleep(1000);
-                    }
+                // Stage #2: submit all the harvests currently in the queue, the pool runs up to the maximum
+                // number of them at once
+                List<Future<?>> harvests = new ArrayList<>();
+                HarvestThread harvestThread;
+                while ((harvestThread = harvestThreads.poll()) != null) {
+                    harvests.add(harvestExecutor.submit(harvestThread));
+                    log.info("Harvest submitted: " + harvestThread.toString());
                 }
 
-                // Finally, wait for the last few remaining threads to finish
+                // Finally, wait for the last few remaining harvests to finish
                 // TODO: this step might be unnecessary. Theoretically a single very long harvest process
                 // could then lock out all the other ones from starting on their next iteration.
-                // FIXME: also, this might lead to a situation when a single thread getting stuck without
+                // FIXME: also, this might lead to a situation when a single harvest getting stuck without
                 // throwing an exception would shut down the whole scheduler
-                while (activeThreads != 0) {
-                    /* Wait a second */
-                    Thread.sleep(1000);
+                for (Future<?> harvest : harvests) {
+                    try {
+                        harvest.get();
+                    } catch (ExecutionException e) {
+                        log.error("Harvest failed", e.getCause());
+                    }
                 }
 
                 // Commit everything
@@ -305,7 +311,7 @@ public class HarvestScheduler implements Runnable {
         context.dispatchEvents();
 
         HarvestThread ht = new HarvestThread(harvestedCollection.getCollection().getID());
-        harvestThreads.push(ht);
+        harvestThreads.add(ht);
 
         log.debug("****** Queued up a thread. Active threads: " + harvestThreads.toString());
         log.info("Thread queued up: " + ht.toString());
@@ -0,0 +1,108 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+
+/**
+ * Throttle of the OAI-PMH requests sent to a remote host, shared by all the harvests of the collections it is the
+ * source of. It bounds the number of concurrent requests (oai.harvester.source.maxRequests, 2 by default) and the
+ * time between the start of two requests (oai.harvester.source.minRequestInterval, in milliseconds, none by default).
+ * <p>
+ * Every request must be surrounded by {@link #acquire()} and {@link #release()}.
+ */
+public class HarvestSourceThrottle {
+
+    private static final Map<String, HarvestSourceThrottle> throttles = new ConcurrentHashMap<>();
+
+    private final Semaphore permits;
+
+    private final long minIntervalNanos;
+
+    private long nextRequest = System.nanoTime();
+
+    /**
+     * @param maxRequests       the maximum number of concurrent requests
+     * @param minIntervalMillis the minimum time between the start of two requests, in milliseconds
+     */
+    public HarvestSourceThrottle(int maxRequests, long minIntervalMillis) {
+        this.permits = new Semaphore(Math.max(1, maxRequests), true);
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minIntervalMillis));
+    }
+
+    /**
+     * Get the throttle of the host of an OAI-PMH source.
+     *
+     * @param oaiSource the base URL of the source
+     * @return the throttle
+     */
+    public static HarvestSourceThrottle forSource(String oaiSource) {
+        return throttles.computeIfAbsent(getHost(oaiSource), host -> {
+            ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+            return new HarvestSourceThrottle(configurationService.getIntProperty("oai.harvester.source.maxRequests", 2),
+                                             configurationService.getLongProperty(
+                                                 "oai.harvester.source.minRequestInterval", 0));
+        });
+    }
+
+    private static String getHost(String oaiSource) {
+        try {
+            String host = URI.create(oaiSource).getHost();
+            return host != null ? host : oaiSource;
+        } catch (IllegalArgumentException e) {
+            return oaiSource;
+        }
+    }
+
+    /**
+     * Wait until a request can be sent to the source.
+     *
+     * @throws InterruptedIOException if the thread is interrupted while waiting
+     */
+    public void acquire() throws InterruptedIOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to send a request to the OAI source");
+        }
+        try {
+            if (minIntervalNanos > 0) {
+                long wait;
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    long start = Math.max(now, nextRequest);
+                    nextRequest = start + minIntervalNanos;
+                    wait = start - now;
+                }
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permits.release();
+            throw new InterruptedIOException("Interrupted while waiting to send a request to the OAI source");
+        }
+    }
+
+    /**
+     * Signal the end of a request acquired with {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+}
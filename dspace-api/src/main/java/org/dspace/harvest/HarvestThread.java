@@ -19,11 +19,12 @@ import org.dspace.harvest.factory.HarvestServiceFactory;
 import org.dspace.harvest.service.HarvestedCollectionService;
 
 /**
- * A harvester thread used to execute a single harvest cycle on a collection
+ * A harvester task used to execute a single harvest cycle on a collection, run by the pool of the
+ * {@link HarvestScheduler}
  *
  * @author alexey
  */
-public class HarvestThread extends Thread {
+public class HarvestThread implements Runnable {
 
     private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(HarvestThread.class);
     protected UUID collectionId;
@@ -77,10 +78,6 @@ public class HarvestThread extends Thread {
                     log.error("Unexpected exception while recovering from a harvesting error: " + e.getMessage(), e);
                     context.abort();
                 }
-
-                synchronized (HarvestScheduler.class) {
-                    HarvestScheduler.activeThreads--;
-                }
             }
         } catch (SQLException e) {
             log.error(e.getMessage(), e);
@@ -88,4 +85,9 @@ public class HarvestThread extends Thread {
 
         log.info("Thread for collection " + hc.getCollection().getID() + " completes.");
     }
+
+    @Override
+    public String toString() {
+        return "HarvestThread[collection=" + collectionId + "]";
+    }
 }
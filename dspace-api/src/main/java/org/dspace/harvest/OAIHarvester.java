@@ -27,6 +27,11 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathExpressionException;
 
@@ -109,6 +114,7 @@ public class OAIHarvester {
     protected WorkspaceItemService workspaceItemService;
     protected PluginService pluginService;
     protected ConfigurationService configurationService;
+    protected HarvestMetrics harvestMetrics;
 
 
     //  The collection this harvester instance is dealing with
@@ -148,6 +154,7 @@ public class OAIHarvester {
         pluginService = CoreServiceFactory.getInstance().getPluginService();
 
         configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        harvestMetrics = HarvestServiceFactory.getInstance().getHarvestMetrics();
 
         if (dso.getType() != Constants.COLLECTION) {
             throw new HarvestingException("OAIHarvester can only harvest collections");
@@ -238,6 +245,11 @@ public class OAIHarvester {
      * Performs a harvest cycle on this collection. This will query the remote OAI-PMH provider, check for updates
      * since last
      * harvest, and ingest the returned items.
+     * <p>
+     * The next ListRecords page is fetched while the records of the current one are processed. The records are
+     * processed by oai.harvester.recordThreads workers (1 by default, processing them in the context of the
+     * harvester), see {@link HarvestRecordWorkers}. The requests sent to the provider are throttled by the
+     * {@link HarvestSourceThrottle} of its host.
      *
      * @throws IOException        A general class of exceptions produced by failed or interrupted I/O operations.
      * @throws SQLException       An exception that provides information on a database access error or other errors.
@@ -270,6 +282,12 @@ public class OAIHarvester {
 
         String dateGranularity;
 
+        HarvestSourceThrottle throttle = HarvestSourceThrottle.forSource(oaiSource);
+        ExecutorService pageFetcher = Executors.newSingleThreadExecutor();
+        Future<ListRecords> nextPage = null;
+        HarvestRecordWorkers recordWorkers = null;
+        boolean successful = false;
+
         try {
             // obtain the desired descriptive metadata format and verify that the OAI server actually provides it
             // do the same thing for ORE, which should be encoded in Atom and carry its namespace
@@ -326,7 +344,23 @@ public class OAIHarvester {
             List<Element> records;
             Set<String> errorSet = new HashSet<>();
 
-            ListRecords listRecords = new ListRecords(oaiSource, fromDate, toDate, oaiSetId, descMDPrefix);
+            int recordThreads = configurationService.getIntProperty("oai.harvester.recordThreads", 1);
+            if (recordThreads > 1) {
+                recordWorkers = new HarvestRecordWorkers(recordThreads, targetCollection.getID(),
+                                                         ourContext.getCurrentUser() != null
+                                                             ? ourContext.getCurrentUser().getID() : null,
+                                                         OREPrefix);
+            }
+            final Instant expiration = expirationTime;
+            HarvestRecordWorkers.Interruption interruption = () -> checkInterruption(expiration);
+
+            String from = fromDate;
+            String until = toDate;
+            String setId = oaiSetId;
+            String metadataPrefix = descMDPrefix;
+            ListRecords listRecords = fetchPage(throttle,
+                                                () -> new ListRecords(oaiSource, from, until, setId, metadataPrefix))
+                .call();
             log.debug(
                 "Harvesting request parameters: listRecords " + oaiSource + " " + fromDate + " " + toDate + " " +
                     oaiSetId + " " + descMDPrefix);
@@ -336,6 +370,16 @@ public class OAIHarvester {
                 records = new ArrayList<>();
                 oaiResponse = db.build(listRecords.getDocument());
 
+                // fetch the next page while this one is processed
+                resumptionToken = listRecords.getErrors() == null || listRecords.getErrors().getLength() == 0
+                    ? listRecords.getResumptionToken() : null;
+                if (resumptionToken != null && resumptionToken.length() > 0) {
+                    String token = resumptionToken;
+                    nextPage = pageFetcher.submit(fetchPage(throttle, () -> new ListRecords(oaiSource, token)));
+                } else {
+                    nextPage = null;
+                }
+
                 if (listRecords.getErrors() != null && listRecords.getErrors().getLength() > 0) {
                     for (int i = 0; i < listRecords.getErrors().getLength(); i++) {
                         String errorCode = listRecords.getErrors().item(i).getAttributes().getNamedItem("code")
@@ -348,6 +392,7 @@ public class OAIHarvester {
                         harvestRow.setHarvestMessage("OAI server did not contain any updates");
                         harvestRow.setHarvestStatus(HarvestedCollection.STATUS_READY);
                         harvestedCollectionService.update(ourContext, harvestRow);
+                        successful = true;
                         return;
                     } else {
                         throw new HarvestingException(errorSet.toString());
@@ -369,33 +414,34 @@ public class OAIHarvester {
                 // Process the obtained records
                 if (!records.isEmpty()) {
                     log.info("Found {} records to process", records::size);
-                    for (Element record : records) {
-                        // check for STOP interrupt from the scheduler
-                        if (HarvestScheduler.getInterrupt() == HarvestScheduler.HARVESTER_INTERRUPT_STOP) {
-                            throw new HarvestingException("Harvest process for " + targetCollection
-                                .getID() + " interrupted by stopping the scheduler.");
-                        }
-                        // check for timeout
-                        if (expirationTime.isBefore(Instant.now())) {
-                            throw new HarvestingException(
-                                "runHarvest method timed out for collection " + targetCollection.getID());
-                        }
+                    if (recordWorkers != null) {
+                        recordWorkers.process(records, currentRecord + 1, totalListSize, interruption);
+                        currentRecord += records.size();
+                    } else {
+                        for (Element record : records) {
+                            interruption.check();
 
-                        currentRecord++;
+                            currentRecord++;
 
-                        processRecord(record, OREPrefix, currentRecord, totalListSize);
-                        ourContext.dispatchEvents();
+                            long recordStart = System.nanoTime();
+                            processRecord(record, OREPrefix, currentRecord, totalListSize);
+                            ourContext.dispatchEvents();
 
-                        intermediateCommit();
+                            intermediateCommit();
+                            harvestMetrics.recordProcessed(System.nanoTime() - recordStart);
+                        }
                     }
                 }
 
                 // keep going if there are more records to process
-                resumptionToken = listRecords.getResumptionToken();
-                if (resumptionToken == null || resumptionToken.length() == 0) {
+                if (nextPage == null) {
                     listRecords = null;
                 } else {
-                    listRecords = new ListRecords(oaiSource, resumptionToken);
+                    try {
+                        listRecords = nextPage.get();
+                    } catch (ExecutionException e) {
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
                 }
                 ourContext.turnOffAuthorisationSystem();
                 try {
@@ -413,6 +459,7 @@ public class OAIHarvester {
                 ourContext.dispatchEvents();
                 intermediateCommit();
             }
+            successful = true;
         } catch (HarvestingException hex) {
             log.error("Harvesting error occurred while processing an OAI record: " + hex.getMessage(), hex);
             harvestRow.setHarvestMessage("Error occurred while processing an OAI record");
@@ -435,6 +482,18 @@ public class OAIHarvester {
             ourContext.complete();
             return;
         } finally {
+            if (nextPage != null) {
+                nextPage.cancel(true);
+            }
+            pageFetcher.shutdownNow();
+            if (recordWorkers != null) {
+                try {
+                    recordWorkers.close();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            harvestMetrics.harvestFinished(successful);
             harvestedCollectionService.update(ourContext, harvestRow);
             ourContext.turnOffAuthorisationSystem();
             collectionService.update(ourContext, targetCollection);
@@ -450,13 +509,48 @@ public class OAIHarvester {
         harvestRow.setLastHarvested(startTime);
         log.info(
             "Harvest from " + oaiSource + " successful. The process took " + timeTaken + " milliseconds. Harvested "
-                + currentRecord + " items.");
+                + currentRecord + " items (" + (currentRecord * 1000 / Math.max(1, timeTaken)) + " items/s).");
         harvestedCollectionService.update(ourContext, harvestRow);
 
         ourContext.setMode(originalMode);
     }
 
-    private void intermediateCommit() throws SQLException {
+    /**
+     * Check whether the harvest must stop, before processing a record.
+     *
+     * @param expirationTime the time after which the harvest times out
+     * @throws HarvestingException if the scheduler is stopping or the harvest timed out
+     */
+    private void checkInterruption(Instant expirationTime) throws HarvestingException {
+        // check for STOP interrupt from the scheduler
+        if (HarvestScheduler.getInterrupt() == HarvestScheduler.HARVESTER_INTERRUPT_STOP) {
+            throw new HarvestingException("Harvest process for " + targetCollection
+                .getID() + " interrupted by stopping the scheduler.");
+        }
+        // check for timeout
+        if (expirationTime.isBefore(Instant.now())) {
+            throw new HarvestingException(
+                "runHarvest method timed out for collection " + targetCollection.getID());
+        }
+    }
+
+    /**
+     * Wrap the request of a ListRecords page in the throttle of its source.
+     */
+    private Callable<ListRecords> fetchPage(HarvestSourceThrottle throttle, Callable<ListRecords> request) {
+        return () -> {
+            throttle.acquire();
+            try {
+                ListRecords page = request.call();
+                harvestMetrics.pageFetched();
+                return page;
+            } finally {
+                throttle.release();
+            }
+        };
+    }
+
+    void intermediateCommit() throws SQLException {
         ourContext.commit();
         reloadRequiredEntities();
     }
@@ -495,7 +589,7 @@ public class OAIHarvester {
         Instant timeStart = Instant.now();
 
         // grab the oai identifier
-        String itemOaiID = record.getChild("header", OAI_NS).getChild("identifier", OAI_NS).getText();
+        String itemOaiID = getOaiIdentifier(record);
         Element header = record.getChild("header", OAI_NS);
 
         // look up the item corresponding to the OAI identifier
@@ -663,6 +757,16 @@ public class OAIHarvester {
     }
 
 
+    /**
+     * Get the OAI identifier of a PMH record.
+     *
+     * @param record a JDOM Element containing a PMH record
+     * @return the identifier of its header
+     */
+    static String getOaiIdentifier(Element record) {
+        return record.getChild("header", OAI_NS).getChild("identifier", OAI_NS).getText();
+    }
+
     /**
      * Scan an item's metadata, looking for the value "identifier.*". If it meets the parameters that identify it as
      * valid handle
@@ -746,7 +850,14 @@ public class OAIHarvester {
      */
     private String oaiGetDateGranularity(String oaiSource)
         throws IOException, ParserConfigurationException, SAXException, XPathExpressionException {
-        Identify iden = new Identify(oaiSource);
+        Identify iden;
+        HarvestSourceThrottle throttle = HarvestSourceThrottle.forSource(oaiSource);
+        throttle.acquire();
+        try {
+            iden = new Identify(oaiSource);
+        } finally {
+            throttle.release();
+        }
         return iden.getDocument().getElementsByTagNameNS(OAI_NS.getURI(), "granularity").item(0).getTextContent();
     }
 
@@ -770,7 +881,14 @@ public class OAIHarvester {
         String metaPrefix = null;
 
         // Query the OAI server for the metadata
-        ListMetadataFormats lmf = new ListMetadataFormats(oaiSource);
+        ListMetadataFormats lmf;
+        HarvestSourceThrottle throttle = HarvestSourceThrottle.forSource(oaiSource);
+        throttle.acquire();
+        try {
+            lmf = new ListMetadataFormats(oaiSource);
+        } finally {
+            throttle.release();
+        }
 
         Document lmfResponse = db.build(lmf.getDocument());
         List<Element> mdFormats = lmfResponse.getRootElement().getChild("ListMetadataFormats", OAI_NS)
@@ -844,7 +962,14 @@ public class OAIHarvester {
      */
     protected List<Element> getMDrecord(String oaiSource, String itemOaiId, String metadataPrefix)
         throws IOException, ParserConfigurationException, SAXException, XPathExpressionException, HarvestingException {
-        GetRecord getRecord = new GetRecord(oaiSource, itemOaiId, metadataPrefix);
+        GetRecord getRecord;
+        HarvestSourceThrottle throttle = HarvestSourceThrottle.forSource(oaiSource);
+        throttle.acquire();
+        try {
+            getRecord = new GetRecord(oaiSource, itemOaiId, metadataPrefix);
+        } finally {
+            throttle.release();
+        }
         Set<String> errorSet = new HashSet<>();
         // If the metadata is not available for this item, can the whole thing
         if (getRecord.getErrors() != null && getRecord.getErrors().getLength() > 0) {
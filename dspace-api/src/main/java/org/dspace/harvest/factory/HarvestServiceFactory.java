@@ -7,6 +7,7 @@
  */
 package org.dspace.harvest.factory;
 
+import org.dspace.harvest.HarvestMetrics;
 import org.dspace.harvest.service.HarvestSchedulingService;
 import org.dspace.harvest.service.HarvestedCollectionService;
 import org.dspace.harvest.service.HarvestedItemService;
@@ -26,6 +27,8 @@ public abstract class HarvestServiceFactory {
 
     public abstract HarvestSchedulingService getHarvestSchedulingService();
 
+    public abstract HarvestMetrics getHarvestMetrics();
+
     public static HarvestServiceFactory getInstance() {
         return DSpaceServicesFactory.getInstance().getServiceManager()
                                     .getServiceByName("harvestServiceFactory", HarvestServiceFactory.class);
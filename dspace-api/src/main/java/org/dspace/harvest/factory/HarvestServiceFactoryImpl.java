@@ -7,6 +7,7 @@
  */
 package org.dspace.harvest.factory;
 
+import org.dspace.harvest.HarvestMetrics;
 import org.dspace.harvest.service.HarvestSchedulingService;
 import org.dspace.harvest.service.HarvestedCollectionService;
 import org.dspace.harvest.service.HarvestedItemService;
@@ -26,6 +27,8 @@ public class HarvestServiceFactoryImpl extends HarvestServiceFactory {
     private HarvestedCollectionService harvestedCollectionService;
     @Autowired(required = true)
     private HarvestSchedulingService harvestSchedulingService;
+    @Autowired(required = true)
+    private HarvestMetrics harvestMetrics;
 
     @Override
     public HarvestedCollectionService getHarvestedCollectionService() {
@@ -41,4 +44,9 @@ public class HarvestServiceFactoryImpl extends HarvestServiceFactory {
     public HarvestSchedulingService getHarvestSchedulingService() {
         return harvestSchedulingService;
     }
+
+    @Override
+    public HarvestMetrics getHarvestMetrics() {
+        return harvestMetrics;
+    }
 }
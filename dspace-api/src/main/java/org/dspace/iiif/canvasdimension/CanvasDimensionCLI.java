@@ -89,6 +89,8 @@ public class CanvasDimensionCLI {
         Options options = new Options();
         options.addOption("i", "identifier", true,
             "process IIIF canvas dimensions for images belonging to this identifier");
+        options.addOption("a", "all", false,
+            "process IIIF canvas dimensions for the images of all the IIIF items, committing after every 100 items");
         options.addOption("e", "eperson", true,
             "email of eperson setting the canvas dimensions");
         options.addOption("f", "force", false,
@@ -132,6 +134,8 @@ public class CanvasDimensionCLI {
             System.out
                 .println("\nHandle example:    iiif-canvas-dimensions -e user@email.org " +
                         "-i 123456789/12");
+            System.out
+                .println("\nBackfill example:    iiif-canvas-dimensions -e user@email.org -a");
             return;
         }
 
@@ -146,10 +150,11 @@ public class CanvasDimensionCLI {
         }
         if (line.hasOption('i')) {
             identifier = line.getOptionValue('i');
-        } else {
+        } else if (!line.hasOption('a')) {
             HelpFormatter help = new HelpFormatter();
             help.printHelp("CanvasDimension processor\n", options);
-            System.out.println("An identifier for a Community, Collection, or Item must be provided.");
+            System.out.println("An identifier for a Community, Collection, or Item, or the -a option, " +
+                "must be provided.");
             return;
         }
         if (line.hasOption('m')) {
@@ -177,17 +182,20 @@ public class CanvasDimensionCLI {
             canvasProcessor.setSkipList(Arrays.asList(skipIds));
         }
 
+        // without identifier, all the IIIF items are processed
         DSpaceObject dso = null;
-        if (identifier.indexOf('/') != -1) {
-            dso = HandleServiceFactory.getInstance().getHandleService().resolveToObject(context, identifier);
-        } else {
-            dso = UtilServiceFactory.getInstance().getDSpaceObjectUtils()
-                              .findDSpaceObject(context, UUID.fromString(identifier));
-        }
+        if (identifier != null) {
+            if (identifier.indexOf('/') != -1) {
+                dso = HandleServiceFactory.getInstance().getHandleService().resolveToObject(context, identifier);
+            } else {
+                dso = UtilServiceFactory.getInstance().getDSpaceObjectUtils()
+                                  .findDSpaceObject(context, UUID.fromString(identifier));
+            }
 
-        if (dso == null) {
-            throw new IllegalArgumentException("Cannot resolve "
-                + identifier + " to a DSpace object.");
+            if (dso == null) {
+                throw new IllegalArgumentException("Cannot resolve "
+                    + identifier + " to a DSpace object.");
+            }
         }
 
         EPerson user;
@@ -216,20 +224,24 @@ public class CanvasDimensionCLI {
         canvasProcessor.setIsQuiet(isQuiet);
 
         int processed = 0;
-        switch (dso.getType()) {
-            case Constants.COMMUNITY:
-                processed = canvasProcessor.processCommunity(context, (Community) dso);
-                break;
-            case Constants.COLLECTION:
-                processed = canvasProcessor.processCollection(context, (Collection) dso);
-                break;
-            case Constants.ITEM:
-                canvasProcessor.processItem(context, (Item) dso);
-                processed = 1;
-                break;
-            default:
-                System.out.println("Unsupported object type.");
-                break;
+        if (dso == null) {
+            processed = canvasProcessor.processAllItems(context);
+        } else {
+            switch (dso.getType()) {
+                case Constants.COMMUNITY:
+                    processed = canvasProcessor.processCommunity(context, (Community) dso);
+                    break;
+                case Constants.COLLECTION:
+                    processed = canvasProcessor.processCollection(context, (Collection) dso);
+                    break;
+                case Constants.ITEM:
+                    canvasProcessor.processItem(context, (Item) dso);
+                    processed = 1;
+                    break;
+                default:
+                    System.out.println("Unsupported object type.");
+                    break;
+            }
         }
         // commit changes
         if (processed >= 1) {
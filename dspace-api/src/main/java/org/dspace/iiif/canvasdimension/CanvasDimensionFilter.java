@@ -0,0 +1,72 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.canvasdimension;
+
+import java.io.InputStream;
+
+import org.dspace.app.mediafilter.MediaFilter;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+import org.dspace.iiif.canvasdimension.factory.IIIFCanvasDimensionServiceFactory;
+import org.dspace.iiif.canvasdimension.service.IIIFCanvasDimensionService;
+import org.dspace.iiif.util.IIIFSharedUtils;
+
+/**
+ * Media filter setting the IIIF canvas dimensions (iiif.image.width and iiif.image.height) of the
+ * images of IIIF items as they are ingested, read from the image headers, so that the manifests
+ * don't need to query the image server for them. It doesn't generate any bitstream.
+ * <p>
+ * The existing items are processed with the iiif-canvas-dimensions script.
+ */
+public class CanvasDimensionFilter extends MediaFilter {
+
+    @Override
+    public String getFilteredName(String oldFilename) {
+        return oldFilename;
+    }
+
+    @Override
+    public String getBundleName() {
+        return null;
+    }
+
+    @Override
+    public String getFormatString() {
+        return null;
+    }
+
+    @Override
+    public String getDescription() {
+        return "IIIF canvas dimensions";
+    }
+
+    /**
+     * Sets the canvas dimensions of the bitstream if it is an image of a IIIF item without them.
+     *
+     * @return always false, there is nothing else to generate
+     */
+    @Override
+    public boolean preProcessBitstream(Context c, Item item, Bitstream source, boolean verbose)
+        throws Exception {
+        if (IIIFSharedUtils.isIIIFItem(item) && IIIFSharedUtils.getIIIFBundles(item).stream()
+                                                               .anyMatch(b -> b.getBitstreams().contains(source))) {
+            IIIFCanvasDimensionService canvasProcessor =
+                IIIFCanvasDimensionServiceFactory.getInstance().getIiifCanvasDimensionService();
+            canvasProcessor.setIsQuiet(!verbose);
+            canvasProcessor.processBitstream(c, source);
+        }
+        return false;
+    }
+
+    @Override
+    public InputStream getDestinationStream(Item currentItem, InputStream source, boolean verbose)
+        throws Exception {
+        return null;
+    }
+}
@@ -61,6 +61,9 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
     private int max2Process = Integer.MAX_VALUE;
     private int processed = 0;
 
+    // number of items processed between two commits when processing all the items
+    private static final int COMMIT_BATCH_SIZE = 100;
+
     // used to check for existing canvas dimension
     private static final String IIIF_WIDTH_METADATA = METADATA_IIIF_SCHEMA + "." + METADATA_IIIF_IMAGE_ELEMENT +
         "." + METADATA_IIIF_WIDTH_QUALIFIER;
@@ -111,6 +114,21 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
         return processed;
     }
 
+    @Override
+    public int processAllItems(Context context) throws Exception {
+        Iterator<Item> itemIterator = itemService.findArchivedByMetadataField(context,
+            IIIFSharedUtils.METADATA_IIIF_ENABLED, Item.ANY);
+        int committed = processed;
+        while (itemIterator.hasNext() && processed < max2Process) {
+            processItem(context, itemIterator.next());
+            if (processed - committed >= COMMIT_BATCH_SIZE) {
+                context.commit();
+                committed = processed;
+            }
+        }
+        return processed;
+    }
+
     @Override
     public void processItem(Context context, Item item) throws Exception {
         if (!inSkipList(item.getHandle())) {
@@ -151,16 +169,17 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
     }
 
     /**
-     * Gets image height and width for the bitstream. For jp2 images, height and width are
-     * obtained from the IIIF image server. For other formats supported by ImageIO these values
-     * are read from the actual DSpace bitstream content. If bitstream width metadata already exists,
+     * Gets image height and width for the bitstream. These values are read from the headers of
+     * the DSpace bitstream content (see {@link ImageDimensionReader}), and obtained from the IIIF
+     * image server for the formats that cannot be read. If bitstream width metadata already exists,
      * the bitstream is processed when forceProcessing is true.
      * @param context
      * @param bitstream
      * @return
      * @throws Exception
      */
-    private boolean processBitstream(Context context, Bitstream bitstream) throws SQLException, AuthorizeException,
+    @Override
+    public boolean processBitstream(Context context, Bitstream bitstream) throws SQLException, AuthorizeException,
         IOException {
 
         boolean processed = false;
@@ -184,7 +203,7 @@ public class IIIFCanvasDimensionServiceImpl implements IIIFCanvasDimensionServic
                             dims = iiifApiQuery.getImageDimensions(bitstream);
                         }
                     } catch (IOException e) {
-                        // If an exception was raised by ImageIO, try the iiif image server.
+                        // If the image headers cannot be read, try the iiif image server.
                         dims = iiifApiQuery.getImageDimensions(bitstream);
                     }
                 } finally {
@@ -9,39 +9,258 @@ package org.dspace.iiif.canvasdimension;
 
 import static org.dspace.iiif.canvasdimension.Util.checkDimensions;
 
-import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Iterator;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 /**
  * Reads and return height and width dimensions for image bitstreams.
+ * <p>
+ * The dimensions are read from the headers of the images, without decoding their pixels: the SOF segment of JPEG,
+ * the ihdr box of JP2 (or the SIZ segment of a JPEG 2000 codestream), the first IFD of TIFF, the IHDR chunk of PNG
+ * and the screen descriptor of GIF. The headers of the other formats are read by the ImageIO readers.
  *
  * @author Michael Spalti mspalti@willamette.edu
  */
 public class ImageDimensionReader {
 
+    // bytes read ahead to recognize the format, and to give the stream to ImageIO if it isn't recognized
+    private static final int SIGNATURE_LENGTH = 12;
+
     private ImageDimensionReader() {}
 
     /**
-     * Uses ImageIO to read height and width dimensions.
+     * Reads height and width dimensions from the image headers.
      * @param image inputstream for dspace image
      * @return image dimensions or null if the image format cannot be read.
-     * @throws Exception
+     * @throws IOException if the image cannot be read
      */
     public static int[] getImageDimensions(InputStream image) throws IOException {
-        int[] dims = new int[2];
-        BufferedImage buf = ImageIO.read(image);
-        if (buf != null) {
-            int width = buf.getWidth(null);
-            int height = buf.getHeight(null);
-            if (width > 0 && height > 0) {
-                dims[0] = width;
-                dims[1] = height;
-                return checkDimensions(dims);
+        BufferedInputStream in = new BufferedInputStream(image);
+        in.mark(SIGNATURE_LENGTH);
+        byte[] signature = in.readNBytes(SIGNATURE_LENGTH);
+        in.reset();
+
+        int[] dims;
+        DataInputStream data = new DataInputStream(in);
+        try {
+            if (startsWith(signature, 0xFF, 0xD8)) {
+                dims = readJpeg(data);
+            } else if (startsWith(signature, 0x00, 0x00, 0x00, 0x0C, 'j', 'P', ' ', ' ')) {
+                dims = readJp2(data);
+            } else if (startsWith(signature, 0xFF, 0x4F, 0xFF, 0x51)) {
+                dims = readJ2kCodestream(data);
+            } else if (startsWith(signature, 'I', 'I', 42, 0) || startsWith(signature, 'M', 'M', 0, 42)) {
+                dims = readTiff(data, signature[0] == 'I');
+            } else if (startsWith(signature, 0x89, 'P', 'N', 'G')) {
+                dims = readPng(data);
+            } else if (startsWith(signature, 'G', 'I', 'F', '8')) {
+                dims = readGif(data);
+            } else {
+                dims = readWithImageIO(in);
             }
+        } catch (EOFException e) {
+            // truncated headers
+            return null;
+        }
+
+        if (dims != null && dims[0] > 0 && dims[1] > 0) {
+            return checkDimensions(dims);
         }
         return null;
     }
 
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the dimensions of the first SOF segment of a JPEG.
+     */
+    private static int[] readJpeg(DataInputStream in) throws IOException {
+        // SOI
+        in.skipNBytes(2);
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) {
+                return null;
+            }
+            int type = in.readUnsignedByte();
+            // fill bytes
+            while (type == 0xFF) {
+                type = in.readUnsignedByte();
+            }
+            if (type == 0x01 || (type >= 0xD0 && type <= 0xD7)) {
+                // markers without segment
+                continue;
+            }
+            if (type == 0xD9 || type == 0xDA) {
+                // EOI or SOS, no frame header found before the image data
+                return null;
+            }
+            int length = in.readUnsignedShort();
+            if (type >= 0xC0 && type <= 0xCF && type != 0xC4 && type != 0xC8 && type != 0xCC) {
+                // precision, then height and width
+                in.skipNBytes(1);
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return new int[] {width, height};
+            }
+            in.skipNBytes(length - 2);
+        }
+    }
+
+    /**
+     * Reads the dimensions of the ihdr box of the jp2h header box of a JP2.
+     */
+    private static int[] readJp2(DataInputStream in) throws IOException {
+        while (true) {
+            long length = in.readInt() & 0xFFFFFFFFL;
+            int type = in.readInt();
+            long headerLength = 8;
+            if (length == 1) {
+                length = in.readLong();
+                headerLength = 16;
+            }
+            if (type == boxType("jp2h")) {
+                // superbox, read its boxes
+                continue;
+            }
+            if (type == boxType("ihdr")) {
+                int height = in.readInt();
+                int width = in.readInt();
+                return new int[] {width, height};
+            }
+            if (type == boxType("jp2c") || length == 0) {
+                // codestream or last box, no header found before them
+                return null;
+            }
+            in.skipNBytes(length - headerLength);
+        }
+    }
+
+    private static int boxType(String type) {
+        return type.charAt(0) << 24 | type.charAt(1) << 16 | type.charAt(2) << 8 | type.charAt(3);
+    }
+
+    /**
+     * Reads the dimensions of the SIZ segment of a JPEG 2000 codestream.
+     */
+    private static int[] readJ2kCodestream(DataInputStream in) throws IOException {
+        // SOC, SIZ marker, Lsiz and Rsiz
+        in.skipNBytes(8);
+        long width = in.readInt() & 0xFFFFFFFFL;
+        long height = in.readInt() & 0xFFFFFFFFL;
+        long xOffset = in.readInt() & 0xFFFFFFFFL;
+        long yOffset = in.readInt() & 0xFFFFFFFFL;
+        return new int[] {(int) (width - xOffset), (int) (height - yOffset)};
+    }
+
+    /**
+     * Reads the ImageWidth and ImageLength tags of the first IFD of a TIFF.
+     */
+    private static int[] readTiff(DataInputStream in, boolean littleEndian) throws IOException {
+        in.skipNBytes(4);
+        long ifdOffset = readUnsignedInt(in, littleEndian);
+        if (ifdOffset < 8) {
+            return null;
+        }
+        in.skipNBytes(ifdOffset - 8);
+
+        int entries = readUnsignedShort(in, littleEndian);
+        int width = -1;
+        int height = -1;
+        for (int i = 0; i < entries && (width < 0 || height < 0); i++) {
+            int tag = readUnsignedShort(in, littleEndian);
+            int fieldType = readUnsignedShort(in, littleEndian);
+            // count
+            in.skipNBytes(4);
+            int value;
+            if (fieldType == 3) {
+                // SHORT, left-justified in the value field
+                value = readUnsignedShort(in, littleEndian);
+                in.skipNBytes(2);
+            } else if (fieldType == 4) {
+                // LONG
+                value = (int) readUnsignedInt(in, littleEndian);
+            } else {
+                in.skipNBytes(4);
+                continue;
+            }
+            if (tag == 256) {
+                width = value;
+            } else if (tag == 257) {
+                height = value;
+            }
+        }
+        return width > 0 && height > 0 ? new int[] {width, height} : null;
+    }
+
+    private static int readUnsignedShort(DataInputStream in, boolean littleEndian) throws IOException {
+        int value = in.readUnsignedShort();
+        return littleEndian ? Integer.reverseBytes(value) >>> 16 : value;
+    }
+
+    private static long readUnsignedInt(DataInputStream in, boolean littleEndian) throws IOException {
+        int value = in.readInt();
+        return (littleEndian ? Integer.reverseBytes(value) : value) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Reads the dimensions of the IHDR chunk of a PNG.
+     */
+    private static int[] readPng(DataInputStream in) throws IOException {
+        // signature, then the length and type of the IHDR chunk
+        in.skipNBytes(16);
+        int width = in.readInt();
+        int height = in.readInt();
+        return new int[] {width, height};
+    }
+
+    /**
+     * Reads the dimensions of the logical screen descriptor of a GIF.
+     */
+    private static int[] readGif(DataInputStream in) throws IOException {
+        in.skipNBytes(6);
+        int width = readUnsignedShort(in, true);
+        int height = readUnsignedShort(in, true);
+        return new int[] {width, height};
+    }
+
+    /**
+     * Uses the ImageIO reader of the format to read the dimensions from its header, without reading the image.
+     */
+    private static int[] readWithImageIO(InputStream image) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(image)) {
+            if (stream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return new int[] {reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
 }
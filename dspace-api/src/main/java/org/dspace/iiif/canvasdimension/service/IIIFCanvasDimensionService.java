@@ -7,8 +7,12 @@
  */
 package org.dspace.iiif.canvasdimension.service;
 
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.List;
 
+import org.dspace.authorize.AuthorizeException;
+import org.dspace.content.Bitstream;
 import org.dspace.content.Collection;
 import org.dspace.content.Community;
 import org.dspace.content.Item;
@@ -41,6 +45,28 @@ public interface IIIFCanvasDimensionService {
      */
     void processItem(Context context, Item item) throws Exception;
 
+    /**
+     * Set IIIF canvas dimensions on all the archived IIIF items, committing
+     * after every batch of items.
+     * @param context
+     * @return the number of items processed
+     * @throws Exception
+     */
+    int processAllItems(Context context) throws Exception;
+
+    /**
+     * Set IIIF canvas dimensions for an image bitstream, unless it has them
+     * already and force processing is off.
+     * @param context
+     * @param bitstream
+     * @return true if the dimensions were set
+     * @throws SQLException
+     * @throws AuthorizeException
+     * @throws IOException
+     */
+    boolean processBitstream(Context context, Bitstream bitstream) throws SQLException, AuthorizeException,
+        IOException;
+
     /**
      * Set the force processing property. If true, existing canvas
      * metadata will be replaced.
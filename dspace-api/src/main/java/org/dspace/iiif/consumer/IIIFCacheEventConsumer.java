@@ -19,10 +19,12 @@ import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.event.Consumer;
 import org.dspace.event.Event;
+import org.dspace.iiif.manifest.ManifestStore;
 
 
 /**
- * This consumer is used to evict modified items from the manifests cache.
+ * This consumer is used to evict modified items from the manifests cache, and to remove their manifests
+ * from the {@link ManifestStore}.
  */
 public class IIIFCacheEventConsumer implements Consumer {
 
@@ -37,6 +39,9 @@ public class IIIFCacheEventConsumer implements Consumer {
     // Collects modified bitstreams for individual removal from canvas dimension cache.
     private final Set<DSpaceObject> toEvictFromCanvasCache = new HashSet<>();
 
+    // Collects the ids of the modified or deleted items for removal from the manifest store.
+    private final Set<UUID> toRemoveFromManifestStore = new HashSet<>();
+
     @Override
     public void initialize() throws Exception {
     }
@@ -54,6 +59,11 @@ public class IIIFCacheEventConsumer implements Consumer {
 
         int et = event.getEventType();
 
+        if (st == Constants.ITEM && et == Event.DELETE) {
+            // the deleted item cannot be loaded anymore
+            toRemoveFromManifestStore.add(event.getSubjectID());
+        }
+
         if (et == Event.DELETE || et == Event.REMOVE) {
             log.warn("IIIF event consumer cannot remove a single item from the cache when " +
                 "a bundle is deleted. The entire cache will be cleared.");
@@ -128,6 +138,9 @@ public class IIIFCacheEventConsumer implements Consumer {
             toEvictFromCanvasCache.add(subject2);
         }
         toEvictFromManifestCache.add(subject);
+        if (subject != null) {
+            toRemoveFromManifestStore.add(subject.getID());
+        }
     }
 
     @Override
@@ -153,9 +166,19 @@ public class IIIFCacheEventConsumer implements Consumer {
             }
         }
 
+        // The stored manifests are checked against the fingerprint of their item before being served, so they
+        // don't need to be all removed when the cache is cleared: only the ones of the known items are removed.
+        ManifestStore manifestStore = ManifestStore.getInstance();
+        if (manifestStore != null && manifestStore.isEnabled()) {
+            for (UUID uuid : toRemoveFromManifestStore) {
+                manifestStore.remove(uuid);
+            }
+        }
+
         clearAll = false;
         toEvictFromManifestCache.clear();
         toEvictFromCanvasCache.clear();
+        toRemoveFromManifestStore.clear();
     }
 
     @Override
@@ -0,0 +1,212 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.manifest;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.MetadataValue;
+import org.dspace.core.Context;
+import org.dspace.iiif.util.IIIFSharedUtils;
+import org.dspace.services.ConfigurationService;
+import org.dspace.utils.DSpace;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Persisted store of the IIIF manifests of the items, kept in files under iiif.manifest.store.dir so that they
+ * survive restarts and are shared by the REST nodes using the same directory.
+ * <p>
+ * Every manifest is stored with the fingerprint of the content it was built from: the item, its IIIF bundles and
+ * bitstreams with their metadata, and the IIIF configuration. A stored manifest is only returned for the current
+ * fingerprint of its item, so a manifest made stale by a change that the IIIF event consumer of this node did not
+ * see (e.g. a change made on another node) is never served, but rebuilt.
+ * <p>
+ * The fingerprint is computed again for every request, from the database: the bundles and bitstreams have no
+ * modification date which a cached fingerprint could be checked against, and their changes made on another node
+ * don't modify the item.
+ */
+public class ManifestStore {
+
+    private static final Logger log = LogManager.getLogger();
+
+    // changed when the format of the fingerprint changes, to ignore the manifests stored with the previous one
+    private static final String FINGERPRINT_VERSION = "1";
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    /**
+     * Get the instance of {@link ManifestStore} from the Spring context.
+     * @return the bean instance
+     */
+    public static ManifestStore getInstance() {
+        return new DSpace().getServiceManager().getServiceByName("manifestStore", ManifestStore.class);
+    }
+
+    /**
+     * @return true if the manifests are persisted (iiif.manifest.store.enabled)
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("iiif.manifest.store.enabled", false);
+    }
+
+    /**
+     * Compute the fingerprint of the content the manifest of an item is built from. It is much cheaper than
+     * building the manifest: it only reads the metadata of the item, of its IIIF bundles and of their bitstreams.
+     *
+     * @param context the DSpace context
+     * @param item    the IIIF item
+     * @return the fingerprint, as an hexadecimal string
+     * @throws SQLException if database error
+     */
+    public String getFingerprint(Context context, Item item) throws SQLException {
+        MessageDigest digest = DigestUtils.getSha256Digest();
+        update(digest, FINGERPRINT_VERSION, item.getID(), item.getHandle(), item.getLastModified());
+        update(digest, item);
+        for (Bundle bundle : IIIFSharedUtils.getIIIFBundles(item)) {
+            update(digest, bundle.getID(), bundle.getName());
+            update(digest, bundle);
+            for (Bitstream bitstream : bundle.getBitstreams()) {
+                update(digest, bitstream.getID(), bitstream.getName(), bitstream.getSequenceID(),
+                       bitstream.getChecksum(), bitstream.getSizeBytes(), bitstream.getFormat(context).getID());
+                update(digest, bitstream);
+            }
+        }
+        // the manifests embed the URLs and the settings of the configuration
+        update(digest, configurationService.getProperty("dspace.server.url"),
+               configurationService.getProperty("dspace.ui.url"), configurationService.getProperty("dspace.name"));
+        List<String> keys = new ArrayList<>(configurationService.getPropertyKeys("iiif."));
+        keys.sort(null);
+        for (String key : keys) {
+            update(digest, key, StringUtils.join(configurationService.getArrayProperty(key), ','));
+        }
+        return Hex.encodeHexString(digest.digest());
+    }
+
+    private void update(MessageDigest digest, DSpaceObject dso) {
+        for (MetadataValue value : dso.getMetadata()) {
+            update(digest, value.getMetadataField().toString('.'), value.getValue(), value.getLanguage(),
+                   value.getPlace(), value.getAuthority());
+        }
+    }
+
+    private void update(MessageDigest digest, Object... values) {
+        for (Object value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    /**
+     * Get the stored manifest of an item.
+     *
+     * @param id          the item UUID
+     * @param fingerprint the current fingerprint of the item
+     * @return the manifest, or null if none is stored for this fingerprint
+     */
+    public String get(UUID id, String fingerprint) {
+        Path file = getFile(id);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!fingerprint.equals(reader.readLine())) {
+                return null;
+            }
+            return IOUtils.toString(reader);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Unable to read the stored IIIF manifest {}", file, e);
+            return null;
+        }
+    }
+
+    /**
+     * Store the manifest of an item, replacing the previous one. The file is written next to its final location
+     * then moved, so that the readers never see a partially written manifest.
+     *
+     * @param id          the item UUID
+     * @param fingerprint the fingerprint of the item the manifest was built from
+     * @param manifest    the manifest as JSON
+     */
+    public void put(UUID id, String fingerprint, String manifest) {
+        Path file = getFile(id);
+        Path tmp = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                writer.write(fingerprint);
+                writer.write('\n');
+                writer.write(manifest);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to store the IIIF manifest {}", file, e);
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e1) {
+                log.debug("Unable to delete {}", tmp, e1);
+            }
+        }
+    }
+
+    /**
+     * Remove the stored manifest of an item, if any.
+     *
+     * @param id the item UUID
+     */
+    public void remove(UUID id) {
+        Path file = getFile(id);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to remove the stored IIIF manifest {}", file, e);
+        }
+    }
+
+    /**
+     * The manifests are spread in sub-directories named after the first two characters of the item UUIDs.
+     */
+    private Path getFile(UUID id) {
+        String name = id.toString();
+        return getDirectory().resolve(name.substring(0, 2)).resolve(name + ".json");
+    }
+
+    private Path getDirectory() {
+        String dir = configurationService.getProperty("iiif.manifest.store.dir");
+        if (StringUtils.isBlank(dir)) {
+            return Paths.get(configurationService.getProperty("dspace.dir"), "iiif", "manifests");
+        }
+        return Paths.get(dir);
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.manifest;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.dspace.app.client.DSpaceHttpClientFactory;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.iiif.util.IIIFSharedUtils;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+
+/**
+ * Warms the IIIF manifest store: requests from the REST API the manifests of the IIIF items that are not stored
+ * for their current fingerprint, so that the REST nodes build and store them ahead of the users.
+ * <p>
+ * The manifests are built by the REST API, as their generation needs its web context. They are requested
+ * anonymously, so the manifests of the items which are not public are built on their first authorized request.
+ */
+public class ManifestStoreCLI {
+
+    private static final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                          .getConfigurationService();
+
+    private ManifestStoreCLI() {}
+
+    public static void main(String[] argv) throws Exception {
+        runManifestStoreCLI(argv);
+    }
+
+    /**
+     * Run the iiif-manifest-store logic.
+     *
+     * @param argv the command line arguments
+     * @throws Exception if an error occurs during processing
+     */
+    public static void runManifestStoreCLI(String[] argv) throws Exception {
+        Instant startTime = Instant.now();
+
+        Options options = new Options();
+        options.addOption("f", "force", false,
+            "rebuild the stored manifests, even if they are current");
+        options.addOption("q", "quiet", false,
+            "do not print anything except in the event of errors");
+        options.addOption("h", "help", false,
+            "display help");
+
+        CommandLine line;
+        try {
+            line = new DefaultParser().parse(options, argv);
+        } catch (ParseException e) {
+            System.out.println("ERROR: " + e.getMessage());
+            new HelpFormatter().printHelp("iiif-manifest-store\n", options);
+            return;
+        }
+        if (line.hasOption('h')) {
+            new HelpFormatter().printHelp("iiif-manifest-store\n", options);
+            return;
+        }
+        boolean force = line.hasOption('f');
+        boolean isQuiet = line.hasOption('q');
+
+        ManifestStore manifestStore = ManifestStore.getInstance();
+        if (!configurationService.getBooleanProperty("iiif.enabled") || !manifestStore.isEnabled()) {
+            System.out.println("The IIIF manifest store is not enabled (iiif.enabled and iiif.manifest.store.enabled)");
+            return;
+        }
+
+        ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+        String manifestUrl = configurationService.getProperty("dspace.server.url") + "/iiif/%s/manifest";
+
+        int current = 0;
+        int built = 0;
+        int failed = 0;
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try (CloseableHttpClient httpClient = DSpaceHttpClientFactory.getInstance().buildWithoutProxy()) {
+            Iterator<Item> items = itemService.findArchivedByMetadataField(context,
+                IIIFSharedUtils.METADATA_IIIF_ENABLED, Item.ANY);
+            while (items.hasNext()) {
+                Item item = items.next();
+                if (IIIFSharedUtils.isIIIFEnabled(item)) {
+                    if (!force && manifestStore.get(item.getID(),
+                                                    manifestStore.getFingerprint(context, item)) != null) {
+                        current++;
+                    } else {
+                        if (force) {
+                            manifestStore.remove(item.getID());
+                        }
+                        String url = String.format(manifestUrl, item.getID());
+                        if (request(httpClient, url)) {
+                            built++;
+                            if (!isQuiet) {
+                                System.out.println("Stored the manifest of item " + item.getID());
+                            }
+                        } else {
+                            failed++;
+                        }
+                    }
+                }
+                context.uncacheEntity(item);
+            }
+        } finally {
+            context.complete();
+        }
+
+        Instant endTime = Instant.now();
+        if (!isQuiet) {
+            System.out.println("Started: " + startTime);
+            System.out.println("Ended: " + endTime);
+            System.out.println("Elapsed time: " + (endTime.toEpochMilli() - startTime.toEpochMilli()) + " msecs");
+        }
+        // Always print summary to standard out.
+        System.out.println(built + " IIIF manifests were built, " + current + " were current and " + failed
+            + " could not be requested.");
+    }
+
+    private static boolean request(CloseableHttpClient httpClient, String url) {
+        try (CloseableHttpResponse response = httpClient.execute(new HttpGet(url))) {
+            int status = response.getStatusLine().getStatusCode();
+            EntityUtils.consume(response.getEntity());
+            if (status != HttpStatus.SC_OK) {
+                System.err.println("Unable to request " + url + ": HTTP status " + status);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Unable to request " + url + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+
+package org.dspace.rdf;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.logging.log4j.Logger;
+import org.dspace.rdf.storage.RDFStorage;
+
+/**
+ * Output of a bulk conversion, receiving the converted data of many DSpaceObjects from several threads.
+ * The data is either streamed as N-Quads, e.g. to a file to be loaded offline into the triple store, or sent to
+ * the triple store in chunks of named graphs. Every chunk only replaces the graphs it contains, so that the rest of
+ * the data is still served during the conversion; the graphs which were not converted again (e.g. of deleted
+ * DSpaceObjects) are deleted once all the data has been sent.
+ *
+ * @see RDFizer#convertAllInBulk
+ */
+class RDFBulkOutput {
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(RDFBulkOutput.class);
+
+    // N-Quads output, null if the data is sent to the triple store
+    private final StreamRDF stream;
+
+    // triple store, null if the data is streamed or discarded (dry run)
+    private final RDFStorage storage;
+
+    private final long chunkSize;
+
+    private Dataset chunk;
+
+    // the names of the graphs of the current chunk
+    private final List<String> chunkGraphs = new ArrayList<>();
+
+    private long chunkTriples;
+
+    // the graphs of the triple store which have not been replaced yet
+    private final Set<String> storedGraphs = new HashSet<>();
+
+    private long graphs;
+
+    private long triples;
+
+    private RDFBulkOutput(StreamRDF stream, RDFStorage storage, long chunkSize) {
+        this.stream = stream;
+        this.storage = storage;
+        this.chunkSize = chunkSize;
+        if (stream != null) {
+            stream.start();
+        }
+        if (storage != null) {
+            storedGraphs.addAll(storage.getAllStoredGraphs());
+        }
+    }
+
+    /**
+     * Stream the data as N-Quads.
+     *
+     * @param out the N-Quads output, not closed by this output
+     * @return the output
+     */
+    static RDFBulkOutput toNQuads(OutputStream out) {
+        return new RDFBulkOutput(StreamRDFWriter.getWriterStream(out, RDFFormat.NQUADS), null, 0);
+    }
+
+    /**
+     * Send the data to the triple store, replacing all its data once finished.
+     *
+     * @param storage   the triple store
+     * @param chunkSize the number of triples sent in every request
+     * @return the output
+     */
+    static RDFBulkOutput toStorage(RDFStorage storage, long chunkSize) {
+        return new RDFBulkOutput(null, storage, Math.max(1, chunkSize));
+    }
+
+    /**
+     * Discard the data, for dry runs.
+     *
+     * @return the output
+     */
+    static RDFBulkOutput discarding() {
+        return new RDFBulkOutput(null, null, 0);
+    }
+
+    /**
+     * Add the converted data of a DSpaceObject.
+     *
+     * @param uri   the RDF identifier of the DSpaceObject, naming its graph
+     * @param model the converted data
+     */
+    synchronized void add(String uri, Model model) {
+        graphs++;
+        triples += model.size();
+        if (stream != null) {
+            Node graph = NodeFactory.createURI(uri);
+            ExtendedIterator<Triple> it = model.getGraph().find();
+            try {
+                while (it.hasNext()) {
+                    stream.quad(Quad.create(graph, it.next()));
+                }
+            } finally {
+                it.close();
+            }
+        } else if (storage != null) {
+            if (chunk == null) {
+                chunk = DatasetFactory.create();
+            }
+            // copied, as the converted model is closed once added
+            chunk.addNamedModel(uri, ModelFactory.createDefaultModel().add(model));
+            chunkGraphs.add(uri);
+            chunkTriples += model.size();
+            if (chunkTriples >= chunkSize) {
+                sendChunk();
+            }
+        }
+    }
+
+    private void sendChunk() {
+        log.debug("Sending " + chunkGraphs.size() + " graphs of " + chunkTriples + " triples to the triple store.");
+        // drop the previous version of the graphs, the dataset is added to the triple store
+        for (String graph : chunkGraphs) {
+            if (storedGraphs.remove(graph)) {
+                storage.delete(graph);
+            }
+        }
+        storage.storeAll(chunk);
+        chunk.close();
+        chunk = null;
+        chunkGraphs.clear();
+        chunkTriples = 0;
+    }
+
+    /**
+     * @return the number of graphs added so far
+     */
+    synchronized long getGraphs() {
+        return graphs;
+    }
+
+    /**
+     * @return the number of triples added so far
+     */
+    synchronized long getTriples() {
+        return triples;
+    }
+
+    /**
+     * Send the last chunk to the triple store and delete the graphs which have not been converted again, or end the
+     * N-Quads stream. Not called if the conversion failed, so that the graphs of the DSpaceObjects not converted yet
+     * are kept.
+     */
+    synchronized void finish() {
+        if (stream != null) {
+            stream.finish();
+        } else if (storage != null) {
+            if (chunk != null) {
+                sendChunk();
+            }
+            log.debug("Deleting " + storedGraphs.size() + " graphs which have not been converted again.");
+            for (String graph : storedGraphs) {
+                storage.delete(graph);
+            }
+            storedGraphs.clear();
+        }
+    }
+}
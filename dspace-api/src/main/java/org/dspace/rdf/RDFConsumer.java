@@ -39,6 +39,11 @@ import org.dspace.workflow.WorkflowItemService;
 import org.dspace.workflow.factory.WorkflowServiceFactory;
 
 /**
+ * Converts the modified DSpaceObjects and stores them in the triple store,
+ * and deletes the deleted ones from it. By default this is done at the end of
+ * every transaction. If rdf.consumer.flushInterval is set, the changes are
+ * coalesced in {@link RDFPendingChanges} and processed periodically instead.
+ *
  * @author Pascal-Nicolas Becker (dspace -at- pascal -hyphen- becker -dot- de)
  */
 public class RDFConsumer implements Consumer {
@@ -288,6 +293,35 @@ public class RDFConsumer implements Consumer {
 
     @Override
     public void end(Context ctx) throws Exception {
+        RDFPendingChanges pendingChanges = getPendingChanges();
+        if (pendingChanges != null && pendingChanges.getFlushInterval() > 0) {
+            if (toConvert != null || toDelete != null) {
+                log.debug("Queuing the changes until the next flush.");
+                pendingChanges.add(toConvert != null ? toConvert : new LinkedList<>(),
+                                   toDelete != null ? toDelete : new LinkedList<>());
+            }
+            toConvert = null;
+            toDelete = null;
+            return;
+        }
+        processQueues(ctx);
+    }
+
+    /**
+     * @return the changes waiting for the next periodic flush, null if the
+     * bean is not configured
+     */
+    protected RDFPendingChanges getPendingChanges() {
+        return RDFPendingChanges.getInstance();
+    }
+
+    /**
+     * Convert and delete the queued DSpaceObjects.
+     *
+     * @param ctx the context used to convert the DSpaceObjects
+     * @throws SQLException if database error
+     */
+    void processQueues(Context ctx) throws SQLException {
         log.debug("Started processing of queued events.");
         // store the context mode, set context read only for performance reasons, and restore the old mode
         Context.Mode oldMode = ctx.getCurrentMode();
@@ -0,0 +1,165 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+
+package org.dspace.rdf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.dspace.utils.DSpace;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Changes of the DSpaceObjects collected by the {@link RDFConsumer}s of this
+ * JVM, when they are flushed periodically (rdf.consumer.flushInterval, in
+ * seconds) instead of at the end of every transaction. The changes of a
+ * DSpaceObject are coalesced until the next flush, so that a DSpaceObject
+ * modified many times is converted and stored once.
+ * <p>
+ * The changes are also flushed once rdf.consumer.maxPending DSpaceObjects are
+ * pending, and when the DSpace kernel is shut down, e.g. at the end of a
+ * command line script.
+ *
+ * @see RDFConsumer#end(Context)
+ */
+public class RDFPendingChanges {
+    private static final Logger log = org.apache.logging.log4j.LogManager.getLogger(RDFPendingChanges.class);
+
+    @Autowired(required = true)
+    protected ConfigurationService configurationService;
+
+    // the DSpaceObjects to convert and to delete, by UUID, in the order of their last change
+    private final Map<UUID, RDFConsumer.DSOIdentifier> toConvert = new LinkedHashMap<>();
+    private final Map<UUID, RDFConsumer.DSOIdentifier> toDelete = new LinkedHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Get the instance of {@link RDFPendingChanges} from the Spring context.
+     * @return the bean instance
+     */
+    public static RDFPendingChanges getInstance() {
+        return new DSpace().getServiceManager()
+                           .getServiceByName(RDFPendingChanges.class.getName(), RDFPendingChanges.class);
+    }
+
+    /**
+     * @return the interval between two flushes in seconds, 0 if the changes
+     * are processed at the end of every transaction.
+     */
+    public int getFlushInterval() {
+        return configurationService.getIntProperty("rdf.consumer.flushInterval", 0);
+    }
+
+    /**
+     * Add the changes of a transaction. The last change of a DSpaceObject
+     * wins: a DSpaceObject converted after being deleted is converted.
+     *
+     * @param conversions the DSpaceObjects to convert.
+     * @param deletions   the DSpaceObjects to delete from the triple store,
+     *                    which are not converted even if they are in
+     *                    {@code conversions} too.
+     */
+    synchronized void add(Collection<RDFConsumer.DSOIdentifier> conversions,
+                          Collection<RDFConsumer.DSOIdentifier> deletions) {
+        for (RDFConsumer.DSOIdentifier id : deletions) {
+            toConvert.remove(id.id);
+            toDelete.put(id.id, id);
+        }
+        for (RDFConsumer.DSOIdentifier id : conversions) {
+            if (!deletions.contains(id)) {
+                toDelete.remove(id.id);
+                toConvert.put(id.id, id);
+            }
+        }
+
+        if (flusher == null) {
+            int interval = Math.max(1, getFlushInterval());
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "rdf-consumer-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.SECONDS);
+        }
+        if (toConvert.size() + toDelete.size() >= configurationService.getIntProperty("rdf.consumer.maxPending",
+                                                                                        1000)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    /**
+     * Convert and delete the pending DSpaceObjects, as an anonymous user.
+     */
+    public void flush() {
+        List<RDFConsumer.DSOIdentifier> conversions;
+        List<RDFConsumer.DSOIdentifier> deletions;
+        synchronized (this) {
+            conversions = new ArrayList<>(toConvert.values());
+            deletions = new ArrayList<>(toDelete.values());
+            toConvert.clear();
+            toDelete.clear();
+        }
+        if (conversions.isEmpty() && deletions.isEmpty()) {
+            return;
+        }
+
+        log.debug("Flushing " + conversions.size() + " conversions and " + deletions.size() + " deletions.");
+        process(conversions, deletions);
+    }
+
+    /**
+     * Convert and delete DSpaceObjects with a new {@link RDFConsumer}, in a new context.
+     *
+     * @param conversions the DSpaceObjects to convert
+     * @param deletions   the DSpaceObjects to delete from the triple store
+     */
+    void process(List<RDFConsumer.DSOIdentifier> conversions, List<RDFConsumer.DSOIdentifier> deletions) {
+        Context context = new Context(Context.Mode.READ_ONLY);
+        try {
+            RDFConsumer consumer = new RDFConsumer();
+            consumer.initialize();
+            consumer.toConvert = new LinkedList<>(conversions);
+            consumer.toDelete = new LinkedList<>(deletions);
+            consumer.processQueues(context);
+        } catch (Exception ex) {
+            log.error("Unable to update the triple store with " + conversions.size() + " conversions and "
+                          + deletions.size() + " deletions.", ex);
+        } finally {
+            // nothing was changed
+            context.abort();
+        }
+    }
+
+    /**
+     * Stop the periodic flushes, and flush the pending changes.
+     */
+    public void destroy() throws InterruptedException {
+        ScheduledExecutorService stopped;
+        synchronized (this) {
+            stopped = flusher;
+            flusher = null;
+        }
+        if (stopped != null) {
+            stopped.shutdown();
+            stopped.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        flush();
+    }
+}
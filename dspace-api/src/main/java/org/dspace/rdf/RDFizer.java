@@ -8,13 +8,25 @@
 
 package org.dspace.rdf;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -38,6 +50,7 @@ import org.dspace.content.service.CommunityService;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Constants;
 import org.dspace.core.Context;
+import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.handle.factory.HandleServiceFactory;
 import org.dspace.handle.service.HandleService;
 import org.dspace.rdf.factory.RDFFactory;
@@ -78,6 +91,11 @@ public class RDFizer {
      */
     protected Set<UUID> processed;
 
+    /**
+     * Marks the end of the Items to convert in bulk.
+     */
+    private static final UUID END_OF_ITEMS = new UUID(0, 0);
+
     public RDFizer() {
         this.stdout = false;
         this.verbose = false;
@@ -330,6 +348,150 @@ public class RDFizer {
         this.dspaceDFS(dso, callback, true, reset);
     }
 
+    /**
+     * Converts all DSpaceObjects that are readable for an anonymous user, like
+     * {@link #convertAll()}, but in bulk: the Items are converted in parallel,
+     * each thread with its own context, and the converted data of all the
+     * DSpaceObjects goes to the output, instead of being stored in the triple
+     * store with one request per DSpaceObject.
+     *
+     * @param output  the output of the converted data, finished once all
+     *                DSpaceObjects are converted.
+     * @param threads the number of threads converting the Items.
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void convertAllInBulk(RDFBulkOutput output, int threads)
+        throws SQLException {
+        report("Starting bulk conversion of all DSpaceItems with " + threads
+                   + " threads, this may take a while...");
+        UUID userId = context.getCurrentUser() != null ? context.getCurrentUser().getID() : null;
+        BlockingQueue<UUID> items = new ArrayBlockingQueue<>(threads * 100);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            workers.add(executor.submit(() -> convertItemsInBulk(items, output, userId, failure)));
+        }
+
+        Callback callback = new Callback() {
+            @Override
+            protected void callback(DSpaceObject dso)
+                throws SQLException {
+                if (!(dso instanceof Item)) {
+                    convertInBulk(context, dso, output);
+                    return;
+                }
+                if (failure.get() != null) {
+                    throw new IllegalStateException("Bulk conversion failed: " + failure.get().getMessage(),
+                                                    failure.get());
+                }
+                try {
+                    items.put(dso.getID());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while converting Items.", ex);
+                }
+            }
+        };
+        try {
+            this.dspaceDFS(contentServiceFactory.getSiteService().findSite(context), callback, true, true);
+        } finally {
+            try {
+                for (int i = 0; i < threads; i++) {
+                    items.put(END_OF_ITEMS);
+                }
+                for (Future<?> worker : workers) {
+                    worker.get();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            } catch (ExecutionException ex) {
+                failure.compareAndSet(null, ex);
+            }
+            executor.shutdown();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Bulk conversion failed: " + failure.get().getMessage(), failure.get());
+        }
+        output.finish();
+        report("Bulk conversion ended: " + output.getGraphs() + " DSpaceObjects converted into "
+                   + output.getTriples() + " triples.");
+    }
+
+    /**
+     * Converts the Items of the queue in a context of this thread, until the
+     * end of the Items.
+     */
+    private void convertItemsInBulk(BlockingQueue<UUID> items, RDFBulkOutput output, UUID userId,
+                                    AtomicReference<Exception> failure) {
+        Context itemContext = new Context(Context.Mode.READ_ONLY);
+        try {
+            if (userId != null) {
+                itemContext.setCurrentUser(EPersonServiceFactory.getInstance().getEPersonService()
+                                                                .find(itemContext, userId));
+            }
+            while (true) {
+                UUID id = items.take();
+                if (END_OF_ITEMS.equals(id)) {
+                    break;
+                }
+                // after a failure, the remaining Items are skipped
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    Item item = itemService.find(itemContext, id);
+                    if (item != null) {
+                        convertInBulk(itemContext, item, output);
+                        itemContext.uncacheEntity(item);
+                    }
+                } catch (Exception ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            // nothing was changed
+            itemContext.abort();
+        }
+    }
+
+    protected void convertInBulk(Context context, DSpaceObject dso, RDFBulkOutput output)
+        throws SQLException {
+        String typeText = contentServiceFactory.getDSpaceObjectService(dso).getTypeText(dso);
+        Model converted = null;
+        try {
+            converted = RDFUtil.convert(context, dso);
+            if (converted == null) {
+                return;
+            }
+            String identifier = RDFUtil.generateIdentifier(context, dso);
+            if (StringUtils.isEmpty(identifier)) {
+                throw new RDFMissingIdentifierException(dso.getType(), dso.getID());
+            }
+            output.add(identifier, converted);
+        } catch (ItemNotArchivedException | ItemWithdrawnException | ItemNotDiscoverableException ex) {
+            report("Skipping conversion of Item " + dso.getID() + " (handle " + dso.getHandle()
+                       + "): Item is not archived, withdrawn or not discoverable.");
+        } catch (AuthorizeException ex) {
+            report("Skipping conversion of " + typeText + " " + dso.getID() + " (handle " + dso.getHandle() + ")"
+                       + ", not authorized: " + ex.getMessage());
+        } catch (RDFMissingIdentifierException ex) {
+            String errormessage = "Skipping conversion of " + typeText + " " + dso.getID()
+                + " (handle " + dso.getHandle() + ").";
+            log.error(errormessage, ex);
+            System.err.println(errormessage + " Error while converting: " + ex.getMessage());
+        } finally {
+            if (converted != null) {
+                converted.close();
+            }
+        }
+    }
+
     protected void dspaceDFS(DSpaceObject dso, Callback callback, boolean check, boolean reset)
         throws SQLException {
         if (dso.getType() != Constants.SITE
@@ -541,6 +703,20 @@ public class RDFizer {
                                    + "together with --delete or --delete-all.");
             System.exit(1);
         }
+        if ((line.hasOption("bulk") || line.hasOption("nquads"))
+            && !line.hasOption("convert-all")) {
+            usage(options);
+            System.err.println("\n\nThe options --bulk and --nquads can only be used "
+                                   + "together with --convert-all.");
+            System.exit(1);
+        }
+        if (line.hasOption("stdout")
+            && (line.hasOption("bulk") || line.hasOption("nquads"))) {
+            usage(options);
+            System.err.println("\n\nYou cannot use the option --stdout together "
+                                   + "with --bulk or --nquads.");
+            System.exit(1);
+        }
         if (line.hasOption("stdout")
             && (line.hasOption("delete") || line.hasOption("delete-all"))) {
             usage(options);
@@ -635,7 +811,19 @@ public class RDFizer {
 
         if (line.hasOption("convert-all")) {
             try {
-                this.convertAll();
+                if (line.hasOption("bulk") || line.hasOption("nquads")) {
+                    int threads = configurationService.getIntProperty("rdf.bulk.threads", 4);
+                    if (line.hasOption("threads")) {
+                        threads = Integer.parseInt(line.getOptionValue("threads"));
+                    }
+                    this.convertAllInBulk(line.getOptionValue("nquads"), Math.max(1, threads));
+                } else {
+                    this.convertAll();
+                }
+            } catch (IOException ex) {
+                log.error(ex);
+                System.err.println("Cannot write the N-Quads file: " + ex.getMessage());
+                System.exit(1);
             } catch (SQLException ex) {
                 log.error(ex);
                 System.err.println("A problem with the database connection "
@@ -651,6 +839,30 @@ public class RDFizer {
         System.exit(0);
     }
 
+    /**
+     * Converts all DSpaceObjects in bulk, into an N-Quads file or into the
+     * triple store, whose graphs are replaced chunk by chunk. The graphs
+     * which were not converted are deleted once all the DSpaceObjects have
+     * been converted.
+     *
+     * @param nquadsFile the N-Quads file, null to send the data to the triple
+     *                   store.
+     * @param threads    the number of threads converting the Items.
+     */
+    protected void convertAllInBulk(String nquadsFile, int threads)
+        throws SQLException, IOException {
+        if (nquadsFile != null) {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(nquadsFile))) {
+                this.convertAllInBulk(RDFBulkOutput.toNQuads(out), threads);
+            }
+        } else if (this.dryrun) {
+            this.convertAllInBulk(RDFBulkOutput.discarding(), threads);
+        } else {
+            this.convertAllInBulk(RDFBulkOutput.toStorage(storage,
+                configurationService.getLongProperty("rdf.bulk.chunkSize", 100000)), threads);
+        }
+    }
+
     protected DSpaceObject resolveHandle(String handle) {
         DSpaceObject dso = null;
         try {
@@ -708,6 +920,32 @@ public class RDFizer {
             "depending on the number of stored communities, collections and " +
             "items. Existing information in the triple store will be updated.");
 
+        options.addOption("b", "bulk", false, "With --convert-all, convert the "
+            + "Items in parallel and send the converted data to the triple store "
+            + "in large chunks (rdf.bulk.chunkSize triples), replacing their "
+            + "graphs. The graphs which were not converted are deleted at the "
+            + "end.");
+
+        Option optNQuads = Option.builder()
+                .longOpt("nquads")
+                .hasArg()
+                .argName("file")
+                .desc("With --convert-all, convert the Items in parallel and "
+                        + "write the converted data to this N-Quads file, to be "
+                        + "loaded into the triple store with its bulk loader. "
+                        + "Nothing is sent to the triple store.")
+                .build();
+        options.addOption(optNQuads);
+
+        Option optThreads = Option.builder("t")
+                .longOpt("threads")
+                .hasArg()
+                .argName("number")
+                .desc("Number of threads converting the Items with --bulk or "
+                        + "--nquads (rdf.bulk.threads, 4 by default).")
+                .build();
+        options.addOption(optThreads);
+
         Option optIdentifiers = Option.builder("i")
                 .longOpt("identifiers")
                 .hasArgs()
@@ -752,6 +990,7 @@ public class RDFizer {
         String header = "";
         String footer = "\nYou cannot use the options --convert-all, --identifiers " +
             "or --stdout together with --delete or --delete-all.\n" +
+            "The options --bulk and --nquads require --convert-all.\n" +
             "Please use at least one option out of --convert-all, --delete, " +
             "--delete-all or --identifiers.\n";
 
@@ -10,6 +10,7 @@ package org.dspace.rdf.storage;
 
 import java.util.List;
 
+import org.apache.jena.query.Dataset;
 import org.apache.jena.rdf.model.Model;
 
 /**
@@ -31,6 +32,17 @@ public interface RDFStorage {
      */
     public void store(String uri, Model model);
 
+    /**
+     * Adds all the named graphs of a dataset in one request, used to load
+     * the data of many DSpaceObjects at once. Graphs which are already stored
+     * must be deleted first, otherwise their triples are merged.
+     *
+     * @param dataset The named graphs to store, named by the identifiers of
+     *                their DSO.
+     * @see org.dspace.rdf.RDFizer#convertAllInBulk
+     */
+    public void storeAll(Dataset dataset);
+
     /**
      * Don't use this method directly, use
      * {@link org.dspace.rdf.RDFUtil#loadModel(String) RDFizer.loadModel(...)} instead.
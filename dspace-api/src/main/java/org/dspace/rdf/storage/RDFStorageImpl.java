@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.jena.http.auth.AuthEnv;
+import org.apache.jena.query.Dataset;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.ResultSet;
@@ -42,6 +43,11 @@ public class RDFStorageImpl
         connection.put(uri, model);
     }
 
+    @Override
+    public void storeAll(Dataset dataset) {
+        this.getConnection().loadDataset(dataset);
+    }
+
     @Override
     public Model load(String uri) {
         RDFConnection connection = this.getConnection();
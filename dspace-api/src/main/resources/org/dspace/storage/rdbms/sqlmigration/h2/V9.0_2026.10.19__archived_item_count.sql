@@ -0,0 +1,21 @@
+--
+-- The contents of this file are subject to the license and copyright
+-- detailed in the LICENSE and NOTICE files at the root of the source
+-- tree and available online at
+--
+-- http://www.dspace.org/license/
+--
+
+-----------------------------------------------------------------------------------
+-- Create table archived_item_count, holding the number of archived items of every
+-- community and collection (maintained by the "itemcount" consumer and reconciled
+-- by the "item-count-reconcile" script)
+-----------------------------------------------------------------------------------
+
+CREATE TABLE archived_item_count
+(
+  dspace_object_id UUID NOT NULL PRIMARY KEY,
+  item_count       INTEGER NOT NULL,
+  last_modified    TIMESTAMP,
+  CONSTRAINT archived_item_count_dso_fkey FOREIGN KEY (dspace_object_id) REFERENCES dspaceobject (uuid) ON DELETE CASCADE
+);
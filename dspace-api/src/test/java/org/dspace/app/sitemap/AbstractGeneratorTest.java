@@ -0,0 +1,89 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.sitemap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests of the files written by {@link AbstractGenerator} for the grouped sections: the files of a group keep their
+ * names whatever happens to the other groups.
+ */
+public class AbstractGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGroupedFilesKeepTheirNames() throws Exception {
+        File outputDir = folder.getRoot();
+        // 4 URLs per group and per file, the groups are the first hexadecimal digit of the ids
+        List<UUID> ids = new ArrayList<>();
+        for (int group = 0; group < 16; group++) {
+            for (int i = 0; i < 4; i++) {
+                ids.add(UUID.fromString(String.format("%x0000000-0000-0000-0000-%012d", group, i)));
+            }
+        }
+
+        assertEquals(16, generate(outputDir, ids).finish());
+        File groupA = new File(outputDir, "sitemapa-0.xml");
+        File groupB = new File(outputDir, "sitemapb-0.xml");
+        assertTrue(groupA.exists());
+        assertTrue(FileUtils.readFileToString(new File(outputDir, "sitemap_index.xml"), StandardCharsets.UTF_8)
+                            .contains("http://localhost/sitemapa-0.xml"));
+
+        // group a gains a file, the files of the other groups are left as they are
+        List<UUID> moreIds = new ArrayList<>(ids);
+        moreIds.add(UUID.fromString("a0000000-0000-0000-0000-000000000004"));
+        String groupBContent = FileUtils.readFileToString(groupB, StandardCharsets.UTF_8);
+        AbstractGenerator generator = generate(outputDir, moreIds);
+        assertEquals(17, generator.finish());
+        assertEquals(16, generator.getUnchangedCount());
+        assertTrue(new File(outputDir, "sitemapa-1.xml").exists());
+        assertEquals(groupBContent, FileUtils.readFileToString(groupB, StandardCharsets.UTF_8));
+
+        // and loses it again
+        generator = generate(outputDir, ids);
+        assertEquals(16, generator.finish());
+        assertEquals(16, generator.getUnchangedCount());
+        assertFalse(new File(outputDir, "sitemapa-1.xml").exists());
+        assertTrue(new File(outputDir, "sitemap_index.xml").exists());
+    }
+
+    /**
+     * Add the URLs of the given ids in a grouped section of a new generator, in the order of the ids.
+     */
+    private AbstractGenerator generate(File outputDir, List<UUID> ids) throws Exception {
+        AbstractGenerator generator = new SitemapsOrgGenerator(outputDir, "http://localhost/sitemap", ".xml") {
+            @Override
+            public int getMaxURLs() {
+                return 4;
+            }
+        };
+        generator.startGroupedSection(ids.size());
+        List<UUID> sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.comparing(UUID::toString));
+        for (UUID id : sorted) {
+            generator.addURL("http://localhost/items/" + id, null, id);
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.browse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.browse.dao.ArchivedItemCountDAO;
+import org.dspace.browse.service.ArchivedItemCountService;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Community;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the maintained archived item counts: {@link ArchivedItemCountService} and
+ * {@link ArchivedItemCountConsumer}.
+ */
+public class ArchivedItemCountServiceIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+
+    private final CollectionService collectionService = ContentServiceFactory.getInstance().getCollectionService();
+
+    private final ArchivedItemCountService archivedItemCountService =
+        DSpaceServicesFactory.getInstance().getServiceManager()
+                             .getServicesByType(ArchivedItemCountService.class).get(0);
+
+    private final ArchivedItemCountDAO archivedItemCountDAO =
+        DSpaceServicesFactory.getInstance().getServiceManager()
+                             .getServicesByType(ArchivedItemCountDAO.class).get(0);
+
+    private Community subCommunity;
+    private Collection col1;
+    private Collection col2;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        subCommunity = CommunityBuilder.createSubCommunity(context, parentCommunity).withName("Sub Community")
+                                       .build();
+        col1 = CollectionBuilder.createCollection(context, subCommunity).withName("Collection 1").build();
+        col2 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 2").build();
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void testCountsMaintainedByEvents() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item item1 = ItemBuilder.createItem(context, col1).withTitle("Item 1").build();
+        Item item2 = ItemBuilder.createItem(context, col1).withTitle("Item 2").build();
+        ItemBuilder.createItem(context, col2).withTitle("Item 3").build();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(2, col1);
+        assertStoredCount(1, col2);
+        assertStoredCount(2, subCommunity);
+        assertStoredCount(3, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        itemService.withdraw(context, item1);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(1, subCommunity);
+        assertStoredCount(2, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        itemService.reinstate(context, item1);
+        itemService.move(context, item2, col1, col2);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(2, col2);
+        assertStoredCount(1, subCommunity);
+        assertStoredCount(3, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        itemService.delete(context, context.reloadEntity(item1));
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(0, col1);
+        assertStoredCount(0, subCommunity);
+        assertStoredCount(2, parentCommunity);
+    }
+
+    @Test
+    public void testMappedItemCountedOnce() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item item = ItemBuilder.createItem(context, col1).withTitle("Item").build();
+        collectionService.addItem(context, col2, item);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(1, col2);
+        assertStoredCount(1, parentCommunity);
+    }
+
+    @Test
+    public void testMappedItemInTheSameCommunity() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Collection col3 = CollectionBuilder.createCollection(context, subCommunity).withName("Collection 3").build();
+        Item item = ItemBuilder.createItem(context, col1).withTitle("Item").build();
+        collectionService.addItem(context, col3, item);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(1, col3);
+        assertStoredCount(1, subCommunity);
+        assertStoredCount(1, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        collectionService.removeItem(context, col3, item);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(0, col3);
+        assertStoredCount(1, subCommunity);
+        assertStoredCount(1, parentCommunity);
+    }
+
+    @Test
+    public void testDiscoverabilityChange() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item item = ItemBuilder.createItem(context, col1).withTitle("Item").build();
+        ItemBuilder.createItem(context, col2).withTitle("Other item").build();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(2, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        item.setDiscoverable(false);
+        itemService.update(context, item);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(0, col1);
+        assertStoredCount(0, subCommunity);
+        assertStoredCount(1, col2);
+        assertStoredCount(1, parentCommunity);
+
+        context.turnOffAuthorisationSystem();
+        item = context.reloadEntity(item);
+        item.setDiscoverable(true);
+        itemService.update(context, item);
+        context.dispatchEvents();
+        context.restoreAuthSystemState();
+
+        assertStoredCount(1, col1);
+        assertStoredCount(1, subCommunity);
+        assertStoredCount(2, parentCommunity);
+    }
+
+    @Test
+    public void testReconcile() throws Exception {
+        context.turnOffAuthorisationSystem();
+        ItemBuilder.createItem(context, col1).withTitle("Item 1").build();
+        ItemBuilder.createItem(context, col1).withTitle("Private item").makeUnDiscoverable().build();
+        context.restoreAuthSystemState();
+
+        // The count of a new collection is stored when it is created
+        assertStoredCount(0, col2);
+        deleteStoredCount(col2);
+
+        // The collection has no count stored anymore
+        assertEquals(1, archivedItemCountService.reconcile(context));
+        assertStoredCount(0, col2);
+        assertStoredCount(1, col1);
+
+        assertEquals(0, archivedItemCountService.reconcile(context));
+    }
+
+    @Test
+    public void testCountStoredOnRead() throws Exception {
+        context.turnOffAuthorisationSystem();
+        ItemBuilder.createItem(context, col1).withTitle("Item").build();
+        context.restoreAuthSystemState();
+        deleteStoredCount(col1);
+
+        assertEquals(1, archivedItemCountService.getCount(context, col1));
+        assertStoredCount(1, col1);
+    }
+
+    private void deleteStoredCount(DSpaceObject dso) throws Exception {
+        archivedItemCountDAO.delete(context,
+                                    archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID()));
+        assertNull(archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID()));
+    }
+
+    private void assertStoredCount(int expected, DSpaceObject dso) throws Exception {
+        ArchivedItemCount stored = archivedItemCountDAO.findByID(context, ArchivedItemCount.class, dso.getID());
+        assertEquals("Stored count of " + dso.getName(), expected, stored == null ? -1 : stored.getCount());
+        assertEquals("Count of " + dso.getName(), expected, archivedItemCountService.getCount(context, dso));
+    }
+}
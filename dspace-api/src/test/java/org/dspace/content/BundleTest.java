@@ -749,6 +749,39 @@ public class BundleTest extends AbstractDSpaceObjectTest {
         assertThat("testSetOrder: Partial data doesn't change order", bitstreamsAfterBadData, equalTo(bitstreams));
     }
 
+    /**
+     * Test of findByBundle and countByBundle methods, of class BitstreamService.
+     */
+    @Test
+    public void testFindBitstreamsByBundle() throws SQLException, AuthorizeException, IOException {
+        // Allow Item WRITE permissions
+        doNothing().when(authorizeServiceSpy).authorizeAction(context, item, Constants.WRITE);
+        // Allow Bundle ADD permissions
+        doNothing().when(authorizeServiceSpy).authorizeAction(context, b, Constants.ADD);
+        // Allow Bundle WRITE permissions
+        doNothing().when(authorizeServiceSpy).authorizeAction(context, b, Constants.WRITE);
+        // Allow Bitstream WRITE permissions
+        doNothing().when(authorizeServiceSpy)
+                   .authorizeAction(any(Context.class), any(Bitstream.class), eq(Constants.WRITE));
+
+        context.turnOffAuthorisationSystem();
+        File f = new File(testProps.get("test.bitstream").toString());
+        Bitstream bs = bitstreamService.create(context, new FileInputStream(f));
+        bundleService.addBitstream(context, b, bs);
+        Bitstream bs2 = bitstreamService.create(context, new FileInputStream(f));
+        bundleService.addBitstream(context, b, bs2);
+        Bitstream bs3 = bitstreamService.create(context, new FileInputStream(f));
+        bundleService.addBitstream(context, b, bs3);
+        context.restoreAuthSystemState();
+        bundleService.setOrder(context, b, new UUID[] {bs3.getID(), bs.getID(), bs2.getID()});
+
+        assertThat("testFindBitstreamsByBundle 0", bitstreamService.countByBundle(context, b), equalTo(3));
+        assertThat("testFindBitstreamsByBundle 1", bitstreamService.findByBundle(context, b, 2, 0),
+                   equalTo(List.of(bs3, bs)));
+        assertThat("testFindBitstreamsByBundle 2", bitstreamService.findByBundle(context, b, 2, 2),
+                   equalTo(List.of(bs2)));
+    }
+
     /**
      * Test of getAdminObject method, of class Bundle.
      */
@@ -275,6 +275,28 @@ public class MetadataFieldTest extends AbstractUnitTest {
         assertThat("testFindByElement 3", found.getQualifier(), equalTo(mf.getQualifier()));
     }
 
+    /**
+     * Test of findByElement method, of class MetadataField, after a field is renamed.
+     */
+    @Test
+    public void testFindByElementAfterRename() throws Exception {
+        // Allow full Admin perms
+        when(authorizeServiceSpy.isAdmin(context)).thenReturn(true);
+
+        MetadataField m = metadataFieldService.create(context, dcSchema, "elem5", "qual5", null);
+        // Make sure the registry snapshot knows the field under its original name
+        assertThat("testFindByElementAfterRename 0", metadataFieldService
+            .findByElement(context, MetadataSchemaEnum.DC.getName(), "elem5", "qual5"), equalTo(m));
+
+        m.setElement("elem6");
+        metadataFieldService.update(context, m);
+
+        assertThat("testFindByElementAfterRename 1", metadataFieldService
+            .findByElement(context, MetadataSchemaEnum.DC.getName(), "elem5", "qual5"), nullValue());
+        assertThat("testFindByElementAfterRename 2", metadataFieldService
+            .findByElement(context, MetadataSchemaEnum.DC.getName(), "elem6", "qual5"), equalTo(m));
+    }
+
     /**
      * Test of findAll method, of class MetadataField.
      */
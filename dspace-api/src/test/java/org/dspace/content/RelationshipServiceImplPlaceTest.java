@@ -3267,6 +3267,105 @@ public class RelationshipServiceImplPlaceTest extends AbstractUnitTest {
         assertRelationMetadataOrder(author1, isProjectOfPerson, List.of(r1, r4, r5, r6));
     }
 
+    @Test
+    public void createUseForPlaceRelationshipsInBulkWithMetadataTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        // Initialize MDVs and Relationships
+        itemService.addMetadata(context, publication1, dcSchema, contributorElement, authorQualifier, null, "MDV 1");
+        Relationship r1 = relationshipService.create(context, publication1, author1, isAuthorOfPublication, -1, -1);
+        itemService.addMetadata(context, publication1, dcSchema, contributorElement, authorQualifier, null, "MDV 2");
+
+        // Append one Author, insert one at the start and append another one
+        List<Relationship> created = relationshipService.create(context, publication1, List.of(
+            newRelationship(publication1, author2, isAuthorOfPublication, -1, -1),
+            newRelationship(publication1, author3, isAuthorOfPublication, 0, -1),
+            newRelationship(publication1, author4, isAuthorOfPublication, -1, -1)
+        ));
+
+        context.restoreAuthSystemState();
+
+        Relationship r2 = created.get(0);
+        Relationship r3 = created.get(1);
+        Relationship r4 = created.get(2);
+
+        // Check relationship order
+        assertLeftPlace(r3, 0);
+        assertLeftPlace(r1, 2);
+        assertLeftPlace(r2, 4);
+        assertLeftPlace(r4, 5);
+        assertRightPlace(r2, 0);
+        assertRightPlace(r3, 0);
+        assertRightPlace(r4, 0);
+        assertRelationMetadataOrder(publication1, isAuthorOfPublication, List.of(r3, r1, r2, r4));
+        assertMetadataOrder(publication1, "dc.contributor.author", List.of(
+            "Author, Third",
+            "MDV 1",
+            "Author, First",
+            "MDV 2",
+            "Author, Second",
+            "Author, Fourth"
+        ));
+    }
+
+    @Test
+    public void createRelationshipsInBulkOfOtherItemTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        try {
+            relationshipService.create(context, publication1, List.of(
+                newRelationship(publication1, author1, isAuthorOfPublication, -1, -1),
+                newRelationship(publication2, author2, isAuthorOfPublication, -1, -1)
+            ));
+            fail("Relationships not relating the given item should be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        context.restoreAuthSystemState();
+
+        assertEquals(0, relationshipService.countByItem(context, publication1));
+    }
+
+    @Test
+    public void reorderUseForPlaceRelationshipsWithMetadataTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        // Initialize MDVs and Relationships
+        itemService.addMetadata(context, publication1, dcSchema, contributorElement, authorQualifier, null, "MDV 1");
+        Relationship r1 = relationshipService.create(context, publication1, author1, isAuthorOfPublication, -1, -1);
+        Relationship r2 = relationshipService.create(context, publication1, author2, isAuthorOfPublication, -1, -1);
+        itemService.addMetadata(context, publication1, dcSchema, contributorElement, authorQualifier, null, "MDV 2");
+        Relationship r3 = relationshipService.create(context, publication1, author3, isAuthorOfPublication, -1, -1);
+
+        relationshipService.reorder(context, publication1, List.of(r3, r1, r2));
+
+        context.restoreAuthSystemState();
+
+        // Check relationship order, the MDVs keep their places
+        assertLeftPlace(r3, 1);
+        assertLeftPlace(r1, 2);
+        assertLeftPlace(r2, 4);
+        assertRelationMetadataOrder(publication1, isAuthorOfPublication, List.of(r3, r1, r2));
+        assertMetadataOrder(publication1, "dc.contributor.author", List.of(
+            "MDV 1",
+            "Author, Third",
+            "Author, First",
+            "MDV 2",
+            "Author, Second"
+        ));
+    }
+
+    private Relationship newRelationship(Item leftItem, Item rightItem, RelationshipType relationshipType,
+                                         int leftPlace, int rightPlace) {
+        Relationship relationship = new Relationship();
+        relationship.setLeftItem(leftItem);
+        relationship.setRightItem(rightItem);
+        relationship.setRelationshipType(relationshipType);
+        relationship.setLeftPlace(leftPlace);
+        relationship.setRightPlace(rightPlace);
+        return relationship;
+    }
 
     private void assertLeftPlace(Relationship relationship, int leftPlace) {
         assertEquals(leftPlace, relationship.getLeftPlace());
@@ -0,0 +1,193 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.core.Constants;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link VirtualMetadataCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VirtualMetadataCacheTest {
+
+    @InjectMocks
+    private VirtualMetadataCache virtualMetadataCache;
+
+    @Mock
+    private ConfigurationService configurationService;
+
+    @Mock
+    private MetadataField metadataField;
+
+    private final Instant lastModified = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Before
+    public void setUp() {
+        lenient().when(configurationService.getIntProperty(eq(VirtualMetadataCache.CACHE_SIZE_PROPERTY), anyInt()))
+                 .thenReturn(2);
+        lenient().when(metadataField.getID()).thenReturn(42);
+    }
+
+    @Test
+    public void testGetCachedValues() {
+        Item item = mockItem(UUID.randomUUID(), lastModified);
+        virtualMetadataCache.put(item, List.of(value(item, "Smith, Donald")), Set.of(),
+                                 virtualMetadataCache.getGeneration());
+
+        List<VirtualMetadataCache.CachedValue> cached = virtualMetadataCache.get(item);
+        assertNotNull(cached);
+        assertEquals(1, cached.size());
+        RelationshipMetadataValue value = cached.get(0).toMetadataValue(item, metadataField);
+        assertEquals("Smith, Donald", value.getValue());
+        assertEquals(Constants.VIRTUAL_AUTHORITY_PREFIX + 7, value.getAuthority());
+        assertEquals(3, value.getPlace());
+        assertEquals(item, value.getDSpaceObject());
+    }
+
+    @Test
+    public void testNotServedOnceTheItemIsModified() {
+        UUID id = UUID.randomUUID();
+        Item item = mockItem(id, lastModified);
+        virtualMetadataCache.put(item, List.of(value(item, "value")), Set.of(), virtualMetadataCache.getGeneration());
+
+        assertNull(virtualMetadataCache.get(mockItem(id, lastModified.plusSeconds(1))));
+    }
+
+    @Test
+    public void testInvalidateRelatedItem() {
+        UUID author = UUID.randomUUID();
+        Item publication = mockItem(UUID.randomUUID(), lastModified);
+        Item otherPublication = mockItem(UUID.randomUUID(), lastModified);
+        virtualMetadataCache.put(publication, List.of(value(publication, "Smith, Donald")), Set.of(author),
+                                 virtualMetadataCache.getGeneration());
+        virtualMetadataCache.put(otherPublication, List.of(), Set.of(UUID.randomUUID()),
+                                 virtualMetadataCache.getGeneration());
+
+        virtualMetadataCache.invalidate(author);
+
+        assertNull(virtualMetadataCache.get(publication));
+        assertNotNull(virtualMetadataCache.get(otherPublication));
+    }
+
+    @Test
+    public void testNotCachedWhenInvalidatedMeanwhile() {
+        Item item = mockItem(UUID.randomUUID(), lastModified);
+        long generation = virtualMetadataCache.getGeneration();
+        virtualMetadataCache.invalidate(UUID.randomUUID());
+
+        virtualMetadataCache.put(item, List.of(value(item, "value")), Set.of(), generation);
+
+        assertNull(virtualMetadataCache.get(item));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        Item first = mockItem(UUID.randomUUID(), lastModified);
+        Item second = mockItem(UUID.randomUUID(), lastModified);
+        Item third = mockItem(UUID.randomUUID(), lastModified);
+        virtualMetadataCache.put(first, List.of(), Set.of(), virtualMetadataCache.getGeneration());
+        virtualMetadataCache.put(second, List.of(), Set.of(), virtualMetadataCache.getGeneration());
+        virtualMetadataCache.get(first);
+        virtualMetadataCache.put(third, List.of(), Set.of(), virtualMetadataCache.getGeneration());
+
+        assertEquals(2, virtualMetadataCache.size());
+        assertNotNull(virtualMetadataCache.get(first));
+        assertNull(virtualMetadataCache.get(second));
+        assertNotNull(virtualMetadataCache.get(third));
+    }
+
+    @Test
+    public void testNestedRecordings() {
+        UUID issue = UUID.randomUUID();
+        UUID volume = UUID.randomUUID();
+        UUID journal = UUID.randomUUID();
+
+        // the metadata of a publication uses its issue, the volume of the issue and the journal of the volume
+        Set<UUID> publication = VirtualMetadataCache.startRecording();
+        VirtualMetadataCache.recordDependency(issue);
+        VirtualMetadataCache.recordDependency(volume);
+        Set<UUID> journalItem = VirtualMetadataCache.startRecording();
+        VirtualMetadataCache.recordDependency(journal);
+        VirtualMetadataCache.stopRecording(journalItem);
+        VirtualMetadataCache.stopRecording(publication);
+
+        assertEquals(Set.of(issue, volume, journal), publication);
+        assertEquals(Set.of(journal), journalItem);
+
+        // nothing is recorded outside of a computation
+        VirtualMetadataCache.recordDependency(UUID.randomUUID());
+        assertEquals(Set.of(issue, volume, journal), publication);
+    }
+
+    @Test
+    public void testCacheHitRecordsTheDependencies() {
+        UUID volume = UUID.randomUUID();
+        UUID journal = UUID.randomUUID();
+        Item issue = mockItem(UUID.randomUUID(), lastModified);
+        virtualMetadataCache.put(issue, List.of(), Set.of(volume, journal), virtualMetadataCache.getGeneration());
+
+        Set<UUID> publication = VirtualMetadataCache.startRecording();
+        assertNotNull(virtualMetadataCache.get(issue));
+        VirtualMetadataCache.stopRecording(publication);
+
+        assertTrue(publication.containsAll(Set.of(volume, journal)));
+    }
+
+    @Test
+    public void testInvalidateItemReachedThroughAChain() {
+        UUID issue = UUID.randomUUID();
+        UUID volume = UUID.randomUUID();
+        UUID journal = UUID.randomUUID();
+        Item publication = mockItem(UUID.randomUUID(), lastModified);
+        virtualMetadataCache.put(publication, List.of(value(publication, "Journal")), Set.of(issue, volume, journal),
+                                 virtualMetadataCache.getGeneration());
+
+        virtualMetadataCache.invalidate(journal);
+
+        assertNull(virtualMetadataCache.get(publication));
+    }
+
+    private Item mockItem(UUID id, Instant lastModified) {
+        Item item = mock(Item.class);
+        lenient().when(item.getID()).thenReturn(id);
+        lenient().when(item.getLastModified()).thenReturn(lastModified);
+        return item;
+    }
+
+    private RelationshipMetadataValue value(Item item, String value) {
+        RelationshipMetadataValue metadataValue = new RelationshipMetadataValue();
+        metadataValue.setMetadataField(metadataField);
+        metadataValue.setValue(value);
+        metadataValue.setAuthority(Constants.VIRTUAL_AUTHORITY_PREFIX + 7);
+        metadataValue.setPlace(3);
+        metadataValue.setUseForPlace(true);
+        metadataValue.setDSpaceObject(item);
+        return metadataValue;
+    }
+}
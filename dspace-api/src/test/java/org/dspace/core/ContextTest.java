@@ -35,6 +35,8 @@ import org.dspace.eperson.Group;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.EPersonService;
 import org.dspace.eperson.service.GroupService;
+import org.dspace.event.DetailType;
+import org.dspace.event.Event;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.test.util.AopTestUtils;
@@ -456,6 +458,28 @@ public class ContextTest extends AbstractUnitTest {
         cleanupContext(instance);
     }
 
+    /**
+     * Test of hasGroupMembershipEvents method, of class Context.
+     */
+    @Test
+    public void testHasGroupMembershipEvents() throws SQLException {
+        Context instance = new Context();
+        instance.addEvent(new Event(Event.MODIFY_METADATA, Constants.ITEM, UUID.randomUUID(), null,
+                                    DetailType.DSO_SUMMARY));
+        assertFalse("An item event does not change group memberships", instance.hasGroupMembershipEvents());
+
+        instance.addEvent(new Event(Event.ADD, Constants.GROUP, UUID.randomUUID(), Constants.EPERSON,
+                                    UUID.randomUUID(), null, DetailType.DSO_NAME));
+        assertTrue("Adding a group member changes group memberships", instance.hasGroupMembershipEvents());
+
+        // The events are forgotten with the changes
+        instance.rollback();
+        assertFalse(instance.hasGroupMembershipEvents());
+
+        instance.abort();
+        cleanupContext(instance);
+    }
+
     /**
      * Test of getCacheSize method, of class Context.
      */
@@ -588,6 +588,42 @@ public class DiscoveryIT extends AbstractIntegrationTestWithDatabase {
         assertSearchQuery(IndexableItem.TYPE, 3, 6, 0, -1);
     }
 
+    @Test
+    public void iteratorSearchDocumentsSkipsStaleObjectsTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity)
+                                           .withName("Collection 1").build();
+        Item item1 = ItemBuilder.createItem(context, col1).withTitle("Public item 1").build();
+        Item item2 = ItemBuilder.createItem(context, col1).withTitle("Public item 2").build();
+        Item item3 = ItemBuilder.createItem(context, col1).withTitle("Public item 3").build();
+
+        context.setDispatcher("noindex");
+
+        // delete an item from the database only, leaving a stale document in the index
+        itemService.delete(context, item2);
+        context.restoreAuthSystemState();
+
+        DiscoverQuery discoverQuery = new DiscoverQuery();
+        discoverQuery.setQuery("*:*");
+        // pages of 2 documents, to read several pages with the cursor
+        discoverQuery.setMaxResults(2);
+        discoverQuery.addFilterQueries("search.resourcetype:" + IndexableItem.TYPE);
+        Iterator<DiscoverResult.SearchDocument> documents = searchService.iteratorSearchDocuments(context,
+                                                                                                  discoverQuery);
+        List<String> ids = new ArrayList<>();
+        while (documents.hasNext()) {
+            ids.add(documents.next().getSearchFieldValues(SearchUtils.RESOURCE_ID_FIELD).get(0));
+        }
+
+        assertEquals(2, ids.size());
+        assertThat(ids, hasItems(item1.getID().toString(), item3.getID().toString()));
+        assertThat(ids, not(hasItem(item2.getID().toString())));
+    }
+
     @Test
     public void disabledRerunOfSolrQueryDueToStaleObjectsTest() throws Exception {
         context.turnOffAuthorisationSystem();
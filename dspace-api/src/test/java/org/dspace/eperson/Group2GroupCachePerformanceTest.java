@@ -0,0 +1,133 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.AbstractUnitTest;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Benchmark of the incremental update of the group2groupcache table by {@link GroupServiceImpl#update} against the
+ * full rebuild, on deep and wide group hierarchies in the database. It only runs when the number of groups is given
+ * with -Dgroup2groupcache.benchmark.groups=..., and logs the timings. After every change, the table must have the
+ * same rows as after a full rebuild.
+ */
+public class Group2GroupCachePerformanceTest extends AbstractUnitTest {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private final Integer numberOfGroups = Integer.getInteger("group2groupcache.benchmark.groups");
+
+    private GroupServiceImpl groupService;
+
+    @Before
+    @Override
+    public void init() {
+        super.init();
+        Assume.assumeTrue("group2groupcache.benchmark.groups is not set", numberOfGroups != null);
+        groupService = (GroupServiceImpl) EPersonServiceFactory.getInstance().getGroupService();
+        context.turnOffAuthorisationSystem();
+    }
+
+    /**
+     * Collection role groups below community administrator groups below one administrator group.
+     */
+    @Test
+    public void testWideHierarchy() throws Exception {
+        int communities = (int) Math.ceil(Math.sqrt(numberOfGroups));
+        Group admin = groupService.create(context);
+        Group lastCommunity = null;
+        Group lastRole = null;
+        for (int community = 0; community < communities; community++) {
+            lastCommunity = groupService.create(context);
+            groupService.addMember(context, admin, lastCommunity);
+            for (int role = 0; role < numberOfGroups / communities; role++) {
+                lastRole = groupService.create(context);
+                groupService.addMember(context, lastCommunity, lastRole);
+            }
+            groupService.update(context, lastCommunity);
+        }
+        groupService.update(context, admin);
+
+        // Add a new subgroup to one collection role
+        Group newGroup = groupService.create(context);
+        Group role = lastRole;
+        compare("wide, add", () -> groupService.addMember(context, role, newGroup), role);
+        // Remove a collection role from its community
+        Group community = lastCommunity;
+        compare("wide, remove", () -> groupService.removeMember(context, community, role), community);
+    }
+
+    /**
+     * A chain of nested groups, each also having 10 member groups of its own.
+     */
+    @Test
+    public void testDeepHierarchy() throws Exception {
+        int depth = Math.max(2, numberOfGroups / 11);
+        Group parent = groupService.create(context);
+        Group middle = null;
+        Group middleChild = null;
+        for (int level = 0; level < depth; level++) {
+            Group child = groupService.create(context);
+            groupService.addMember(context, parent, child);
+            for (int leaf = 0; leaf < 10; leaf++) {
+                groupService.addMember(context, parent, groupService.create(context));
+            }
+            groupService.update(context, parent);
+            if (level == depth / 2) {
+                middle = parent;
+                middleChild = child;
+            }
+            parent = child;
+        }
+
+        // Add a new subgroup to the deepest group, which changes the rows of all its ancestors
+        Group newGroup = groupService.create(context);
+        Group deepest = parent;
+        compare("deep, add", () -> groupService.addMember(context, deepest, newGroup), deepest);
+        // Cut the chain in the middle, which changes half of the table
+        Group cut = middle;
+        Group cutChild = middleChild;
+        compare("deep, remove", () -> groupService.removeMember(context, cut, cutChild), cut);
+    }
+
+    /**
+     * Time the incremental update of the table after the given change of the given group, then its full rebuild.
+     */
+    private void compare(String name, Change change, Group group) throws Exception {
+        change.apply();
+        long start = System.nanoTime();
+        groupService.update(context, group);
+        Set<Pair<UUID, UUID>> incremental = groupService.group2GroupCacheDAO.getCache(context);
+        long incrementalTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        groupService.rethinkGroupCache(context, true);
+        Set<Pair<UUID, UUID>> full = groupService.group2GroupCacheDAO.getCache(context);
+        long fullTime = System.nanoTime() - start;
+
+        log.info("{}: {} cache rows, incremental update {} ms, full rebuild {} ms", name, full.size(),
+                 incrementalTime / 1000000.0, fullTime / 1000000.0);
+        assertEquals(name, full, incremental);
+    }
+
+    @FunctionalInterface
+    private interface Change {
+        void apply() throws Exception;
+    }
+}
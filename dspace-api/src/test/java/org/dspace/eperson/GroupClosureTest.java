@@ -0,0 +1,109 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.eperson;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the incremental maintenance of {@link GroupClosure}.
+ */
+public class GroupClosureTest {
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+    private final UUID d = UUID.randomUUID();
+
+    private GroupClosure closure;
+
+    @Before
+    public void setUp() {
+        closure = new GroupClosure();
+    }
+
+    private boolean isAncestor(UUID ancestor, UUID descendant) {
+        return closure.isAncestor(closure.indexOf(ancestor), closure.indexOf(descendant));
+    }
+
+    @Test
+    public void testChainInAnyOrder() {
+        // c is added below b before b is added below a
+        closure.addEdge(b, c);
+        closure.addEdge(a, b);
+        closure.addEdge(c, d);
+
+        assertTrue(isAncestor(a, b));
+        assertTrue(isAncestor(a, c));
+        assertTrue(isAncestor(a, d));
+        assertTrue(isAncestor(b, d));
+        assertFalse(isAncestor(d, a));
+        assertFalse(isAncestor(a, a));
+    }
+
+    @Test
+    public void testRemoveEdgeKeepsOtherPaths() {
+        // Diamond: a -> b -> d and a -> c -> d
+        closure.addEdge(a, b);
+        closure.addEdge(a, c);
+        closure.addEdge(b, d);
+        closure.addEdge(c, d);
+
+        assertTrue(closure.removeEdge(b, d));
+        assertTrue(isAncestor(a, d));
+        assertTrue(isAncestor(c, d));
+        assertFalse(isAncestor(b, d));
+
+        assertTrue(closure.removeEdge(c, d));
+        assertFalse(isAncestor(a, d));
+        assertFalse(closure.removeEdge(c, d));
+    }
+
+    @Test
+    public void testRemoveEdgeUpdatesDescendants() {
+        closure.addEdge(a, b);
+        closure.addEdge(b, c);
+        closure.addEdge(c, d);
+
+        closure.removeEdge(a, b);
+
+        assertFalse(isAncestor(a, c));
+        assertFalse(isAncestor(a, d));
+        assertTrue(isAncestor(b, d));
+        assertArrayEquals(new int[] {closure.indexOf(b), closure.indexOf(c)},
+                          closure.ancestorsOf(closure.indexOf(d)));
+    }
+
+    @Test
+    public void testRemoveGroup() {
+        closure.addEdge(a, b);
+        closure.addEdge(b, c);
+        closure.addEdge(a, d);
+
+        closure.removeGroup(b);
+
+        assertFalse(isAncestor(a, c));
+        assertTrue(isAncestor(a, d));
+        assertArrayEquals(new int[0], closure.ancestorsOf(closure.indexOf(c)));
+        assertTrue(closure.indexOf(b) < 0);
+    }
+
+    @Test
+    public void testSortedArrayHelpers() {
+        int[] values = GroupClosure.insert(new int[] {1, 5}, 3);
+        assertArrayEquals(new int[] {1, 3, 5}, values);
+        assertArrayEquals(new int[] {1, 5}, GroupClosure.remove(values, 3));
+        assertArrayEquals(new int[] {1, 2, 3, 5, 8}, GroupClosure.union(values, new int[] {2, 3, 8}));
+    }
+}
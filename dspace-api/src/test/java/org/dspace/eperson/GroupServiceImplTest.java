@@ -7,8 +7,15 @@
  */
 package org.dspace.eperson;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import java.sql.SQLException;
+import java.util.Set;
+import java.util.UUID;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.dspace.AbstractUnitTest;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.GroupService;
@@ -521,22 +528,71 @@ public class GroupServiceImplTest
 */
 
     /**
-     * Test of rethinkGroupCache method, of class GroupServiceImpl.
+     * Test of the incremental update of the group2groupcache table by the update and delete methods of class
+     * GroupServiceImpl: after every change, the table must have the same rows as after a full rebuild by
+     * rethinkGroupCache.
      */
-/*
     @Test
-    public void testRethinkGroupCache()
-            throws Exception
-    {
-        System.out.println("rethinkGroupCache");
-        Context context = null;
-        boolean flushQueries = false;
-        GroupServiceImpl instance = new GroupServiceImpl();
-        instance.rethinkGroupCache(context, flushQueries);
-        // TODO review the generated test code and remove the default call to fail.
-        fail("The test case is a prototype.");
+    public void testIncrementalRethinkGroupCache()
+        throws Exception {
+        GroupServiceImpl groupService = (GroupServiceImpl) EPersonServiceFactory.getInstance().getGroupService();
+        context.turnOffAuthorisationSystem();
+        Group a = groupService.create(context);
+        Group b = groupService.create(context);
+        Group c = groupService.create(context);
+        Group d = groupService.create(context);
+        Group e = groupService.create(context);
+        Group f = groupService.create(context);
+
+        Set<Pair<UUID, UUID>> cache;
+
+        // Diamond a -> b -> d and a -> c -> d, with a chain d -> e below it
+        groupService.addMember(context, a, b);
+        groupService.addMember(context, a, c);
+        groupService.update(context, a);
+        assertSameAsFullRebuild(groupService);
+        groupService.addMember(context, d, e);
+        groupService.update(context, d);
+        assertSameAsFullRebuild(groupService);
+        groupService.addMember(context, b, d);
+        groupService.update(context, b);
+        groupService.addMember(context, c, d);
+        groupService.update(context, c);
+        cache = assertSameAsFullRebuild(groupService);
+        assertTrue(cache.contains(Pair.of(a.getID(), e.getID())));
+
+        // d and e stay below a through c
+        groupService.removeMember(context, b, d);
+        groupService.update(context, b);
+        cache = assertSameAsFullRebuild(groupService);
+        assertTrue(cache.contains(Pair.of(a.getID(), e.getID())));
+        assertFalse(cache.contains(Pair.of(b.getID(), e.getID())));
+
+        // A new group below the chain
+        groupService.addMember(context, e, f);
+        groupService.update(context, e);
+        cache = assertSameAsFullRebuild(groupService);
+        assertTrue(cache.contains(Pair.of(c.getID(), f.getID())));
+
+        // Deleting c cuts d, e and f from a
+        groupService.delete(context, c);
+        cache = assertSameAsFullRebuild(groupService);
+        assertFalse(cache.contains(Pair.of(a.getID(), f.getID())));
+        assertTrue(cache.contains(Pair.of(d.getID(), f.getID())));
+        context.restoreAuthSystemState();
+    }
+
+    /**
+     * Assert that the group2groupcache table does not change when it is fully rebuilt.
+     *
+     * @return the rows of the table
+     */
+    private Set<Pair<UUID, UUID>> assertSameAsFullRebuild(GroupServiceImpl groupService) throws SQLException {
+        Set<Pair<UUID, UUID>> incremental = groupService.group2GroupCacheDAO.getCache(context);
+        groupService.rethinkGroupCache(context, true);
+        assertEquals(groupService.group2GroupCacheDAO.getCache(context), incremental);
+        return incremental;
     }
-*/
 
     /**
      * Test of getParentObject method, of class GroupServiceImpl.
@@ -0,0 +1,121 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.dspace.AbstractUnitTest;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the delivery of events to consumers configured as asynchronous.
+ */
+public class AsyncEventDispatchTest extends AbstractUnitTest {
+
+    private static final String CONSUMER = "asynctest";
+
+    private final ConfigurationService configurationService
+        = DSpaceServicesFactory.getInstance().getConfigurationService();
+
+    private BasicDispatcher dispatcher;
+
+    @Before
+    public void setUp() throws Exception {
+        configurationService.setProperty("event.consumer." + CONSUMER + ".class", CollectingConsumer.class.getName());
+        configurationService.setProperty("event.consumer." + CONSUMER + ".filters", "Item+Modify");
+        configurationService.setProperty("event.consumer." + CONSUMER + ".async", true);
+        dispatcher = new BasicDispatcher(CONSUMER);
+        dispatcher.addConsumerProfile(ConsumerProfile.makeConsumerProfile(CONSUMER));
+        CollectingConsumer.received.clear();
+    }
+
+    @After
+    public void tearDown() {
+        configurationService.setProperty("event.consumer." + CONSUMER + ".class", null);
+        configurationService.setProperty("event.consumer." + CONSUMER + ".filters", null);
+        configurationService.setProperty("event.consumer." + CONSUMER + ".async", null);
+    }
+
+    @Test
+    public void testEventsAreDeliveredAfterCommit() throws Exception {
+        CollectingConsumer.batches = new CountDownLatch(1);
+        Event modify = new Event(Event.MODIFY, Constants.ITEM, UUID.randomUUID(), null);
+        Event create = new Event(Event.CREATE, Constants.ITEM, UUID.randomUUID(), null);
+        context.addEvent(modify);
+        context.addEvent(create);
+
+        dispatcher.dispatch(context);
+        assertTrue("Asynchronous consumers must not be called during dispatch", CollectingConsumer.received.isEmpty());
+
+        context.commit();
+        assertTrue(CollectingConsumer.batches.await(30, TimeUnit.SECONDS));
+        // The create event does not pass the filter
+        assertEquals(List.of(modify.getSubjectID()), CollectingConsumer.received);
+    }
+
+    @Test
+    public void testEventsAreDiscardedOnRollback() throws Exception {
+        CollectingConsumer.batches = new CountDownLatch(1);
+        Event rolledBack = new Event(Event.MODIFY, Constants.ITEM, UUID.randomUUID(), null);
+        context.addEvent(rolledBack);
+        dispatcher.dispatch(context);
+        context.rollback();
+
+        Event committed = new Event(Event.MODIFY, Constants.ITEM, UUID.randomUUID(), null);
+        context.addEvent(committed);
+        dispatcher.dispatch(context);
+        context.commit();
+
+        // Batches of one consumer are processed in order, so a batch of the rolled back event would come first
+        assertTrue(CollectingConsumer.batches.await(30, TimeUnit.SECONDS));
+        assertEquals(List.of(committed.getSubjectID()), CollectingConsumer.received);
+    }
+
+    /**
+     * Consumer recording the subjects of the events it received.
+     */
+    public static class CollectingConsumer implements Consumer {
+
+        static final List<UUID> received = new CopyOnWriteArrayList<>();
+
+        static CountDownLatch batches = new CountDownLatch(0);
+
+        @Override
+        public void initialize() throws Exception {
+            // No-op
+        }
+
+        @Override
+        public void consume(Context ctx, Event event) throws Exception {
+            received.add(event.getSubjectID());
+        }
+
+        @Override
+        public void end(Context ctx) throws Exception {
+            batches.countDown();
+        }
+
+        @Override
+        public void finish(Context ctx) throws Exception {
+            // No-op
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    private static final long MILLIS = 1000000;
+
+    @Test
+    public void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(MILLIS / 2);
+        histogram.record(3 * MILLIS);
+        histogram.record(5 * MILLIS);
+        histogram.record(60000 * MILLIS);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(60000.0, histogram.getMaxMillis(), 0.001);
+        assertEquals((0.5 + 3 + 5 + 60000) / 4, histogram.getMeanMillis(), 0.001);
+
+        Map<String, Long> buckets = histogram.getBuckets();
+        assertEquals(List.of("< 1 ms", "< 5 ms", "< 10 ms", "< 50 ms", "< 100 ms", "< 500 ms", "< 1000 ms",
+                             "< 5000 ms", ">= 5000 ms"), List.copyOf(buckets.keySet()));
+        assertEquals(Long.valueOf(1), buckets.get("< 1 ms"));
+        assertEquals(Long.valueOf(1), buckets.get("< 5 ms"));
+        // a bucket includes its lower bound
+        assertEquals(Long.valueOf(1), buckets.get("< 10 ms"));
+        assertEquals(Long.valueOf(1), buckets.get(">= 5000 ms"));
+    }
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanMillis(), 0.0);
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.dspace.AbstractUnitTest;
+import org.dspace.core.Context;
+import org.jdom2.Element;
+import org.jdom2.Namespace;
+import org.junit.Test;
+
+public class HarvestRecordWorkersTest extends AbstractUnitTest {
+
+    private static final Namespace OAI_NS = Namespace.getNamespace("http://www.openarchives.org/OAI/2.0/");
+
+    private static final String ORE_PREFIX = "ore";
+
+    private static final HarvestRecordWorkers.Interruption NO_INTERRUPTION = () -> { };
+
+    // the records processed by the workers, in the order of their processing
+    private final List<Processed> processed = Collections.synchronizedList(new ArrayList<>());
+
+    // the contexts of the workers
+    private final List<Context> contexts = Collections.synchronizedList(new ArrayList<>());
+
+    private final Element failedRecord = record("b");
+
+    @Test(timeout = 60000)
+    public void testSameIdentifierOrder() throws Exception {
+        List<Element> page = List.of(record("a"), record("b"), record("a"), record("c"), record("a"), record("b"),
+                                     record("d"));
+
+        try (HarvestRecordWorkers workers = new HarvestRecordWorkers(3, this::createHarvester, ORE_PREFIX)) {
+            workers.process(page, 1, page.size(), NO_INTERRUPTION);
+            // the whole page is processed when process returns
+            assertEquals(page.size(), processed.size());
+        }
+
+        Set<Long> numbers = new HashSet<>();
+        for (Processed record : processed) {
+            numbers.add(record.number);
+        }
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), numbers);
+
+        for (String id : List.of("a", "b", "c", "d")) {
+            List<Element> inPage = new ArrayList<>();
+            for (Element record : page) {
+                if (id.equals(OAIHarvester.getOaiIdentifier(record))) {
+                    inPage.add(record);
+                }
+            }
+            List<Element> inProcessing = new ArrayList<>();
+            Set<OAIHarvester> harvesters = new HashSet<>();
+            for (Processed record : processed) {
+                if (id.equals(OAIHarvester.getOaiIdentifier(record.record))) {
+                    inProcessing.add(record.record);
+                    harvesters.add(record.harvester);
+                }
+            }
+            assertEquals("The records " + id + " are processed in the order of the page", inPage, inProcessing);
+            assertEquals("The records " + id + " are processed by the same worker", 1, harvesters.size());
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void testFailure() throws Exception {
+        HarvestingException failure = new HarvestingException("Failing record");
+        HarvestRecordWorkers.HarvesterFactory harvesterFactory = context -> {
+            OAIHarvester harvester = createHarvester(context);
+            doAnswer(invocation -> {
+                throw failure;
+            }).when(harvester).processRecord(eq(failedRecord), eq(ORE_PREFIX), anyLong(), anyLong());
+            return harvester;
+        };
+
+        try (HarvestRecordWorkers workers = new HarvestRecordWorkers(2, harvesterFactory, ORE_PREFIX)) {
+            try {
+                workers.process(List.of(record("a"), failedRecord, record("c")), 1, 6, NO_INTERRUPTION);
+                fail("The failure of a worker must be thrown");
+            } catch (HarvestingException e) {
+                assertSame(failure, e);
+            }
+
+            // the next pages are not processed anymore
+            processed.clear();
+            try {
+                workers.process(List.of(record("d"), record("e"), record("f")), 4, 6, NO_INTERRUPTION);
+                fail("The failure of a worker must be thrown");
+            } catch (HarvestingException e) {
+                assertSame(failure, e);
+            }
+            assertTrue(processed.isEmpty());
+        }
+    }
+
+    @Test(timeout = 60000)
+    public void testHarvesterCreationFailure() throws Exception {
+        HarvestingException failure = new HarvestingException("Provided collection is not set up for harvesting");
+
+        try (HarvestRecordWorkers workers = new HarvestRecordWorkers(2, context -> {
+            throw failure;
+        }, ORE_PREFIX)) {
+            workers.process(List.of(record("a"), record("b")), 1, 2, NO_INTERRUPTION);
+            fail("The failure of the creation of the harvesters must be thrown");
+        } catch (HarvestingException e) {
+            assertSame(failure, e);
+        }
+        assertTrue(processed.isEmpty());
+    }
+
+    @Test(timeout = 60000)
+    public void testInterruption() throws Exception {
+        HarvestingException interruption = new HarvestingException("Harvest process interrupted");
+
+        try (HarvestRecordWorkers workers = new HarvestRecordWorkers(2, this::createHarvester, ORE_PREFIX)) {
+            workers.process(List.of(record("a"), record("b")), 1, 2, () -> {
+                throw interruption;
+            });
+            fail("The interruption must be thrown");
+        } catch (HarvestingException e) {
+            assertSame(interruption, e);
+        }
+        assertTrue(processed.isEmpty());
+    }
+
+    @Test(timeout = 60000)
+    public void testClose() throws Exception {
+        HarvestRecordWorkers workers = new HarvestRecordWorkers(3, this::createHarvester, ORE_PREFIX);
+        workers.process(List.of(record("a"), record("b"), record("c")), 1, 3, NO_INTERRUPTION);
+
+        // returns once all the workers are stopped
+        workers.close();
+
+        assertEquals(3, processed.size());
+        assertEquals(3, contexts.size());
+        for (Context context : contexts) {
+            assertFalse("The context of the worker is closed", context.isValid());
+        }
+    }
+
+    /**
+     * Create the harvester of a worker, recording the records it processes.
+     */
+    private OAIHarvester createHarvester(Context context) throws Exception {
+        contexts.add(context);
+        OAIHarvester harvester = mock(OAIHarvester.class);
+        doAnswer(invocation -> {
+            // give the other workers a chance to process their records meanwhile
+            Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+            processed.add(new Processed(harvester, invocation.getArgument(0), invocation.getArgument(2)));
+            return null;
+        }).when(harvester).processRecord(any(Element.class), eq(ORE_PREFIX), anyLong(), anyLong());
+        return harvester;
+    }
+
+    private Element record(String identifier) {
+        Element record = new Element("record", OAI_NS);
+        Element header = new Element("header", OAI_NS);
+        header.addContent(new Element("identifier", OAI_NS).setText(identifier));
+        record.addContent(header);
+        return record;
+    }
+
+    private static class Processed {
+        private final OAIHarvester harvester;
+        private final Element record;
+        private final long number;
+
+        private Processed(OAIHarvester harvester, Element record, long number) {
+            this.harvester = harvester;
+            this.record = record;
+            this.number = number;
+        }
+    }
+}
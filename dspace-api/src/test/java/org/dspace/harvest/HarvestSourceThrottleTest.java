@@ -0,0 +1,72 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class HarvestSourceThrottleTest {
+
+    @Test
+    public void testMaxRequests() throws Exception {
+        HarvestSourceThrottle throttle = new HarvestSourceThrottle(2, 0);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> requests = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                requests.add(executor.submit(() -> {
+                    throttle.acquire();
+                    try {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(10);
+                        running.decrementAndGet();
+                    } finally {
+                        throttle.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue("At most 2 concurrent requests", maxRunning.get() <= 2);
+        assertEquals(0, running.get());
+    }
+
+    @Test
+    public void testMinRequestInterval() throws Exception {
+        HarvestSourceThrottle throttle = new HarvestSourceThrottle(5, 50);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            throttle.acquire();
+            throttle.release();
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the first request starts at once, the next ones 50ms after the previous one
+        assertTrue("The requests are spaced by the interval, took " + elapsed + "ms", elapsed >= 150);
+    }
+}
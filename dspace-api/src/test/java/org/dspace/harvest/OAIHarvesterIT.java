@@ -0,0 +1,167 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.harvest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.ItemService;
+import org.dspace.harvest.factory.HarvestServiceFactory;
+import org.dspace.harvest.service.HarvestedCollectionService;
+import org.dspace.harvest.service.HarvestedItemService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of {@link OAIHarvester#runHarvest()} against a mocked OAI-PMH source.
+ */
+public class OAIHarvesterIT extends AbstractIntegrationTestWithDatabase {
+
+    private static final String OAI_PMH = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<OAI-PMH xmlns=\"http://www.openarchives.org/OAI/2.0/\""
+        + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+        + " xsi:schemaLocation=\"http://www.openarchives.org/OAI/2.0/"
+        + " http://www.openarchives.org/OAI/2.0/OAI-PMH.xsd\">"
+        + "<responseDate>2024-01-01T00:00:00Z</responseDate>";
+
+    private static final String IDENTIFY = OAI_PMH
+        + "<request verb=\"Identify\">http://localhost/oai/request</request>"
+        + "<Identify><repositoryName>Mocked source</repositoryName>"
+        + "<baseURL>http://localhost/oai/request</baseURL><protocolVersion>2.0</protocolVersion>"
+        + "<adminEmail>admin@example.com</adminEmail><earliestDatestamp>2000-01-01T00:00:00Z</earliestDatestamp>"
+        + "<deletedRecord>persistent</deletedRecord><granularity>YYYY-MM-DDThh:mm:ssZ</granularity>"
+        + "</Identify></OAI-PMH>";
+
+    private static final String LIST_METADATA_FORMATS = OAI_PMH
+        + "<request verb=\"ListMetadataFormats\">http://localhost/oai/request</request>"
+        + "<ListMetadataFormats><metadataFormat><metadataPrefix>oai_dc</metadataPrefix>"
+        + "<schema>http://www.openarchives.org/OAI/2.0/oai_dc.xsd</schema>"
+        + "<metadataNamespace>http://www.openarchives.org/OAI/2.0/oai_dc/</metadataNamespace>"
+        + "</metadataFormat></ListMetadataFormats></OAI-PMH>";
+
+    // The second versions of the records a and b are in the same pages as their first versions. Their datestamps are
+    // in the future so that every version is applied: the title of an item is the one of its last applied version.
+    private static final String FIRST_PAGE = OAI_PMH
+        + "<request verb=\"ListRecords\">http://localhost/oai/request</request><ListRecords>"
+        + record("oai:test:a", "2998-01-01T00:00:00Z", "A, version 1")
+        + record("oai:test:b", "2998-01-01T00:00:00Z", "B, version 1")
+        + record("oai:test:c", "2998-01-01T00:00:00Z", "C")
+        + record("oai:test:a", "2999-01-01T00:00:00Z", "A, version 2")
+        + "<resumptionToken completeListSize=\"7\" cursor=\"0\">page2</resumptionToken>"
+        + "</ListRecords></OAI-PMH>";
+
+    private static final String SECOND_PAGE = OAI_PMH
+        + "<request verb=\"ListRecords\">http://localhost/oai/request</request><ListRecords>"
+        + record("oai:test:d", "2998-01-01T00:00:00Z", "D")
+        + record("oai:test:e", "2998-01-01T00:00:00Z", "E")
+        + record("oai:test:b", "2999-01-01T00:00:00Z", "B, version 2")
+        + "<resumptionToken completeListSize=\"7\" cursor=\"4\"/>"
+        + "</ListRecords></OAI-PMH>";
+
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final HarvestedCollectionService harvestedCollectionService = HarvestServiceFactory.getInstance()
+        .getHarvestedCollectionService();
+    private final HarvestedItemService harvestedItemService = HarvestServiceFactory.getInstance()
+                                                                                  .getHarvestedItemService();
+
+    private MockWebServer oaiSource;
+    private Collection collection;
+
+    @Before
+    public void setup() throws Exception {
+        oaiSource = new MockWebServer();
+        oaiSource.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String verb = request.getRequestUrl().queryParameter("verb");
+                String body;
+                if ("Identify".equals(verb)) {
+                    body = IDENTIFY;
+                } else if ("ListMetadataFormats".equals(verb)) {
+                    body = LIST_METADATA_FORMATS;
+                } else if ("ListRecords".equals(verb)) {
+                    String resumptionToken = request.getRequestUrl().queryParameter("resumptionToken");
+                    body = "page2".equals(resumptionToken) ? SECOND_PAGE : FIRST_PAGE;
+                } else {
+                    return new MockResponse().setResponseCode(404);
+                }
+                return new MockResponse().setHeader("Content-Type", "text/xml; charset=UTF-8").setBody(body);
+            }
+        });
+        oaiSource.start();
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Harvested").build();
+        HarvestedCollection harvestedCollection = harvestedCollectionService.create(context, collection);
+        harvestedCollection.setHarvestParams(HarvestedCollection.TYPE_DMD, oaiSource.url("/oai/request").toString(),
+                                             "all", "dc");
+        harvestedCollection.setHarvestStatus(HarvestedCollection.STATUS_READY);
+        harvestedCollectionService.update(context, harvestedCollection);
+        context.restoreAuthSystemState();
+        // the record workers read the collection in their own contexts
+        context.commit();
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        oaiSource.shutdown();
+        super.destroy();
+    }
+
+    @Test
+    public void testParallelHarvest() throws Exception {
+        configurationService.setProperty("oai.harvester.recordThreads", 3);
+        context.setCurrentUser(admin);
+
+        new OAIHarvester(context, collection, harvestedCollectionService.find(context, collection)).runHarvest();
+
+        collection = context.reloadEntity(collection);
+        HarvestedCollection harvestedCollection = harvestedCollectionService.find(context, collection);
+        assertEquals(harvestedCollection.getHarvestMessage(), HarvestedCollection.STATUS_READY,
+                     harvestedCollection.getHarvestStatus());
+
+        // a single item per OAI identifier, with the metadata of its last version
+        assertEquals(5, itemService.countItems(context, collection));
+        assertEquals("A, version 2", getTitle("oai:test:a"));
+        assertEquals("B, version 2", getTitle("oai:test:b"));
+        assertEquals("C", getTitle("oai:test:c"));
+        assertEquals("D", getTitle("oai:test:d"));
+        assertEquals("E", getTitle("oai:test:e"));
+    }
+
+    private String getTitle(String oaiId) throws Exception {
+        Item item = harvestedItemService.getItemByOAIId(context, oaiId, collection);
+        assertNotNull(oaiId, item);
+        return itemService.getMetadataFirstValue(item, "dc", "title", null, Item.ANY);
+    }
+
+    private static String record(String identifier, String datestamp, String title) {
+        return "<record><header><identifier>" + identifier + "</identifier><datestamp>" + datestamp
+            + "</datestamp></header><metadata>"
+            + "<oai_dc:dc xmlns:oai_dc=\"http://www.openarchives.org/OAI/2.0/oai_dc/\""
+            + " xmlns:dc=\"http://purl.org/dc/elements/1.1/\"><dc:title>" + title + "</dc:title></oai_dc:dc>"
+            + "</metadata></record>";
+    }
+}
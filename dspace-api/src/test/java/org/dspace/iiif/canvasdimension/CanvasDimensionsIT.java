@@ -13,8 +13,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.dspace.AbstractIntegrationTestWithDatabase;
 import org.dspace.builder.BitstreamBuilder;
@@ -364,7 +366,7 @@ public class CanvasDimensionsIT extends AbstractIntegrationTestWithDatabase  {
                               .enableIIIF()
                               .build();
 
-        // Add jp2 image to verify image server call for dimensions
+        // Add jp2 image (300 x 200) to verify the dimensions are read from its header
         InputStream input = this.getClass().getResourceAsStream("cat.jp2");
         bitstream = BitstreamBuilder
             .createBitstream(context, iiifItem, input)
@@ -378,6 +380,40 @@ public class CanvasDimensionsIT extends AbstractIntegrationTestWithDatabase  {
 
         execCanvasScript(id);
 
+        // The test image is small so the canvas dimension should be doubled, e.g. height 200 -> height 400
+        assertTrue(bitstream.getMetadata().stream()
+                            .filter(m -> m.getMetadataField().toString('.').contentEquals(METADATA_IIIF_HEIGHT))
+                            .anyMatch(m -> m.getValue().contentEquals("400")));
+        assertTrue(bitstream.getMetadata().stream()
+                            .filter(m -> m.getMetadataField().toString('.').contentEquals(METADATA_IIIF_WIDTH))
+                            .anyMatch(m -> m.getValue().contentEquals("600")));
+
+    }
+
+    @Test
+    public void processItemWithUnreadableImage() throws Exception {
+        context.turnOffAuthorisationSystem();
+        // Create a new Item
+        iiifItem = ItemBuilder.createItem(context, col1)
+                              .withTitle("Test Item")
+                              .withIssueDate("2017-10-17")
+                              .enableIIIF()
+                              .build();
+
+        // Add an image which cannot be read to verify image server call for dimensions
+        InputStream input = IOUtils.toInputStream("not an image", StandardCharsets.UTF_8);
+        bitstream = BitstreamBuilder
+            .createBitstream(context, iiifItem, input)
+            .withName("Bitstream2.jp2")
+            .withMimeType("image/jp2")
+            .build();
+
+        context.restoreAuthSystemState();
+
+        String id = iiifItem.getID().toString();
+
+        execCanvasScript(id);
+
         assertTrue(bitstream.getMetadata().stream()
                             .filter(m -> m.getMetadataField().toString('.').contentEquals(METADATA_IIIF_HEIGHT))
                             .anyMatch(m -> m.getValue().contentEquals("64")));
@@ -387,6 +423,48 @@ public class CanvasDimensionsIT extends AbstractIntegrationTestWithDatabase  {
 
     }
 
+    @Test
+    public void processAllItems() throws Exception {
+        context.turnOffAuthorisationSystem();
+        // Create new Items in two collections
+        iiifItem = ItemBuilder.createItem(context, col1)
+                              .withTitle("Test Item")
+                              .withIssueDate("2017-10-17")
+                              .enableIIIF()
+                              .build();
+        iiifItem2 = ItemBuilder.createItem(context, col2)
+                               .withTitle("Test Item 2")
+                               .withIssueDate("2017-10-17")
+                               .enableIIIF()
+                               .build();
+
+        // Add jpeg image bitstreams (300 x 200)
+        InputStream input = this.getClass().getResourceAsStream("cat.jpg");
+        bitstream = BitstreamBuilder
+            .createBitstream(context, iiifItem, input)
+            .withName("Bitstream2.jpg")
+            .withMimeType("image/jpeg")
+            .build();
+        input = this.getClass().getResourceAsStream("cat.jpg");
+        bitstream2 = BitstreamBuilder
+            .createBitstream(context, iiifItem2, input)
+            .withName("Bitstream2.jpg")
+            .withMimeType("image/jpeg")
+            .build();
+        context.restoreAuthSystemState();
+
+        runDSpaceScript("iiif-canvas-dimensions", "-e", "admin@email.com", "-a");
+
+        for (Bitstream processedBitstream : new Bitstream[] {bitstream, bitstream2}) {
+            assertTrue(processedBitstream.getMetadata().stream()
+                                .filter(m -> m.getMetadataField().toString('.').contentEquals(METADATA_IIIF_HEIGHT))
+                                .anyMatch(m -> m.getValue().contentEquals("400")));
+            assertTrue(processedBitstream.getMetadata().stream()
+                                .filter(m -> m.getMetadataField().toString('.').contentEquals(METADATA_IIIF_WIDTH))
+                                .anyMatch(m -> m.getValue().contentEquals("600")));
+        }
+    }
+
     @Test
     public void processParentCommunityWithMaximum() throws Exception {
         context.turnOffAuthorisationSystem();
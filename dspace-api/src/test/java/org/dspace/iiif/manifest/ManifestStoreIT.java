@@ -0,0 +1,137 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.iiif.manifest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.content.service.ItemService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ManifestStoreIT extends AbstractIntegrationTestWithDatabase {
+
+    private static final String MANIFEST = "{\"@type\": \"sc:Manifest\"}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+                                                                                   .getConfigurationService();
+    private final ItemService itemService = ContentServiceFactory.getInstance().getItemService();
+    private final BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+
+    private ManifestStore manifestStore;
+    private Item item;
+    private Bitstream bitstream;
+
+    @Before
+    public void setup() throws Exception {
+        configurationService.setProperty("iiif.manifest.store.enabled", true);
+        configurationService.setProperty("iiif.manifest.store.dir", folder.getRoot().getAbsolutePath());
+        manifestStore = ManifestStore.getInstance();
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        item = ItemBuilder.createItem(context, collection)
+                          .withTitle("Test Item")
+                          .enableIIIF()
+                          .build();
+        try (InputStream input = IOUtils.toInputStream("image", StandardCharsets.UTF_8)) {
+            bitstream = BitstreamBuilder.createBitstream(context, item, input)
+                                        .withName("page1.jpg")
+                                        .withMimeType("image/jpeg")
+                                        .build();
+        }
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        configurationService.setProperty("iiif.manifest.store.enabled", null);
+        configurationService.setProperty("iiif.manifest.store.dir", null);
+        super.destroy();
+    }
+
+    @Test
+    public void testGetForFingerprint() throws Exception {
+        String fingerprint = manifestStore.getFingerprint(context, item);
+        manifestStore.put(item.getID(), fingerprint, MANIFEST);
+
+        assertEquals(fingerprint, manifestStore.getFingerprint(context, item));
+        assertEquals(MANIFEST, manifestStore.get(item.getID(), fingerprint));
+        assertNull(manifestStore.get(item.getID(), "another fingerprint"));
+
+        manifestStore.remove(item.getID());
+        assertNull(manifestStore.get(item.getID(), fingerprint));
+    }
+
+    @Test
+    public void testFingerprintOfModifiedBitstream() throws Exception {
+        String fingerprint = manifestStore.getFingerprint(context, item);
+
+        context.turnOffAuthorisationSystem();
+        bitstreamService.addMetadata(context, bitstream, "iiif", "label", null, null, "Page 1");
+        bitstreamService.update(context, bitstream);
+        context.restoreAuthSystemState();
+
+        assertNotEquals(fingerprint, manifestStore.getFingerprint(context, item));
+    }
+
+    @Test
+    public void testFingerprintOfModifiedConfiguration() throws Exception {
+        String fingerprint = manifestStore.getFingerprint(context, item);
+
+        String viewingHint = configurationService.getProperty("iiif.document.viewing.hint");
+        configurationService.setProperty("iiif.document.viewing.hint", "paged");
+        try {
+            assertNotEquals(fingerprint, manifestStore.getFingerprint(context, item));
+        } finally {
+            configurationService.setProperty("iiif.document.viewing.hint", viewingHint);
+        }
+    }
+
+    @Test
+    public void testRemovedOnItemModification() throws Exception {
+        String fingerprint = manifestStore.getFingerprint(context, item);
+        manifestStore.put(item.getID(), fingerprint, MANIFEST);
+
+        context.turnOffAuthorisationSystem();
+        itemService.addMetadata(context, item, "dc", "description", null, null, "A description");
+        itemService.update(context, item);
+        context.restoreAuthSystemState();
+        // dispatches the events to the IIIF consumer
+        context.commit();
+
+        // removed even if it is requested with the previous fingerprint
+        assertNull(manifestStore.get(item.getID(), fingerprint));
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.vocabulary.DCTerms;
+import org.dspace.rdf.storage.RDFStorage;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class RDFBulkOutputTest {
+
+    private Model createModel(String uri, int triples) {
+        Model model = ModelFactory.createDefaultModel();
+        for (int i = 0; i < triples; i++) {
+            model.add(model.createResource(uri), DCTerms.hasPart, model.createResource(uri + "/part/" + i));
+        }
+        return model;
+    }
+
+    @Test
+    public void testNQuads() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RDFBulkOutput output = RDFBulkOutput.toNQuads(out);
+        output.add("http://localhost/rdf/resource/1", createModel("http://localhost/item/1", 2));
+        output.add("http://localhost/rdf/resource/2", createModel("http://localhost/item/2", 1));
+        output.finish();
+
+        String nquads = out.toString(StandardCharsets.UTF_8);
+        assertEquals(3, nquads.lines().count());
+        assertTrue(nquads.contains("<http://localhost/item/2> <http://purl.org/dc/terms/hasPart> "
+                                       + "<http://localhost/item/2/part/0> <http://localhost/rdf/resource/2> ."));
+        assertEquals(2, output.getGraphs());
+        assertEquals(3, output.getTriples());
+    }
+
+    @Test
+    public void testChunks() {
+        RDFStorage storage = mock(RDFStorage.class);
+        when(storage.getAllStoredGraphs()).thenReturn(List.of("http://localhost/rdf/resource/2",
+                                                              "http://localhost/rdf/resource/deleted"));
+        RDFBulkOutput output = RDFBulkOutput.toStorage(storage, 3);
+
+        output.add("http://localhost/rdf/resource/1", createModel("http://localhost/item/1", 2));
+        verify(storage, never()).storeAll(any(Dataset.class));
+
+        // every chunk only replaces its own graphs
+        output.add("http://localhost/rdf/resource/2", createModel("http://localhost/item/2", 2));
+        InOrder inOrder = inOrder(storage);
+        inOrder.verify(storage).delete("http://localhost/rdf/resource/2");
+        inOrder.verify(storage).storeAll(any(Dataset.class));
+        verify(storage, never()).delete("http://localhost/rdf/resource/1");
+        verify(storage, never()).delete("http://localhost/rdf/resource/deleted");
+
+        // the graphs which were not converted again are deleted at the end
+        output.add("http://localhost/rdf/resource/3", createModel("http://localhost/item/3", 1));
+        output.finish();
+        verify(storage, times(2)).storeAll(any(Dataset.class));
+        verify(storage).delete("http://localhost/rdf/resource/deleted");
+        verify(storage, never()).delete("http://localhost/rdf/resource/3");
+    }
+
+    @Test
+    public void testNoData() {
+        RDFStorage storage = mock(RDFStorage.class);
+        when(storage.getAllStoredGraphs()).thenReturn(List.of("http://localhost/rdf/resource/1"));
+        RDFBulkOutput output = RDFBulkOutput.toStorage(storage, 3);
+        output.finish();
+
+        // the data of the triple store is deleted even without any converted data
+        verify(storage, never()).storeAll(any(Dataset.class));
+        verify(storage).delete("http://localhost/rdf/resource/1");
+    }
+
+    @Test
+    public void testNotFinished() {
+        RDFStorage storage = mock(RDFStorage.class);
+        when(storage.getAllStoredGraphs()).thenReturn(List.of("http://localhost/rdf/resource/2"));
+        RDFBulkOutput output = RDFBulkOutput.toStorage(storage, 3);
+        output.add("http://localhost/rdf/resource/1", createModel("http://localhost/item/1", 3));
+
+        // a failed conversion keeps the graphs which were not converted yet
+        verify(storage).storeAll(any(Dataset.class));
+        verify(storage, never()).delete(anyString());
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.UUID;
+
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RDFConsumerTest {
+
+    private final Context context = mock(Context.class);
+    private final RDFPendingChanges pendingChanges = mock(RDFPendingChanges.class);
+
+    private RDFConsumer consumer;
+    private RDFConsumer.DSOIdentifier converted;
+    private RDFConsumer.DSOIdentifier deleted;
+
+    @Before
+    public void setUp() throws Exception {
+        consumer = spy(new RDFConsumer());
+        doReturn(pendingChanges).when(consumer).getPendingChanges();
+        doNothing().when(consumer).processQueues(any(Context.class));
+
+        converted = consumer.new DSOIdentifier(Constants.ITEM, UUID.randomUUID(), null, List.of());
+        deleted = consumer.new DSOIdentifier(Constants.ITEM, UUID.randomUUID(), null, List.of());
+        consumer.toConvert = new LinkedList<>(List.of(converted));
+        consumer.toDelete = new LinkedList<>(List.of(deleted));
+    }
+
+    @Test
+    public void testEndProcessesTheQueues() throws Exception {
+        when(pendingChanges.getFlushInterval()).thenReturn(0);
+
+        consumer.end(context);
+
+        verify(consumer).processQueues(context);
+        verify(pendingChanges, never()).add(anyCollection(), anyCollection());
+    }
+
+    @Test
+    public void testEndDefersTheChanges() throws Exception {
+        when(pendingChanges.getFlushInterval()).thenReturn(60);
+
+        consumer.end(context);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<RDFConsumer.DSOIdentifier>> conversions = ArgumentCaptor.forClass(Collection.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<RDFConsumer.DSOIdentifier>> deletions = ArgumentCaptor.forClass(Collection.class);
+        verify(pendingChanges).add(conversions.capture(), deletions.capture());
+        assertEquals(List.of(converted), List.copyOf(conversions.getValue()));
+        assertEquals(List.of(deleted), List.copyOf(deletions.getValue()));
+        verify(consumer, never()).processQueues(any(Context.class));
+
+        // the next transaction starts with empty queues
+        assertNull(consumer.toConvert);
+        assertNull(consumer.toDelete);
+    }
+}
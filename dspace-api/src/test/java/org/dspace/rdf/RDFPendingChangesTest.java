@@ -0,0 +1,114 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.rdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.dspace.core.Constants;
+import org.dspace.services.ConfigurationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RDFPendingChangesTest {
+
+    private final RDFConsumer consumer = new RDFConsumer();
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+    private final UUID d = UUID.randomUUID();
+
+    private ConfigurationService configurationService;
+    private RDFPendingChanges pendingChanges;
+
+    @Before
+    public void setUp() {
+        configurationService = mock(ConfigurationService.class);
+        when(configurationService.getIntProperty("rdf.consumer.flushInterval", 0)).thenReturn(3600);
+        when(configurationService.getIntProperty("rdf.consumer.maxPending", 1000)).thenReturn(1000);
+
+        pendingChanges = spy(new RDFPendingChanges());
+        pendingChanges.configurationService = configurationService;
+        doNothing().when(pendingChanges).process(anyList(), anyList());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        pendingChanges.destroy();
+    }
+
+    @Test
+    public void testCoalescing() {
+        pendingChanges.add(List.of(id(a), id(b)), List.of());
+        // b deleted in a later transaction
+        pendingChanges.add(List.of(id(a)), List.of(id(b)));
+        pendingChanges.add(List.of(id(c)), List.of());
+        // b created again: converted, not deleted
+        pendingChanges.add(List.of(id(b)), List.of());
+        // d converted and deleted in the same transaction: deleted only
+        pendingChanges.add(List.of(id(d)), List.of(id(d)));
+        verify(pendingChanges, never()).process(anyList(), anyList());
+
+        pendingChanges.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RDFConsumer.DSOIdentifier>> conversions = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RDFConsumer.DSOIdentifier>> deletions = ArgumentCaptor.forClass(List.class);
+        verify(pendingChanges).process(conversions.capture(), deletions.capture());
+        assertEquals(List.of(a, c, b), ids(conversions.getValue()));
+        assertEquals(List.of(d), ids(deletions.getValue()));
+
+        // nothing is pending anymore
+        pendingChanges.flush();
+        verify(pendingChanges).process(anyList(), anyList());
+    }
+
+    @Test
+    public void testFlushedWhenTooManyPending() {
+        when(configurationService.getIntProperty("rdf.consumer.maxPending", 1000)).thenReturn(2);
+
+        pendingChanges.add(List.of(id(a)), List.of());
+        verify(pendingChanges, never()).process(anyList(), anyList());
+        pendingChanges.add(List.of(id(b)), List.of());
+
+        // flushed by the flushing thread
+        verify(pendingChanges, timeout(10000)).process(anyList(), anyList());
+    }
+
+    @Test
+    public void testFlushedOnDestroy() throws Exception {
+        pendingChanges.add(List.of(id(a)), List.of(id(b)));
+
+        pendingChanges.destroy();
+
+        verify(pendingChanges).process(anyList(), anyList());
+    }
+
+    private RDFConsumer.DSOIdentifier id(UUID uuid) {
+        return consumer.new DSOIdentifier(Constants.ITEM, uuid, null, List.of());
+    }
+
+    private List<UUID> ids(List<RDFConsumer.DSOIdentifier> identifiers) {
+        return identifiers.stream().map(identifier -> identifier.id).collect(Collectors.toList());
+    }
+}
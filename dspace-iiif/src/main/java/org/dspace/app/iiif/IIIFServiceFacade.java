@@ -19,6 +19,7 @@ import org.dspace.content.Item;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
+import org.dspace.iiif.manifest.ManifestStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
@@ -55,6 +56,9 @@ public class IIIFServiceFacade {
     @Autowired
     IIIFUtils utils;
 
+    @Autowired
+    ManifestStore manifestStore;
+
     /**
      * The manifest response contains sufficient information for the client to initialize itself
      * and begin to display something quickly to the user. The manifest resource represents a single
@@ -64,10 +68,14 @@ public class IIIFServiceFacade {
      *
      * Returns manifest for single DSpace item.
      *
+     * When the manifest store is enabled, the manifests are persisted with the fingerprint of the item
+     * and only rebuilt when it changes. The in-memory cache is then not used, as it cannot see the
+     * changes made on the other nodes sharing the store.
+     *
      * @param id DSpace Item uuid
      * @return manifest as JSON
      */
-    @Cacheable(key = "#id.toString()", cacheNames = "manifests")
+    @Cacheable(key = "#id.toString()", cacheNames = "manifests", condition = "!@manifestStore.enabled")
     @PreAuthorize("hasPermission(#id, 'ITEM', 'READ')")
     public String getManifest(Context context, UUID id)
             throws ResourceNotFoundException {
@@ -80,7 +88,21 @@ public class IIIFServiceFacade {
         if (item == null || !utils.isIIIFEnabled(item)) {
             throw new ResourceNotFoundException("IIIF manifest for  id " + id + " not found");
         }
-        return manifestService.getManifest(item, context);
+        if (!manifestStore.isEnabled()) {
+            return manifestService.getManifest(item, context);
+        }
+        String fingerprint;
+        try {
+            fingerprint = manifestStore.getFingerprint(context, item);
+        } catch (SQLException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+        String manifest = manifestStore.get(id, fingerprint);
+        if (manifest == null) {
+            manifest = manifestService.getManifest(item, context);
+            manifestStore.put(id, fingerprint, manifest);
+        }
+        return manifest;
     }
 
     /**
@@ -24,14 +24,28 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
 
 import com.lyncode.xoai.dataprovider.exceptions.ConfigurationException;
 import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
+import com.lyncode.xoai.dataprovider.services.api.ResourceResolver;
 import com.lyncode.xoai.dataprovider.xml.XmlOutputContext;
 import com.lyncode.xoai.dataprovider.xml.xoai.Metadata;
 import org.apache.commons.cli.CommandLine;
@@ -43,6 +57,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrQuery.ORDER;
+import org.apache.solr.client.solrj.SolrRequest;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
@@ -72,6 +87,7 @@ import org.dspace.xoai.services.api.cache.XOAICacheService;
 import org.dspace.xoai.services.api.cache.XOAIItemCacheService;
 import org.dspace.xoai.services.api.cache.XOAILastCompilationCacheService;
 import org.dspace.xoai.services.api.solr.SolrServerResolver;
+import org.dspace.xoai.services.impl.resources.PrerenderedRecords;
 import org.dspace.xoai.solr.DSpaceSolrSearch;
 import org.dspace.xoai.solr.exceptions.DSpaceSolrException;
 import org.dspace.xoai.solr.exceptions.DSpaceSolrIndexerException;
@@ -85,6 +101,10 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 public class XOAI {
     private static Logger log = LogManager.getLogger(XOAI.class);
 
+    // markers of the end of the pages to compile and of the documents to write, when importing in parallel
+    private static final List<UUID> END_OF_PAGES = new ArrayList<>();
+    private static final List<SolrInputDocument> END_OF_DOCUMENTS = new ArrayList<>();
+
     // needed because the solr query only returns 10 rows by default
     private final Context context;
     private final boolean verbose;
@@ -98,6 +118,8 @@ public class XOAI {
     private XOAIItemCacheService xoaiItemCacheService;
     @Autowired
     private CollectionsService collectionsService;
+    @Autowired
+    private ResourceResolver resourceResolver;
 
     private final AuthorizeService authorizeService;
     private final ItemService itemService;
@@ -107,13 +129,23 @@ public class XOAI {
 
     private List<XOAIExtensionItemCompilePlugin> extensionPlugins;
 
-    private List<String> getFileFormats(Item item) {
+    /**
+     * Number of threads compiling the items while importing them, 1 to compile them in the current thread.
+     */
+    private int threads = 1;
+
+    /**
+     * Renderer of the items in the metadata formats of oai.import.prerender.formats, null if there are none.
+     */
+    private PrerenderedRecords prerenderedRecords;
+
+    private List<String> getFileFormats(Context ctx, Item item) {
         List<String> formats = new ArrayList<>();
         try {
             for (Bundle b : itemService.getBundles(item, "ORIGINAL")) {
                 for (Bitstream bs : b.getBitstreams()) {
-                    if (bs != null && !formats.contains(bs.getFormat(context).getMIMEType())) {
-                        formats.add(bs.getFormat(context).getMIMEType());
+                    if (bs != null && !formats.contains(bs.getFormat(ctx).getMIMEType())) {
+                        formats.add(bs.getFormat(ctx).getMIMEType());
                     }
                 }
             }
@@ -146,6 +178,16 @@ public class XOAI {
                 .getServicesByType(XOAIExtensionItemCompilePlugin.class);
     }
 
+    /**
+     * Set the number of threads compiling the items while importing them. With more than one thread, the items are
+     * compiled by as many workers, each with its own context, and written to the index by a single writer.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
     private void println(String line) {
         System.out.println(line);
     }
@@ -153,6 +195,10 @@ public class XOAI {
     public int index() throws DSpaceSolrIndexerException {
         int result = 0;
         try {
+            String[] prerenderedFormats = configurationService.getArrayProperty("oai.import.prerender.formats");
+            if (prerenderedFormats.length > 0) {
+                prerenderedRecords = new PrerenderedRecords(resourceResolver, Arrays.asList(prerenderedFormats));
+            }
 
             if (clean) {
                 clearIndex();
@@ -177,7 +223,7 @@ public class XOAI {
             // Set last compilation date
             xoaiLastCompilationCacheService.put(Instant.now());
             return result;
-        } catch (DSpaceSolrException | SolrServerException | IOException ex) {
+        } catch (DSpaceSolrException | SolrServerException | IOException | TransformerConfigurationException ex) {
             throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
         }
     }
@@ -273,75 +319,83 @@ public class XOAI {
     }
 
     /**
-     * Check if an item is already indexed. Using this, it is possible to check if
-     * withdrawn or nondiscoverable items have to be indexed at all.
+     * Get the visibility flag (item.public) of the items of a page which are already indexed, with a single query.
+     * Using this, it is possible to check if withdrawn or nondiscoverable items have to be indexed at all, and to keep
+     * the visibility of the embargoed items which are already indexed.
      *
-     * @param item Item that should be checked for its presence in the index.
-     * @return has it been indexed?
+     * @param itemIds ids of the items that should be checked for their presence in the index.
+     * @return the visibility flag of the indexed items, by id. The items which are not indexed are not in the map.
      */
-    private boolean checkIfIndexed(Item item) throws IOException {
-        SolrQuery params = new SolrQuery("item.id:" + item.getID().toString()).addField("item.id");
-        try {
-            SolrDocumentList documents = DSpaceSolrSearch.query(solrServerResolver.getServer(), params);
-            return documents.getNumFound() == 1;
-        } catch (DSpaceSolrException | SolrServerException e) {
-            return false;
+    Map<UUID, Boolean> getIndexedVisibility(List<UUID> itemIds) throws IOException {
+        Map<UUID, Boolean> visibility = new HashMap<>();
+        if (itemIds.isEmpty()) {
+            return visibility;
         }
-    }
-
-    /**
-     * Check if an item is flagged visible in the index.
-     *
-     * @param item Item that should be checked for its presence in the index.
-     * @return has it been indexed?
-     */
-    private boolean checkIfVisibleInOAI(Item item) throws IOException {
-        SolrQuery params = new SolrQuery("item.id:" + item.getID().toString()).addField("item.public");
+        String ids = itemIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        SolrQuery params = new SolrQuery("{!terms f=item.id}" + ids).setFields("item.id", "item.public")
+                                                                   .setRows(itemIds.size());
         try {
-            SolrDocumentList documents = DSpaceSolrSearch.query(solrServerResolver.getServer(), params);
-            if (documents.getNumFound() == 1) {
-                return (boolean) documents.get(0).getFieldValue("item.public");
-            } else {
-                return false;
+            QueryResponse response = solrServerResolver.getServer().query(params, SolrRequest.METHOD.POST);
+            for (SolrDocument document : response.getResults()) {
+                Object isPublic = document.getFieldValue("item.public");
+                visibility.put(UUID.fromString(document.getFieldValue("item.id").toString()),
+                               isPublic != null && (boolean) isPublic);
             }
-        } catch (DSpaceSolrException | SolrServerException e) {
-            return false;
+        } catch (SolrServerException e) {
+            log.error("Unable to get the visibility of the indexed items", e);
         }
+        return visibility;
     }
 
     private int index(Iterator<Item> iterator) throws DSpaceSolrIndexerException {
+        if (threads > 1) {
+            return indexInParallel(iterator);
+        }
         try {
             int i = 0;
             int batchSize = configurationService.getIntProperty("oai.import.batch.size", 1000);
             SolrClient server = solrServerResolver.getServer();
+            int lookupSize = configurationService.getIntProperty("oai.import.lookup.size", 100);
             ArrayList<SolrInputDocument> list = new ArrayList<>();
+            List<Item> page = new ArrayList<>();
             while (iterator.hasNext()) {
-                try {
-                    Item item = iterator.next();
-                    if (item.getHandle() == null) {
-                        log.warn("Skipped item without handle: " + item.getID());
-                    } else {
-                        list.add(this.index(item));
-                    }
-                    // Uncache the item to keep memory consumption low
-                    context.uncacheEntity(item);
-
-                } catch (SQLException | IOException | XMLStreamException | WritingXmlException ex) {
-                    log.error(ex.getMessage(), ex);
+                // Read the next page of items, which must not span two batches as the entities are uncached after
+                // each batch, and get the visibility of all of them in the index at once
+                page.clear();
+                int pageSize = Math.max(1, Math.min(lookupSize, batchSize - i % batchSize));
+                while (iterator.hasNext() && page.size() < pageSize) {
+                    page.add(iterator.next());
                 }
-                i++;
-                if (i % 1000 == 0 && batchSize != 1000) {
-                    System.out.println(i + " items imported so far...");
-                }
-                if (i % batchSize == 0) {
-                    System.out.println(i + " items imported so far...");
-                    server.add(list);
-                    server.commit();
-                    list.clear();
+                Map<UUID, Boolean> indexedVisibility = this.getIndexedVisibility(
+                    page.stream().map(Item::getID).collect(Collectors.toList()));
+
+                for (Item item : page) {
                     try {
-                        context.uncacheEntities();
-                    } catch (SQLException ex) {
-                        log.error("Error uncaching entities", ex);
+                        if (item.getHandle() == null) {
+                            log.warn("Skipped item without handle: " + item.getID());
+                        } else {
+                            list.add(this.index(context, item, indexedVisibility));
+                        }
+                        // Uncache the item to keep memory consumption low
+                        context.uncacheEntity(item);
+
+                    } catch (SQLException | IOException | XMLStreamException | WritingXmlException ex) {
+                        log.error(ex.getMessage(), ex);
+                    }
+                    i++;
+                    if (i % 1000 == 0 && batchSize != 1000) {
+                        System.out.println(i + " items imported so far...");
+                    }
+                    if (i % batchSize == 0) {
+                        System.out.println(i + " items imported so far...");
+                        server.add(list);
+                        server.commit();
+                        list.clear();
+                        try {
+                            context.uncacheEntities();
+                        } catch (SQLException ex) {
+                            log.error("Error uncaching entities", ex);
+                        }
                     }
                 }
             }
@@ -359,6 +413,212 @@ public class XOAI {
         }
     }
 
+    /**
+     * Index the items in parallel: this thread reads the ids of the items by pages, which are compiled into documents
+     * by {@link #threads} workers, each with its own context, and a single writer adds the documents to the index and
+     * commits them by batches.
+     *
+     * @param iterator the items to index
+     * @return the number of items read
+     */
+    private int indexInParallel(Iterator<Item> iterator) throws DSpaceSolrIndexerException {
+        int batchSize = configurationService.getIntProperty("oai.import.batch.size", 1000);
+        int lookupSize = configurationService.getIntProperty("oai.import.lookup.size", 100);
+        BlockingQueue<List<UUID>> pages = new ArrayBlockingQueue<>(threads * 2);
+        BlockingQueue<List<SolrInputDocument>> documents = new ArrayBlockingQueue<>(threads * 2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(executor.submit(() -> compilePages(pages, documents, failure)));
+            }
+            tasks.add(executor.submit(() -> writeDocuments(documents, batchSize, failure)));
+
+            int i = 0;
+            List<UUID> page = new ArrayList<>(lookupSize);
+            try {
+                while (iterator.hasNext() && failure.get() == null) {
+                    Item item = iterator.next();
+                    page.add(item.getID());
+                    // Uncache the item to keep memory consumption low, the workers read it again
+                    context.uncacheEntity(item);
+                    i++;
+                    if (page.size() == lookupSize) {
+                        if (!offer(pages, page, failure)) {
+                            break;
+                        }
+                        page = new ArrayList<>(lookupSize);
+                    }
+                    if (i % batchSize == 0) {
+                        context.uncacheEntities();
+                    }
+                }
+                if (!page.isEmpty() && failure.get() == null) {
+                    offer(pages, page, failure);
+                }
+            } finally {
+                for (int t = 0; t < threads; t++) {
+                    if (!offer(pages, END_OF_PAGES, failure)) {
+                        break;
+                    }
+                }
+            }
+            // After a failure, the workers and the writer may not be able to end: they are interrupted instead
+            if (failure.get() == null) {
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            }
+            if (failure.get() != null) {
+                throw new DSpaceSolrIndexerException(failure.get().getMessage(), failure.get());
+            }
+            System.out.println("Total: " + i + " items");
+            return i;
+        } catch (SQLException | ExecutionException ex) {
+            throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Put an element in a queue of {@link #indexInParallel}, waiting for space unless a failure happens meanwhile,
+     * as the threads taking the elements may have stopped.
+     *
+     * @return whether the element has been put
+     */
+    private static <T> boolean offer(BlockingQueue<T> queue, T element, AtomicReference<Exception> failure)
+        throws InterruptedException {
+        while (!queue.offer(element, 1, TimeUnit.SECONDS)) {
+            if (failure.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Worker of {@link #indexInParallel}: compile the pages of items into documents with its own context, until the
+     * end of the pages. After a failure, the remaining pages are discarded. The end of its documents is always
+     * posted, so that the writer does not wait for it.
+     */
+    private void compilePages(BlockingQueue<List<UUID>> pages, BlockingQueue<List<SolrInputDocument>> documents,
+                              AtomicReference<Exception> failure) {
+        Context workerContext = null;
+        try {
+            workerContext = new Context(Context.Mode.READ_ONLY);
+            List<UUID> page;
+            while ((page = pages.take()) != END_OF_PAGES) {
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    documents.put(compilePage(workerContext, page));
+                } catch (SQLException | IOException | RuntimeException ex) {
+                    failure.compareAndSet(null, ex);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            failure.compareAndSet(null, ex);
+        } finally {
+            if (workerContext != null) {
+                workerContext.abort();
+            }
+            try {
+                documents.put(END_OF_DOCUMENTS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Compile a page of items into documents, reading them with the given context.
+     */
+    private List<SolrInputDocument> compilePage(Context workerContext, List<UUID> page)
+        throws SQLException, IOException {
+        Map<UUID, Boolean> indexedVisibility = this.getIndexedVisibility(page);
+        List<SolrInputDocument> pageDocuments = new ArrayList<>(page.size());
+        for (UUID id : page) {
+            Item item = itemService.find(workerContext, id);
+            if (item == null) {
+                continue;
+            }
+            try {
+                if (item.getHandle() == null) {
+                    log.warn("Skipped item without handle: " + item.getID());
+                } else {
+                    pageDocuments.add(this.index(workerContext, item, indexedVisibility));
+                }
+            } catch (SQLException | IOException | XMLStreamException | WritingXmlException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+            // Uncache the item to keep memory consumption low
+            workerContext.uncacheEntity(item);
+        }
+        workerContext.uncacheEntities();
+        return pageDocuments;
+    }
+
+    /**
+     * Writer of {@link #indexInParallel}: add the compiled documents to the index and commit them by batches, until
+     * all the workers are done. After a failure (e.g. a document rejected by Solr), the remaining documents are
+     * discarded, but still taken so that the workers are not blocked.
+     */
+    private void writeDocuments(BlockingQueue<List<SolrInputDocument>> documents, int batchSize,
+                                AtomicReference<Exception> failure) {
+        SolrClient server = null;
+        try {
+            server = solrServerResolver.getServer();
+        } catch (Exception ex) {
+            failure.compareAndSet(null, ex);
+        }
+        List<SolrInputDocument> list = new ArrayList<>();
+        int written = 0;
+        int runningWorkers = threads;
+        try {
+            while (runningWorkers > 0) {
+                List<SolrInputDocument> pageDocuments = documents.take();
+                if (pageDocuments == END_OF_DOCUMENTS) {
+                    runningWorkers--;
+                } else if (failure.get() == null) {
+                    list.addAll(pageDocuments);
+                    try {
+                        if (list.size() >= batchSize) {
+                            written += list.size();
+                            server.add(list);
+                            server.commit();
+                            list.clear();
+                            System.out.println(written + " items imported so far...");
+                        }
+                    } catch (Exception ex) {
+                        failure.compareAndSet(null, ex);
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (failure.get() == null) {
+            try {
+                if (!list.isEmpty()) {
+                    server.add(list);
+                }
+                server.commit(true, true);
+            } catch (Exception ex) {
+                failure.compareAndSet(null, ex);
+            }
+        }
+    }
+
     /**
      * Method to get the most recent date on which the item changed concerning the
      * OAI deleted status (policy start and end dates for all anonymous READ
@@ -368,9 +628,9 @@ public class XOAI {
      * @return date
      * @throws SQLException
      */
-    private Instant getMostRecentModificationDate(Item item) throws SQLException {
+    private Instant getMostRecentModificationDate(Context ctx, Item item) throws SQLException {
         List<Instant> dates = new LinkedList<>();
-        List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, item, Constants.READ);
+        List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(ctx, item, Constants.READ);
         for (ResourcePolicy policy : policies) {
             if ((policy.getGroup() != null) && (policy.getGroup().getName().equals("Anonymous"))) {
                 if (policy.getStartDate() != null) {
@@ -380,7 +640,7 @@ public class XOAI {
                     dates.add(policy.getEndDate().atStartOfDay(ZoneOffset.UTC).toInstant());
                 }
             }
-            context.uncacheEntity(policy);
+            ctx.uncacheEntity(policy);
         }
         dates.add(item.getLastModified());
         Collections.sort(dates);
@@ -394,7 +654,16 @@ public class XOAI {
         return lastChange;
     }
 
-    private SolrInputDocument index(Item item)
+    /**
+     * Build the index document of an item.
+     *
+     * @param ctx               the context to read the item with
+     * @param item              the item
+     * @param indexedVisibility the visibility flag of the items already indexed, see
+     *                          {@link #getIndexedVisibility(List)}
+     * @return the document
+     */
+    private SolrInputDocument index(Context ctx, Item item, Map<UUID, Boolean> indexedVisibility)
             throws SQLException, IOException, XMLStreamException, WritingXmlException {
         SolrInputDocument doc = new SolrInputDocument();
         doc.addField("item.id", item.getID().toString());
@@ -402,9 +671,9 @@ public class XOAI {
         String handle = item.getHandle();
         doc.addField("item.handle", handle);
 
-        boolean isEmbargoed = !this.isPublic(item);
-        boolean isCurrentlyVisible = this.checkIfVisibleInOAI(item);
-        boolean isIndexed = this.checkIfIndexed(item);
+        boolean isEmbargoed = !this.isPublic(ctx, item);
+        boolean isIndexed = indexedVisibility.containsKey(item.getID());
+        boolean isCurrentlyVisible = isIndexed && indexedVisibility.get(item.getID());
 
         /*
          * If the item is not under embargo, it should be visible. If it is, make it
@@ -425,7 +694,7 @@ public class XOAI {
         // if the visibility of the item will change in the future due to an
         // embargo, mark it as such.
 
-        doc.addField("item.willChangeStatus", willChangeStatus(item));
+        doc.addField("item.willChangeStatus", willChangeStatus(ctx, item));
 
         /*
          * Mark an item as deleted not only if it is withdrawn, but also if it is made
@@ -446,7 +715,7 @@ public class XOAI {
          * date and take the most recent of those which have already passed.
          */
         doc.addField("item.lastmodified",
-                SolrUtils.getDateFormatter().format(this.getMostRecentModificationDate(item)));
+                SolrUtils.getDateFormatter().format(this.getMostRecentModificationDate(ctx, item)));
 
         if (item.getSubmitter() != null) {
             doc.addField("item.submitter", item.getSubmitter().getEmail());
@@ -455,7 +724,7 @@ public class XOAI {
         for (Collection col : item.getCollections()) {
             doc.addField("item.collections", "col_" + col.getHandle().replace("/", "_"));
         }
-        for (Community com : collectionsService.flatParentCommunities(context, item)) {
+        for (Community com : collectionsService.flatParentCommunities(ctx, item)) {
             doc.addField("item.communities", "com_" + com.getHandle().replace("/", "_"));
         }
 
@@ -483,7 +752,7 @@ public class XOAI {
             }
         }
 
-        for (String f : getFileFormats(item)) {
+        for (String f : getFileFormats(ctx, item)) {
             doc.addField("metadata.dc.format.mimetype", f);
         }
 
@@ -494,17 +763,29 @@ public class XOAI {
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         XmlOutputContext xmlContext = XmlOutputContext.emptyContext(out, Second);
-        Metadata metadata = retrieveMetadata(context, item);
+        Metadata metadata = retrieveMetadata(ctx, item);
 
         // Do any additional metadata element, depends on the plugins
         for (XOAIExtensionItemCompilePlugin plugin : extensionPlugins) {
-            metadata = plugin.additionalMetadata(context, metadata, item);
+            metadata = plugin.additionalMetadata(ctx, metadata, item);
         }
 
         metadata.write(xmlContext);
         xmlContext.getWriter().flush();
         xmlContext.getWriter().close();
-        doc.addField("item.compile", out.toString());
+        String compiled = out.toString();
+        doc.addField("item.compile", compiled);
+
+        if (prerenderedRecords != null) {
+            try {
+                for (Map.Entry<String, String> record : prerenderedRecords.render(compiled).entrySet()) {
+                    doc.addField(PrerenderedRecords.FIELD_PREFIX + record.getKey(), record.getValue());
+                }
+            } catch (TransformerException e) {
+                // the records of the item will be rendered on request
+                log.warn("Unable to pre-render the records of item " + item.getID(), e);
+            }
+        }
 
         if (verbose) {
             println(String.format("Item %s with handle %s indexed", item.getID().toString(), handle));
@@ -513,8 +794,8 @@ public class XOAI {
         return doc;
     }
 
-    private boolean willChangeStatus(Item item) throws SQLException {
-        List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, item, Constants.READ);
+    private boolean willChangeStatus(Context ctx, Item item) throws SQLException {
+        List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(ctx, item, Constants.READ);
         for (ResourcePolicy policy : policies) {
             if ((policy.getGroup() != null) && (policy.getGroup().getName().equals("Anonymous"))) {
                 if (policy.getStartDate() != null && policy.getStartDate().isAfter(LocalDate.now(ZoneOffset.UTC))) {
@@ -524,16 +805,16 @@ public class XOAI {
                     return true;
                 }
             }
-            context.uncacheEntity(policy);
+            ctx.uncacheEntity(policy);
         }
         return false;
     }
 
-    private boolean isPublic(Item item) {
+    private boolean isPublic(Context ctx, Item item) {
         boolean pub = false;
         try {
             // Check if READ access allowed on this Item
-            pub = authorizeService.authorizeActionBoolean(context, item, Constants.READ);
+            pub = authorizeService.authorizeActionBoolean(ctx, item, Constants.READ);
         } catch (SQLException ex) {
             log.error(ex.getMessage());
         }
@@ -600,6 +881,7 @@ public class XOAI {
             options.addOption("v", "verbose", false, "Verbose output");
             options.addOption("h", "help", false, "Shows some help");
             options.addOption("n", "number", true, "FOR DEVELOPMENT MUST DELETE");
+            options.addOption("t", "threads", true, "Number of threads compiling the items (import only)");
             CommandLine line = parser.parse(options, argv);
 
             String[] validSolrCommands = { COMMAND_IMPORT, COMMAND_CLEAN_CACHE };
@@ -633,6 +915,8 @@ public class XOAI {
                     XOAI indexer = new XOAI(ctx, line.hasOption('c'), line.hasOption('v'));
 
                     applicationContext.getAutowireCapableBeanFactory().autowireBean(indexer);
+                    indexer.setThreads(line.hasOption('t') ? Integer.parseInt(line.getOptionValue('t'))
+                                           : configurationService.getIntProperty("oai.import.threads", 1));
 
                     int imported = indexer.index();
                     if (imported > 0) {
@@ -717,6 +1001,7 @@ public class XOAI {
             System.out.println("     " + COMMAND_CLEAN_CACHE + " - Cleans the OAI cached responses");
             System.out.println("> Parameters:");
             System.out.println("     -c Clear index (" + COMMAND_IMPORT + " only)");
+            System.out.println("     -t <threads> Number of threads compiling the items (" + COMMAND_IMPORT + " only)");
             System.out.println("     -v Verbose output");
             System.out.println("     -h Shows this text");
         } else {
@@ -22,6 +22,7 @@ import javax.xml.stream.XMLStreamException;
 import com.lyncode.xoai.dataprovider.OAIDataProvider;
 import com.lyncode.xoai.dataprovider.OAIRequestParameters;
 import com.lyncode.xoai.dataprovider.core.XOAIManager;
+import com.lyncode.xoai.dataprovider.exceptions.BadResumptionToken;
 import com.lyncode.xoai.dataprovider.exceptions.InvalidContextException;
 import com.lyncode.xoai.dataprovider.exceptions.OAIException;
 import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
@@ -38,6 +39,7 @@ import org.dspace.xoai.services.api.context.ContextServiceException;
 import org.dspace.xoai.services.api.xoai.IdentifyResolver;
 import org.dspace.xoai.services.api.xoai.ItemRepositoryResolver;
 import org.dspace.xoai.services.api.xoai.SetRepositoryResolver;
+import org.dspace.xoai.services.impl.resources.PrerenderedRecords;
 import org.dspace.xoai.services.impl.xoai.DSpaceResumptionTokenFormatter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -114,6 +116,9 @@ public class DSpaceOAIDataProvider {
 
             String identification = xoaiContext + parameters.requestID();
 
+            // the items give their records pre-rendered in the requested format, if any
+            PrerenderedRecords.open(getPrerenderedPrefix(request));
+
             if (cacheService.isActive()) {
                 if (!cacheService.hasCache(identification)) {
                     cacheService.store(identification, dataProvider.handle(parameters));
@@ -157,6 +162,7 @@ public class DSpaceOAIDataProvider {
             response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
                                "Unexpected error while writing the output. For more information visit the log files.");
         } finally {
+            PrerenderedRecords.close();
             closeContext(context);
         }
 
@@ -169,6 +175,27 @@ public class DSpaceOAIDataProvider {
         }
     }
 
+    /**
+     * Get the metadata format of the records of a GetRecord or ListRecords request, from its metadataPrefix or
+     * from its resumption token.
+     */
+    private String getPrerenderedPrefix(HttpServletRequest request) {
+        String verb = request.getParameter("verb");
+        if (!"GetRecord".equals(verb) && !"ListRecords".equals(verb)) {
+            return null;
+        }
+        String resumptionToken = request.getParameter("resumptionToken");
+        if (resumptionToken == null) {
+            return request.getParameter("metadataPrefix");
+        }
+        try {
+            return resumptionTokenFormat.parse(resumptionToken).getMetadataPrefix();
+        } catch (BadResumptionToken e) {
+            // answered by the data provider
+            return null;
+        }
+    }
+
     private Map<String, List<String>> buildParametersMap(
         HttpServletRequest request) {
         Map<String, List<String>> map = new HashMap<String, List<String>>();
@@ -14,6 +14,7 @@ import java.util.regex.Pattern;
 import com.google.common.base.Predicate;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Lists;
+import com.lyncode.xoai.dataprovider.core.ItemMetadata;
 import com.lyncode.xoai.dataprovider.data.About;
 import com.lyncode.xoai.dataprovider.data.Item;
 import com.lyncode.xoai.dataprovider.xml.xoai.Element;
@@ -54,13 +55,22 @@ public abstract class DSpaceItem implements Item {
     }
 
 
+    /**
+     * Get the compiled metadata of the item, which {@link #getMetadata()} may replace by a pre-rendered record.
+     *
+     * @return the compiled metadata
+     */
+    protected ItemMetadata getCompiledMetadata() {
+        return getMetadata();
+    }
+
     private List<String> getMetadata(String schema, String element) {
-        List<Element> metadata = this.getMetadata().getMetadata().getElement();
+        List<Element> metadata = this.getCompiledMetadata().getMetadata().getElement();
         return values(filter(flat(filter(metadata, schema)), element));
     }
 
     private List<String> getMetadata(String schema, String element, String qualifier) {
-        List<Element> metadata = this.getMetadata().getMetadata().getElement();
+        List<Element> metadata = this.getCompiledMetadata().getMetadata().getElement();
         return values(filter(flat(filter(flat(filter(metadata, schema)), element)), qualifier));
     }
 
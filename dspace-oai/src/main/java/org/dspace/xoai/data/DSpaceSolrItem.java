@@ -17,6 +17,7 @@ import com.lyncode.xoai.dataprovider.core.ReferenceSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.solr.common.SolrDocument;
+import org.dspace.xoai.services.impl.resources.PrerenderedRecords;
 
 /**
  * @author Lyncode Development Team (dspace at lyncode dot com)
@@ -26,15 +27,36 @@ public class DSpaceSolrItem extends DSpaceItem {
         .getLogger(DSpaceSolrItem.class);
 
     private final String unparsedMD;
+    private final String rendered;
     private ItemMetadata metadata;
+    private ItemMetadata compiledMetadata;
     private final String handle;
     private final Instant lastMod;
     private final List<ReferenceSet> sets;
     private final boolean deleted;
 
+    /**
+     * Get the index fields read by the items, which leave out the records pre-rendered in the other metadata formats
+     * than the requested one.
+     *
+     * @return the fields
+     */
+    public static String[] getFields() {
+        String metadataPrefix = PrerenderedRecords.getMetadataPrefix();
+        List<String> fields = new ArrayList<>(List.of("item.compile", "item.handle", "item.lastmodified",
+                                                      "item.communities", "item.collections", "item.deleted"));
+        if (metadataPrefix != null) {
+            fields.add(PrerenderedRecords.FIELD_PREFIX + metadataPrefix);
+        }
+        return fields.toArray(new String[0]);
+    }
+
     public DSpaceSolrItem(SolrDocument doc) {
         log.debug("Creating OAI Item from Solr source");
         unparsedMD = (String) doc.getFieldValue("item.compile");
+        String metadataPrefix = PrerenderedRecords.getMetadataPrefix();
+        rendered = metadataPrefix != null
+            ? (String) doc.getFieldValue(PrerenderedRecords.FIELD_PREFIX + metadataPrefix) : null;
         handle = (String) doc.getFieldValue("item.handle");
         lastMod = ((java.util.Date) doc.getFieldValue("item.lastmodified")).toInstant();
         sets = new ArrayList<>();
@@ -58,14 +80,27 @@ public class DSpaceSolrItem extends DSpaceItem {
         deleted = (Boolean) doc.getFieldValue("item.deleted");
     }
 
+    /**
+     * Get the metadata of the item, or the stub of its record in the requested metadata format if it has been
+     * pre-rendered (see {@link PrerenderedRecords}).
+     */
     @Override
     public ItemMetadata getMetadata() {
         if (metadata == null) {
-            metadata = new ItemMetadata(unparsedMD);
+            metadata = rendered != null ? new ItemMetadata(PrerenderedRecords.register(handle, unparsedMD, rendered))
+                : getCompiledMetadata();
         }
         return metadata;
     }
 
+    @Override
+    protected ItemMetadata getCompiledMetadata() {
+        if (compiledMetadata == null) {
+            compiledMetadata = new ItemMetadata(unparsedMD);
+        }
+        return compiledMetadata;
+    }
+
     @Override
     public java.util.Date getDatestamp() {
         return java.util.Date.from(lastMod);
@@ -20,7 +20,6 @@ import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
 import com.lyncode.xoai.dataprovider.xml.XmlOutputContext;
 import com.lyncode.xoai.dataprovider.xml.xoai.Metadata;
 import com.lyncode.xoai.dataprovider.xml.xoai.XOAIParser;
-import org.apache.commons.io.FileUtils;
 import org.dspace.content.Item;
 import org.dspace.xoai.services.api.cache.XOAIItemCacheService;
 import org.dspace.xoai.services.api.config.ConfigurationService;
@@ -62,7 +61,6 @@ public class DSpaceXOAIItemCacheService implements XOAIItemCacheService {
 
     @Override
     public Metadata get(Item item) throws IOException {
-        System.out.println(FileUtils.readFileToString(getMetadataCache(item)));
         Metadata metadata;
         FileInputStream input = new FileInputStream(getMetadataCache(item));
         try {
@@ -11,6 +11,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerConfigurationException;
@@ -18,16 +20,23 @@ import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamSource;
 
 import com.lyncode.xoai.dataprovider.services.api.ResourceResolver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 
 public class DSpaceResourceResolver implements ResourceResolver {
+    private static final Logger log = LogManager.getLogger(DSpaceResourceResolver.class);
+
     // Requires usage of Saxon as OAI-PMH uses some XSLT 2 functions
     private static final TransformerFactory transformerFactory = TransformerFactory
             .newInstance("net.sf.saxon.TransformerFactoryImpl", null);
 
     private final String basePath;
 
+    // the metadata formats by path of their crosswalk, for the crosswalks to write the pre-rendered records
+    private Map<String, String> formatPrefixes;
+
     public DSpaceResourceResolver() {
         ConfigurationService configurationService
                 = DSpaceServicesFactory.getInstance().getConfigurationService();
@@ -48,6 +57,19 @@ public class DSpaceResourceResolver implements ResourceResolver {
         // XSLT-files (like <xsl:import href="utils.xsl"/>)
         String systemId = basePath + "/" + path;
         mySrc.setSystemId(systemId);
-        return transformerFactory.newTemplates(mySrc);
+        return new PrerenderedTemplates(transformerFactory.newTemplates(mySrc), getFormatPrefix(path));
+    }
+
+    private synchronized String getFormatPrefix(String path) {
+        if (formatPrefixes == null) {
+            formatPrefixes = new HashMap<>();
+            try {
+                PrerenderedRecords.readFormatStylesheets(this)
+                                  .forEach((prefix, stylesheet) -> formatPrefixes.put(stylesheet, prefix));
+            } catch (IOException e) {
+                log.error("Unable to read the metadata formats, the pre-rendered records won't be used", e);
+            }
+        }
+        return formatPrefixes.get(path);
     }
 }
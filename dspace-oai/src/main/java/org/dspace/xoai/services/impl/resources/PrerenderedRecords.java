@@ -0,0 +1,218 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.services.impl.resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import com.lyncode.xoai.dataprovider.services.api.ResourceResolver;
+import org.dspace.xoai.services.impl.context.DSpaceXOAIManagerResolver;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Records of the items rendered in some metadata formats when they are imported, so that the OAI requests for these
+ * formats don't run their XSLT crosswalk over the compiled metadata of every item again.
+ * <p>
+ * The import stores the output of the crosswalk of every format of oai.import.prerender.formats in the
+ * item.render.&lt;metadataPrefix&gt; field of the item, next to its compiled metadata. Both are replaced whenever
+ * the item is imported again after a modification.
+ * <p>
+ * The data provider applies the crosswalks itself, to the metadata given by the items. During a request for a
+ * pre-rendered format (see {@link #open(String)}), an item having a record for it gives a stub referring to the
+ * record instead of its metadata, and the crosswalks, wrapped by {@link PrerenderedTemplates}, write the record of the
+ * stub as it is. Any other crosswalk (or format) resolves the stub back to the compiled metadata of the item.
+ */
+public class PrerenderedRecords {
+
+    /**
+     * Prefix of the index fields of the pre-rendered records, followed by the prefix of their metadata format.
+     */
+    public static final String FIELD_PREFIX = "item.render.";
+
+    private static final String XOAI_NAMESPACE = "http://www.lyncode.com/xoai";
+    private static final String CONFIGURATION_NAMESPACE = "http://www.lyncode.com/XOAIConfiguration";
+
+    /**
+     * Name of the element of a stub, and of its field holding the handle of the item.
+     */
+    static final String STUB_ELEMENT = "prerendered";
+    static final String STUB_FIELD = "handle";
+
+    private static final ThreadLocal<Request> REQUEST = new ThreadLocal<>();
+
+    private final Map<String, Templates> templates = new LinkedHashMap<>();
+
+    /**
+     * Prepare the rendering of the items of an import in some metadata formats.
+     *
+     * @param resourceResolver the resolver of the XOAI configuration and crosswalks
+     * @param prefixes         the prefixes of the metadata formats to render
+     * @throws IOException                       if the configuration or a crosswalk cannot be read
+     * @throws TransformerConfigurationException if a crosswalk cannot be compiled
+     */
+    public PrerenderedRecords(ResourceResolver resourceResolver, List<String> prefixes)
+        throws IOException, TransformerConfigurationException {
+        Map<String, String> stylesheets = readFormatStylesheets(resourceResolver);
+        for (String prefix : prefixes) {
+            String stylesheet = stylesheets.get(prefix);
+            if (stylesheet == null) {
+                throw new IOException("No metadata format with the prefix " + prefix + " in "
+                                          + DSpaceXOAIManagerResolver.XOAI_CONFIGURATION_FILE);
+            }
+            templates.put(prefix, resourceResolver.getTemplates(stylesheet));
+        }
+    }
+
+    /**
+     * Render the compiled metadata of an item in all the metadata formats.
+     *
+     * @param compiled the compiled metadata of the item
+     * @return the records by prefix of their metadata format
+     * @throws TransformerException if a crosswalk fails
+     */
+    public Map<String, String> render(String compiled) throws TransformerException {
+        Map<String, String> records = new HashMap<>();
+        for (Map.Entry<String, Templates> format : templates.entrySet()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            format.getValue().newTransformer().transform(new StreamSource(new StringReader(compiled)),
+                                                         new StreamResult(out));
+            records.put(format.getKey(), out.toString(StandardCharsets.UTF_8));
+        }
+        return records;
+    }
+
+    /**
+     * Read the XSLT crosswalk of every metadata format of the XOAI configuration.
+     *
+     * @param resourceResolver the resolver of the XOAI configuration
+     * @return the paths of the crosswalks by prefix of their metadata format
+     * @throws IOException if the configuration cannot be read
+     */
+    public static Map<String, String> readFormatStylesheets(ResourceResolver resourceResolver) throws IOException {
+        Map<String, String> stylesheets = new HashMap<>();
+        try (InputStream in = resourceResolver.getResource(DSpaceXOAIManagerResolver.XOAI_CONFIGURATION_FILE)) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            Document configuration = factory.newDocumentBuilder().parse(in);
+            NodeList formats = configuration.getElementsByTagNameNS(CONFIGURATION_NAMESPACE, "Format");
+            for (int i = 0; i < formats.getLength(); i++) {
+                Element format = (Element) formats.item(i);
+                NodeList prefix = format.getElementsByTagNameNS(CONFIGURATION_NAMESPACE, "Prefix");
+                NodeList xslt = format.getElementsByTagNameNS(CONFIGURATION_NAMESPACE, "XSLT");
+                // the formats of the contexts are references, without prefix
+                if (prefix.getLength() > 0 && xslt.getLength() > 0) {
+                    stylesheets.put(prefix.item(0).getTextContent().trim(), xslt.item(0).getTextContent().trim());
+                }
+            }
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Unable to read the metadata formats of "
+                                      + DSpaceXOAIManagerResolver.XOAI_CONFIGURATION_FILE, e);
+        }
+        return stylesheets;
+    }
+
+    /**
+     * Start an OAI request in the current thread, for the items to give the stubs of their records in the requested
+     * metadata format instead of their metadata. It must be followed by {@link #close()}.
+     *
+     * @param metadataPrefix the requested metadata format, null if the request doesn't have one
+     */
+    public static void open(String metadataPrefix) {
+        if (metadataPrefix != null) {
+            REQUEST.set(new Request(metadataPrefix));
+        }
+    }
+
+    /**
+     * End the OAI request of the current thread, forgetting the records of its items.
+     */
+    public static void close() {
+        REQUEST.remove();
+    }
+
+    /**
+     * @return the metadata format requested in the current thread, null if no request for a format is open
+     */
+    public static String getMetadataPrefix() {
+        Request request = REQUEST.get();
+        return request != null ? request.metadataPrefix : null;
+    }
+
+    /**
+     * Register the record of an item in the requested metadata format.
+     *
+     * @param handle   the handle of the item
+     * @param compiled the compiled metadata of the item
+     * @param record   the record of the item in the requested metadata format
+     * @return the stub to give to the data provider instead of the metadata of the item, or the compiled metadata
+     * if no request is open
+     */
+    public static String register(String handle, String compiled, String record) {
+        Request request = REQUEST.get();
+        if (request == null) {
+            return compiled;
+        }
+        request.items.put(handle, new Record(compiled, record));
+        return "<metadata xmlns=\"" + XOAI_NAMESPACE + "\"><element name=\"" + STUB_ELEMENT + "\"><field name=\""
+            + STUB_FIELD + "\">" + handle + "</field></element></metadata>";
+    }
+
+    /**
+     * Get the record of an item registered by the request of the current thread.
+     */
+    static Record get(String handle) {
+        Request request = REQUEST.get();
+        return request != null ? request.items.get(handle) : null;
+    }
+
+    static boolean isOpen() {
+        return REQUEST.get() != null;
+    }
+
+    static boolean isStubNamespace(String namespace) {
+        return XOAI_NAMESPACE.equals(namespace);
+    }
+
+    private static class Request {
+        private final String metadataPrefix;
+        private final Map<String, Record> items = new HashMap<>();
+
+        private Request(String metadataPrefix) {
+            this.metadataPrefix = metadataPrefix;
+        }
+    }
+
+    static class Record {
+        final String compiled;
+        final String rendered;
+
+        Record(String compiled, String rendered) {
+            this.compiled = compiled;
+            this.rendered = rendered;
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.services.impl.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Properties;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.ErrorListener;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.commons.io.IOUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Crosswalk resolving the stubs given by the items during an OAI request (see {@link PrerenderedRecords}): the
+ * record of the stub is written as it is if the crosswalk is the one of its metadata format, otherwise the
+ * crosswalk is applied to the compiled metadata of the item. Any other source is transformed as usual.
+ */
+public class PrerenderedTemplates implements Templates {
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final TransformerFactory identityFactory = TransformerFactory.newInstance();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private final Templates templates;
+
+    private final String metadataPrefix;
+
+    /**
+     * @param templates      the crosswalk
+     * @param metadataPrefix the metadata format of the crosswalk, null if it isn't the crosswalk of a format
+     */
+    public PrerenderedTemplates(Templates templates, String metadataPrefix) {
+        this.templates = templates;
+        this.metadataPrefix = metadataPrefix;
+    }
+
+    @Override
+    public Transformer newTransformer() throws TransformerConfigurationException {
+        return new PrerenderedTransformer(templates.newTransformer());
+    }
+
+    @Override
+    public Properties getOutputProperties() {
+        return templates.getOutputProperties();
+    }
+
+    private class PrerenderedTransformer extends Transformer {
+        private final Transformer transformer;
+
+        // the records are rendered without parameters nor changes of the output
+        private boolean customized = false;
+
+        private PrerenderedTransformer(Transformer transformer) {
+            this.transformer = transformer;
+        }
+
+        @Override
+        public void transform(Source source, Result result) throws TransformerException {
+            if (!PrerenderedRecords.isOpen()) {
+                transformer.transform(source, result);
+                return;
+            }
+
+            Source buffered = buffer(source);
+            String handle = getStubHandle(buffered);
+            if (handle == null) {
+                transformer.transform(buffered, result);
+                return;
+            }
+
+            PrerenderedRecords.Record record = PrerenderedRecords.get(handle);
+            if (record == null) {
+                throw new TransformerException("No record registered for the item " + handle);
+            }
+            if (!customized && Objects.equals(metadataPrefix, PrerenderedRecords.getMetadataPrefix())) {
+                write(record.rendered, result);
+            } else {
+                transformer.transform(new StreamSource(new StringReader(record.compiled)), result);
+            }
+        }
+
+        /**
+         * Read a source into memory, for it to be read twice.
+         */
+        private Source buffer(Source source) throws TransformerException {
+            try {
+                if (source instanceof StreamSource stream) {
+                    if (stream.getInputStream() != null) {
+                        return new StreamSource(new ByteArrayInputStream(stream.getInputStream().readAllBytes()),
+                                                stream.getSystemId());
+                    } else if (stream.getReader() != null) {
+                        return new StreamSource(new StringReader(IOUtils.toString(stream.getReader())),
+                                                stream.getSystemId());
+                    }
+                    return source;
+                } else if (source instanceof DOMSource) {
+                    return source;
+                }
+            } catch (IOException e) {
+                throw new TransformerException(e);
+            }
+            DOMResult tree = new DOMResult();
+            identityFactory.newTransformer().transform(source, tree);
+            return new DOMSource(tree.getNode(), source.getSystemId());
+        }
+
+        /**
+         * Get the handle of the item of a stub, reading only the beginning of the source.
+         *
+         * @return the handle, null if the source is not a stub
+         */
+        private String getStubHandle(Source source) throws TransformerException {
+            if (source instanceof DOMSource dom) {
+                return getStubHandle(dom.getNode());
+            }
+            StreamSource stream = (StreamSource) source;
+            if (stream.getInputStream() == null && stream.getReader() == null) {
+                return null;
+            }
+            try {
+                XMLStreamReader reader = stream.getInputStream() != null
+                    ? inputFactory.createXMLStreamReader(stream.getInputStream())
+                    : inputFactory.createXMLStreamReader(stream.getReader());
+                try {
+                    if (!nextElement(reader, "metadata", null)
+                        || !nextElement(reader, "element", PrerenderedRecords.STUB_ELEMENT)
+                        || !nextElement(reader, "field", PrerenderedRecords.STUB_FIELD)) {
+                        return null;
+                    }
+                    return reader.getElementText().trim();
+                } finally {
+                    reader.close();
+                    reset(stream);
+                }
+            } catch (XMLStreamException e) {
+                throw new TransformerException(e);
+            }
+        }
+
+        private String getStubHandle(Node node) {
+            Element metadata = node instanceof Document document ? document.getDocumentElement()
+                : node instanceof Element element ? element : null;
+            Element stub = isStubElement(metadata, "metadata", null) ? firstChild(metadata) : null;
+            Element field = isStubElement(stub, "element", PrerenderedRecords.STUB_ELEMENT) ? firstChild(stub) : null;
+            return isStubElement(field, "field", PrerenderedRecords.STUB_FIELD) ? field.getTextContent().trim() : null;
+        }
+
+        private boolean isStubElement(Element element, String localName, String name) {
+            return element != null && PrerenderedRecords.isStubNamespace(element.getNamespaceURI())
+                && localName.equals(element.getLocalName())
+                && (name == null || name.equals(element.getAttribute("name")));
+        }
+
+        private Element firstChild(Element element) {
+            for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element childElement) {
+                    return childElement;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Move to the next start element and check it is the expected element of a stub.
+         */
+        private boolean nextElement(XMLStreamReader reader, String localName, String name)
+            throws XMLStreamException {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamReader.START_ELEMENT) {
+                    return PrerenderedRecords.isStubNamespace(reader.getNamespaceURI())
+                        && localName.equals(reader.getLocalName())
+                        && (name == null || name.equals(reader.getAttributeValue(null, "name")));
+                }
+            }
+            return false;
+        }
+
+        private void reset(StreamSource stream) throws XMLStreamException {
+            try {
+                if (stream.getInputStream() != null) {
+                    stream.getInputStream().reset();
+                } else {
+                    stream.getReader().reset();
+                }
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+
+        /**
+         * Write a pre-rendered record as the output of the crosswalk.
+         */
+        private void write(String record, Result result) throws TransformerException {
+            try {
+                if (result instanceof StreamResult stream && stream.getOutputStream() != null) {
+                    OutputStream out = stream.getOutputStream();
+                    out.write(record.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                } else if (result instanceof StreamResult stream && stream.getWriter() != null) {
+                    Writer writer = stream.getWriter();
+                    writer.write(record);
+                    writer.flush();
+                } else {
+                    identityFactory.newTransformer().transform(new StreamSource(new StringReader(record)), result);
+                }
+            } catch (IOException e) {
+                throw new TransformerException(e);
+            }
+        }
+
+        @Override
+        public void setParameter(String name, Object value) {
+            customized = true;
+            transformer.setParameter(name, value);
+        }
+
+        @Override
+        public Object getParameter(String name) {
+            return transformer.getParameter(name);
+        }
+
+        @Override
+        public void clearParameters() {
+            transformer.clearParameters();
+        }
+
+        @Override
+        public void setURIResolver(URIResolver resolver) {
+            customized = true;
+            transformer.setURIResolver(resolver);
+        }
+
+        @Override
+        public URIResolver getURIResolver() {
+            return transformer.getURIResolver();
+        }
+
+        @Override
+        public void setOutputProperties(Properties properties) {
+            customized = true;
+            transformer.setOutputProperties(properties);
+        }
+
+        @Override
+        public Properties getOutputProperties() {
+            return transformer.getOutputProperties();
+        }
+
+        @Override
+        public void setOutputProperty(String name, String value) {
+            customized = true;
+            transformer.setOutputProperty(name, value);
+        }
+
+        @Override
+        public String getOutputProperty(String name) {
+            return transformer.getOutputProperty(name);
+        }
+
+        @Override
+        public void setErrorListener(ErrorListener listener) {
+            transformer.setErrorListener(listener);
+        }
+
+        @Override
+        public ErrorListener getErrorListener() {
+            return transformer.getErrorListener();
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class DSpaceItemSolrRepository extends DSpaceItemRepository {
         String[] parts = identifier.split(Pattern.quote(":"));
         if (parts.length == 3) {
             try {
-                SolrQuery params = new SolrQuery("item.handle:" + parts[2]);
+                SolrQuery params = new SolrQuery("item.handle:" + parts[2]).setFields(DSpaceSolrItem.getFields());
                 return new DSpaceSolrItem(DSpaceSolrSearch.querySingle(server, params));
             } catch (SolrSearchEmptyException | IOException ex) {
                 throw new IdDoesNotExistException(ex);
@@ -105,7 +105,8 @@ public class DSpaceItemSolrRepository extends DSpaceItemRepository {
         List<Item> list = new ArrayList<>();
         SolrQuery params = new SolrQuery(solrQueryResolver.buildQuery(filters))
             .setRows(length)
-            .setStart(offset);
+            .setStart(offset)
+            .setFields(DSpaceSolrItem.getFields());
         SolrDocumentList solrDocuments = DSpaceSolrSearch.query(server, params);
         for (SolrDocument doc : solrDocuments) {
             list.add(new DSpaceSolrItem(doc));
@@ -0,0 +1,83 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.tests.unit.services.impl.resources;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamSource;
+
+import com.lyncode.xoai.util.XSLPipeline;
+import org.apache.commons.io.IOUtils;
+import org.dspace.xoai.services.impl.resources.PrerenderedRecords;
+import org.dspace.xoai.services.impl.resources.PrerenderedTemplates;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PrerenderedTemplatesTest {
+    private static final String HANDLE = "123456789/1";
+    private static final String RECORD = "<oai_dc:dc xmlns:oai_dc=\"http://www.openarchives.org/OAI/2.0/oai_dc/\"/>";
+
+    private static TransformerFactory factory = TransformerFactory.newInstance();
+
+    private String compiled;
+    private Templates templates;
+
+    @Before
+    public void setUp() throws Exception {
+        try (InputStream item = getClass().getClassLoader().getResourceAsStream("item.xml");
+             InputStream xslt = getClass().getClassLoader().getResourceAsStream("oai_dc.xsl")) {
+            compiled = IOUtils.toString(item, StandardCharsets.UTF_8);
+            templates = new PrerenderedTemplates(factory.newTemplates(new StreamSource(xslt)), "oai_dc");
+        }
+    }
+
+    @After
+    public void tearDown() {
+        PrerenderedRecords.close();
+    }
+
+    @Test
+    public void testWithoutRequest() throws Exception {
+        assertThat(transform(compiled), containsString("Teste"));
+        // the items give their compiled metadata
+        assertThat(PrerenderedRecords.register(HANDLE, compiled, RECORD), equalTo(compiled));
+    }
+
+    @Test
+    public void testPrerenderedRecord() throws Exception {
+        PrerenderedRecords.open("oai_dc");
+        String stub = PrerenderedRecords.register(HANDLE, compiled, RECORD);
+
+        assertThat(transform(stub), equalTo(RECORD));
+        // the items without record are transformed as usual
+        assertThat(transform(compiled), containsString("Teste"));
+    }
+
+    @Test
+    public void testOtherFormat() throws Exception {
+        PrerenderedRecords.open("mets");
+        String stub = PrerenderedRecords.register(HANDLE, compiled, RECORD);
+
+        // the crosswalk of another format is applied to the compiled metadata
+        assertThat(transform(stub), containsString("Teste"));
+    }
+
+    private String transform(String metadata) throws Exception {
+        InputStream input = new ByteArrayInputStream(metadata.getBytes(StandardCharsets.UTF_8));
+        return IOUtils.toString(new XSLPipeline(input, true).apply(templates).getTransformed(),
+                                StandardCharsets.UTF_8);
+    }
+}
@@ -157,7 +157,8 @@ public class DiscoveryRestController implements InitializingBean {
                 configuration, searchFilters, page, utils.obtainProjection());
 
             //Convert the Search JSON results to paginated HAL resources
-            SearchResultsResource searchResultsResource = new SearchResultsResource(searchResultsRest, utils, page);
+            SearchResultsResource searchResultsResource = new SearchResultsResource(searchResultsRest, utils, page,
+                                                                                    halLinkService);
             halLinkService.addLinks(searchResultsResource, page);
             return searchResultsResource;
         } catch (IllegalArgumentException e) {
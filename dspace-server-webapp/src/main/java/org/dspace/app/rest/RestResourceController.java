@@ -51,6 +51,8 @@ import org.dspace.app.rest.model.hateoas.HALResource;
 import org.dspace.app.rest.model.patch.Patch;
 import org.dspace.app.rest.repository.DSpaceRestRepository;
 import org.dspace.app.rest.repository.LinkRestRepository;
+import org.dspace.app.rest.utils.ContextUtil;
+import org.dspace.app.rest.utils.HttpCachingUtils;
 import org.dspace.app.rest.utils.RestRepositoryUtils;
 import org.dspace.app.rest.utils.Utils;
 import org.dspace.authorize.AuthorizeException;
@@ -118,6 +120,9 @@ public class RestResourceController implements InitializingBean {
     @Autowired
     ConverterService converter;
 
+    @Autowired
+    HttpCachingUtils httpCachingUtils;
+
     @Override
     public void afterPropertiesSet() {
         List<Link> links = new ArrayList<>();
@@ -142,7 +147,8 @@ public class RestResourceController implements InitializingBean {
      *
      * Please see {@link RestResourceController#findOne(String, String, String)} for findOne with string as
      * identifier
-     * and see {@link RestResourceController#findOne(String, String, UUID)} for uuid as identifier
+     * and see {@link RestResourceController#findOne(HttpServletRequest, HttpServletResponse, String, String, UUID)}
+     * for uuid as identifier
      *
      * @param apiCategory category from request
      * @param model model from request
@@ -173,7 +179,8 @@ public class RestResourceController implements InitializingBean {
      *
      * Please see {@link RestResourceController#findOne(String, String, Integer)} for findOne with number as
      * identifier
-     * and see {@link RestResourceController#findOne(String, String, UUID)} for uuid as identifier
+     * and see {@link RestResourceController#findOne(HttpServletRequest, HttpServletResponse, String, String, UUID)}
+     * for uuid as identifier
      *
      * @param apiCategory category from request
      * @param model model from request
@@ -195,15 +202,26 @@ public class RestResourceController implements InitializingBean {
      * identifier
      * and see {@link RestResourceController#findOne(String, String, String)} for string as identifier
      *
+     * The resources of the models set in rest.cache.models get the HTTP caching headers, see
+     * {@link HttpCachingUtils}.
+     *
+     * @param request current HTTPServletRequest
+     * @param response current HTTPServletResponse
      * @param apiCategory category from request
      * @param model model from request
      * @param uuid Identifier from request
      * @return single DSpaceResource
      */
     @RequestMapping(method = RequestMethod.GET, value = REGEX_REQUESTMAPPING_IDENTIFIER_AS_UUID)
-    public HALResource<RestAddressableModel> findOne(@PathVariable String apiCategory, @PathVariable String model,
+    public HALResource<RestAddressableModel> findOne(HttpServletRequest request, HttpServletResponse response,
+                                                        @PathVariable String apiCategory, @PathVariable String model,
                                                         @PathVariable UUID uuid) {
-        return findOneInternal(apiCategory, model, uuid);
+        HALResource<RestAddressableModel> resource = findOneInternal(apiCategory, model, uuid);
+        if (httpCachingUtils.isCacheable(apiCategory, model)) {
+            httpCachingUtils.addCacheHeaders(ContextUtil.obtainContext(request), request, response, apiCategory,
+                                             model, resource.getContent());
+        }
+        return resource;
     }
 
     /**
@@ -881,8 +899,8 @@ public class RestResourceController implements InitializingBean {
                         link = linkTo(this.getClass(), apiCategory, model).slash(uuid).slash(subpath).withSelfRel();
                     }
 
-                    return EntityModel.of(new EmbeddedPage(link.getHref(),
-                            pageResult.map(converter::toResource), null, subpath));
+                    return EntityModel.of(new EmbeddedPage(link.getHref(), pageResult,
+                            converter.toResourceList(pageResult), null, subpath));
                 } else {
                     RestModel object = (RestModel) linkMethod.invoke(linkRepository, request,
                             uuid, page, utils.obtainProjection());
@@ -954,7 +972,7 @@ public class RestResourceController implements InitializingBean {
                 .getResourceRepository(fullList.get(0).getCategory(), fullList.get(0).getTypePlural());
             PageImpl<RestAddressableModel> pageResult = new PageImpl(fullList.subList(start, end), page,
                                                                      fullList.size());
-            return assembler.toModel(pageResult.map(converter::toResource));
+            return assembler.toModel(converter.toResourcePage(pageResult));
         } else {
             if (resource.getEmbeddedResources().get(rel) == null) {
                 response.setStatus(HttpServletResponse.SC_NO_CONTENT);
@@ -986,7 +1004,7 @@ public class RestResourceController implements InitializingBean {
 
         Page<DSpaceResource<T>> resources;
         try {
-            resources = repository.findAll(page).map(converter::toResource);
+            resources = converter.toResourcePage(repository.findAll(page));
         } catch (PaginationException pe) {
             resources = new PageImpl<>(new ArrayList<>(), page, pe.getTotal());
         }
@@ -1066,7 +1084,7 @@ public class RestResourceController implements InitializingBean {
             if (searchResult == null) {
                 resources = new PageImpl(new ArrayList(), pageable, 0);
             } else {
-                resources = ((Page<T>) searchResult).map(converter::toResource);
+                resources = converter.toResourcePage((Page<T>) searchResult);
             }
             result = assembler.toModel(resources, link);
         } else {
@@ -13,19 +13,27 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.TimeZone;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.Filter;
+import org.dspace.app.itemcount.ItemCountReconcileCli;
 import org.dspace.app.ldn.LDNQueueExtractor;
 import org.dspace.app.ldn.LDNQueueTimeoutChecker;
 import org.dspace.app.rest.filter.DSpaceRequestContextFilter;
+import org.dspace.app.rest.filter.ResourceETagFilter;
+import org.dspace.app.rest.filter.SearchResponseCacheFilter;
 import org.dspace.app.rest.model.hateoas.DSpaceLinkRelationProvider;
 import org.dspace.app.rest.parameter.resolver.SearchFilterResolver;
 import org.dspace.app.rest.utils.ApplicationConfig;
 import org.dspace.app.rest.utils.DSpaceAPIRequestLoggingFilter;
+import org.dspace.app.rest.utils.HttpCachingUtils;
 import org.dspace.app.sitemap.GenerateSitemaps;
 import org.dspace.app.solrdatabaseresync.SolrDatabaseResyncCli;
 import org.dspace.app.util.DSpaceContextListener;
+import org.dspace.discovery.SearchResponseCache;
 import org.dspace.google.GoogleAsyncEventListener;
+import org.dspace.harvest.HarvestMetrics;
 import org.dspace.utils.servlet.DSpaceWebappServletFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.EnableCaching;
@@ -88,6 +96,11 @@ public class WebApplication {
         SolrDatabaseResyncCli.runScheduled();
     }
 
+    @Scheduled(cron = "${item-count-reconcile.cron:-}")
+    public void itemCountReconcile() throws Exception {
+        ItemCountReconcileCli.runScheduled();
+    }
+
     @Scheduled(cron = "${google.analytics.cron:-}")
     public void sendGoogleAnalyticsEvents() {
         googleAsyncEventListener.sendCollectedEvents();
@@ -142,6 +155,78 @@ public class WebApplication {
         return new DSpaceAPIRequestLoggingFilter();
     }
 
+    /**
+     * Register the ResourceETagFilter, a Filter that adds the ETag of the cacheable resources and answers the
+     * conditional requests of unchanged resources with 304 Not Modified
+     *
+     * @param httpCachingUtils the utility class deciding which resources are cacheable
+     * @return ResourceETagFilter
+     */
+    @Bean
+    @Order(4)
+    protected Filter resourceETagFilter(HttpCachingUtils httpCachingUtils) {
+        return new ResourceETagFilter(httpCachingUtils);
+    }
+
+    /**
+     * Register the SearchResponseCacheFilter, a Filter that answers the anonymous search and browse requests from
+     * the SearchResponseCache (when discovery.response-cache.enabled is true)
+     *
+     * @param searchResponseCache the cache of the responses
+     * @return SearchResponseCacheFilter
+     */
+    @Bean
+    @Order(5)
+    protected Filter searchResponseCacheFilter(SearchResponseCache searchResponseCache) {
+        return new SearchResponseCacheFilter(searchResponseCache);
+    }
+
+    /**
+     * Report the hits, misses and invalidations of the SearchResponseCache as the dspace.discovery.response.cache
+     * metrics of the actuator
+     *
+     * @param searchResponseCache the cache of the responses
+     * @return the binder of the metrics
+     */
+    @Bean
+    protected MeterBinder searchResponseCacheMetrics(SearchResponseCache searchResponseCache) {
+        return registry -> {
+            FunctionCounter.builder("dspace.discovery.response.cache", searchResponseCache,
+                                    SearchResponseCache::getHits)
+                           .tag("result", "hit").register(registry);
+            FunctionCounter.builder("dspace.discovery.response.cache", searchResponseCache,
+                                    SearchResponseCache::getMisses)
+                           .tag("result", "miss").register(registry);
+            FunctionCounter.builder("dspace.discovery.response.cache.invalidations", searchResponseCache,
+                                    SearchResponseCache::getInvalidations)
+                           .register(registry);
+        };
+    }
+
+    /**
+     * Report the throughput of the OAI harvests run by this instance as the dspace.harvest metrics of the actuator:
+     * the records processed and the time taken to process them, the ListRecords pages fetched and the harvests
+     * finished
+     *
+     * @param harvestMetrics the counters of the harvests
+     * @return the binder of the metrics
+     */
+    @Bean
+    protected MeterBinder harvestMetrics(HarvestMetrics harvestMetrics) {
+        return registry -> {
+            FunctionCounter.builder("dspace.harvest.records", harvestMetrics, HarvestMetrics::getRecords)
+                           .register(registry);
+            FunctionCounter.builder("dspace.harvest.records.time", harvestMetrics, HarvestMetrics::getRecordSeconds)
+                           .baseUnit("seconds").register(registry);
+            FunctionCounter.builder("dspace.harvest.pages", harvestMetrics, HarvestMetrics::getPages)
+                           .register(registry);
+            FunctionCounter.builder("dspace.harvest.runs", harvestMetrics, HarvestMetrics::getSuccessfulHarvests)
+                           .tag("result", "success").register(registry);
+            FunctionCounter.builder("dspace.harvest.runs", harvestMetrics, HarvestMetrics::getFailedHarvests)
+                           .tag("result", "failure").register(registry);
+        };
+    }
+
     @Bean
     public RequestContextListener requestContextListener() {
         return new RequestContextListener();
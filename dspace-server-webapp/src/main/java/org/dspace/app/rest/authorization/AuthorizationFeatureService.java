@@ -9,6 +9,7 @@ package org.dspace.app.rest.authorization;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 
 import org.dspace.app.rest.model.BaseObjectRest;
 import org.dspace.app.rest.model.SiteRest;
@@ -38,6 +39,24 @@ public interface AuthorizationFeatureService {
     boolean isAuthorized(Context context, AuthorizationFeature feature, BaseObjectRest object)
         throws SQLException, SearchServiceException;
 
+    /**
+     * Check several features for several objects at once. The policies of all the objects are loaded once up
+     * front, and the features are evaluated over them instead of querying them for every feature and object. The
+     * mode of the context is left as it is.
+     *
+     * @param context
+     *            the DSpace Context
+     * @param features
+     *            the Authorization Features to check, features that don't support the type of an object are skipped
+     * @param objects
+     *            the objects target by the features, null objects are skipped
+     * @return the features the user associated with the context has access to, by object, in the order of the
+     *         given objects and features
+     */
+    Map<BaseObjectRest, List<AuthorizationFeature>> isAuthorized(Context context, List<AuthorizationFeature> features,
+                                                                 List<BaseObjectRest> objects)
+        throws SQLException, SearchServiceException;
+
     /**
      * Get all the authorization features defined in the system
      *
@@ -8,7 +8,10 @@
 package org.dspace.app.rest.authorization.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -16,7 +19,10 @@ import org.apache.commons.lang3.Strings;
 import org.dspace.app.rest.authorization.AuthorizationFeature;
 import org.dspace.app.rest.authorization.AuthorizationFeatureService;
 import org.dspace.app.rest.model.BaseObjectRest;
+import org.dspace.app.rest.model.DSpaceObjectRest;
 import org.dspace.app.rest.utils.Utils;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.DSpaceObject;
 import org.dspace.core.Context;
 import org.dspace.discovery.SearchServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +43,9 @@ public class AuthorizationFeatureServiceImpl implements AuthorizationFeatureServ
     @Autowired
     private Utils utils;
 
+    @Autowired
+    private AuthorizeService authorizeService;
+
     @Override
     public boolean isAuthorized(Context context, AuthorizationFeature feature, BaseObjectRest object)
         throws SQLException, SearchServiceException {
@@ -53,6 +62,45 @@ public class AuthorizationFeatureServiceImpl implements AuthorizationFeatureServ
         return feature.isAuthorized(context, object);
     }
 
+    @Override
+    public Map<BaseObjectRest, List<AuthorizationFeature>> isAuthorized(Context context,
+                                                                        List<AuthorizationFeature> features,
+                                                                        List<BaseObjectRest> objects)
+        throws SQLException, SearchServiceException {
+        Map<BaseObjectRest, List<AuthorizationFeature>> result = new LinkedHashMap<>();
+        List<DSpaceObject> dsos = new ArrayList<>();
+        for (BaseObjectRest object : objects) {
+            if (object instanceof DSpaceObjectRest) {
+                Object dso = utils.getDSpaceAPIObjectFromRest(context, object);
+                if (dso != null) {
+                    dsos.add((DSpaceObject) dso);
+                }
+            }
+        }
+        try {
+            // The policies of all the objects are loaded with a single query and kept in the context while the
+            // features are evaluated. The context mode is left as it is, switching it would flush and clear the
+            // session of the request.
+            authorizeService.cacheResourcePolicies(context, dsos);
+
+            for (BaseObjectRest object : objects) {
+                if (object == null) {
+                    continue;
+                }
+                List<AuthorizationFeature> authorized = new ArrayList<>();
+                for (AuthorizationFeature feature : features) {
+                    if (isAuthorized(context, feature, object)) {
+                        authorized.add(feature);
+                    }
+                }
+                result.put(object, authorized);
+            }
+        } finally {
+            authorizeService.clearCachedResourcePolicies(context);
+        }
+        return result;
+    }
+
     @Override
     public List<AuthorizationFeature> findAll() {
         return features;
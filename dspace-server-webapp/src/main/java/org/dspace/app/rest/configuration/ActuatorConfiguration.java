@@ -13,6 +13,7 @@ import java.util.Arrays;
 
 import org.apache.solr.client.solrj.SolrServerException;
 import org.dspace.app.rest.DiscoverableEndpointsService;
+import org.dspace.app.rest.health.EventsHealthIndicator;
 import org.dspace.app.rest.health.GeoIpHealthIndicator;
 import org.dspace.app.rest.health.SEOHealthIndicator;
 import org.dspace.app.rest.health.SolrHealthIndicator;
@@ -95,6 +96,12 @@ public class ActuatorConfiguration {
         return new GeoIpHealthIndicator();
     }
 
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("events")
+    public EventsHealthIndicator eventsHealthIndicator() {
+        return new EventsHealthIndicator();
+    }
+
     public String getActuatorBasePath() {
         return actuatorBasePath;
     }
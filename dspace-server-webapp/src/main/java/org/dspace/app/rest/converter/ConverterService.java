@@ -15,10 +15,14 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.Strings;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -28,6 +32,7 @@ import org.dspace.app.rest.model.BaseObjectRest;
 import org.dspace.app.rest.model.RestAddressableModel;
 import org.dspace.app.rest.model.RestModel;
 import org.dspace.app.rest.model.hateoas.HALResource;
+import org.dspace.app.rest.model.hateoas.StreamingResourceList;
 import org.dspace.app.rest.projection.DefaultProjection;
 import org.dspace.app.rest.projection.Projection;
 import org.dspace.app.rest.repository.DSpaceRestRepository;
@@ -47,6 +52,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 
@@ -70,6 +77,16 @@ public class ConverterService {
 
     private final Map<Class<? extends RestModel>, Constructor> resourceConstructors = new HashMap<>();
 
+    /**
+     * Request attribute holding the authorization decisions already taken while converting objects for the request
+     */
+    private static final String AUTHORIZATION_DECISIONS_ATTRIBUTE = ConverterService.class.getName() + ".decisions";
+
+    /**
+     * Value of the PreAuthorize annotation of the findOne method, by category and plural type of the rest objects
+     */
+    private final Map<String, Optional<String>> findOnePreAuthorize = new ConcurrentHashMap<>();
+
     @Autowired
     private Utils utils;
 
@@ -116,10 +133,7 @@ public class ConverterService {
             // rest object. It'll only return the REST object if the permission is granted.
             // If permission isn't granted, it'll return null
             String preAuthorizeValue = getPreAuthorizeAnnotationForBaseObject(baseObjectRest);
-            if (!webSecurityExpressionEvaluator
-                .evaluate(preAuthorizeValue, requestService.getCurrentRequest().getHttpServletRequest(),
-                          requestService.getCurrentRequest().getHttpServletResponse(),
-                          String.valueOf(baseObjectRest.getId()))) {
+            if (!isAuthorized(preAuthorizeValue, String.valueOf(baseObjectRest.getId()))) {
                 log.debug("Access denied on " + restObject.getClass() + " with id: " +
                               ((BaseObjectRest) restObject).getId());
                 return null;
@@ -131,14 +145,68 @@ public class ConverterService {
         return restObject;
     }
 
+    /**
+     * Get the PreAuthorize expression of the findOne method of the repository of the given rest object. The
+     * repository methods are only inspected for the first object of each type.
+     */
     private String getPreAuthorizeAnnotationForBaseObject(BaseObjectRest restObject) {
-        Annotation preAuthorize = getAnnotationForRestObject(restObject);
-        if (preAuthorize == null) {
-            preAuthorize = getDefaultFindOnePreAuthorize();
+        String key = restObject.getCategory() + "." + restObject.getTypePlural();
+        return findOnePreAuthorize.computeIfAbsent(key, k -> {
+            Annotation preAuthorize = getAnnotationForRestObject(restObject);
+            if (preAuthorize == null) {
+                preAuthorize = getDefaultFindOnePreAuthorize();
+
+            }
+            return Optional.ofNullable(parseAnnotation(preAuthorize));
+        }).orElse(null);
+    }
+
+    /**
+     * Evaluate a PreAuthorize expression for the current user and the object with the given id.
+     * <p>
+     * While handling a GET or HEAD request, which does not change any permission, each decision is only taken once
+     * per request: the same collection embedded as owning collection of all the items of a page, or an expression
+     * which does not depend on the object at all (e.g. permitAll()), is evaluated only for the first object.
+     *
+     * @param preAuthorizeValue the expression
+     * @param id                the id of the object
+     * @return true if the current user may see the object
+     */
+    private boolean isAuthorized(String preAuthorizeValue, String id) {
+        HttpServletRequest request = requestService.getCurrentRequest().getHttpServletRequest();
+        HttpServletResponse response = requestService.getCurrentRequest().getHttpServletResponse();
+        if (preAuthorizeValue == null
+            || !("GET".equalsIgnoreCase(request.getMethod()) || "HEAD".equalsIgnoreCase(request.getMethod()))) {
+            return webSecurityExpressionEvaluator.evaluate(preAuthorizeValue, request, response, id);
+        }
 
+        AuthorizationDecisions decisions = (AuthorizationDecisions) request.getAttribute(
+            AUTHORIZATION_DECISIONS_ATTRIBUTE);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (decisions == null || decisions.authentication != authentication) {
+            decisions = new AuthorizationDecisions(authentication);
+            request.setAttribute(AUTHORIZATION_DECISIONS_ATTRIBUTE, decisions);
         }
-        return parseAnnotation(preAuthorize);
+        // The id is the only variable the expressions are evaluated with
+        String key = preAuthorizeValue.contains("#") ? preAuthorizeValue + " " + id : preAuthorizeValue;
+        Boolean decision = decisions.decisions.get(key);
+        if (decision == null) {
+            decision = webSecurityExpressionEvaluator.evaluate(preAuthorizeValue, request, response, id);
+            decisions.decisions.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Authorization decisions taken for one request and user.
+     */
+    private static class AuthorizationDecisions {
+        private final Authentication authentication;
+        private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
 
+        AuthorizationDecisions(Authentication authentication) {
+            this.authentication = authentication;
+        }
     }
 
     private String parseAnnotation(Annotation preAuthorize) {
@@ -312,6 +380,40 @@ public class ConverterService {
         return halResource;
     }
 
+    /**
+     * Converts the given page of rest objects to a page of {@link HALResource}s, like {@link #toResource}, but
+     * resolves the embeds that link repositories can load in batch once for the whole page.
+     *
+     * @param page     the page of rest objects.
+     * @param oldLinks the old links of the rest objects.
+     * @param <T> the resource type, a subclass of {@link HALResource}.
+     * @return the page of fully converted resources.
+     * @see Utils#embedClassLevelRelsInBatch
+     */
+    public <T extends HALResource> Page<T> toResourcePage(Page<? extends RestModel> page, Link... oldLinks) {
+        utils.embedClassLevelRelsInBatch(page.getContent(), oldLinks);
+        return page.map(restObject -> this.<T>toResource(restObject, oldLinks));
+    }
+
+    /**
+     * Converts the content of the given page of rest objects to {@link HALResource}s to be embedded in a response,
+     * like {@link #toResourcePage}. The content of large pages is converted while the response is written, see
+     * {@link StreamingResourceList}, so it must not be iterated before.
+     *
+     * @param page     the page of rest objects.
+     * @param oldLinks the old links of the rest objects.
+     * @param <T> the resource type, a subclass of {@link HALResource}.
+     * @return the fully converted resources, or a list converting them on iteration for large pages.
+     * @see Utils#isStreamed
+     */
+    public <T extends HALResource> List<T> toResourceList(Page<? extends RestModel> page, Link... oldLinks) {
+        if (!utils.isStreamed(page.getContent())) {
+            return this.<T>toResourcePage(page, oldLinks).getContent();
+        }
+        utils.embedClassLevelRelsInBatch(page.getContent(), oldLinks);
+        return new StreamingResourceList<>(page.getContent(), restObject -> this.<T>toResource(restObject, oldLinks));
+    }
+
     /**
      * Gets the projection with the given name, or the default (no-op) projection if null is given.
      *
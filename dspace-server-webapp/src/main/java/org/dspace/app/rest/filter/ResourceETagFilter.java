@@ -0,0 +1,49 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.filter;
+
+import java.io.InputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.dspace.app.rest.utils.HttpCachingUtils;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * A Servlet Filter adding a strong ETag, the hash of its content, to the responses of the cacheable single
+ * resources (see {@link HttpCachingUtils}) and answering 304 Not Modified, without a body, to the requests whose
+ * If-None-Match header matches it.
+ * <p>
+ * The hash covers the whole representation, including the projection, the embedded resources and the virtual
+ * metadata, so it changes whenever anything the client sees changes, whatever its origin.
+ * Only the requests which may get a cacheable response are buffered, and not those embedding a page whose resources
+ * are streamed (see {@link org.dspace.app.rest.utils.Utils#isStreamed}), which are written as they are converted and
+ * get no ETag.
+ *
+ * @see HttpCachingUtils
+ */
+public class ResourceETagFilter extends ShallowEtagHeaderFilter {
+
+    private final HttpCachingUtils httpCachingUtils;
+
+    public ResourceETagFilter(HttpCachingUtils httpCachingUtils) {
+        this.httpCachingUtils = httpCachingUtils;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !httpCachingUtils.isCacheableRequest(request);
+    }
+
+    @Override
+    protected boolean isEligibleForEtag(HttpServletRequest request, HttpServletResponse response,
+                                        int responseStatusCode, InputStream inputStream) {
+        return request.getAttribute(HttpCachingUtils.CACHEABLE_ATTRIBUTE) != null
+            && super.isEligibleForEtag(request, response, responseStatusCode, inputStream);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.Strings;
+import org.dspace.app.rest.utils.ContextUtil;
+import org.dspace.app.rest.utils.Utils;
+import org.dspace.core.Context;
+import org.dspace.discovery.SearchResponseCache;
+import org.dspace.discovery.SearchResponseCache.CachedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * A Servlet Filter answering the anonymous search, facet and browse requests from the {@link SearchResponseCache}
+ * and storing the successful responses of those which were not in it.
+ * <p>
+ * The requests are keyed by their URL, their parameters sorted by name and the locale of their context, which are
+ * all the inputs of the anonymous responses. The requests of authenticated users, or of anonymous users with special
+ * groups (e.g. from their IP address), always go through. So do the responses whose results are streamed (see
+ * {@link Utils#isStreamed}): they are not buffered, so that they are still written as the results are converted,
+ * and thus not cached.
+ */
+public class SearchResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String[] CACHED_PATHS = {
+        "/api/discover/search/", "/api/discover/facets/", "/api/discover/browses/"
+    };
+
+    private final SearchResponseCache searchResponseCache;
+
+    public SearchResponseCacheFilter(SearchResponseCache searchResponseCache) {
+        this.searchResponseCache = searchResponseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !searchResponseCache.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !Strings.CS.startsWithAny(path, CACHED_PATHS);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        Context context = ContextUtil.obtainContext(request);
+        if (context.getCurrentUser() != null || !context.getSpecialGroupUuids().isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = getKey(request, context);
+        CachedResponse cachedResponse = searchResponseCache.get(key);
+        if (cachedResponse != null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(cachedResponse.getContentType());
+            if (cachedResponse.getContentLanguage() != null) {
+                response.setHeader(HttpHeaders.CONTENT_LANGUAGE, cachedResponse.getContentLanguage());
+            }
+            response.setContentLength(cachedResponse.getBody().length);
+            response.getOutputStream().write(cachedResponse.getBody());
+            return;
+        }
+
+        long generation = searchResponseCache.getGeneration();
+        ContentCachingResponseWrapper responseWrapper = new StreamingAwareResponseWrapper(request, response);
+        try {
+            chain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() == HttpServletResponse.SC_OK && !request.isAsyncStarted()
+                && !isStreamed(request)) {
+                searchResponseCache.put(key, new CachedResponse(responseWrapper.getContentType(),
+                                                                responseWrapper.getHeader(
+                                                                    HttpHeaders.CONTENT_LANGUAGE),
+                                                                responseWrapper.getContentAsByteArray()),
+                                        generation);
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Build the key of a request: its URL, its parameters sorted by name (the order of the values of a parameter
+     * is kept, as it may be meaningful) and the locale of its context.
+     */
+    private String getKey(HttpServletRequest request, Context context) {
+        StringBuilder key = new StringBuilder(request.getRequestURL());
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            key.append('&').append(parameter.getKey()).append('=').append(Arrays.toString(parameter.getValue()));
+        }
+        key.append('#').append(context.getCurrentLocale());
+        return key.toString();
+    }
+
+    private static boolean isStreamed(HttpServletRequest request) {
+        return request.getAttribute(Utils.STREAMED_ATTRIBUTE) != null;
+    }
+
+    /**
+     * Response wrapper buffering the response to cache it, unless its results are streamed.
+     */
+    private static class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        StreamingAwareResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreamed(request) ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreamed(request) ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreamed(request)) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import static org.dspace.app.rest.configuration.ActuatorConfiguration.UP_WITH_ISSUES_STATUS;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dspace.event.AsyncEventExecutor;
+import org.dspace.event.ConsumerStatistics;
+import org.dspace.event.EventStatistics;
+import org.dspace.event.LatencyHistogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the timings of the event consumers, the number of
+ * dispatched events and the usage of the dispatcher pool, as recorded by {@link EventStatistics}.
+ * <p>
+ * The status is {@code UP_WITH_ISSUES} when an asynchronous consumer has fallen behind, i.e. its queue is more
+ * than half full.
+ */
+public class EventsHealthIndicator extends AbstractHealthIndicator {
+
+    @Autowired
+    private EventStatistics eventStatistics;
+
+    @Autowired
+    private AsyncEventExecutor asyncEventExecutor;
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+
+        Map<String, Object> consumers = new LinkedHashMap<>();
+        for (Map.Entry<String, ConsumerStatistics> entry : eventStatistics.getConsumers().entrySet()) {
+            Map<String, Object> consumer = new LinkedHashMap<>();
+            consumer.put("async", entry.getValue().isAsync());
+            consumer.put("consume", toMap(entry.getValue().getConsume()));
+            consumer.put("end", toMap(entry.getValue().getEnd()));
+            if (entry.getValue().isAsync()) {
+                consumer.put("queueDepth", asyncEventExecutor.getQueueDepth(entry.getKey()));
+            }
+            consumers.put(entry.getKey(), consumer);
+        }
+
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("active", eventStatistics.getActiveDispatchers());
+        pool.put("idle", eventStatistics.getIdleDispatchers());
+
+        boolean behind = false;
+        for (String consumer : asyncEventExecutor.getConsumerNames()) {
+            if (asyncEventExecutor.getQueueDepth(consumer) * 2 > asyncEventExecutor.getQueueCapacity()) {
+                behind = true;
+            }
+        }
+
+        if (behind) {
+            builder.status(UP_WITH_ISSUES_STATUS)
+                   .withDetail("reason", "An asynchronous event consumer has more than half of its queue filled");
+        } else {
+            builder.up();
+        }
+        builder.withDetail("dispatches", toMap(eventStatistics.getDispatches()))
+               .withDetail("dispatcherPool", pool)
+               .withDetail("asyncQueueDepth", asyncEventExecutor.getQueueDepth())
+               .withDetail("events", eventStatistics.getEventCounts())
+               .withDetail("consumers", consumers);
+    }
+
+    private Map<String, Object> toMap(LatencyHistogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.getCount());
+        result.put("meanMillis", histogram.getMeanMillis());
+        result.put("maxMillis", histogram.getMaxMillis());
+        result.put("buckets", histogram.getBuckets());
+        return result;
+    }
+
+}
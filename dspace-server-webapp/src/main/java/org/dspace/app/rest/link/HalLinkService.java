@@ -19,6 +19,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.logging.log4j.Logger;
 import org.dspace.app.rest.model.hateoas.EmbeddedPage;
 import org.dspace.app.rest.model.hateoas.HALResource;
+import org.dspace.app.rest.model.hateoas.StreamingResourceList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.domain.Pageable;
@@ -67,6 +68,10 @@ public class HalLinkService {
                 }
             } else if (obj instanceof EmbeddedPage) {
                 for (Map.Entry<String, List> pageContent : ((EmbeddedPage) obj).getPageContent().entrySet()) {
+                    if (pageContent.getValue() instanceof StreamingResourceList) {
+                        // The resources get their links when they are converted, while the response is written
+                        continue;
+                    }
                     for (Object subObj : CollectionUtils.emptyIfNull(pageContent.getValue())) {
                         if (subObj instanceof HALResource) {
                             addLinks((HALResource) subObj);
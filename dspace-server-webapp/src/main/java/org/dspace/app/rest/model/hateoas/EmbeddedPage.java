@@ -30,10 +30,29 @@ public class EmbeddedPage extends EmbeddedPageHeader {
     }
 
     public EmbeddedPage(String self, Page page, List fullList, boolean totalElementsIsKnown, String relation) {
+        this(self, page, page.getContent(), fullList, totalElementsIsKnown, relation);
+    }
+
+    /**
+     * Embed a page whose resources are given apart from the page, e.g. a {@link StreamingResourceList} converting
+     * the content of the page while it is written.
+     *
+     * @param self          the self link of the page
+     * @param page          the page, only used for its number, size and total
+     * @param pageContent   the resources of the page
+     * @param fullList      the full list the page is part of, if any
+     * @param relation      the name of the embedded resources
+     */
+    public EmbeddedPage(String self, Page page, List pageContent, List fullList, String relation) {
+        this(self, page, pageContent, fullList, true, relation);
+    }
+
+    private EmbeddedPage(String self, Page page, List pageContent, List fullList, boolean totalElementsIsKnown,
+                         String relation) {
         super(self, page, totalElementsIsKnown);
         this.fullList = fullList;
         this.embeddedPageContent = new HashMap<>();
-        embeddedPageContent.put(relation, page.getContent());
+        embeddedPageContent.put(relation, pageContent);
     }
 
     @JsonProperty(value = "_embedded")
@@ -12,7 +12,9 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.apache.commons.collections4.CollectionUtils;
+import org.dspace.app.rest.link.HalLinkService;
 import org.dspace.app.rest.link.search.SearchResultsResourceHalLinkFactory;
+import org.dspace.app.rest.model.RestAddressableModel;
 import org.dspace.app.rest.model.SearchFacetEntryRest;
 import org.dspace.app.rest.model.SearchResultEntryRest;
 import org.dspace.app.rest.model.SearchResultsRest;
@@ -32,12 +34,23 @@ public class SearchResultsResource extends HALResource<SearchResultsRest> {
     private List<SearchResultEntryResource> entryResources;
 
     public SearchResultsResource(final SearchResultsRest data, final Utils utils, Pageable pageable) {
+        this(data, utils, pageable, null);
+    }
+
+    /**
+     * @param halLinkService used to add the links of the search results of large pages, which are converted while
+     *                       the response is written (see {@link Utils#isStreamed}). Without it, the search results
+     *                       are always converted at once.
+     */
+    public SearchResultsResource(final SearchResultsRest data, final Utils utils, Pageable pageable,
+                                 final HalLinkService halLinkService) {
         super(data);
-        addEmbeds(data, utils, pageable);
+        addEmbeds(data, utils, pageable, halLinkService);
 
     }
-    private void addEmbeds(final SearchResultsRest data, final Utils utils, Pageable pageable) {
-        embedSearchResults(data, utils, pageable);
+    private void addEmbeds(final SearchResultsRest data, final Utils utils, Pageable pageable,
+                           final HalLinkService halLinkService) {
+        embedSearchResults(data, utils, pageable, halLinkService);
 
         embedFacetResults(data);
     }
@@ -49,17 +62,36 @@ public class SearchResultsResource extends HALResource<SearchResultsRest> {
 
         embedResource("facets", facetResources);
     }
-    private void embedSearchResults(final SearchResultsRest data, final Utils utils, Pageable pageable) {
-        entryResources = new LinkedList<>();
+    private void embedSearchResults(final SearchResultsRest data, final Utils utils, Pageable pageable,
+                                    final HalLinkService halLinkService) {
+        List<RestAddressableModel> indexableObjects = new LinkedList<>();
         for (SearchResultEntryRest searchResultEntry : CollectionUtils.emptyIfNull(data.getSearchResults())) {
-            entryResources.add(new SearchResultEntryResource(searchResultEntry, utils));
+            if (searchResultEntry.getIndexableObject() != null) {
+                indexableObjects.add(searchResultEntry.getIndexableObject());
+            }
+        }
+        // e.g. the thumbnails of all the items of the page at once
+        utils.embedClassLevelRelsInBatch(indexableObjects);
+
+        List<SearchResultEntryRest> searchResults = new LinkedList<>(CollectionUtils.emptyIfNull(
+            data.getSearchResults()));
+        if (halLinkService != null && utils.isStreamed(searchResults)) {
+            entryResources = new StreamingResourceList<>(searchResults, searchResultEntry ->
+                (SearchResultEntryResource) halLinkService.addLinks(
+                    new SearchResultEntryResource(searchResultEntry, utils)));
+        } else {
+            entryResources = new LinkedList<>();
+            for (SearchResultEntryRest searchResultEntry : searchResults) {
+                entryResources.add(new SearchResultEntryResource(searchResultEntry, utils));
+            }
         }
 
-        Page page = new PageImpl<>(entryResources, pageable, data.getTotalNumberOfResults());
+        // The page is only used for its number, size and total, so that the search results aren't iterated
+        Page page = new PageImpl<>(searchResults, pageable, data.getTotalNumberOfResults());
 
         SearchResultsResourceHalLinkFactory linkFactory = new SearchResultsResourceHalLinkFactory();
         EmbeddedPage embeddedPage = new EmbeddedPage(linkFactory.buildSearchBaseLink(data).toUriString(),
-                page, entryResources, "objects");
+                page, entryResources, entryResources, "objects");
         embedResource("searchResult", embeddedPage);
     }
 }
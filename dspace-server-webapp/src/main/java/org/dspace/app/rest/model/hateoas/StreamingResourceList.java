@@ -0,0 +1,97 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.model.hateoas;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * List of the resources embedded in a large page, which are converted from the underlying objects one at a time
+ * while the list is iterated, i.e. while the response is being written.
+ * <p>
+ * The resources, including their own embeds, are not kept: they can be garbage collected as soon as they have been
+ * serialized, so that the memory needed to write a page doesn't grow with the page size and the first entries are
+ * sent before the last ones are converted. As a consequence, every iteration converts the objects again, so the
+ * list should only be iterated when the response is written.
+ * <p>
+ * Since the beginning of the response may already be sent when an object is converted, a failing conversion can't
+ * turn the response into an error anymore: the object is logged and left out of the iteration instead, rather than
+ * cutting the response off in the middle of the JSON.
+ *
+ * @param <S> the type of the underlying objects, e.g. the rest objects of a page
+ * @param <T> the type of the resources
+ */
+public class StreamingResourceList<S, T> extends AbstractList<T> {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private final List<S> source;
+
+    private final Function<S, T> converter;
+
+    public StreamingResourceList(List<S> source, Function<S, T> converter) {
+        this.source = source;
+        this.converter = converter;
+    }
+
+    @Override
+    public T get(int index) {
+        return converter.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<S> sourceIterator = source.iterator();
+        return new Iterator<T>() {
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && sourceIterator.hasNext()) {
+                    next = convert(sourceIterator.next());
+                }
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T resource = next;
+                next = null;
+                return resource;
+            }
+        };
+    }
+
+    /**
+     * Convert an object while the response is written.
+     *
+     * @return the resource, or null if the conversion failed
+     */
+    private T convert(S object) {
+        try {
+            return converter.apply(object);
+        } catch (RuntimeException e) {
+            log.error("Leaving {} out of a streamed page, its conversion failed", object, e);
+            return null;
+        }
+    }
+}
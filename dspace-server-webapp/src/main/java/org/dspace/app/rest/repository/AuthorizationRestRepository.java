@@ -13,7 +13,12 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -219,15 +224,42 @@ public class AuthorizationRestRepository extends DSpaceRestRepository<Authorizat
             .map(uuid -> utils.getBaseObjectRestFromTypeAndUUID(context, type, uuid))
             .collect(Collectors.toList());
 
-        objects.forEach(object ->
-            featureNames.forEach(featureName -> {
-                try {
-                    authorizations.addAll(authorizationsForObject(context, user, featureName, object));
-                } catch (Exception ex) {
-                    log.error("An error occurred during authorizations check");
-                    throw new RuntimeException(ex);
-                }
-            }));
+        BaseObjectRest first = objects.stream().filter(Objects::nonNull).findFirst().orElse(null);
+        if (first == null) {
+            return authorizations;
+        }
+
+        // Evaluate all the requested features on all the objects at once, so that what the features have in
+        // common is only loaded once
+        Map<String, List<AuthorizationFeature>> featuresByName = new LinkedHashMap<>();
+        Set<AuthorizationFeature> features = new LinkedHashSet<>();
+        for (String featureName : featureNames) {
+            List<AuthorizationFeature> named;
+            if (isNotBlank(featureName)) {
+                AuthorizationFeature feature = authorizationFeatureService.find(featureName);
+                named = feature == null ? emptyList() : singletonList(feature);
+            } else {
+                named = authorizationFeatureService.findByResourceType(first.getUniqueType());
+            }
+            featuresByName.put(featureName, named);
+            features.addAll(named);
+        }
+
+        Map<BaseObjectRest, List<AuthorizationFeature>> authorized;
+        try {
+            authorized = authorizationFeatureService.isAuthorized(context, new ArrayList<>(features), objects);
+        } catch (Exception ex) {
+            log.error("An error occurred during authorizations check");
+            throw new RuntimeException(ex);
+        }
+
+        objects.forEach(object -> {
+            if (object != null) {
+                featureNames.forEach(featureName -> featuresByName.get(featureName).stream()
+                    .filter(feature -> authorized.get(object).contains(feature))
+                    .forEach(feature -> authorizations.add(new Authorization(user, feature, object))));
+            }
+        });
         return authorizations;
     }
 
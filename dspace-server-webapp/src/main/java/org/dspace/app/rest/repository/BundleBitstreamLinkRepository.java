@@ -8,6 +8,7 @@
 package org.dspace.app.rest.repository;
 
 import java.sql.SQLException;
+import java.util.List;
 import java.util.UUID;
 
 import jakarta.annotation.Nullable;
@@ -15,6 +16,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.dspace.app.rest.model.BitstreamRest;
 import org.dspace.app.rest.model.BundleRest;
 import org.dspace.app.rest.projection.Projection;
+import org.dspace.content.Bitstream;
 import org.dspace.content.Bundle;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.BundleService;
@@ -50,8 +52,11 @@ public class BundleBitstreamLinkRepository extends AbstractDSpaceRestRepository
             if (bundle == null) {
                 throw new ResourceNotFoundException("No such bundle: " + bundleId);
             }
+            int total = bitstreamService.countByBundle(context, bundle);
             Pageable pageable = utils.getPageable(optionalPageable);
-            return converter.toRestPage(bundle.getBitstreams(), pageable, projection);
+            List<Bitstream> bitstreams = bitstreamService.findByBundle(context, bundle, pageable.getPageSize(),
+                                                                       Math.toIntExact(pageable.getOffset()));
+            return converter.toRestPage(bitstreams, pageable, total, projection);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -10,7 +10,6 @@ package org.dspace.app.rest.repository;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +18,7 @@ import org.dspace.app.rest.model.ItemRest;
 import org.dspace.app.rest.projection.Projection;
 import org.dspace.content.Collection;
 import org.dspace.content.Item;
+import org.dspace.content.service.CollectionService;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +35,9 @@ import org.springframework.stereotype.Component;
 public class ItemMappedCollectionLinkRepository extends AbstractDSpaceRestRepository
         implements LinkRestRepository {
 
+    @Autowired
+    CollectionService collectionService;
+
     @Autowired
     ItemService itemService;
 
@@ -49,11 +52,11 @@ public class ItemMappedCollectionLinkRepository extends AbstractDSpaceRestReposi
             if (item == null) {
                 throw new ResourceNotFoundException("No such item: " + itemId);
             }
-            UUID owningCollectionId = item.getOwningCollection() == null ? null : item.getOwningCollection().getID();
-            List<Collection> collections = item.getCollections().stream()
-                                           .filter((collection) -> !collection.getID().equals(owningCollectionId))
-                                           .collect(Collectors.toList());
-            return converter.toRestPage(collections, optionalPageable, projection);
+            int total = collectionService.countMappedCollections(context, item);
+            Pageable pageable = utils.getPageable(optionalPageable);
+            List<Collection> collections = collectionService.findMappedCollections(context, item,
+                    pageable.getPageSize(), Math.toIntExact(pageable.getOffset()));
+            return converter.toRestPage(collections, pageable, total, projection);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -8,6 +8,9 @@
 package org.dspace.app.rest.repository;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.annotation.Nullable;
@@ -15,8 +18,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.dspace.app.rest.model.CollectionRest;
 import org.dspace.app.rest.model.ItemRest;
 import org.dspace.app.rest.projection.Projection;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.Collection;
 import org.dspace.content.Item;
 import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +40,9 @@ public class ItemOwningCollectionLinkRepository extends AbstractDSpaceRestReposi
     @Autowired
     ItemService itemService;
 
+    @Autowired
+    AuthorizeService authorizeService;
+
     @PreAuthorize("hasPermission(#itemId, 'ITEM', 'READ')")
     public CollectionRest getOwningCollection(@Nullable HttpServletRequest request,
                                               UUID itemId,
@@ -53,4 +62,30 @@ public class ItemOwningCollectionLinkRepository extends AbstractDSpaceRestReposi
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Resolves the owning collections of all the items of a page with one query.
+     */
+    @Override
+    public Map<Object, Object> getBatch(@Nullable HttpServletRequest request, List<Object> ids,
+                                        Projection projection) {
+        try {
+            Context context = obtainContext();
+            List<UUID> itemIds = ids.stream().map(id -> (UUID) id).toList();
+            Map<UUID, Collection> owningCollections = itemService.getOwningCollections(context, itemIds);
+            Map<Object, Object> result = new HashMap<>();
+            for (Map.Entry<UUID, Collection> entry : owningCollections.entrySet()) {
+                // Items the user may not read are left to getOwningCollection, which denies the access
+                Item item = itemService.find(context, entry.getKey());
+                if (!authorizeService.authorizeActionBoolean(context, item, Constants.READ)) {
+                    continue;
+                }
+                Collection collection = entry.getValue();
+                result.put(entry.getKey(), collection == null ? null : converter.toRest(collection, projection));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -9,6 +9,9 @@
 package org.dspace.app.rest.repository;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import jakarta.annotation.Nullable;
@@ -16,9 +19,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.dspace.app.rest.model.BitstreamRest;
 import org.dspace.app.rest.model.ItemRest;
 import org.dspace.app.rest.projection.Projection;
+import org.dspace.authorize.service.AuthorizeService;
 import org.dspace.content.Item;
 import org.dspace.content.Thumbnail;
 import org.dspace.content.service.ItemService;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +39,9 @@ public class ItemThumbnailLinkRepository extends AbstractDSpaceRestRepository im
     @Autowired
     ItemService itemService;
 
+    @Autowired
+    AuthorizeService authorizeService;
+
     @PreAuthorize("hasPermission(#itemId, 'ITEM', 'READ')")
     public BitstreamRest getThumbnail(@Nullable HttpServletRequest request,
                                       UUID itemId,
@@ -54,4 +62,31 @@ public class ItemThumbnailLinkRepository extends AbstractDSpaceRestRepository im
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Resolves the thumbnails of all the items of a page with one query for their bundles and bitstreams.
+     */
+    @Override
+    public Map<Object, Object> getBatch(@Nullable HttpServletRequest request, List<Object> ids,
+                                        Projection projection) {
+        try {
+            Context context = obtainContext();
+            List<UUID> itemIds = ids.stream().map(id -> (UUID) id).toList();
+            Map<UUID, Thumbnail> thumbnails = itemService.getThumbnails(context, itemIds, false);
+            Map<Object, Object> result = new HashMap<>();
+            for (Map.Entry<UUID, Thumbnail> entry : thumbnails.entrySet()) {
+                // Items the user may not read are left to getThumbnail, which denies the access
+                Item item = itemService.find(context, entry.getKey());
+                if (!authorizeService.authorizeActionBoolean(context, item, Constants.READ)) {
+                    continue;
+                }
+                Thumbnail thumbnail = entry.getValue();
+                result.put(entry.getKey(), thumbnail == null ? null : converter.toRest(thumbnail.getThumb(),
+                                                                                        projection));
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -7,6 +7,14 @@
  */
 package org.dspace.app.rest.repository;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.dspace.app.rest.projection.Projection;
+
 /**
  * This is the interface for Link Repositories.
  *
@@ -16,4 +24,26 @@ public interface LinkRestRepository {
     default boolean isEmbeddableRelation(Object data, String name) {
         return true;
     }
+
+    /**
+     * Resolves the link for several resources at once, so that the embeds of a whole page can be loaded with a
+     * few queries instead of calling the link method once per resource. The returned objects must be the same as
+     * those that the link method would return for each id, including its authorization checks: an id that
+     * the current user may not see the link of must be left out of the result. Batches are only requested for
+     * link methods that return a single object, not a page.
+     * <p>
+     * Ids that are missing from the returned map are resolved with the link method, so repositories that cannot
+     * batch simply keep the default, which resolves nothing. A {@code null} value means that the resource has no
+     * linked object.
+     * </p>
+     *
+     * @param request    the current request, may be {@code null}
+     * @param ids        the ids of the resources, of the type expected by the link method
+     * @param projection the projection of the resources
+     * @return the linked objects by id
+     */
+    default Map<Object, Object> getBatch(@Nullable HttpServletRequest request, List<Object> ids,
+                                         Projection projection) {
+        return Collections.emptyMap();
+    }
 }
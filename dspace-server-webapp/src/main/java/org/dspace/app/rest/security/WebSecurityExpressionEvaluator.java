@@ -8,6 +8,8 @@
 package org.dspace.app.rest.security;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,6 +44,17 @@ public class WebSecurityExpressionEvaluator {
 
     private final List<SecurityExpressionHandler> securityExpressionHandlers;
 
+    /**
+     * The filter invocation handler, resolved on first use
+     */
+    private volatile SecurityExpressionHandler filterSecurityHandler;
+
+    /**
+     * Parsed expressions by their text. There is only a limited number of distinct expressions, the values of the
+     * PreAuthorize annotations.
+     */
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
     /**
      * Constructor for this class that sets all the {@link SecurityExpressionHandler} objects in a list
      * @param securityExpressionHandlers    The {@link SecurityExpressionHandler} for this class
@@ -65,7 +78,8 @@ public class WebSecurityExpressionEvaluator {
                             String id) {
         SecurityExpressionHandler handler = getFilterSecurityHandler();
 
-        Expression expression = handler.getExpressionParser().parseExpression(securityExpression);
+        Expression expression = expressions.computeIfAbsent(securityExpression,
+            text -> handler.getExpressionParser().parseExpression(text));
 
         EvaluationContext evaluationContext = createEvaluationContext(handler, request, response);
         evaluationContext.setVariable("id", id);
@@ -82,6 +96,13 @@ public class WebSecurityExpressionEvaluator {
     }
 
     private SecurityExpressionHandler getFilterSecurityHandler() {
+        if (filterSecurityHandler == null) {
+            filterSecurityHandler = findFilterSecurityHandler();
+        }
+        return filterSecurityHandler;
+    }
+
+    private SecurityExpressionHandler findFilterSecurityHandler() {
         return securityExpressionHandlers.stream()
                                          .filter(handler ->
                                                      FilterInvocation.class.equals(
@@ -0,0 +1,135 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import static org.dspace.app.rest.utils.RegexUtils.REGEX_UUID;
+
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.ArrayUtils;
+import org.dspace.app.rest.filter.ResourceETagFilter;
+import org.dspace.app.rest.model.ItemRest;
+import org.dspace.app.rest.model.RestAddressableModel;
+import org.dspace.app.rest.security.DSpaceCsrfTokenRepository;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Utility class providing the HTTP caching headers of the single resources of the REST API, e.g.
+ * GET /api/core/items/&lt;uuid&gt;.
+ * <p>
+ * The models whose resources may be cached are set with rest.cache.models. Their responses get a strong ETag
+ * computed from their content by the {@link ResourceETagFilter}, which answers 304 Not Modified to the requests
+ * whose If-None-Match matches it, and a Cache-Control header: "public, max-age" for anonymous requests when
+ * rest.cache.anonymous.max-age (or rest.cache.anonymous.max-age.&lt;category&gt;.&lt;model&gt;) is set and the
+ * response carries no state of the client (e.g. the CSRF token sent to the clients without one), "private, no-cache"
+ * otherwise so that the clients revalidate them on every use.
+ *
+ * @see ResourceETagFilter
+ */
+@Component
+public class HttpCachingUtils {
+
+    /**
+     * Request attribute set on the requests of cacheable resources, whose response may get an ETag
+     */
+    public static final String CACHEABLE_ATTRIBUTE = HttpCachingUtils.class.getName() + ".cacheable";
+
+    private static final Pattern SINGLE_RESOURCE_PATH =
+        Pattern.compile("^/api/([a-z]+)/([a-z]+)/(" + REGEX_UUID + ")/?$");
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    /**
+     * @param apiCategory the category of the model, e.g. core
+     * @param model       the plural name of the model, e.g. items
+     * @return whether the single resources of the model may be cached
+     */
+    public boolean isCacheable(String apiCategory, String model) {
+        String[] models = configurationService.getArrayProperty("rest.cache.models");
+        return ArrayUtils.contains(models, apiCategory + "." + model);
+    }
+
+    /**
+     * Check, before it is processed, whether a request may get a cacheable response, i.e. whether it is a GET
+     * request of a single resource of a cacheable model.
+     *
+     * @param request the request
+     * @return true if the response may be cacheable
+     */
+    public boolean isCacheableRequest(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = SINGLE_RESOURCE_PATH.matcher(path);
+        return matcher.matches() && isCacheable(matcher.group(1), matcher.group(2));
+    }
+
+    /**
+     * Add the caching headers to the response of a cacheable resource and let the {@link ResourceETagFilter} add
+     * its ETag.
+     *
+     * @param context     the DSpace context of the request
+     * @param request     the request
+     * @param response    the response
+     * @param apiCategory the category of the model
+     * @param model       the plural name of the model
+     * @param restObject  the rest object being returned
+     */
+    public void addCacheHeaders(Context context, HttpServletRequest request, HttpServletResponse response,
+                                String apiCategory, String model, RestAddressableModel restObject) {
+        request.setAttribute(CACHEABLE_ATTRIBUTE, true);
+
+        int maxAge = configurationService.getIntProperty("rest.cache.anonymous.max-age." + apiCategory + "." + model,
+            configurationService.getIntProperty("rest.cache.anonymous.max-age", 0));
+        if (maxAge > 0 && isAnonymous(context) && !hasClientState(response)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAge);
+        } else {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        // The content depends on the authenticated user
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+
+        if (restObject instanceof ItemRest && ((ItemRest) restObject).getLastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED,
+                                   ((ItemRest) restObject).getLastModified().toEpochMilli());
+        }
+    }
+
+    /**
+     * Whether the response carries a state of the client which must not be shared with the other clients by a shared
+     * cache: a cookie, or the CSRF token that the CsrfFilter sends (before the request is processed) to the clients
+     * without a valid CSRF cookie.
+     */
+    private boolean hasClientState(HttpServletResponse response) {
+        return response.containsHeader(HttpHeaders.SET_COOKIE)
+            || response.containsHeader(DSpaceCsrfTokenRepository.DSPACE_CSRF_HEADER_NAME);
+    }
+
+    /**
+     * Whether the request is anonymous, without the special groups that some anonymous users get e.g. from their IP
+     * address: only the responses of those requests can be shared by all the users.
+     */
+    private boolean isAnonymous(Context context) {
+        try {
+            return context != null && context.getCurrentUser() == null && context.getSpecialGroups().isEmpty();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.net.URLDecoder;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -70,6 +71,7 @@ import org.dspace.app.rest.model.VersionHistoryRest;
 import org.dspace.app.rest.model.VocabularyRest;
 import org.dspace.app.rest.model.hateoas.EmbeddedPage;
 import org.dspace.app.rest.model.hateoas.HALResource;
+import org.dspace.app.rest.model.hateoas.StreamingResourceList;
 import org.dspace.app.rest.projection.CompositeProjection;
 import org.dspace.app.rest.projection.DefaultProjection;
 import org.dspace.app.rest.projection.EmbedRelsProjection;
@@ -100,6 +102,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.Link;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -122,6 +125,16 @@ public class Utils {
      */
     private static final int EMBED_MAX_LEVELS = 10;
 
+    /**
+     * Request attribute holding the linked objects resolved by {@link #embedClassLevelRelsInBatch}.
+     */
+    private static final String EMBED_BATCHES_ATTRIBUTE = Utils.class.getName() + ".embedBatches";
+
+    /**
+     * Request attribute set on the requests whose response embeds streamed resources, see {@link #isStreamed}.
+     */
+    public static final String STREAMED_ATTRIBUTE = Utils.class.getName() + ".streamed";
+
     @Autowired
     ApplicationContext applicationContext;
 
@@ -679,6 +692,119 @@ public class Utils {
         });
     }
 
+    /**
+     * Resolves, for all the given rest objects at once, the class-level rels that will be embedded and whose
+     * {@link LinkRestRepository} supports {@link LinkRestRepository#getBatch batches}, so that the embeds of a
+     * page are loaded with one call per rel instead of one call per object. The results are kept for the current
+     * request and used by {@link #embedRelFromRepository} when the resources are built.
+     * <p>
+     * Only links to a single object are resolved in batch; paged links are still resolved per object.
+     * </p>
+     *
+     * @param restObjects the rest objects that are about to be converted to resources
+     * @param oldLinks    the previously traversed links, as they will be given to the resources
+     */
+    public void embedClassLevelRelsInBatch(Collection<? extends RestModel> restObjects, Link... oldLinks) {
+        Map<String, Map<Object, Object>> batches = getEmbedBatches();
+        if (batches == null || restObjects.size() < 2) {
+            return;
+        }
+        Map<String, List<RestAddressableModel>> objectsByRel = new HashMap<>();
+        Map<String, LinkRest> linkRests = new HashMap<>();
+        for (RestModel restModel : restObjects) {
+            if (!(restModel instanceof RestAddressableModel) || !(restModel instanceof BaseObjectRest)
+                || ((BaseObjectRest) restModel).getId() == null) {
+                continue;
+            }
+            RestAddressableModel restObject = (RestAddressableModel) restModel;
+            if (restObject.getEmbedLevel() == EMBED_MAX_LEVELS) {
+                continue;
+            }
+            // Only used to ask the projection, in the same way as embedOrLinkClassLevelRels will
+            HALResource<RestAddressableModel> probe = new HALResource<>(restObject) { };
+            for (LinkRest linkRest : getLinkRests(restObject.getClass())) {
+                if (StringUtils.isNotBlank(linkRest.method())
+                    && restObject.getProjection().allowEmbedding(probe, linkRest, oldLinks)) {
+                    String key = getEmbedBatchKey(restObject, linkRest.name());
+                    objectsByRel.computeIfAbsent(key, k -> new ArrayList<>()).add(restObject);
+                    linkRests.put(key, linkRest);
+                }
+            }
+        }
+        for (Map.Entry<String, List<RestAddressableModel>> entry : objectsByRel.entrySet()) {
+            RestAddressableModel first = entry.getValue().get(0);
+            LinkRest linkRest = linkRests.get(entry.getKey());
+            LinkRestRepository linkRepository = getLinkResourceRepository(first.getCategory(),
+                    first.getTypePlural(), linkRest.name());
+            Method method = requireMethod(linkRepository.getClass(), linkRest.method());
+            if (Page.class.isAssignableFrom(method.getReturnType())
+                || List.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            List<Object> ids = new ArrayList<>();
+            for (RestAddressableModel restObject : entry.getValue()) {
+                if (linkRepository.isEmbeddableRelation(restObject, linkRest.name())) {
+                    ids.add(getContentIdForLinkMethod(restObject, method));
+                }
+            }
+            if (ids.size() < 2) {
+                continue;
+            }
+            Map<Object, Object> batch = linkRepository.getBatch(
+                requestService.getCurrentRequest().getHttpServletRequest(), ids, first.getProjection());
+            if (!batch.isEmpty()) {
+                batches.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(batch);
+            }
+        }
+    }
+
+    /**
+     * Whether the given content of a page is large enough to be converted to resources while the response is
+     * written, rather than before, see {@link StreamingResourceList}. The minimum size is set with
+     * rest.response.streaming.threshold, a negative value disables streaming.
+     * <p>
+     * When it is, the current request is marked with {@link #STREAMED_ATTRIBUTE}, so that the filters which would
+     * otherwise buffer the whole response (to compute its ETag or to cache it) let it through as it is written.
+     *
+     * @param pageContent the rest objects of the page
+     * @return true if the resources of the page should be streamed
+     */
+    public boolean isStreamed(Collection<?> pageContent) {
+        int threshold = configurationService.getIntProperty("rest.response.streaming.threshold", 50);
+        boolean streamed = threshold >= 0 && pageContent.size() > threshold;
+        if (streamed && requestService.getCurrentRequest() != null
+            && requestService.getCurrentRequest().getHttpServletRequest() != null) {
+            HttpServletRequest request = requestService.getCurrentRequest().getHttpServletRequest();
+            request.setAttribute(STREAMED_ATTRIBUTE, true);
+            ShallowEtagHeaderFilter.disableContentCaching(request);
+        }
+        return streamed;
+    }
+
+    /**
+     * @return the linked objects resolved in batch during the current request by rel, or {@code null} if there
+     * is no current request
+     */
+    private Map<String, Map<Object, Object>> getEmbedBatches() {
+        if (requestService.getCurrentRequest() == null
+            || requestService.getCurrentRequest().getHttpServletRequest() == null) {
+            return null;
+        }
+        HttpServletRequest request = requestService.getCurrentRequest().getHttpServletRequest();
+        Map<String, Map<Object, Object>> batches = (Map<String, Map<Object, Object>>) request.getAttribute(
+            EMBED_BATCHES_ATTRIBUTE);
+        if (batches == null) {
+            batches = new HashMap<>();
+            request.setAttribute(EMBED_BATCHES_ATTRIBUTE, batches);
+        }
+        return batches;
+    }
+
+    private String getEmbedBatchKey(RestAddressableModel restObject, String rel) {
+        return restObject.getCategory() + "." + restObject.getTypePlural() + "." + rel + "."
+            + restObject.getProjection().getName();
+    }
+
     private List<LinkRest> getLinkRests(Class<? extends RestAddressableModel> restClass) {
         List<LinkRest> list = new ArrayList<>();
         LinksRest linksAnnotation = restClass.getDeclaredAnnotation(LinksRest.class);
@@ -745,6 +871,18 @@ public class Utils {
         if (linkRepository.isEmbeddableRelation(resource.getContent(), rel)) {
             Method method = requireMethod(linkRepository.getClass(), linkRest.method());
             Object contentId = getContentIdForLinkMethod(resource.getContent(), method);
+            Map<String, Map<Object, Object>> batches = getEmbedBatches();
+            Map<Object, Object> batch = batches == null ? null
+                : batches.get(getEmbedBatchKey(resource.getContent(), rel));
+            if (batch != null && batch.containsKey(contentId)) {
+                Object linkedObject = batch.get(contentId);
+                if (linkedObject instanceof RestAddressableModel) {
+                    // The same rest object is never embedded twice, its embed level is set when wrapping it
+                    batch.remove(contentId);
+                }
+                resource.embedResource(rel, wrapForEmbedding(resource, linkedObject, link, oldLinks));
+                return;
+            }
             try {
                 Object linkedObject = method.invoke(linkRepository, null, contentId,
                                                     projection.getPagingOptions(rel, resource, oldLinks), projection);
@@ -888,6 +1026,13 @@ public class Utils {
         } else if (linkedObject instanceof Page) {
             // The first page has already been constructed by a link repository and we only need to wrap it
             Page<RestAddressableModel> page = (Page<RestAddressableModel>) linkedObject;
+            embedClassLevelRelsInBatch(page.getContent(), newList);
+            if (isStreamed(page.getContent())) {
+                page.getContent().forEach(restObject -> restObject.setEmbedLevel(childEmbedLevel));
+                List<HALResource> resources = new StreamingResourceList<>(page.getContent(),
+                        restObject -> converter.toResource(restObject, newList));
+                return new EmbeddedPage(link.getHref(), page, resources, null, link.getRel().value());
+            }
             return new EmbeddedPage(link.getHref(), page.map((restObject) -> {
                 restObject.setEmbedLevel(childEmbedLevel);
                 return converter.toResource(restObject, newList);
@@ -899,6 +1044,7 @@ public class Utils {
                 PageImpl<RestAddressableModel> page = new PageImpl(
                         list.subList(0, list.size() > DEFAULT_PAGE_SIZE ? DEFAULT_PAGE_SIZE : list.size()),
                         PageRequest.of(0, DEFAULT_PAGE_SIZE), list.size());
+                embedClassLevelRelsInBatch(page.getContent(), newList);
                 return new EmbeddedPage(link.getHref(),
                         page.map((restObject) -> {
                             restObject.setEmbedLevel(childEmbedLevel);
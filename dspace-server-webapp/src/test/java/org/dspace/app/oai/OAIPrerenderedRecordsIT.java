@@ -0,0 +1,209 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+
+package org.dspace.app.oai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.SolrDocument;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.services.ConfigurationService;
+import org.dspace.solr.MockSolrServer;
+import org.dspace.xoai.app.XOAI;
+import org.dspace.xoai.services.api.cache.XOAICacheService;
+import org.dspace.xoai.services.api.solr.SolrServerResolver;
+import org.dspace.xoai.services.impl.resources.PrerenderedRecords;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests of the records pre-rendered at import (oai.import.prerender.formats): GetRecord and ListRecords
+ * must answer exactly the same with and without them, in the pre-rendered formats as in the others, and in the
+ * contexts applying their own transformer before the crosswalk of the format.
+ */
+@TestPropertySource(properties = {"oai.enabled = true"})
+public class OAIPrerenderedRecordsIT extends AbstractControllerIntegrationTest {
+
+    private static final String PRERENDERED_FORMAT = "oai_dc";
+
+    /**
+     * The requested formats by context: the default context, and the driver context with its own transformer
+     */
+    private static final Map<String, List<String>> FORMATS = Map.of(
+        "/oai/request", List.of(PRERENDERED_FORMAT, "mets", "qdc"),
+        "/oai/driver", List.of(PRERENDERED_FORMAT, "mets"));
+
+    private static final Pattern IDENTIFIER = Pattern.compile("<identifier>([^<]+)</identifier>");
+    private static final Pattern RESPONSE_DATE = Pattern.compile("<responseDate>[^<]*</responseDate>");
+
+    @MockBean
+    private XOAICacheService xoaiCacheService;
+
+    @MockBean
+    private SolrServerResolver solrServerResolver;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    private MockSolrServer oaiCore;
+
+    @Before
+    public void setup() throws Exception {
+        // These integration tests REQUIRE that OAIWebConfig is found/available (as this class deploys OAI)
+        try {
+            Class.forName("org.dspace.app.configuration.OAIWebConfig");
+        } catch (ClassNotFoundException ce) {
+            Assume.assumeNoException(ce);
+        }
+
+        // Every request is answered by the data provider
+        when(xoaiCacheService.isActive()).thenReturn(false);
+        when(xoaiCacheService.hasCache(anyString())).thenReturn(false);
+
+        oaiCore = new MockSolrServer("oai");
+        SolrClient solrClient = oaiCore.getSolrServer();
+        when(solrServerResolver.getServer()).thenReturn(solrClient);
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        configurationService.setProperty("oai.import.prerender.formats", null);
+        if (oaiCore != null) {
+            oaiCore.reset();
+            oaiCore.getSolrServer().commit();
+            oaiCore.destroy();
+        }
+        super.destroy();
+    }
+
+    @Test
+    public void prerenderedRecordsAreIdentical() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        for (int i = 0; i < 3; i++) {
+            // visible in the driver context as well
+            ItemBuilder.createItem(context, collection)
+                       .withTitle("Item " + i)
+                       .withAuthor("Author, " + i)
+                       .withIssueDate("2020-0" + (i + 1))
+                       .withType("info:eu-repo/semantics/article")
+                       .withMetadata("dc", "rights", null, "info:eu-repo/semantics/openAccess")
+                       .withMetadata("dc", "description", "abstract", "Abstract with <markup> & entities " + i)
+                       .build();
+        }
+        context.restoreAuthSystemState();
+
+        importItems();
+        assertNull(getIndexedRecord());
+        Map<String, String> rendered = requestRecords();
+
+        configurationService.setProperty("oai.import.prerender.formats", PRERENDERED_FORMAT);
+        importItems();
+        assertNotNull("The records are pre-rendered", getIndexedRecord());
+        Map<String, String> prerendered = requestRecords();
+
+        assertEquals(rendered.keySet(), prerendered.keySet());
+        for (Map.Entry<String, String> response : rendered.entrySet()) {
+            assertEquals(response.getKey(), response.getValue(), prerendered.get(response.getKey()));
+        }
+    }
+
+    private void importItems() throws Exception {
+        XOAI indexer = new XOAI(context, true, false);
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(indexer);
+        assertEquals(3, indexer.index());
+    }
+
+    /**
+     * @return the pre-rendered record of an item in the index, if any
+     */
+    private Object getIndexedRecord() throws Exception {
+        SolrQuery query = new SolrQuery("*:*").setRows(1);
+        SolrDocument document = oaiCore.getSolrServer().query(query).getResults().get(0);
+        return document.getFieldValue(PrerenderedRecords.FIELD_PREFIX + PRERENDERED_FORMAT);
+    }
+
+    /**
+     * Request ListRecords and the GetRecord of every item in every context and format.
+     *
+     * @return the responses without their date, by request
+     */
+    private Map<String, String> requestRecords() throws Exception {
+        Map<String, String> responses = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> contextFormats : FORMATS.entrySet()) {
+            String path = contextFormats.getKey();
+            for (String format : contextFormats.getValue()) {
+                String listRecords = request(path, "verb", "ListRecords", "metadataPrefix", format);
+                responses.put(path + " ListRecords " + format, listRecords);
+
+                List<String> identifiers = getIdentifiers(path, format);
+                assertEquals(path + " " + format, 3, identifiers.size());
+                for (String identifier : identifiers) {
+                    responses.put(path + " GetRecord " + format + " " + identifier,
+                                  request(path, "verb", "GetRecord", "metadataPrefix", format,
+                                          "identifier", identifier));
+                }
+            }
+        }
+        return responses;
+    }
+
+    private List<String> getIdentifiers(String path, String format) throws Exception {
+        String response = request(path, "verb", "ListIdentifiers", "metadataPrefix", format);
+        List<String> identifiers = new ArrayList<>();
+        Matcher matcher = IDENTIFIER.matcher(response);
+        while (matcher.find()) {
+            identifiers.add(matcher.group(1));
+        }
+        return identifiers;
+    }
+
+    private String request(String path, String... parameters) throws Exception {
+        var request = get(path);
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.param(parameters[i], parameters[i + 1]);
+        }
+        String response = getClient().perform(request)
+                                     .andExpect(status().isOk())
+                                     .andReturn().getResponse().getContentAsString();
+        assertTrue(response, response.contains("<metadata") || response.contains("<header"));
+        return RESPONSE_DATE.matcher(response).replaceAll("");
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+
+package org.dspace.app.oai;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.lang.management.ManagementFactory;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.solr.MockSolrServer;
+import org.dspace.xoai.app.XOAI;
+import org.dspace.xoai.services.api.cache.XOAICacheService;
+import org.dspace.xoai.services.api.solr.SolrServerResolver;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the OAI-PMH data provider: a synthetic repository is imported by {@link XOAI} into the embedded
+ * "oai" Solr core, then all its records are listed with ListRecords and ListIdentifiers, following the resumption
+ * tokens, in several metadata formats. The throughput (records per second) and the memory allocated per record by
+ * the requests are logged, so that they can be compared between releases.
+ * <p>
+ * The benchmark only runs when the number of items is set with the oai.benchmark.items system property, e.g.
+ * {@code mvn verify -DskipIntegrationTests=false -Dit.test=OAIpmhThroughputIT -Doai.benchmark.items=300}
+ */
+@TestPropertySource(properties = {"oai.enabled = true"})
+public class OAIpmhThroughputIT extends AbstractControllerIntegrationTest {
+
+    private static final String DEFAULT_CONTEXT = "/oai/request";
+    private static final String[] FORMATS = {"oai_dc", "qdc", "mets"};
+    private static final int ROUNDS = 3;
+
+    private static final Pattern RESUMPTION_TOKEN = Pattern.compile("<resumptionToken[^>]*>([^<]+)</resumptionToken>");
+    private static final Pattern RECORD = Pattern.compile("<record>");
+    private static final Pattern HEADER = Pattern.compile("<header[ >]");
+
+    private static final Logger log = LogManager.getLogger();
+
+    private final Integer numberOfItems = Integer.getInteger("oai.benchmark.items");
+
+    // Mock to ensure XOAI caching is disabled, so that every request is answered by the data provider
+    @MockBean
+    private XOAICacheService xoaiCacheService;
+
+    // Serve the embedded "oai" Solr core to both the import and the data provider
+    @MockBean
+    private SolrServerResolver solrServerResolver;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private MockSolrServer oaiCore;
+
+    @Before
+    public void setup() throws Exception {
+        // This benchmark is opt-in, as it is too slow for every build
+        Assume.assumeTrue("oai.benchmark.items is not set", numberOfItems != null);
+
+        // These integration tests REQUIRE that OAIWebConfig is found/available (as this class deploys OAI)
+        try {
+            Class.forName("org.dspace.app.configuration.OAIWebConfig");
+        } catch (ClassNotFoundException ce) {
+            Assume.assumeNoException(ce);
+        }
+
+        when(xoaiCacheService.isActive()).thenReturn(false);
+        when(xoaiCacheService.hasCache(anyString())).thenReturn(false);
+
+        oaiCore = new MockSolrServer("oai");
+        SolrClient solrClient = oaiCore.getSolrServer();
+        when(solrServerResolver.getServer()).thenReturn(solrClient);
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        if (oaiCore != null) {
+            oaiCore.reset();
+            oaiCore.getSolrServer().commit();
+            oaiCore.destroy();
+        }
+        super.destroy();
+    }
+
+    @Test
+    public void listRecordsThroughput() throws Exception {
+        createItems();
+        importItems();
+
+        for (String format : FORMATS) {
+            walk("ListRecords", format, RECORD);
+            walk("ListIdentifiers", format, HEADER);
+        }
+    }
+
+    private void createItems() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        for (int i = 0; i < numberOfItems; i++) {
+            ItemBuilder.createItem(context, collection)
+                       .withTitle("Synthetic item " + i)
+                       .withAuthor("Author, " + (i % 50))
+                       .withAuthor("Coauthor, " + (i % 7))
+                       .withIssueDate(String.valueOf(1950 + i % 70))
+                       .withSubject("Subject " + (i % 20))
+                       .withSubject("Subject " + (i % 30))
+                       .withDescriptionAbstract("Abstract of the synthetic item " + i
+                                                    + ", long enough to be representative of an abstract. ".repeat(5))
+                       .withLanguage("en")
+                       .build();
+        }
+        context.restoreAuthSystemState();
+    }
+
+    private void importItems() throws Exception {
+        XOAI indexer = new XOAI(context, true, false);
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(indexer);
+
+        long start = System.nanoTime();
+        int imported = indexer.index();
+        long time = System.nanoTime() - start;
+
+        log.info("import: {} items, {} items/s", imported, rate(imported, time));
+        assertEquals("imported items", numberOfItems.intValue(), imported);
+    }
+
+    /**
+     * List all the records in a metadata format, following the resumption tokens, once to warm up the crosswalks
+     * and then {@link #ROUNDS} times to measure the throughput.
+     */
+    private void walk(String verb, String format, Pattern entry) throws Exception {
+        walkOnce(verb, format, entry);
+
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        boolean allocationSupported = threadMXBean.isThreadAllocatedMemorySupported()
+            && threadMXBean.isThreadAllocatedMemoryEnabled();
+
+        long records = 0;
+        long time = 0;
+        long allocated = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            // the requests are processed by the current thread with MockMvc
+            long allocatedBefore = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+            long start = System.nanoTime();
+            int listed = walkOnce(verb, format, entry);
+            time += System.nanoTime() - start;
+            allocated += allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : 0;
+            records += listed;
+            assertEquals(verb + " " + format, numberOfItems.intValue(), listed);
+        }
+
+        log.info("{} {}: {} records, {} records/s, {}", verb, format, numberOfItems, rate(records, time),
+                 allocationSupported ? allocated / records + " bytes allocated/record" : "allocation not measured");
+    }
+
+    private int walkOnce(String verb, String format, Pattern entry) throws Exception {
+        int listed = 0;
+        String resumptionToken = null;
+        do {
+            String response;
+            if (resumptionToken == null) {
+                response = getClient().perform(get(DEFAULT_CONTEXT).param("verb", verb)
+                                                                   .param("metadataPrefix", format))
+                                      .andExpect(status().isOk())
+                                      .andReturn().getResponse().getContentAsString();
+            } else {
+                response = getClient().perform(get(DEFAULT_CONTEXT).param("verb", verb)
+                                                                   .param("resumptionToken", resumptionToken))
+                                      .andExpect(status().isOk())
+                                      .andReturn().getResponse().getContentAsString();
+            }
+
+            Matcher matcher = entry.matcher(response);
+            while (matcher.find()) {
+                listed++;
+            }
+            Matcher token = RESUMPTION_TOKEN.matcher(response);
+            resumptionToken = token.find() ? token.group(1) : null;
+        } while (resumptionToken != null);
+        return listed;
+    }
+
+    private long rate(long count, long nanos) {
+        return nanos > 0 ? count * 1000000000L / nanos : 0;
+    }
+}
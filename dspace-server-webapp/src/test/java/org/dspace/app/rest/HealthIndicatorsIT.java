@@ -68,7 +68,9 @@ public class HealthIndicatorsIT extends AbstractControllerIntegrationTest {
                 match("solrStatisticsCore", Status.UP, Map.of("status", 0, "detectedPathType", "root")),
                 match("geoIp", UP_WITH_ISSUES_STATUS,
                     Map.of("reason", "The required 'dbfile' configuration is missing in usage-statistics.cfg!"))
-                )));
+                )))
+            .andExpect(jsonPath("$.components.events.status", is(Status.UP.getCode())))
+            .andExpect(jsonPath("$.components.events.details.dispatcherPool").exists());
 
     }
 }
@@ -0,0 +1,162 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import jakarta.servlet.http.Cookie;
+import org.dspace.app.rest.security.DSpaceCsrfTokenRepository;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.services.ConfigurationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Integration tests of the HTTP caching headers of the single resources, see
+ * {@link org.dspace.app.rest.utils.HttpCachingUtils}.
+ */
+public class HttpCachingIT extends AbstractControllerIntegrationTest {
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private Collection collection;
+
+    private Item item;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection").build();
+        item = ItemBuilder.createItem(context, collection).withTitle("Cached item").build();
+        context.restoreAuthSystemState();
+    }
+
+    @After
+    public void resetMaxAge() {
+        configurationService.setProperty("rest.cache.anonymous.max-age", null);
+    }
+
+    @Test
+    public void findOneItemNotModifiedTest() throws Exception {
+        String etag = getClient().perform(get("/api/core/items/" + item.getID()))
+                                 .andExpect(status().isOk())
+                                 .andExpect(header().string(HttpHeaders.ETAG, notNullValue()))
+                                 .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                                 .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                                 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        getClient().perform(get("/api/core/items/" + item.getID()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                   .andExpect(status().isNotModified())
+                   .andExpect(header().string(HttpHeaders.ETAG, etag))
+                   .andExpect(content().string(emptyString()));
+
+        // Another projection is another representation
+        getClient().perform(get("/api/core/items/" + item.getID()).param("embed", "owningCollection")
+                                                                 .header(HttpHeaders.IF_NONE_MATCH, etag))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.owningCollection.name", is("Collection")));
+
+        // Any change of the item changes its ETag
+        context.turnOffAuthorisationSystem();
+        item = context.reloadEntity(item);
+        itemService.addMetadata(context, item, "dc", "description", null, null, "A description");
+        itemService.update(context, item);
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String newEtag = getClient().perform(get("/api/core/items/" + item.getID())
+                                                 .header(HttpHeaders.IF_NONE_MATCH, etag))
+                                    .andExpect(status().isOk())
+                                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    public void findOneCollectionNotModifiedTest() throws Exception {
+        String etag = getClient().perform(get("/api/core/collections/" + collection.getID()))
+                                 .andExpect(status().isOk())
+                                 .andExpect(header().string(HttpHeaders.ETAG, notNullValue()))
+                                 .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        getClient().perform(get("/api/core/collections/" + collection.getID())
+                                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                   .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void findOneNotFoundWithoutETagTest() throws Exception {
+        getClient().perform(get("/api/core/items/" + UUID.randomUUID()))
+                   .andExpect(status().isNotFound())
+                   .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void findOneAnonymousPublicCacheTest() throws Exception {
+        configurationService.setProperty("rest.cache.anonymous.max-age", 120);
+
+        getClient().perform(get("/api/core/items/" + item.getID()))
+                   .andExpect(status().isOk())
+                   .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "public, max-age=120"))
+                   .andExpect(header().stringValues(HttpHeaders.VARY,
+                                                    hasItem(containsString(HttpHeaders.AUTHORIZATION))));
+
+        // The responses of the authenticated users are never shared
+        String token = getAuthToken(admin.getEmail(), password);
+        getClient(token).perform(get("/api/core/items/" + item.getID()))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("public"))))
+                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")));
+    }
+
+    @Test
+    public void findOneAnonymousWithNewCsrfTokenNotPublicTest() throws Exception {
+        configurationService.setProperty("rest.cache.anonymous.max-age", 120);
+
+        // Without a CSRF cookie, the response sends a new CSRF token which must not be stored by shared caches
+        getClient().perform(get("/api/core/items/" + item.getID()).with(request -> {
+            request.setCookies(Arrays.stream(request.getCookies())
+                                     .filter(cookie -> !DSpaceCsrfTokenRepository.DEFAULT_CSRF_COOKIE_NAME
+                                                                                   .equals(cookie.getName()))
+                                     .toArray(Cookie[]::new));
+            return request;
+        }))
+                   .andExpect(status().isOk())
+                   .andExpect(header().exists(DSpaceCsrfTokenRepository.DSPACE_CSRF_HEADER_NAME))
+                   .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+    }
+}
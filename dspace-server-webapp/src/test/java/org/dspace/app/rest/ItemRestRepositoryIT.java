@@ -94,7 +94,9 @@ import org.dspace.content.Relationship;
 import org.dspace.content.RelationshipType;
 import org.dspace.content.WorkspaceItem;
 import org.dspace.content.service.CollectionService;
+import org.dspace.content.service.ItemService;
 import org.dspace.core.Constants;
+import org.dspace.core.HibernateTestUtil;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.orcid.OrcidHistory;
@@ -107,6 +109,7 @@ import org.dspace.versioning.service.VersioningService;
 import org.dspace.workflow.WorkflowItem;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.MvcResult;
@@ -119,6 +122,9 @@ public class ItemRestRepositoryIT extends AbstractControllerIntegrationTest {
     @Autowired
     private CollectionService collectionService;
 
+    @Autowired
+    private ItemService itemService;
+
     @Autowired
     private OrcidQueueService orcidQueueService;
 
@@ -4469,6 +4475,226 @@ public class ItemRestRepositoryIT extends AbstractControllerIntegrationTest {
                    .andExpect(status().isNoContent());
     }
 
+    @Test
+    public void findAllEmbedThumbnailAndOwningCollectionTest() throws Exception {
+        // The embeds of a page of items are resolved in batch, they must match those of the single items
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity)
+                                           .withName("Collection 1").build();
+        Collection col2 = CollectionBuilder.createCollection(context, parentCommunity)
+                                           .withName("Collection 2").build();
+
+        Item item1 = ItemBuilder.createItem(context, col1)
+                                .withTitle("Item with thumbnail")
+                                .build();
+        Bundle originalBundle = BundleBuilder.createBundle(context, item1)
+                                             .withName(Constants.DEFAULT_BUNDLE_NAME)
+                                             .build();
+        Bundle thumbnailBundle = BundleBuilder.createBundle(context, item1)
+                                              .withName("THUMBNAIL")
+                                              .build();
+        InputStream is = IOUtils.toInputStream("dummy", "utf-8");
+        BitstreamBuilder.createBitstream(context, originalBundle, is)
+                        .withName("test1.pdf")
+                        .withMimeType("application/pdf")
+                        .build();
+        Bitstream thumbnail = BitstreamBuilder.createBitstream(context, thumbnailBundle, is)
+                                              .withName("test1.pdf.jpg")
+                                              .withMimeType("image/jpeg")
+                                              .build();
+
+        Item item2 = ItemBuilder.createItem(context, col2)
+                                .withTitle("Item without thumbnail")
+                                .build();
+
+        context.restoreAuthSystemState();
+
+        String tokenAdmin = getAuthToken(admin.getEmail(), password);
+        getClient(tokenAdmin).perform(get("/api/core/items")
+                                          .param("embed", "thumbnail")
+                                          .param("embed", "owningCollection"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.items[?(@.uuid == '" + item1.getID() + "')]"
+                                           + "._embedded.thumbnail.uuid",
+                                       Matchers.contains(thumbnail.getID().toString())))
+                   .andExpect(jsonPath("$._embedded.items[?(@.uuid == '" + item1.getID() + "')]"
+                                           + "._embedded.owningCollection.uuid",
+                                       Matchers.contains(col1.getID().toString())))
+                   .andExpect(jsonPath("$._embedded.items[?(@.uuid == '" + item2.getID() + "')]"
+                                           + "._embedded.thumbnail.uuid", empty()))
+                   .andExpect(jsonPath("$._embedded.items[?(@.uuid == '" + item2.getID() + "')]"
+                                           + "._embedded.owningCollection.uuid",
+                                       Matchers.contains(col2.getID().toString())));
+    }
+
+    @Test
+    public void searchEmbedThumbnailAndOwningCollectionTest() throws Exception {
+        // The embeds of a page of search results are resolved in batch, they must match those of the single items
+        // whatever the user may read
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity)
+                                           .withName("Collection 1").build();
+        Collection col2 = CollectionBuilder.createCollection(context, parentCommunity)
+                                           .withName("Collection 2").build();
+        Group nobody = GroupBuilder.createGroup(context).withName("Nobody").build();
+
+        Item publicItem = createItemWithThumbnail(col1, "Public item", null);
+        Item privateThumbnailItem = createItemWithThumbnail(col2, "Item with a private thumbnail", nobody);
+        Item privateItem = ItemBuilder.createItem(context, col1)
+                                      .withTitle("Private item")
+                                      .withReaderGroup(nobody)
+                                      .build();
+        Item noThumbnailItem = ItemBuilder.createItem(context, col2)
+                                          .withTitle("Item without thumbnail")
+                                          .build();
+
+        context.restoreAuthSystemState();
+
+        List<Item> items = List.of(publicItem, privateThumbnailItem, privateItem, noThumbnailItem);
+        String tokenAdmin = getAuthToken(admin.getEmail(), password);
+        String tokenEPerson = getAuthToken(eperson.getEmail(), password);
+        for (String token : new String[] {null, tokenEPerson, tokenAdmin}) {
+            Map<String, Map<String, Object>> searchEmbeds = getSearchEmbeds(token);
+            for (Item item : items) {
+                String id = item.getID().toString();
+                MvcResult result = getClient(token).perform(get("/api/core/items/" + id)
+                                                                .param("embed", "thumbnail")
+                                                                .param("embed", "owningCollection"))
+                                                   .andReturn();
+                if (result.getResponse().getStatus() != 200) {
+                    // the items that may not be read are not found either
+                    assertThat(id, searchEmbeds.get(id), nullValue());
+                    continue;
+                }
+                Map<String, Object> embeds = read(result.getResponse().getContentAsString(), "$._embedded");
+                assertThat(id, searchEmbeds.get(id), notNullValue());
+                assertThat(id, searchEmbeds.get(id).get("thumbnail"), is(embeds.get("thumbnail")));
+                assertThat(id, searchEmbeds.get(id).get("owningCollection"), is(embeds.get("owningCollection")));
+            }
+        }
+
+        // the thumbnails that may not be read are not embedded, in the batch as for the single item
+        assertThat(getSearchEmbeds(null).get(privateThumbnailItem.getID().toString()).get("thumbnail"),
+                   nullValue());
+        assertThat(getSearchEmbeds(tokenAdmin).get(privateThumbnailItem.getID().toString()).get("thumbnail"),
+                   notNullValue());
+        assertThat(getSearchEmbeds(null).get(privateItem.getID().toString()), nullValue());
+    }
+
+    @Test
+    public void getThumbnailsAndOwningCollectionsQueryCountTest() throws Exception {
+        // The batches resolving the embeds of a page must not query the database once per item
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                     .withName("Collection " + i).build();
+            ids.add(createItemWithThumbnail(collection, "Item " + i, null).getID());
+        }
+        context.restoreAuthSystemState();
+
+        Statistics statistics = HibernateTestUtil.getHibernateSessionFactory(context).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // warm up, e.g. the metadata fields
+            countStatements(statistics, () -> itemService.getThumbnails(context, ids, false));
+            long thumbnails = countStatements(statistics, () -> itemService.getThumbnails(context, ids, false));
+            assertThat(countStatements(statistics, () -> itemService.getThumbnails(context, ids.subList(0, 3),
+                                                                                    false)), is(thumbnails));
+            long owningCollections = countStatements(statistics,
+                                                     () -> itemService.getOwningCollections(context, ids));
+            assertThat(countStatements(statistics, () -> itemService.getOwningCollections(context,
+                                                                                           ids.subList(0, 3))),
+                       is(owningCollections));
+
+            // while looking at the items one at a time queries at least once per item
+            long single = countStatements(statistics, () -> {
+                for (UUID id : ids) {
+                    Item item = itemService.find(context, id);
+                    itemService.getThumbnail(context, item, false);
+                    item.getOwningCollection().getName();
+                }
+            });
+            assertThat(single >= ids.size(), is(true));
+            assertThat(thumbnails + owningCollections < single, is(true));
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
+
+    /**
+     * Count the SQL statements run by the given code, starting with no entity loaded.
+     */
+    private long countStatements(Statistics statistics, DatabaseCall call) throws Exception {
+        context.uncacheEntities();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface DatabaseCall {
+        void run() throws Exception;
+    }
+
+    private Item createItemWithThumbnail(Collection collection, String title, Group thumbnailReaders)
+        throws Exception {
+        Item item = ItemBuilder.createItem(context, collection)
+                               .withTitle(title)
+                               .build();
+        Bundle originalBundle = BundleBuilder.createBundle(context, item)
+                                             .withName(Constants.DEFAULT_BUNDLE_NAME)
+                                             .build();
+        Bundle thumbnailBundle = BundleBuilder.createBundle(context, item)
+                                              .withName("THUMBNAIL")
+                                              .build();
+        BitstreamBuilder.createBitstream(context, originalBundle, IOUtils.toInputStream("dummy", "utf-8"))
+                        .withName(title + ".pdf")
+                        .withMimeType("application/pdf")
+                        .build();
+        BitstreamBuilder thumbnail = BitstreamBuilder.createBitstream(context, thumbnailBundle,
+                                                                      IOUtils.toInputStream("dummy", "utf-8"))
+                                                     .withName(title + ".pdf.jpg")
+                                                     .withMimeType("image/jpeg");
+        if (thumbnailReaders != null) {
+            thumbnail.withReaderGroup(thumbnailReaders);
+        }
+        thumbnail.build();
+        return item;
+    }
+
+    /**
+     * @return the embeds of the items found by a search of the given user, by item id
+     */
+    private Map<String, Map<String, Object>> getSearchEmbeds(String token) throws Exception {
+        String content = getClient(token).perform(get("/api/discover/search/objects")
+                                                      .param("dsoType", "ITEM")
+                                                      .param("embed", "thumbnail")
+                                                      .param("embed", "owningCollection"))
+                                         .andExpect(status().isOk())
+                                         .andReturn().getResponse().getContentAsString();
+        List<Map<String, Object>> items = read(content,
+                                               "$._embedded.searchResult._embedded.objects[*]"
+                                                   + "._embedded.indexableObject");
+        Map<String, Map<String, Object>> embeds = new HashMap<>();
+        for (Map<String, Object> item : items) {
+            embeds.put((String) item.get("uuid"), (Map<String, Object>) item.get("_embedded"));
+        }
+        return embeds;
+    }
+
     @Test
     public void finadVersionForItemTest() throws Exception {
         context.turnOffAuthorisationSystem();
@@ -0,0 +1,111 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.discovery.SearchResponseCache;
+import org.dspace.services.ConfigurationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests of the cache of the anonymous search and browse responses, see {@link SearchResponseCache}.
+ */
+public class SearchResponseCacheIT extends AbstractControllerIntegrationTest {
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @Autowired
+    private SearchResponseCache searchResponseCache;
+
+    private Collection collection;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        collection = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 1").build();
+        context.restoreAuthSystemState();
+        configurationService.setProperty(SearchResponseCache.ENABLED_PROPERTY, true);
+        searchResponseCache.invalidateAll();
+    }
+
+    @After
+    public void disableCache() {
+        configurationService.setProperty(SearchResponseCache.ENABLED_PROPERTY, null);
+    }
+
+    @Test
+    public void anonymousSearchCachedTest() throws Exception {
+        long hits = searchResponseCache.getHits();
+        long misses = searchResponseCache.getMisses();
+
+        getClient().perform(get("/api/discover/search/objects").param("dsoType", "ITEM").param("sort", "dc.title,ASC"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.searchResult.page.totalElements", is(1)));
+        assertEquals(misses + 1, searchResponseCache.getMisses());
+
+        // The order of the parameters doesn't matter
+        getClient().perform(get("/api/discover/search/objects").param("sort", "dc.title,ASC").param("dsoType", "ITEM"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.searchResult.page.totalElements", is(1)));
+        assertEquals(hits + 1, searchResponseCache.getHits());
+
+        // Indexing changes clears the cache
+        context.turnOffAuthorisationSystem();
+        ItemBuilder.createItem(context, collection).withTitle("Item 2").build();
+        context.restoreAuthSystemState();
+
+        getClient().perform(get("/api/discover/search/objects").param("dsoType", "ITEM").param("sort", "dc.title,ASC"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.searchResult.page.totalElements", is(2)));
+        assertEquals(hits + 1, searchResponseCache.getHits());
+    }
+
+    @Test
+    public void authenticatedSearchNotCachedTest() throws Exception {
+        long hits = searchResponseCache.getHits();
+        long misses = searchResponseCache.getMisses();
+        String token = getAuthToken(admin.getEmail(), password);
+
+        for (int i = 0; i < 2; i++) {
+            getClient(token).perform(get("/api/discover/facets/author"))
+                            .andExpect(status().isOk());
+        }
+        assertEquals(hits, searchResponseCache.getHits());
+        assertEquals(misses, searchResponseCache.getMisses());
+    }
+
+    @Test
+    public void anonymousBrowseCachedTest() throws Exception {
+        long hits = searchResponseCache.getHits();
+
+        for (int i = 0; i < 2; i++) {
+            getClient().perform(get("/api/discover/browses/title/items"))
+                       .andExpect(status().isOk())
+                       .andExpect(jsonPath("$.page.totalElements", is(1)));
+        }
+        assertEquals(hits + 1, searchResponseCache.getHits());
+    }
+}
@@ -8,12 +8,18 @@
 package org.dspace.app.rest;
 
 import static org.dspace.builder.ItemBuilder.createItem;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
 import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
 import org.dspace.authorize.service.ResourcePolicyService;
 import org.dspace.builder.CollectionBuilder;
@@ -279,4 +285,38 @@ public class SitemapRestControllerIT extends AbstractControllerIntegrationTest {
         assertFalse(response.contains(configurationService.getProperty("dspace.ui.url") + "/items/"
                 + entityPublicationUndiscoverable.getID()));
     }
+
+    @Test
+    public void testSitemap_unchangedFilesKept() throws Exception {
+        File sitemapDir = new File(configurationService.getProperty("sitemap.dir"));
+        File sitemap = new File(sitemapDir, "sitemap0.xml");
+        // date the file back, to see whether it is written again
+        long past = (sitemap.lastModified() / 1000 - 60) * 1000;
+        assertTrue(sitemap.setLastModified(past));
+
+        //** WHEN **
+        //We generate the sitemaps again without any change
+        runDSpaceScript("generate-sitemaps");
+
+        //** THEN **
+        //The file is left as it was
+        assertEquals(past, sitemap.lastModified());
+        assertFalse(new File(sitemapDir, "sitemap0.xml.new").exists());
+
+        //** WHEN **
+        //We add an item and generate the sitemaps again
+        context.turnOffAuthorisationSystem();
+        Item item3 = createItem(context, collection)
+            .withTitle("Test 5")
+            .withIssueDate("2015-8-3")
+            .build();
+        context.restoreAuthSystemState();
+        runDSpaceScript("generate-sitemaps");
+
+        //** THEN **
+        //The file of the item is written again
+        assertNotEquals(past, sitemap.lastModified());
+        assertTrue(FileUtils.readFileToString(sitemap, StandardCharsets.UTF_8)
+                            .contains(configurationService.getProperty("dspace.ui.url") + "/items/" + item3.getID()));
+    }
 }
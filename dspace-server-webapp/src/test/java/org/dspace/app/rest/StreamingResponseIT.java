@@ -0,0 +1,174 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.dspace.app.rest.matcher.EPersonMatcher;
+import org.dspace.app.rest.matcher.SearchResultMatcher;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.BitstreamBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.EPersonBuilder;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.discovery.SearchResponseCache;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
+import org.dspace.services.ConfigurationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Integration tests of the pages whose resources are converted while the response is written, see
+ * {@link org.dspace.app.rest.model.hateoas.StreamingResourceList}.
+ */
+public class StreamingResponseIT extends AbstractControllerIntegrationTest {
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @Autowired
+    private SearchResponseCache searchResponseCache;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        // Stream all the pages with more than 2 elements
+        configurationService.setProperty("rest.response.streaming.threshold", 2);
+    }
+
+    @After
+    public void resetThreshold() {
+        configurationService.setProperty("rest.response.streaming.threshold", null);
+        configurationService.setProperty(SearchResponseCache.ENABLED_PROPERTY, null);
+    }
+
+    @Test
+    public void findGroupMembersStreamedTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Group group = GroupBuilder.createGroup(context).withName("Large group").build();
+        EPerson member1 = EPersonBuilder.createEPerson(context).withEmail("member1@example.com")
+                                        .withGroupMembership(group).build();
+        EPerson member2 = EPersonBuilder.createEPerson(context).withEmail("member2@example.com")
+                                        .withGroupMembership(group).build();
+        EPerson member3 = EPersonBuilder.createEPerson(context).withEmail("member3@example.com")
+                                        .withGroupMembership(group).build();
+        EPerson member4 = EPersonBuilder.createEPerson(context).withEmail("member4@example.com")
+                                        .withGroupMembership(group).build();
+        context.restoreAuthSystemState();
+
+        String authToken = getAuthToken(admin.getEmail(), password);
+        getClient(authToken).perform(get("/api/eperson/groups/" + group.getID() + "/epersons")
+                                         .param("size", "10"))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$._embedded.epersons", containsInAnyOrder(
+                                EPersonMatcher.matchEPersonEntry(member1),
+                                EPersonMatcher.matchEPersonEntry(member2),
+                                EPersonMatcher.matchEPersonEntry(member3),
+                                EPersonMatcher.matchEPersonEntry(member4)
+                            )))
+                            .andExpect(jsonPath("$.page.totalElements", is(4)));
+
+        // The pages at most as large as the threshold are converted at once, with the same result
+        getClient(authToken).perform(get("/api/eperson/groups/" + group.getID() + "/epersons")
+                                         .param("size", "2"))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$._embedded.epersons", hasSize(2)))
+                            .andExpect(jsonPath("$.page.totalElements", is(4)));
+    }
+
+    @Test
+    public void discoverSearchObjectsStreamedTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 1").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 2").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 3").build();
+        context.restoreAuthSystemState();
+
+        getClient().perform(get("/api/discover/search/objects")
+                                .param("dsoType", "ITEM"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.searchResult._embedded.objects", containsInAnyOrder(
+                       SearchResultMatcher.matchOnItemName("item", "items", "Item 1"),
+                       SearchResultMatcher.matchOnItemName("item", "items", "Item 2"),
+                       SearchResultMatcher.matchOnItemName("item", "items", "Item 3")
+                   )))
+                   .andExpect(jsonPath("$._embedded.searchResult.page.totalElements", is(3)));
+    }
+
+    @Test
+    public void streamedSearchNotCachedTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 1").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 2").build();
+        ItemBuilder.createItem(context, collection).withTitle("Item 3").build();
+        context.restoreAuthSystemState();
+        configurationService.setProperty(SearchResponseCache.ENABLED_PROPERTY, true);
+        searchResponseCache.invalidateAll();
+        long hits = searchResponseCache.getHits();
+
+        // The streamed responses are written as the results are converted, rather than buffered to be cached
+        for (int i = 0; i < 2; i++) {
+            getClient().perform(get("/api/discover/search/objects")
+                                    .param("dsoType", "ITEM"))
+                       .andExpect(status().isOk())
+                       .andExpect(jsonPath("$._embedded.searchResult._embedded.objects", hasSize(3)));
+        }
+        assertEquals(hits, searchResponseCache.getHits());
+    }
+
+    @Test
+    public void streamedEmbedWithoutETagTest() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        Item item = ItemBuilder.createItem(context, collection).withTitle("Item").build();
+        for (int i = 1; i <= 3; i++) {
+            try (InputStream is = IOUtils.toInputStream("Bitstream " + i, "UTF-8")) {
+                BitstreamBuilder.createBitstream(context, item, is).withName("Bitstream " + i).build();
+            }
+        }
+        context.restoreAuthSystemState();
+
+        getClient().perform(get("/api/core/items/" + item.getID()))
+                   .andExpect(status().isOk())
+                   .andExpect(header().exists(HttpHeaders.ETAG));
+
+        // The response embedding the streamed bitstreams is not buffered to compute its ETag
+        getClient().perform(get("/api/core/items/" + item.getID()).param("embed", "bundles/bitstreams"))
+                   .andExpect(status().isOk())
+                   .andExpect(jsonPath("$._embedded.bundles._embedded.bundles[0]._embedded.bitstreams"
+                                           + "._embedded.bitstreams", hasSize(3)))
+                   .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.authorization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.app.rest.converter.ItemConverter;
+import org.dspace.app.rest.model.BaseObjectRest;
+import org.dspace.app.rest.model.ItemRest;
+import org.dspace.app.rest.projection.Projection;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.builder.ResourcePolicyBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.services.RequestService;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Checks that {@link AuthorizationFeatureService#isAuthorized(Context, List, List)} authorizes the same features as
+ * the evaluation of every feature on every object one at a time, as the authorizations endpoint used to do. The
+ * duration of both is only measured and logged when the number of items is given with
+ * -Dauthorization.benchmark.items=...
+ */
+public class AuthorizationFeatureServicePerformanceIT extends AbstractControllerIntegrationTest {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private static final int FEATURES = 20;
+    private static final int ROUNDS = 5;
+
+    private final Integer numberOfItems = Integer.getInteger("authorization.benchmark.items");
+
+    @Autowired
+    private AuthorizationFeatureService authorizationFeatureService;
+
+    @Autowired
+    private ItemConverter itemConverter;
+
+    @Autowired
+    private RequestService requestService;
+
+    /**
+     * Duration of the last evaluation of the features, in nanoseconds
+     */
+    private long elapsed;
+
+    @After
+    public void endRequest() {
+        requestService.endRequest(null);
+    }
+
+    @Test
+    public void batchAuthorizesTheSameFeatures() throws Exception {
+        List<Item> items = createItems(6);
+        List<AuthorizationFeature> features = getItemFeatures();
+
+        List<String> single = evaluate(items, features, false);
+        Context.Mode mode = context.getCurrentMode();
+        List<String> batch = evaluate(items, features, true);
+
+        assertEquals("The batch must authorize the same features", single, batch);
+        assertFalse(batch.isEmpty());
+        // the batch leaves the mode of the context of the request as it is and forgets the policies it loaded
+        assertEquals(mode, context.getCurrentMode());
+        assertNull(context.getCachedResourcePolicies(items.get(0), Constants.WRITE));
+    }
+
+    @Test
+    public void isAuthorizedThroughput() throws Exception {
+        Assume.assumeTrue("authorization.benchmark.items is not set", numberOfItems != null);
+        List<Item> items = createItems(numberOfItems);
+        List<AuthorizationFeature> features = getItemFeatures();
+
+        // warm up
+        evaluate(items, features, false);
+        evaluate(items, features, true);
+
+        long single = 0;
+        long batch = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            evaluate(items, features, false);
+            single += elapsed;
+            evaluate(items, features, true);
+            batch += elapsed;
+        }
+
+        log.info("{} features on {} items: {} ms one object and feature at a time, {} ms in batch", features.size(),
+                 numberOfItems, single / ROUNDS / 1000000, batch / ROUNDS / 1000000);
+    }
+
+    /**
+     * Create items, half of which the user can edit so that not every feature is denied.
+     */
+    private List<Item> createItems(int number) {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < number; i++) {
+            Item item = ItemBuilder.createItem(context, collection).withTitle("Item " + i).build();
+            if (i % 2 == 0) {
+                ResourcePolicyBuilder.createResourcePolicy(context, eperson, null)
+                                     .withDspaceObject(item)
+                                     .withAction(Constants.WRITE)
+                                     .build();
+            }
+            items.add(item);
+        }
+        context.restoreAuthSystemState();
+        return items;
+    }
+
+    private List<AuthorizationFeature> getItemFeatures() {
+        List<AuthorizationFeature> features = authorizationFeatureService.findByResourceType(
+            ItemRest.CATEGORY + "." + ItemRest.NAME);
+        return features.subList(0, Math.min(FEATURES, features.size()));
+    }
+
+    /**
+     * Evaluate all the features on all the items in a request of the user.
+     *
+     * @return the authorized features, as object id and feature name
+     */
+    private List<String> evaluate(List<Item> items, List<AuthorizationFeature> features, boolean inBatch)
+        throws Exception {
+        context.setCurrentUser(eperson);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/authz/authorizations");
+        request.setAttribute("dspace.context", context);
+        requestService.startRequest(request, new MockHttpServletResponse());
+        try {
+            List<BaseObjectRest> objects = new ArrayList<>();
+            for (Item item : items) {
+                objects.add(itemConverter.convert(item, Projection.DEFAULT));
+            }
+
+            long start = System.nanoTime();
+            List<String> authorized = new ArrayList<>();
+            if (inBatch) {
+                Map<BaseObjectRest, List<AuthorizationFeature>> result =
+                    authorizationFeatureService.isAuthorized(context, features, objects);
+                for (BaseObjectRest object : objects) {
+                    for (AuthorizationFeature feature : result.get(object)) {
+                        authorized.add(object.getId() + "_" + feature.getName());
+                    }
+                }
+            } else {
+                for (BaseObjectRest object : objects) {
+                    for (AuthorizationFeature feature : features) {
+                        if (authorizationFeatureService.isAuthorized(context, feature, object)) {
+                            authorized.add(object.getId() + "_" + feature.getName());
+                        }
+                    }
+                }
+            }
+            elapsed = System.nanoTime() - start;
+            return authorized;
+        } finally {
+            requestService.endRequest(null);
+        }
+    }
+}
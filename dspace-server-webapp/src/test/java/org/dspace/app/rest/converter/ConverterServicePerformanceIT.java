@@ -0,0 +1,167 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.app.rest.model.ItemRest;
+import org.dspace.app.rest.model.MockObject;
+import org.dspace.app.rest.model.MockObjectRest;
+import org.dspace.app.rest.projection.Projection;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.eperson.Group;
+import org.dspace.services.RequestService;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Checks that the per request authorization decisions of {@link ConverterService#toRestPage} (GET) convert the same
+ * objects as the evaluation of the PreAuthorize check of every object (POST). The throughput of both is only
+ * measured and logged when the number of objects is given with -Dconverter.benchmark.objects=...
+ */
+public class ConverterServicePerformanceIT extends AbstractControllerIntegrationTest {
+
+    private static final Logger log = LogManager.getLogger();
+
+    private static final int ROUNDS = 5;
+
+    private final Integer numberOfObjects = Integer.getInteger("converter.benchmark.objects");
+
+    @Autowired
+    private ConverterService converter;
+
+    @Autowired
+    private RequestService requestService;
+
+    @After
+    public void endRequest() {
+        requestService.endRequest(null);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void requestDecisionsConvertTheSameItems() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        Group readers = GroupBuilder.createGroup(context).withName("Readers").addMember(eperson).build();
+        Group nobody = GroupBuilder.createGroup(context).withName("Nobody").build();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Item publicItem = ItemBuilder.createItem(context, collection).withTitle("Public " + i).build();
+            items.add(publicItem);
+            items.add(ItemBuilder.createItem(context, collection).withTitle("Readers only " + i)
+                                 .withReaderGroup(readers).build());
+            items.add(ItemBuilder.createItem(context, collection).withTitle("Private " + i)
+                                 .withReaderGroup(nobody).build());
+            // the same object again, like a collection embedded in all the items of a page
+            items.add(publicItem);
+        }
+        context.restoreAuthSystemState();
+
+        List<String> uncached = convertItems("POST", items, eperson);
+        assertEquals(15, uncached.size());
+        assertEquals(uncached, convertItems("GET", items, eperson));
+
+        List<String> anonymousUncached = convertItems("POST", items, null);
+        assertEquals(10, anonymousUncached.size());
+        assertEquals(anonymousUncached, convertItems("GET", items, null));
+    }
+
+    @Test
+    public void toRestPageThroughput() throws Exception {
+        Assume.assumeTrue("converter.benchmark.objects is not set", numberOfObjects != null);
+        List<MockObject> objects = new ArrayList<>();
+        for (int i = 0; i < numberOfObjects; i++) {
+            objects.add(MockObject.create(i));
+        }
+
+        // warm up, including the lookup of the PreAuthorize annotation
+        timeConversion("POST", objects);
+        timeConversion("GET", objects);
+
+        long uncached = 0;
+        long cached = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            uncached += timeConversion("POST", objects);
+            cached += timeConversion("GET", objects);
+        }
+
+        log.info("toRestPage of {} objects: {} objects/s evaluating every object, {} objects/s with the request "
+                     + "decisions", numberOfObjects, (long) numberOfObjects * ROUNDS * 1000000000L / uncached,
+                 (long) numberOfObjects * ROUNDS * 1000000000L / cached);
+    }
+
+    /**
+     * Convert the items in a request of the given method of the given user (null for anonymous).
+     *
+     * @return the ids and names of the converted items
+     */
+    private List<String> convertItems(String method, List<Item> items, EPerson user) {
+        context.setCurrentUser(user);
+        List<ItemRest> converted = convert(method, items, context, user);
+        List<String> result = new ArrayList<>();
+        for (ItemRest item : converted) {
+            result.add(item.getId() + " " + item.getName());
+        }
+        return result;
+    }
+
+    private long timeConversion(String method, List<MockObject> objects) throws Exception {
+        Context requestContext = new Context();
+        try {
+            long start = System.nanoTime();
+            List<MockObjectRest> converted = convert(method, objects, requestContext, eperson);
+            long elapsed = System.nanoTime() - start;
+            assertEquals(objects.size(), converted.size());
+            return elapsed;
+        } finally {
+            requestContext.abort();
+        }
+    }
+
+    private <R> List<R> convert(String method, List<?> objects, Context requestContext, EPerson user) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/core/objects");
+        request.setAttribute("dspace.context", requestContext);
+        requestService.startRequest(request, new MockHttpServletResponse());
+        Authentication authentication = mock(Authentication.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(user);
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return converter.<Object, R>toRestPage(new ArrayList<>(objects), PageRequest.of(0, objects.size()),
+                                                   Projection.DEFAULT).getContent();
+        } finally {
+            requestService.endRequest(null);
+        }
+    }
+}
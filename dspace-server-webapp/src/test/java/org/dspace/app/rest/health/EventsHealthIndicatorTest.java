@@ -0,0 +1,77 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.dspace.app.rest.configuration.ActuatorConfiguration;
+import org.dspace.event.AsyncEventExecutor;
+import org.dspace.event.EventStatistics;
+import org.dspace.event.LatencyHistogram;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Unit tests for {@link EventsHealthIndicator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EventsHealthIndicatorTest {
+
+    @Mock
+    private EventStatistics eventStatistics;
+
+    @Mock
+    private AsyncEventExecutor asyncEventExecutor;
+
+    @InjectMocks
+    private EventsHealthIndicator eventsHealthIndicator;
+
+    @Before
+    public void setUp() {
+        when(eventStatistics.getDispatches()).thenReturn(new LatencyHistogram());
+        when(eventStatistics.getEventCounts()).thenReturn(Map.of("ITEM+MODIFY", 3L));
+        when(eventStatistics.getConsumers()).thenReturn(Map.of());
+        when(asyncEventExecutor.getConsumerNames()).thenReturn(Set.of("rdf"));
+    }
+
+    @Test
+    public void testWithAsyncConsumersKeepingUp() {
+        when(asyncEventExecutor.getQueueCapacity()).thenReturn(1000);
+        when(asyncEventExecutor.getQueueDepth("rdf")).thenReturn(10);
+
+        Health health = eventsHealthIndicator.health();
+
+        assertThat(health.getStatus(), is(Status.UP));
+        assertThat(health.getDetails(), hasEntry("events", Map.of("ITEM+MODIFY", 3L)));
+        assertThat(health.getDetails(), hasKey("dispatcherPool"));
+    }
+
+    @Test
+    public void testWithAsyncConsumerFallingBehind() {
+        when(asyncEventExecutor.getQueueCapacity()).thenReturn(1000);
+        when(asyncEventExecutor.getQueueDepth("rdf")).thenReturn(600);
+
+        Health health = eventsHealthIndicator.health();
+
+        assertThat(health.getStatus(), is(ActuatorConfiguration.UP_WITH_ISSUES_STATUS));
+        assertThat(health.getDetails(), hasKey("reason"));
+    }
+}
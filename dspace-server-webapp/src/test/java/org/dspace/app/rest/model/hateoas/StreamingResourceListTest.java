@@ -0,0 +1,42 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.model.hateoas;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class StreamingResourceListTest {
+
+    @Test
+    public void testIteration() {
+        StreamingResourceList<Integer, String> list = new StreamingResourceList<>(List.of(1, 2, 3),
+                                                                                 i -> "resource " + i);
+
+        assertEquals(List.of("resource 1", "resource 2", "resource 3"), new ArrayList<>(list));
+    }
+
+    @Test
+    public void testFailedConversionSkipped() {
+        StreamingResourceList<Integer, String> list = new StreamingResourceList<>(List.of(1, 2, 3, 4), i -> {
+            if (i % 2 == 0) {
+                throw new IllegalStateException("Conversion of " + i + " failed");
+            }
+            return "resource " + i;
+        });
+
+        List<String> written = new ArrayList<>();
+        for (String resource : list) {
+            written.add(resource);
+        }
+        assertEquals(List.of("resource 1", "resource 3"), written);
+    }
+}
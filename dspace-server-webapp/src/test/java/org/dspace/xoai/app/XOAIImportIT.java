@@ -0,0 +1,187 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.app;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.common.SolrException;
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.app.rest.test.AbstractControllerIntegrationTest;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Collection;
+import org.dspace.services.ConfigurationService;
+import org.dspace.solr.MockSolrServer;
+import org.dspace.xoai.services.api.cache.XOAICacheService;
+import org.dspace.xoai.services.api.solr.SolrServerResolver;
+import org.dspace.xoai.solr.exceptions.DSpaceSolrIndexerException;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests of the import of the items into the "oai" Solr core by {@link XOAI}.
+ */
+@TestPropertySource(properties = {"oai.enabled = true"})
+public class XOAIImportIT extends AbstractControllerIntegrationTest {
+
+    private static final int ITEMS = 7;
+
+    @MockBean
+    private XOAICacheService xoaiCacheService;
+
+    // Serve the embedded "oai" Solr core to the import
+    @MockBean
+    private SolrServerResolver solrServerResolver;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    private MockSolrServer oaiCore;
+
+    @Before
+    public void setup() throws Exception {
+        // These integration tests REQUIRE that OAIWebConfig is found/available (as this class deploys OAI)
+        try {
+            Class.forName("org.dspace.app.configuration.OAIWebConfig");
+        } catch (ClassNotFoundException ce) {
+            Assume.assumeNoException(ce);
+        }
+
+        oaiCore = new MockSolrServer("oai");
+        SolrClient solrClient = oaiCore.getSolrServer();
+        when(solrServerResolver.getServer()).thenReturn(solrClient);
+
+        // pages of 2 items and batches of 3, so that the pages and the batches do not line up
+        configurationService.setProperty("oai.import.lookup.size", 2);
+        configurationService.setProperty("oai.import.batch.size", 3);
+
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).withName("Parent Community").build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity)
+                                                 .withName("Collection").build();
+        for (int i = 0; i < ITEMS; i++) {
+            ItemBuilder.createItem(context, collection).withTitle("Item " + i).build();
+        }
+        context.restoreAuthSystemState();
+        // the workers of the parallel import read the items in their own threads, with their own transactions
+        context.commit();
+    }
+
+    @After
+    @Override
+    public void destroy() throws Exception {
+        configurationService.setProperty("oai.import.lookup.size", null);
+        configurationService.setProperty("oai.import.batch.size", null);
+        if (oaiCore != null) {
+            oaiCore.reset();
+            oaiCore.getSolrServer().commit();
+            oaiCore.destroy();
+        }
+        super.destroy();
+    }
+
+    @Test(timeout = 120000)
+    public void testParallelImport() throws Exception {
+        XOAI indexer = newIndexer();
+        indexer.setThreads(3);
+
+        assertEquals(ITEMS, indexer.index());
+        assertEquals(ITEMS, oaiCore.getSolrServer().query(new SolrQuery("*:*")).getResults().getNumFound());
+    }
+
+    @Test(timeout = 120000, expected = DSpaceSolrIndexerException.class)
+    public void testParallelImportRejectedDocuments() throws Exception {
+        // e.g. a field missing from the schema of the core: the import fails instead of waiting forever
+        SolrClient solrClient = spy(oaiCore.getSolrServer());
+        doThrow(new SolrException(SolrException.ErrorCode.BAD_REQUEST, "unknown field 'item.render.oai_dc'"))
+            .when(solrClient).add(anyCollection());
+        when(solrServerResolver.getServer()).thenReturn(solrClient);
+
+        XOAI indexer = newIndexer();
+        indexer.setThreads(3);
+        indexer.index();
+    }
+
+    @Test
+    public void testSequentialImport() throws Exception {
+        XOAI indexer = newIndexer();
+
+        assertEquals(ITEMS, indexer.index());
+        // the pages read across the batches are all indexed, as public items
+        assertEquals(ITEMS, oaiCore.getSolrServer().query(new SolrQuery("item.public:true")).getResults()
+                                   .getNumFound());
+    }
+
+    @Test
+    public void testIndexedVisibility() throws Exception {
+        // a full page of the default lookup size (100) of indexed items, and 5 more
+        List<UUID> indexed = new ArrayList<>();
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 105; i++) {
+            UUID id = UUID.randomUUID();
+            indexed.add(id);
+            SolrInputDocument document = new SolrInputDocument();
+            document.addField("item.id", id.toString());
+            document.addField("item.handle", "123456789/" + (1000 + i));
+            document.addField("item.public", i % 2 == 0);
+            documents.add(document);
+        }
+        oaiCore.getSolrServer().add(documents);
+        oaiCore.getSolrServer().commit();
+        XOAI indexer = newIndexer();
+
+        // more items than the rows returned by Solr by default
+        Map<UUID, Boolean> visibility = indexer.getIndexedVisibility(indexed.subList(0, 100));
+        assertEquals(100, visibility.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0, visibility.get(indexed.get(i)));
+        }
+
+        // the items which are not indexed are not in the map
+        List<UUID> page = new ArrayList<>(indexed.subList(100, 105));
+        UUID missing = UUID.randomUUID();
+        page.add(missing);
+        visibility = indexer.getIndexedVisibility(page);
+        assertEquals(5, visibility.size());
+        assertFalse(visibility.containsKey(missing));
+        assertTrue(visibility.get(indexed.get(100)));
+        assertFalse(visibility.get(indexed.get(101)));
+
+        assertTrue(indexer.getIndexedVisibility(List.of(missing)).isEmpty());
+        assertTrue(indexer.getIndexedVisibility(List.of()).isEmpty());
+    }
+
+    private XOAI newIndexer() {
+        XOAI indexer = new XOAI(context, true, false);
+        applicationContext.getAutowireCapableBeanFactory().autowireBean(indexer);
+        return indexer;
+    }
+}